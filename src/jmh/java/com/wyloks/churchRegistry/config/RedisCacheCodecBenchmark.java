@@ -0,0 +1,98 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the Redis value codecs on a {@code dioceses-with-parishes} entry: the default-typed JSON serializer
+ * against Smile, uncompressed and deflated. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisCacheCodecBenchmark {
+
+    @Param({"json", "smile", "smile-deflate"})
+    public String codec;
+
+    /** Parishes per diocese; the entry holds 10 dioceses. */
+    @Param({"10", "100"})
+    public int parishes;
+
+    private RedisSerializer<Object> serializer;
+    private List<DioceseWithParishesResponse> value;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        serializer = switch (codec) {
+            case "json" -> CacheConfig.redisValueSerializer(objectMapper);
+            case "smile" -> smile(objectMapper, 0);
+            case "smile-deflate" -> smile(objectMapper, 2048);
+            default -> throw new IllegalArgumentException("Unknown codec " + codec);
+        };
+        value = dioceses(10, parishes);
+        payload = serializer.serialize(value);
+        System.out.printf("%n%s, %d parishes per diocese: %d bytes%n", codec, parishes, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(payload);
+    }
+
+    private static SmileRedisSerializer smile(ObjectMapper objectMapper, int compressionThreshold) {
+        return new SmileRedisSerializer(objectMapper,
+                CacheConfig.CACHE_VALUE_TYPES.get(CacheConfig.CACHE_DIOCESES_WITH_PARISHES)
+                        .apply(objectMapper.getTypeFactory()),
+                compressionThreshold);
+    }
+
+    private static List<DioceseWithParishesResponse> dioceses(int count, int parishesEach) {
+        return IntStream.range(0, count)
+                .mapToObj(d -> DioceseWithParishesResponse.builder()
+                        .id((long) d + 1)
+                        .dioceseName("Catholic Diocese of Example " + d)
+                        .code("DIO" + d)
+                        .description("Synthetic diocese for codec benchmarks")
+                        .parishes(IntStream.range(0, parishesEach)
+                                .mapToObj(p -> ParishResponse.builder()
+                                        .id((long) d * 1000 + p)
+                                        .parishName("St. Joseph Catholic Church " + p)
+                                        .dioceseId((long) d + 1)
+                                        .description("Parish " + p + " of diocese " + d)
+                                        .requireMarriageConfirmation(p % 3 == 0)
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,141 @@
+package com.wyloks.churchRegistry.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Jackson serialization of a {@link DioceseDashboardResponse} as the controller writes it, with the same
+ * {@link ObjectMapper} defaults Spring Boot uses. Payload size is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DioceseDashboardSerializationBenchmark {
+
+    /** Rows in the parish activity table. */
+    @Param({"10", "100"})
+    public int parishes;
+
+    /** Recent records per sacrament type, as loaded by DioceseDashboardServiceImpl. */
+    private static final int RECENT = 50;
+
+    private ObjectMapper objectMapper;
+    private DioceseDashboardResponse dashboard;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        dashboard = dashboard(parishes);
+        System.out.printf("%n%d parishes: %d bytes%n", parishes, objectMapper.writeValueAsBytes(dashboard).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(dashboard);
+    }
+
+    private static DioceseDashboardResponse dashboard(int parishes) {
+        OffsetDateTime created = OffsetDateTime.of(2024, 6, 1, 10, 30, 0, 0, ZoneOffset.UTC);
+        LocalDate born = LocalDate.of(2010, 3, 14);
+        return DioceseDashboardResponse.builder()
+                .counts(Map.of("parishes", (long) parishes, "baptisms", 48_210L, "communions", 30_115L,
+                        "confirmations", 21_904L, "marriages", 9_870L, "holyOrders", 42L))
+                .parishActivity(IntStream.range(0, parishes)
+                        .mapToObj(p -> DioceseDashboardResponse.ParishActivityItem.builder()
+                                .parishId((long) p)
+                                .parishName("St. Joseph Catholic Church " + p)
+                                .baptisms(480L + p)
+                                .communions(300L + p)
+                                .confirmations(210L + p)
+                                .marriages(98L + p)
+                                .build())
+                        .toList())
+                .recentSacraments(DioceseDashboardResponse.RecentSacraments.builder()
+                        .baptisms(IntStream.range(0, RECENT).mapToObj(i -> BaptismResponse.builder()
+                                .id((long) i)
+                                .baptismName("Chukwuemeka")
+                                .surname("Okonkwo")
+                                .otherNames("Ifeanyi")
+                                .gender("M")
+                                .dateOfBirth(born)
+                                .fathersName("Obinna Okonkwo")
+                                .mothersName("Ngozi Okonkwo")
+                                .sponsorNames("Chidi Eze, Amaka Eze")
+                                .officiatingPriest("Fr. James Obi")
+                                .parishId(1L)
+                                .address("12 Church Road, Enugu")
+                                .createdAt(created)
+                                .build()).toList())
+                        .communions(IntStream.range(0, RECENT).mapToObj(i -> FirstHolyCommunionResponse.builder()
+                                .id((long) i)
+                                .baptismId((long) i)
+                                .communionDate(born.plusYears(8))
+                                .officiatingPriest("Fr. James Obi")
+                                .parish("St. Joseph Catholic Church")
+                                .baptismName("Chukwuemeka")
+                                .surname("Okonkwo")
+                                .dateOfBirth(born)
+                                .gender("M")
+                                .createdAt(created)
+                                .build()).toList())
+                        .confirmations(IntStream.range(0, RECENT).mapToObj(i -> ConfirmationResponse.builder()
+                                .id((long) i)
+                                .baptismId((long) i)
+                                .communionId((long) i)
+                                .confirmationDate(born.plusYears(12))
+                                .officiatingBishop("Bishop Peter Okafor")
+                                .parish("St. Joseph Catholic Church")
+                                .baptismName("Chukwuemeka")
+                                .surname("Okonkwo")
+                                .createdAt(created)
+                                .build()).toList())
+                        .marriages(IntStream.range(0, RECENT).mapToObj(i -> MarriageResponse.builder()
+                                .id((long) i)
+                                .baptismId((long) i)
+                                .partnersName("Adaeze Nwosu")
+                                .marriageDate(born.plusYears(25))
+                                .churchName("St. Joseph Catholic Church")
+                                .officiatingPriest("Fr. James Obi")
+                                .parish("St. Joseph Catholic Church")
+                                .groomName("Chukwuemeka Okonkwo")
+                                .brideName("Adaeze Nwosu")
+                                .parties(List.of())
+                                .witnesses(List.of())
+                                .createdAt(created)
+                                .build()).toList())
+                        .build())
+                .monthly(DioceseDashboardResponse.MonthlyData.builder()
+                        .baptisms(LongStream.range(0, 12).map(m -> 400 + m).boxed().toList())
+                        .communions(LongStream.range(0, 12).map(m -> 250 + m).boxed().toList())
+                        .confirmations(LongStream.range(0, 12).map(m -> 180 + m).boxed().toList())
+                        .marriages(LongStream.range(0, 12).map(m -> 80 + m).boxed().toList())
+                        .build())
+                .aggregatesAsOf(Instant.parse("2024-06-01T10:00:00Z"))
+                .build();
+    }
+}
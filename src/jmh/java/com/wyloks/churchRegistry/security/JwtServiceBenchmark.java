@@ -0,0 +1,47 @@
+package com.wyloks.churchRegistry.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtServiceImpl}: signing runs on login and refresh; verification ({@code isValid} then
+ * {@code getUsername}, as in {@link JwtAuthFilter}) on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtServiceImpl jwtService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtServiceImpl("benchmark-secret-key-at-least-256-bits-for-hs256-encoding", 3_600_000);
+        token = jwtService.generateToken("parish.secretary@church_registry.com", "PARISH_SECRETARY");
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtService.generateToken("parish.secretary@church_registry.com", "PARISH_SECRETARY");
+    }
+
+    @Benchmark
+    public String verify() {
+        return jwtService.isValid(token) ? jwtService.getUsername(token) : null;
+    }
+}
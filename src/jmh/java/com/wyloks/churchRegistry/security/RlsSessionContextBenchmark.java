@@ -0,0 +1,52 @@
+package com.wyloks.churchRegistry.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * {@link RlsSessionContext.RlsValues#parishIdsAsCommaSeparated()}, run each time a connection is handed out with
+ * RLS enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RlsSessionContextBenchmark {
+
+    /** Parishes the user has access to: a parish user, a deanery, a diocese. */
+    @Param({"1", "10", "200"})
+    public int parishes;
+
+    private RlsSessionContext.RlsValues values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Set<Long> parishIds = LongStream.rangeClosed(1, parishes)
+                .map(i -> 1000 + i * 7)
+                .boxed()
+                .collect(Collectors.toSet());
+        values = new RlsSessionContext.RlsValues(parishIds, false);
+    }
+
+    @Benchmark
+    public String parishIdsAsCommaSeparated() {
+        return values.parishIdsAsCommaSeparated();
+    }
+}
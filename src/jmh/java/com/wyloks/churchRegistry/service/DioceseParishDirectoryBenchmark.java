@@ -0,0 +1,84 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Per-request filtering of the shared diocese/parish view down to the parishes a user can see
+ * ({@link DioceseParishDirectory#visibleTo} and {@link DioceseParishDirectory#visibleParishes}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DioceseParishDirectoryBenchmark {
+
+    private static final int DIOCESES = 20;
+    private static final int PARISHES_PER_DIOCESE = 50;
+
+    /** Parishes the user has access to, spread across dioceses. */
+    @Param({"1", "10", "200"})
+    public int visible;
+
+    private List<DioceseWithParishesResponse> dioceses;
+    private List<ParishResponse> parishesOfOneDiocese;
+    private Set<Long> parishIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dioceses = IntStream.range(0, DIOCESES)
+                .mapToObj(d -> DioceseWithParishesResponse.builder()
+                        .id((long) d)
+                        .dioceseName("Diocese " + d)
+                        .parishes(parishes(d))
+                        .build())
+                .toList();
+        parishesOfOneDiocese = dioceses.get(0).getParishes();
+        long total = (long) DIOCESES * PARISHES_PER_DIOCESE;
+        parishIds = LongStream.range(0, visible)
+                .map(i -> i * (total / visible))
+                .boxed()
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public List<DioceseWithParishesResponse> visibleTo() {
+        return DioceseParishDirectory.visibleTo(dioceses, parishIds);
+    }
+
+    @Benchmark
+    public List<ParishResponse> visibleParishes() {
+        return DioceseParishDirectory.visibleParishes(parishesOfOneDiocese, parishIds);
+    }
+
+    private static List<ParishResponse> parishes(int diocese) {
+        return IntStream.range(0, PARISHES_PER_DIOCESE)
+                .mapToObj(p -> ParishResponse.builder()
+                        .id((long) diocese * PARISHES_PER_DIOCESE + p)
+                        .parishName("Parish " + diocese + "-" + p)
+                        .dioceseId((long) diocese)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.dto.MarriageResponse;
+import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.entity.MarriagePartyLegacy;
+import com.wyloks.churchRegistry.entity.MarriageWitnessLegacy;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.projection.BaptismParentNames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link MarriageServiceImpl#mapMarriagesToResponses}: stitching parties, witnesses and the parties' parent names
+ * into the list responses. The parent name query is answered from memory, so only the CPU cost of the mapping is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarriageMappingBenchmark {
+
+    /** Marriages per page (or export chunk). */
+    @Param({"20", "100"})
+    public int marriages;
+
+    private MarriageServiceImpl service;
+    private List<Marriage> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = IntStream.range(0, marriages).mapToObj(MarriageMappingBenchmark::marriage).toList();
+        List<BaptismParentNames> parentNames = IntStream.range(0, marriages * 2)
+                .mapToObj(i -> parentNames((long) i))
+                .toList();
+        service = new MarriageServiceImpl(null, null, null, null, null, baptismRepository(parentNames),
+                null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<MarriageResponse> mapMarriagesToResponses() {
+        return service.mapMarriagesToResponses(page);
+    }
+
+    private static Marriage marriage(int i) {
+        Marriage marriage = Marriage.builder()
+                .id((long) i)
+                .partnersName("Adaeze Nwosu")
+                .marriageDate(LocalDate.of(2024, 5, 18))
+                .churchName("St. Joseph Catholic Church")
+                .diocese("Enugu")
+                .officiatingPriest("Fr. James Obi")
+                .parish("St. Joseph Catholic Church")
+                .createdAt(OffsetDateTime.of(2024, 5, 20, 9, 0, 0, 0, ZoneOffset.UTC))
+                .build();
+        marriage.getParties().add(party(marriage, i * 2, "groom", "Chukwuemeka Okonkwo"));
+        marriage.getParties().add(party(marriage, i * 2 + 1, "bride", "Adaeze Nwosu"));
+        for (int w = 0; w < 2; w++) {
+            marriage.getWitnesses().add(MarriageWitnessLegacy.builder()
+                    .id(i * 2 + w)
+                    .marriage(marriage)
+                    .fullName("Witness " + w)
+                    .phone("+234800000000" + w)
+                    .sortOrder(w)
+                    .build());
+        }
+        return marriage;
+    }
+
+    private static MarriagePartyLegacy party(Marriage marriage, int id, String role, String fullName) {
+        return MarriagePartyLegacy.builder()
+                .id(id)
+                .marriage(marriage)
+                .role(role)
+                .fullName(fullName)
+                .dateOfBirth(LocalDate.of(1995, 1, 1))
+                .nationality("Nigerian")
+                .baptismId((long) id)
+                .build();
+    }
+
+    private static BaptismParentNames parentNames(Long id) {
+        return new BaptismParentNames() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFathersName() {
+                return "Father " + id;
+            }
+
+            @Override
+            public String getMothersName() {
+                return "Mother " + id;
+            }
+        };
+    }
+
+    /** Only {@code findParentNamesByIdIn} is used by the mapping. */
+    private static BaptismRepository baptismRepository(List<BaptismParentNames> parentNames) {
+        return (BaptismRepository) Proxy.newProxyInstance(BaptismRepository.class.getClassLoader(),
+                new Class<?>[]{BaptismRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findParentNamesByIdIn")) {
+                        return parentNames;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
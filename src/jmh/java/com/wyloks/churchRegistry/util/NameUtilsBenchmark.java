@@ -0,0 +1,34 @@
+package com.wyloks.churchRegistry.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NameUtils#capitalizeName(String)}, called for every name field on each sacrament write and import row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameUtilsBenchmark {
+
+    @Param({"ada", "mary-jane o'connor", "  chukwuemeka   ifeanyi  nwachukwu-okonkwo  "})
+    public String name;
+
+    @Benchmark
+    public String capitalizeName() {
+        return NameUtils.capitalizeName(name);
+    }
+}
@@ -0,0 +1,392 @@
+package com.wyloks.churchRegistry.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * Scripted load test against a running API, reporting latency percentiles per step. Start the application with
+ * the {@code loadtest} profile (synthetic data, no rate limits), then:
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.users=20 -Dloadtest.duration=PT2M
+ * </pre>
+ * Each virtual user logs in, makes {@code loadtest.requestsPerLogin} requests picked by weight from the steps below
+ * (register lists, search, dashboards, certificate data and CSV exports) against random synthetic parishes, then
+ * logs in again, until {@code loadtest.duration} has passed. Parishes of dioceses with a {@code SYN-} code are used
+ * when present, otherwise every parish the user can see. Results are printed and written to
+ * {@code loadtest.output} as JSON.
+ */
+public final class LoadTestRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    /** Steps a virtual user picks from after logging in, with relative weights. */
+    private static final List<Step> STEPS = List.of(
+            new Step("baptism list", 25, (t, r) -> "/api/parishes/" + t.parish(r).id + "/baptisms?size=50&page=" + r.nextInt(5)),
+            new Step("baptism search", 20, (t, r) -> {
+                Parish parish = t.parish(r);
+                return "/api/parishes/" + parish.id + "/baptisms/search?q="
+                        + URLEncoder.encode(parish.surname(r), StandardCharsets.UTF_8);
+            }),
+            new Step("marriage list", 10, (t, r) -> "/api/parishes/" + t.parish(r).id + "/marriages?size=50"),
+            new Step("parish dashboard", 15, (t, r) -> "/api/parishes/" + t.parish(r).id + "/dashboard"),
+            new Step("diocese dashboard", 10, (t, r) -> "/api/dioceses/" + t.parish(r).dioceseId + "/dashboard"),
+            new Step("baptism certificate", 18, (t, r) -> "/api/baptisms/" + t.parish(r).baptismId(r) + "/certificate-data"),
+            new Step("baptism export", 2, (t, r) -> "/api/parishes/" + t.parish(r).id + "/baptisms/export"));
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final int users;
+    private final Duration duration;
+    private final int requestsPerLogin;
+    private final Path output;
+
+    private LoadTestRunner() {
+        baseUrl = stripTrailingSlash(System.getProperty("loadtest.baseUrl", "http://localhost:8080"));
+        username = System.getProperty("loadtest.username", "admin");
+        password = System.getProperty("loadtest.password", "password");
+        users = Integer.getInteger("loadtest.users", 10);
+        duration = Duration.parse(System.getProperty("loadtest.duration", "PT1M"));
+        requestsPerLogin = Integer.getInteger("loadtest.requestsPerLogin", 50);
+        output = Path.of(System.getProperty("loadtest.output", "target/loadtest-result.json"));
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(2, users)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        awaitHealthy();
+        Targets targets = discoverTargets(login());
+        System.out.printf(Locale.ROOT, "Load test: %d users for %s against %s (%d parishes)%n",
+                users, duration, baseUrl, targets.parishes.size());
+
+        Instant deadline = Instant.now().plus(duration);
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        List<Future<Map<String, Recorder>>> results = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            long seed = u;
+            results.add(pool.submit(() -> virtualUser(targets, new Random(seed), deadline)));
+        }
+        Map<String, Recorder> merged = new LinkedHashMap<>();
+        merged.put("login", new Recorder());
+        STEPS.forEach(step -> merged.put(step.name, new Recorder()));
+        for (Future<Map<String, Recorder>> result : results) {
+            result.get().forEach((name, recorder) -> merged.get(name).addAll(recorder));
+        }
+        pool.shutdown();
+        report(merged);
+    }
+
+    private Map<String, Recorder> virtualUser(Targets targets, Random random, Instant deadline) {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        recorders.put("login", new Recorder());
+        STEPS.forEach(step -> recorders.put(step.name, new Recorder()));
+        int totalWeight = STEPS.stream().mapToInt(s -> s.weight).sum();
+
+        while (Instant.now().isBefore(deadline)) {
+            long started = System.nanoTime();
+            String token;
+            try {
+                token = login();
+                recorders.get("login").add(System.nanoTime() - started);
+            } catch (IOException e) {
+                recorders.get("login").fail(e.getMessage());
+                if (!pause(Duration.ofSeconds(1))) {
+                    return recorders;
+                }
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return recorders;
+            }
+            for (int i = 0; i < requestsPerLogin && Instant.now().isBefore(deadline); i++) {
+                Step step = pick(random, totalWeight);
+                String path = step.path.apply(targets, random);
+                Recorder recorder = recorders.get(step.name);
+                long requestStarted = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(get(path, token), HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        recorder.add(System.nanoTime() - requestStarted);
+                    } else {
+                        recorder.fail("HTTP " + response.statusCode() + " " + path);
+                    }
+                } catch (IOException e) {
+                    recorder.fail(e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return recorders;
+                }
+            }
+        }
+        return recorders;
+    }
+
+    private static boolean pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Step pick(Random random, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Step step : STEPS) {
+            roll -= step.weight;
+            if (roll < 0) {
+                return step;
+            }
+        }
+        return STEPS.get(STEPS.size() - 1);
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        Instant giveUp = Instant.now().plus(Duration.ofMinutes(5));
+        while (true) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/health")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            if (Instant.now().isAfter(giveUp)) {
+                throw new IllegalStateException("API at " + baseUrl + " did not become healthy within 5 minutes");
+            }
+            Thread.sleep(2000);
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        ObjectNode body = MAPPER.createObjectNode().put("username", username).put("password", password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Login failed: HTTP " + response.statusCode());
+        }
+        return MAPPER.readTree(response.body()).path("token").asText();
+    }
+
+    /**
+     * Parishes to load, with a page of baptism ids and surnames each for certificate and search requests.
+     */
+    private Targets discoverTargets(String token) throws IOException, InterruptedException {
+        JsonNode dioceses = getJson("/api/dioceses/with-parishes", token);
+        boolean synthetic = false;
+        for (JsonNode diocese : dioceses) {
+            synthetic |= diocese.path("code").asText("").startsWith("SYN-");
+        }
+        List<Parish> parishes = new ArrayList<>();
+        for (JsonNode diocese : dioceses) {
+            if (synthetic && !diocese.path("code").asText("").startsWith("SYN-")) {
+                continue;
+            }
+            for (JsonNode parishNode : diocese.path("parishes")) {
+                Parish parish = new Parish(parishNode.path("id").asLong(), diocese.path("id").asLong());
+                for (JsonNode baptism : getJson("/api/parishes/" + parish.id + "/baptisms?size=100", token).path("content")) {
+                    parish.baptismIds.add(baptism.path("id").asLong());
+                    parish.surnames.add(baptism.path("surname").asText());
+                }
+                if (!parish.baptismIds.isEmpty()) {
+                    parishes.add(parish);
+                }
+            }
+        }
+        if (parishes.isEmpty()) {
+            throw new IllegalStateException("No parish with baptisms found; start the API with the loadtest profile");
+        }
+        return new Targets(parishes);
+    }
+
+    private JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get(path, token), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " failed: HTTP " + response.statusCode());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private void report(Map<String, Recorder> recorders) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf(Locale.ROOT, "%n%-20s %8s %7s %8s %8s %8s %8s %8s %8s%n",
+                "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        ArrayNode steps = MAPPER.createArrayNode();
+        for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            Recorder recorder = entry.getValue();
+            long[] sorted = recorder.sorted();
+            ObjectNode step = steps.addObject()
+                    .put("step", entry.getKey())
+                    .put("count", sorted.length)
+                    .put("errors", recorder.errors)
+                    .put("throughputPerSecond", sorted.length / seconds);
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-20s %8d %7d %8.1f",
+                    entry.getKey(), sorted.length, recorder.errors, sorted.length / seconds));
+            for (double percentile : PERCENTILES) {
+                double millis = millis(percentile(sorted, percentile));
+                step.put("p" + (int) percentile + "Millis", millis);
+                line.append(String.format(Locale.ROOT, " %8.1f", millis));
+            }
+            double max = sorted.length == 0 ? 0 : millis(sorted[sorted.length - 1]);
+            step.put("maxMillis", max);
+            line.append(String.format(Locale.ROOT, " %8.1f", max));
+            if (recorder.firstError != null) {
+                step.put("firstError", recorder.firstError);
+            }
+            System.out.println(line);
+        }
+        recorders.forEach((name, recorder) -> {
+            if (recorder.firstError != null) {
+                System.out.println("First " + name + " error: " + recorder.firstError);
+            }
+        });
+
+        ObjectNode result = MAPPER.createObjectNode()
+                .put("baseUrl", baseUrl)
+                .put("users", users)
+                .put("duration", duration.toString())
+                .put("finishedAt", Instant.now().toString());
+        result.set("steps", steps);
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(output.toFile(), result);
+        System.out.println("Results written to " + output);
+    }
+
+    /** Nearest-rank percentile of sorted nanosecond latencies. */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private record Step(String name, int weight, BiFunction<Targets, Random, String> path) {
+    }
+
+    private record Targets(List<Parish> parishes) {
+
+        Parish parish(Random random) {
+            return parishes.get(random.nextInt(parishes.size()));
+        }
+    }
+
+    private static final class Parish {
+        final long id;
+        final long dioceseId;
+        final List<Long> baptismIds = new ArrayList<>();
+        final List<String> surnames = new ArrayList<>();
+
+        Parish(long id, long dioceseId) {
+            this.id = id;
+            this.dioceseId = dioceseId;
+        }
+
+        long baptismId(Random random) {
+            return baptismIds.get(random.nextInt(baptismIds.size()));
+        }
+
+        String surname(Random random) {
+            return surnames.get(random.nextInt(surnames.size()));
+        }
+    }
+
+    /** Latencies of one step, in nanoseconds; one per virtual user, merged at the end. */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        private String firstError;
+
+        void add(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        void fail(String message) {
+            errors++;
+            if (firstError == null) {
+                firstError = message;
+            }
+        }
+
+        void addAll(Recorder other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i]);
+            }
+            errors += other.errors;
+            if (firstError == null) {
+                firstError = other.firstError;
+            }
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
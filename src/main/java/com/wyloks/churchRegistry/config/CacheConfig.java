@@ -1,17 +1,24 @@
 package com.wyloks.churchRegistry.config;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.wyloks.churchRegistry.security.CurrentUserAccessService;
+import com.wyloks.churchRegistry.dto.DashboardResponse;
+import com.wyloks.churchRegistry.dto.DioceseDashboardResponse;
+import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
+import com.wyloks.churchRegistry.service.ParishCountEstimateService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.springframework.cache.support.CompositeCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -20,10 +27,14 @@ import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @Configuration
 @EnableCaching
@@ -33,87 +44,224 @@ public class CacheConfig {
     public static final String CACHE_PARISHES_BY_DIOCESE = "parishes-by-diocese";
     public static final String CACHE_PARISH_DASHBOARD = "parish-dashboard";
     public static final String CACHE_DIOCESE_DASHBOARD = "diocese-dashboard";
+    public static final String CACHE_PARISH_COUNT_ESTIMATES = "parish-count-estimates";
 
     private static final Duration REDIS_CACHE_TTL = Duration.ofMinutes(10);
+    private static final Duration DASHBOARD_TTL = Duration.ofMinutes(30);
+    private static final Duration COUNT_ESTIMATE_TTL = Duration.ofMinutes(5);
 
+    /**
+     * Upper bound on how long a local (L1) copy can outlive a change on another instance if its invalidation
+     * message is lost, e.g. while the pub/sub connection reconnects.
+     */
+    private static final Duration LOCAL_TIER_TTL = Duration.ofMinutes(2);
+
+    private static final int DEFAULT_COMPRESSION_THRESHOLD_BYTES = 2048;
+
+    /**
+     * How Redis cache values are encoded. {@code JSON} embeds {@code @class} type hints in every object so any value
+     * reads back; {@code SMILE} is binary JSON for the cache's single declared value type ({@link #CACHE_VALUE_TYPES}),
+     * optionally compressed (see {@link SmileRedisSerializer}).
+     */
+    public enum RedisCodec {
+        JSON,
+        SMILE
+    }
+
+    static final Map<String, RedisCodec> DEFAULT_REDIS_CODECS = Map.of(
+            CACHE_DIOCESES_WITH_PARISHES, RedisCodec.SMILE,
+            CACHE_PARISHES_BY_DIOCESE, RedisCodec.SMILE,
+            CACHE_PARISH_DASHBOARD, RedisCodec.SMILE,
+            CACHE_DIOCESE_DASHBOARD, RedisCodec.SMILE,
+            CACHE_PARISH_COUNT_ESTIMATES, RedisCodec.SMILE);
+
+    /**
+     * Value type of each cache, i.e. the return type of its {@code @Cacheable} method. Must be kept in step with
+     * those methods when the SMILE codec is used.
+     */
+    static final Map<String, Function<TypeFactory, JavaType>> CACHE_VALUE_TYPES = Map.of(
+            CACHE_DIOCESES_WITH_PARISHES,
+            types -> types.constructCollectionType(List.class, DioceseWithParishesResponse.class),
+            CACHE_PARISHES_BY_DIOCESE, types -> types.constructCollectionType(List.class, ParishResponse.class),
+            CACHE_PARISH_DASHBOARD, types -> types.constructType(DashboardResponse.class),
+            CACHE_DIOCESE_DASHBOARD, types -> types.constructType(DioceseDashboardResponse.class),
+            CACHE_PARISH_COUNT_ESTIMATES, types -> types.constructType(ParishCountEstimateService.ParishCounts.class));
+
+    /**
+     * Caffeine spec per cache for the in-memory caches used without Redis, overridable per cache with
+     * {@code app.cache.specs.<cache-name>}. Every cache is bounded by size and TTL.
+     */
+    static final Map<String, String> DEFAULT_CACHE_SPECS = Map.of(
+            // One shared admin entry, and one per diocese; tenant views are filtered from them (DioceseParishDirectory).
+            CACHE_DIOCESES_WITH_PARISHES, "maximumSize=10,expireAfterWrite=10m",
+            CACHE_PARISHES_BY_DIOCESE, "maximumSize=500,expireAfterWrite=10m",
+            // Dashboards are evicted on sacrament writes (DashboardCacheEvictionListener) and, for dioceses, after
+            // each dashboard view refresh; the TTL only bounds staleness from changes made outside the application.
+            CACHE_PARISH_DASHBOARD, "maximumSize=500,expireAfterWrite=30m",
+            CACHE_DIOCESE_DASHBOARD, "maximumSize=100,expireAfterWrite=30m",
+            CACHE_PARISH_COUNT_ESTIMATES, "maximumSize=1000,expireAfterWrite=5m");
+
+    /**
+     * Refresh-ahead age per cache, overridable with {@code app.cache.refresh-after.<cache-name>} ({@code PT0S}
+     * disables it). Should stay well below the cache's TTL so hot entries are recomputed before they expire.
+     * See {@link RefreshAheadCache}.
+     */
+    static final Map<String, Duration> DEFAULT_REFRESH_AFTER = Map.of(
+            CACHE_PARISH_DASHBOARD, Duration.ofMinutes(10),
+            CACHE_DIOCESE_DASHBOARD, Duration.ofMinutes(10));
+
+    /** Load times tracked per refresh-ahead cache; at least the largest dashboard size bound. */
+    private static final long REFRESH_AHEAD_MAX_TRACKED = 1000;
+
+    /**
+     * With Redis, every cache is two-tier: a small per-instance Caffeine L1 in front of the shared Redis L2, with
+     * L1 invalidations broadcast over Redis pub/sub (see {@link TwoTierCacheManager}). Without Redis, every cache
+     * is a bounded Caffeine cache configured from {@link #cacheSpecs(Environment)}. Either way, dashboards are
+     * refreshed ahead of expiry ({@link #refreshAfter(Environment)}).
+     */
     @Bean
     public CacheManager cacheManager(
             @Autowired(required = false) RedisConnectionFactory redisConnectionFactory,
-            ObjectMapper objectMapper) {
-        CaffeineCacheManager dashboardCacheManager = new CaffeineCacheManager();
-        dashboardCacheManager.registerCustomCache(CACHE_PARISH_DASHBOARD,
-                Caffeine.newBuilder()
-                        .expireAfterWrite(2, TimeUnit.MINUTES)
-                        .maximumSize(500)
-                        .build());
-        dashboardCacheManager.registerCustomCache(CACHE_DIOCESE_DASHBOARD,
-                Caffeine.newBuilder()
-                        .expireAfterWrite(2, TimeUnit.MINUTES)
-                        .maximumSize(100)
-                        .build());
-
-        org.springframework.cache.CacheManager diocesesParishesManager;
-        if (redisConnectionFactory != null) {
-            ObjectMapper cacheObjectMapper = objectMapper.copy();
-            cacheObjectMapper.activateDefaultTyping(
-                    cacheObjectMapper.getPolymorphicTypeValidator(),
-                    ObjectMapper.DefaultTyping.NON_FINAL,
-                    JsonTypeInfo.As.PROPERTY);
-            GenericJackson2JsonRedisSerializer valueSerializer =
-                    new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
-
-            RedisCacheConfiguration redisDefaults = RedisCacheConfiguration.defaultCacheConfig()
-                    .entryTtl(REDIS_CACHE_TTL)
-                    .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
-
-            diocesesParishesManager = RedisCacheManager.builder(redisConnectionFactory)
-                    .cacheDefaults(redisDefaults)
-                    .withInitialCacheConfigurations(Map.of(
-                            CACHE_DIOCESES_WITH_PARISHES, redisDefaults,
-                            CACHE_PARISHES_BY_DIOCESE, redisDefaults))
-                    .build();
-        } else {
-            diocesesParishesManager = new ConcurrentMapCacheManager(
-                    CACHE_DIOCESES_WITH_PARISHES, CACHE_PARISHES_BY_DIOCESE);
-        }
+            ObjectMapper objectMapper,
+            Environment environment) {
+        CacheManager cacheManager = redisConnectionFactory != null
+                ? twoTierCacheManager(redisConnectionFactory, objectMapper, environment)
+                : localCacheManager(cacheSpecs(environment));
+        return new RefreshAheadCacheManager(cacheManager, refreshAfter(environment), REFRESH_AHEAD_MAX_TRACKED,
+                refreshExecutor());
+    }
 
-        CompositeCacheManager composite = new CompositeCacheManager();
-        composite.setCacheManagers(Arrays.asList(diocesesParishesManager, dashboardCacheManager));
-        return composite;
+    /**
+     * {@link #DEFAULT_REFRESH_AFTER} with any {@code app.cache.refresh-after} overrides; zero durations are dropped.
+     */
+    static Map<String, Duration> refreshAfter(Environment environment) {
+        Map<String, Duration> refreshAfter = new HashMap<>(DEFAULT_REFRESH_AFTER);
+        refreshAfter.putAll(Binder.get(environment)
+                .bind("app.cache.refresh-after", Bindable.mapOf(String.class, Duration.class))
+                .orElse(Map.of()));
+        refreshAfter.values().removeIf(d -> d.isZero() || d.isNegative());
+        return refreshAfter;
     }
 
     /**
-     * Key generator that includes user context (admin vs parish-filtered) so cache entries
-     * are isolated per user access. Prevents cross-tenant cache leakage.
+     * Two daemon threads with a short queue: refreshes are best effort, and one that cannot be queued is retried
+     * on a later hit.
      */
-    @Bean
-    public DioceseParishCacheKeyGenerator dioceseParishCacheKeyGenerator(CurrentUserAccessService currentUserAccessService) {
-        return new DioceseParishCacheKeyGenerator(currentUserAccessService);
+    private static ThreadPoolExecutor refreshExecutor() {
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
-    public static class DioceseParishCacheKeyGenerator implements org.springframework.cache.interceptor.KeyGenerator {
+    /**
+     * {@link #DEFAULT_CACHE_SPECS} with any {@code app.cache.specs} overrides applied.
+     */
+    static Map<String, String> cacheSpecs(Environment environment) {
+        Map<String, String> specs = new HashMap<>(DEFAULT_CACHE_SPECS);
+        specs.putAll(Binder.get(environment)
+                .bind("app.cache.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of()));
+        return specs;
+    }
 
-        private final CurrentUserAccessService currentUserAccessService;
+    static CaffeineCacheManager localCacheManager(Map<String, String> specs) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Static mode: a typo in a cache name fails instead of creating an unbounded cache. Set before the custom
+        // caches are registered, since it recreates every named cache with the manager-wide defaults.
+        cacheManager.setCacheNames(specs.keySet());
+        // Stats feed CacheStatsCollector, the cache meters and CacheEvictionReporter.
+        specs.forEach((name, spec) -> cacheManager.registerCustomCache(name,
+                Caffeine.from(spec).recordStats().build()));
+        return cacheManager;
+    }
 
-        public DioceseParishCacheKeyGenerator(CurrentUserAccessService currentUserAccessService) {
-            this.currentUserAccessService = currentUserAccessService;
-        }
+    private static TwoTierCacheManager twoTierCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                           ObjectMapper objectMapper,
+                                                           Environment environment) {
+        Map<String, RedisCodec> codecs = redisCodecs(environment);
+        int compressionThreshold = environment.getProperty(
+                "app.cache.redis-compression-threshold-bytes", Integer.class, DEFAULT_COMPRESSION_THRESHOLD_BYTES);
+        GenericJackson2JsonRedisSerializer jsonSerializer = redisValueSerializer(objectMapper);
+        Map<String, Duration> ttls = Map.of(
+                CACHE_DIOCESES_WITH_PARISHES, REDIS_CACHE_TTL,
+                CACHE_PARISHES_BY_DIOCESE, REDIS_CACHE_TTL,
+                CACHE_PARISH_DASHBOARD, DASHBOARD_TTL,
+                CACHE_DIOCESE_DASHBOARD, DASHBOARD_TTL,
+                CACHE_PARISH_COUNT_ESTIMATES, COUNT_ESTIMATE_TTL);
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        ttls.forEach((name, ttl) -> configurations.put(name, redisCacheConfiguration(name, ttl,
+                codecs.get(name), jsonSerializer, objectMapper, compressionThreshold)));
+
+        RedisCacheManager sharedManager = RedisCacheManager.builder(redisConnectionFactory)
+                .withInitialCacheConfigurations(configurations)
+                .disableCreateOnMissingCache()
+                // Per-instance hit/miss counters, reported by CacheStatsCollector and the cache meters
+                .enableStatistics()
+                .build();
+        sharedManager.afterPropertiesSet();
+
+        // L1 only holds the hottest entries; Redis has the full working set.
+        return new TwoTierCacheManager(sharedManager,
+                Map.of(
+                        CACHE_PARISH_DASHBOARD, () -> localTier(200),
+                        CACHE_DIOCESE_DASHBOARD, () -> localTier(50),
+                        CACHE_PARISH_COUNT_ESTIMATES, () -> localTier(500)),
+                () -> localTier(100),
+                new RedisCacheInvalidationBus(redisConnectionFactory, objectMapper));
+    }
 
-        @Override
-        public Object generate(Object target, java.lang.reflect.Method method, Object... params) {
-            CurrentUserAccessService.CurrentUserAccess currentUser = currentUserAccessService.currentUser();
-            String userKey = currentUser.isAdmin()
-                    ? "admin"
-                    : "parishes:" + currentUser.parishIds().stream()
-                            .sorted()
-                            .map(String::valueOf)
-                            .collect(Collectors.joining(","));
-
-            if (params != null && params.length > 0 && params[0] instanceof Long dioceseId) {
-                return "diocese:" + dioceseId + "::" + userKey;
-            }
-            return userKey;
+    static RedisCacheConfiguration redisCacheConfiguration(String cacheName, Duration ttl, RedisCodec codec,
+                                                           GenericJackson2JsonRedisSerializer jsonSerializer,
+                                                           ObjectMapper objectMapper, int compressionThreshold) {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()));
+        if (codec == RedisCodec.SMILE) {
+            JavaType valueType = CACHE_VALUE_TYPES.get(cacheName).apply(objectMapper.getTypeFactory());
+            // Own key prefix per codec: entries written in the other format are never read, they just expire.
+            return configuration
+                    .computePrefixWith(name -> name + "::smile::")
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                            new SmileRedisSerializer(objectMapper, valueType, compressionThreshold)));
         }
+        return configuration
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer));
+    }
+
+    /**
+     * Redis value codec per cache: {@link #DEFAULT_REDIS_CODECS} with any {@code app.cache.redis-codecs} overrides.
+     */
+    static Map<String, RedisCodec> redisCodecs(Environment environment) {
+        Map<String, RedisCodec> codecs = new HashMap<>(DEFAULT_REDIS_CODECS);
+        codecs.putAll(Binder.get(environment)
+                .bind("app.cache.redis-codecs", Bindable.mapOf(String.class, RedisCodec.class))
+                .orElse(Map.of()));
+        return codecs;
+    }
+
+    private static Caffeine<Object, Object> localTier(long maximumSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(LOCAL_TIER_TTL)
+                .maximumSize(maximumSize)
+                .recordStats();
+    }
+
+    /**
+     * JSON value serializer for Redis cache entries, with type information so cached DTOs read back as their
+     * own classes.
+     */
+    static GenericJackson2JsonRedisSerializer redisValueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper cacheObjectMapper = objectMapper.copy();
+        cacheObjectMapper.activateDefaultTyping(
+                cacheObjectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
     }
 }
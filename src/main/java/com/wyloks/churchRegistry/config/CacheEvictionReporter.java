@@ -0,0 +1,52 @@
+package com.wyloks.churchRegistry.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs how many entries each in-memory Caffeine cache (or the local tier of a two-tier cache) evicted, by size
+ * limit or expiry, since the last report. Steady evictions from a cache with a long TTL mean its
+ * {@code maximumSize} is too small for the working set; tune it with {@code app.cache.specs.<cache-name>}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionReporter {
+
+    private final CacheManager cacheManager;
+
+    private final Map<String, Long> reportedEvictions = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${app.cache.eviction-report-interval-ms:900000}")
+    public void report() {
+        Map<String, Long> evictions = evictionsSinceLastReport();
+        if (!evictions.isEmpty()) {
+            log.info("Cache evictions since last report: {}", evictions);
+        }
+    }
+
+    /**
+     * Eviction count per cache since the previous call; caches without evictions are omitted.
+     */
+    Map<String, Long> evictionsSinceLastReport() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheStatsCollector.localTier(cacheManager.getCache(name)).ifPresent(cache -> {
+                long total = cache.stats().evictionCount();
+                Long previous = reportedEvictions.put(name, total);
+                long delta = total - (previous != null ? previous : 0L);
+                if (delta > 0) {
+                    result.put(name, delta);
+                }
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.wyloks.churchRegistry.config;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Broadcasts local-cache invalidations to the other application instances sharing the L2 cache.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Tells other instances to drop {@code key} from their local copy of {@code cacheName}; a null key clears it.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registers the handler for invalidations published by other instances (never this one's own).
+     */
+    void subscribe(BiConsumer<String, String> handler);
+
+    void start();
+
+    void stop();
+}
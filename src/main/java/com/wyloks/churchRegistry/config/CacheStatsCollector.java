@@ -0,0 +1,101 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wyloks.churchRegistry.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-cache statistics for the caches built by {@link CacheConfig}: hit ratio, evictions, estimated size and
+ * average load time of the in-process Caffeine tier, and hit ratio of the Redis tier when there is one. Counters
+ * are cumulative since this instance started. Refresh-ahead and two-tier wrappers are looked through, so the
+ * numbers are those of the underlying caches.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheStatsCollector {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final CacheManager cacheManager;
+
+    public List<CacheStatsResponse> snapshot() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(name -> {
+                    Cache cache = cacheManager.getCache(name);
+                    return CacheStatsResponse.builder()
+                            .name(name)
+                            .local(localTier(cache).map(CacheStatsCollector::localStats).orElse(null))
+                            .shared(sharedTier(cache).map(CacheStatsCollector::sharedStats).orElse(null))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * The cache a {@link RefreshAheadCache} decorates, or the cache itself.
+     */
+    static Cache unwrap(Cache cache) {
+        return cache instanceof RefreshAheadCache refreshAhead ? refreshAhead.getDelegate() : cache;
+    }
+
+    /**
+     * The in-process Caffeine cache: the cache itself without Redis, the L1 tier of a two-tier cache.
+     */
+    static Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> localTier(Cache cache) {
+        Cache target = unwrap(cache);
+        Cache local = target instanceof TwoTierCache twoTier ? twoTier.getLocalCache() : target;
+        if (local != null && local.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            @SuppressWarnings("unchecked")
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> typed =
+                    (com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine;
+            return Optional.of(typed);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The Redis (L2) tier of a two-tier cache; empty without Redis.
+     */
+    static Optional<RedisCache> sharedTier(Cache cache) {
+        Cache target = unwrap(cache);
+        if (target instanceof TwoTierCache twoTier && twoTier.getSharedCache() instanceof RedisCache redis) {
+            return Optional.of(redis);
+        }
+        return Optional.empty();
+    }
+
+    private static CacheStatsResponse.TierStats localStats(com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.TierStats.builder()
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRatio(hitRatio(stats.hitCount(), stats.missCount()))
+                .evictions(stats.evictionCount())
+                .estimatedSize(cache.estimatedSize())
+                .averageLoadMillis(stats.loadCount() > 0 ? stats.averageLoadPenalty() / NANOS_PER_MILLI : null)
+                .build();
+    }
+
+    private static CacheStatsResponse.TierStats sharedStats(RedisCache cache) {
+        long hits = cache.getStatistics().getHits();
+        long misses = cache.getStatistics().getMisses();
+        return CacheStatsResponse.TierStats.builder()
+                .hits(hits)
+                .misses(misses)
+                .hitRatio(hitRatio(hits, misses))
+                .build();
+    }
+
+    private static Double hitRatio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests > 0 ? (double) hits / requests : null;
+    }
+}
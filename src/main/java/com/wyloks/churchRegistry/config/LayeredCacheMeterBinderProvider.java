@@ -0,0 +1,39 @@
+package com.wyloks.churchRegistry.config;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds the standard {@code cache.*} meters for the refresh-ahead and two-tier caches, which Spring Boot's own
+ * providers do not recognise. A two-tier cache gets one set of meters per tier, tagged {@code tier=local} (Caffeine)
+ * and {@code tier=shared} (Redis). Plain Caffeine caches are left to Spring Boot.
+ */
+@Component
+public class LayeredCacheMeterBinderProvider implements CacheMeterBinderProvider<Cache> {
+
+    @Override
+    public MeterBinder getMeterBinder(Cache cache, Iterable<Tag> tags) {
+        if (!(cache instanceof RefreshAheadCache) && !(cache instanceof TwoTierCache)) {
+            return null;
+        }
+        boolean twoTier = CacheStatsCollector.unwrap(cache) instanceof TwoTierCache;
+        List<MeterBinder> binders = new ArrayList<>();
+        CacheStatsCollector.localTier(cache).ifPresent(local -> binders.add(new CaffeineCacheMetrics<>(local,
+                cache.getName(), twoTier ? Tags.of(tags).and("tier", "local") : tags)));
+        CacheStatsCollector.sharedTier(cache).ifPresent(shared -> binders.add(new RedisCacheMetrics(shared,
+                Tags.of(tags).and("tier", "shared"))));
+        if (binders.isEmpty()) {
+            return null;
+        }
+        return registry -> binders.forEach(binder -> binder.bindTo(registry));
+    }
+}
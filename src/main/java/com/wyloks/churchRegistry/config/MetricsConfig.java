@@ -0,0 +1,23 @@
+package com.wyloks.churchRegistry.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@link io.micrometer.core.annotation.Timed @Timed} on Spring beans. HTTP requests (per URI template),
+ * the Hikari pool, JVM and caches are timed or gauged by Spring Boot itself; histogram buckets for the timers are
+ * configured under {@code management.metrics.distribution} and scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** Timer for the sacrament service methods, tagged with {@code class} and {@code method}. */
+    public static final String SACRAMENT_SERVICE_TIMER = "sacrament.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
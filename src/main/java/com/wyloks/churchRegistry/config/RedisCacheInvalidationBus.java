@@ -0,0 +1,82 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link CacheInvalidationBus} over Redis pub/sub. Messages are tagged with a per-process origin id so an instance
+ * ignores its own invalidations. Delivery is best effort; local entries also expire on their own short TTL.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "church-registry:cache-invalidation";
+
+    private final String origin = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final ObjectMapper objectMapper;
+    private volatile BiConsumer<String, String> handler = (cacheName, key) -> { };
+
+    public RedisCacheInvalidationBus(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.objectMapper = objectMapper;
+        this.container.addMessageListener((message, pattern) -> onMessage(message.getBody()), new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new InvalidationMessage(origin, cacheName, key));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not publish invalidation for cache {} key {}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, String> handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void start() {
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void stop() {
+        try {
+            container.destroy();
+        } catch (Exception e) {
+            log.debug("Error stopping cache invalidation listener", e);
+        }
+    }
+
+    private void onMessage(byte[] body) {
+        try {
+            InvalidationMessage message = objectMapper.readValue(new String(body, StandardCharsets.UTF_8),
+                    InvalidationMessage.class);
+            if (!origin.equals(message.origin())) {
+                handler.accept(message.cache(), message.key());
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation message", e);
+        }
+    }
+
+    record InvalidationMessage(String origin, String cache, String key) {
+    }
+}
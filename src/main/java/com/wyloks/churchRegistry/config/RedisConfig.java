@@ -15,7 +15,8 @@ import java.time.Duration;
 
 /**
  * Provides RedisConnectionFactory and RedisTemplate when REDIS_URL is set (e.g. for distributed cache in prod).
- * When REDIS_URL is not set, CacheConfig falls back to in-memory ConcurrentMapCacheManager.
+ * With Redis, CacheConfig layers a per-instance Caffeine cache over Redis for every cache; when REDIS_URL is not set
+ * it falls back to in-memory caches.
  */
 @Configuration
 @ConditionalOnProperty(name = "REDIS_URL")
@@ -0,0 +1,157 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Refresh-ahead decorator for caches read with {@code @Cacheable(sync = true)}. A hit on an entry this instance
+ * loaded more than {@code refreshAfter} ago still returns the cached value immediately, and the value loader of
+ * that call recomputes the entry once in the background. At most one refresh per key runs at a time.
+ * <p>
+ * Refreshes run with the RLS values and security context of the request that triggered them. A refresh that
+ * overlaps an eviction or clear is discarded, so it cannot write back a value computed before the change.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final long refreshAfterNanos;
+    private final Executor executor;
+    private final LongSupplier nanoTime;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> loadedAt;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RefreshAheadCache(Cache delegate, Duration refreshAfter, long maximumSize, Executor executor) {
+        this(delegate, refreshAfter, maximumSize, executor, System::nanoTime);
+    }
+
+    RefreshAheadCache(Cache delegate, Duration refreshAfter, long maximumSize, Executor executor,
+                      LongSupplier nanoTime) {
+        this.delegate = delegate;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.executor = executor;
+        this.nanoTime = nanoTime;
+        this.loadedAt = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = {false};
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        Long at = loadedAt.getIfPresent(key);
+        if (loaded[0] || at == null) {
+            loadedAt.put(key, nanoTime.getAsLong());
+        } else if (nanoTime.getAsLong() - at >= refreshAfterNanos) {
+            refresh(key, valueLoader);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        loadedAt.put(key, nanoTime.getAsLong());
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidations.incrementAndGet();
+        loadedAt.invalidate(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidations.incrementAndGet();
+        loadedAt.invalidate(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        loadedAt.invalidateAll();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidations.incrementAndGet();
+        loadedAt.invalidateAll();
+        return delegate.invalidate();
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long invalidationsAtStart = invalidations.get();
+        RlsSessionContext.RlsValues rls = RlsSessionContext.get();
+        Runnable task = new DelegatingSecurityContextRunnable(() -> {
+            RlsSessionContext.set(rls.parishIds(), rls.isAdmin());
+            try {
+                Object value = valueLoader.call();
+                if (invalidations.get() == invalidationsAtStart) {
+                    put(key, value);
+                }
+            } catch (Exception e) {
+                log.warn("Refresh of cache {} key {} failed; serving the previous value until it expires",
+                        getName(), key, e);
+            } finally {
+                RlsSessionContext.clear();
+                refreshing.remove(key);
+            }
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("Refresh of cache {} key {} skipped: refresh queue full", getName(), key);
+        }
+    }
+}
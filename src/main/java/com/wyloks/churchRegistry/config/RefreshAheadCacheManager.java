@@ -0,0 +1,81 @@
+package com.wyloks.churchRegistry.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps the caches named in {@code refreshAfter} in a {@link RefreshAheadCache}; other caches are returned as is.
+ * Initialization and shutdown are passed on to the delegate manager (e.g. to start its invalidation bus), and an
+ * {@link ExecutorService} used for refreshes is shut down with this bean.
+ */
+public class RefreshAheadCacheManager implements CacheManager, InitializingBean, DisposableBean {
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> refreshAfter;
+    private final long maximumEntries;
+    private final Executor executor;
+    private final Map<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    /**
+     * @param maximumEntries bound on tracked load times per cache; should be at least the cache's own size bound
+     */
+    public RefreshAheadCacheManager(CacheManager delegate, Map<String, Duration> refreshAfter, long maximumEntries,
+                                    Executor executor) {
+        this.delegate = delegate;
+        this.refreshAfter = refreshAfter;
+        this.maximumEntries = maximumEntries;
+        this.executor = executor;
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Duration after = refreshAfter.get(name);
+        if (after == null) {
+            return delegate.getCache(name);
+        }
+        Cache cache = decorated.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return decorated.computeIfAbsent(name, n -> new RefreshAheadCache(target, after, maximumEntries, executor));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (delegate instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        if (delegate instanceof DisposableBean disposableBean) {
+            disposableBean.destroy();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.wyloks.churchRegistry.config;
 
 import com.wyloks.churchRegistry.security.RlsSessionContext;
+import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -27,9 +29,14 @@ public class RlsDataSourceConfig {
 
     private static final String PG_BOUNCER_PARAMS = "preferQueryMode=simple&prepareThreshold=0";
 
+    /**
+     * Pool settings ({@code spring.datasource.hikari.*}, e.g. size and pool name) are bound here, since Boot only
+     * binds them to the DataSource it creates itself.
+     */
     @Bean("rawDataSource")
-    public DataSource rawDataSource(DataSourceProperties properties) {
-        var builder = properties.initializeDataSourceBuilder();
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource rawDataSource(DataSourceProperties properties) {
+        var builder = properties.initializeDataSourceBuilder().type(HikariDataSource.class);
         String url = properties.getUrl();
         if (url != null && url.contains("postgresql") && !url.contains("preferQueryMode")) {
             url = url + (url.contains("?") ? "&" : "?") + PG_BOUNCER_PARAMS;
@@ -0,0 +1,45 @@
+package com.wyloks.churchRegistry.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Enables the background jobs (import worker, statistics, snapshots, dashboard view refresh, token cleanup).
+ * Tests switch it off with {@code app.scheduling.enabled=false} and invoke the jobs directly, so a job firing
+ * at context startup cannot interfere with statement-count assertions.
+ * <p>
+ * Jobs that can run for minutes (imports, snapshots, the statistics rebuild) name {@link #BULK_JOB_SCHEDULER} so
+ * they cannot hold up the short periodic jobs on the default scheduler ({@code spring.task.scheduling.*}).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+
+    public static final String BULK_JOB_SCHEDULER = "bulkJobScheduler";
+
+    /**
+     * Default scheduler, still configured from {@code spring.task.scheduling.*}; declared here because a second
+     * scheduler bean switches off Boot's own.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * One thread per long-running job, so an import never delays the nightly snapshot or statistics rebuild.
+     */
+    @Bean(BULK_JOB_SCHEDULER)
+    public ThreadPoolTaskScheduler bulkJobScheduler(@Value("${app.scheduling.bulk-pool-size:3}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("bulk-job-");
+        return scheduler;
+    }
+}
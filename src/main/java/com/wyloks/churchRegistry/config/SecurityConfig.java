@@ -4,6 +4,9 @@ import com.wyloks.churchRegistry.security.JwtAuthFilter;
 import com.wyloks.churchRegistry.security.RlsSessionFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -28,6 +31,13 @@ public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
     private final RlsSessionFilter rlsSessionFilter;
 
+    /**
+     * Port of the separate management server, if any (prod). It is only reachable on the private network, where
+     * Prometheus scrapes it, so its endpoints need no token.
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -50,6 +60,9 @@ public class SecurityConfig {
                         }))
                 .authorizeHttpRequests(a -> a
                         .requestMatchers("/api/health").permitAll()
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(req -> managementPort > 0 && req.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAnyRole("ADMIN", "SUPER_ADMIN")
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/api/auth/login", "/api/auth/refresh", "/api/auth/logout",
                         "/api/auth/forgot-password", "/api/auth/reset-password-by-token").permitAll()
@@ -0,0 +1,23 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.wyloks.churchRegistry.dto.SliceResponse;
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link SliceImpl} results as {@link SliceResponse}, the slice counterpart of the VIA_DTO page
+ * serialization in {@link SpringDataWebConfig}; Spring Data has no stable JSON form for slices.
+ */
+@JsonComponent
+public class SliceResponseSerializer extends JsonSerializer<SliceImpl<?>> {
+
+    @Override
+    public void serialize(SliceImpl<?> slice, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        serializers.defaultSerializeValue(SliceResponse.of(slice), gen);
+    }
+}
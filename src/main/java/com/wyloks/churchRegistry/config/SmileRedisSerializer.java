@@ -0,0 +1,126 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact Redis value codec for a cache whose values all have one known type: binary JSON (Smile) written without
+ * the {@code @class} properties the default-typed JSON serializer adds to every nested object. Payloads above
+ * {@code compressionThreshold} bytes are also deflated.
+ * <p>
+ * Each payload starts with a one-byte header: {@link #PLAIN}, {@link #DEFLATED}, or {@link #NULL} for the cached
+ * null marker.
+ */
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte PLAIN = 0;
+    static final byte DEFLATED = 1;
+    static final byte NULL = 2;
+
+    private final ObjectMapper smileMapper;
+    private final JavaType valueType;
+    private final int compressionThreshold;
+
+    /**
+     * @param objectMapper         application mapper; its modules and settings are reused with the Smile format
+     * @param valueType            type of every value stored in the cache
+     * @param compressionThreshold payloads larger than this many bytes are deflated; 0 or less disables compression
+     */
+    public SmileRedisSerializer(ObjectMapper objectMapper, JavaType valueType, int compressionThreshold) {
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.valueType = valueType;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof NullValue) {
+            return new byte[] {NULL};
+        }
+        byte[] body;
+        try {
+            body = smileMapper.writerFor(valueType).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+        if (compressionThreshold > 0 && body.length > compressionThreshold) {
+            return withHeader(DEFLATED, deflate(body));
+        }
+        return withHeader(PLAIN, body);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+        try {
+            return switch (bytes[0]) {
+                case NULL -> NullValue.INSTANCE;
+                case PLAIN -> smileMapper.readValue(body, valueType);
+                case DEFLATED -> smileMapper.readValue(inflate(body), valueType);
+                default -> throw new SerializationException("Unknown cache payload header " + bytes[0]);
+            };
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = header;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        // Fastest level: cache payloads are small and read far more often than written.
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("Truncated compressed cache payload");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
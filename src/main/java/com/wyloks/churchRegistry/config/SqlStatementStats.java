@@ -0,0 +1,128 @@
+package com.wyloks.churchRegistry.config;
+
+import com.wyloks.churchRegistry.util.SqlFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.time.Duration;
+
+/**
+ * Counts and times the JDBC statements Hibernate executes for the current request, and logs statements slower
+ * than {@link #setSlowQueryThreshold(Duration)} by {@link SqlFingerprint fingerprint}. Hibernate is hooked in by
+ * {@link SqlStatisticsConfig}: {@link Inspector} sees each statement's SQL, {@link TimingListener} times its
+ * execution. Statements issued outside Hibernate (e.g. {@code JdbcTemplate}) are not seen.
+ * <p>
+ * Counting only happens between {@link #begin(String)} and {@link #end()} (see {@link SqlStatementStatsFilter});
+ * slow statements are logged on any thread.
+ */
+@Slf4j
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<Counter> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    private static volatile long slowQueryThresholdNanos = Duration.ofMillis(500).toNanos();
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * Statements and JDBC time of one request so far.
+     */
+    public record Snapshot(int statements, Duration time) {
+    }
+
+    static void setSlowQueryThreshold(Duration threshold) {
+        slowQueryThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Starts counting for the current thread.
+     *
+     * @param label included in slow statement logs, e.g. {@code GET /api/baptisms/5}
+     */
+    public static void begin(String label) {
+        REQUEST.set(new Counter(label));
+    }
+
+    /**
+     * Statements counted since {@link #begin(String)}, or null when not counting.
+     */
+    public static Snapshot current() {
+        Counter counter = REQUEST.get();
+        return counter != null ? new Snapshot(counter.statements, Duration.ofNanos(counter.nanos)) : null;
+    }
+
+    /**
+     * Stops counting and returns the totals, or null when not counting.
+     */
+    public static Snapshot end() {
+        Snapshot snapshot = current();
+        REQUEST.remove();
+        LAST_SQL.remove();
+        return snapshot;
+    }
+
+    static void recordExecution(long nanos) {
+        Counter counter = REQUEST.get();
+        if (counter != null) {
+            counter.statements++;
+            counter.nanos += nanos;
+        }
+        if (nanos >= slowQueryThresholdNanos) {
+            String label = counter != null ? " during " + counter.label : "";
+            log.warn("Slow SQL statement ({} ms{}): {}", nanos / 1_000_000, label, SqlFingerprint.of(LAST_SQL.get()));
+        }
+    }
+
+    private static final class Counter {
+        private final String label;
+        private int statements;
+        private long nanos;
+
+        private Counter(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Remembers the SQL of the statement about to be prepared, for the slow statement log. Returns it unchanged.
+     */
+    public static class Inspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            LAST_SQL.set(sql);
+            return sql;
+        }
+    }
+
+    /**
+     * Times statement and batch executions. Hibernate creates one per session.
+     */
+    public static class TimingListener extends BaseSessionEventListener {
+
+        private long started;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            started = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            recordExecution(System.nanoTime() - started);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            started = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            recordExecution(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.wyloks.churchRegistry.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements of each request ({@link SqlStatementStats}) and records them per endpoint as
+ * {@code http.server.requests.sql.statements} and {@code http.server.requests.sql.time}, tagged like
+ * {@code http.server.requests} with {@code method} and {@code uri} (the matched pattern). Runs ahead of Spring
+ * Security so statements issued while authenticating are included. Requests that matched no handler are not
+ * recorded. The totals are also left on the request as {@link #SNAPSHOT_ATTRIBUTE}, e.g. for statement budgets
+ * in tests.
+ */
+@Component
+@Profile("!auth-slice")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    /** Request attribute holding the request's {@link SqlStatementStats.Snapshot} once the chain has completed. */
+    public static final String SNAPSHOT_ATTRIBUTE = SqlStatementStatsFilter.class.getName() + ".snapshot";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.Snapshot stats = SqlStatementStats.end();
+            request.setAttribute(SNAPSHOT_ATTRIBUTE, stats);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (stats != null && pattern != null) {
+                DistributionSummary.builder("http.server.requests.sql.statements")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern.toString())
+                        .register(meterRegistry)
+                        .record(stats.statements());
+                Timer.builder("http.server.requests.sql.time")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern.toString())
+                        .register(meterRegistry)
+                        .record(stats.time());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.wyloks.churchRegistry.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Hooks {@link SqlStatementStats} into Hibernate and sets the slow statement threshold.
+ */
+@Configuration
+public class SqlStatisticsConfig {
+
+    public SqlStatisticsConfig(@Value("${app.sql.slow-query-threshold:500ms}") Duration slowQueryThreshold) {
+        SqlStatementStats.setSlowQueryThreshold(slowQueryThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementStatsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementStats.Inspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementStats.TimingListener.class.getName());
+        };
+    }
+}
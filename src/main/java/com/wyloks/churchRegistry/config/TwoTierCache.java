@@ -0,0 +1,128 @@
+package com.wyloks.churchRegistry.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A cache with a small in-process L1 in front of a shared L2 (Redis). Reads try L1, then L2, and copy L2 hits
+ * into L1. Writes and evictions go to both tiers and are broadcast so other instances drop their L1 copy.
+ * <p>
+ * L1 entries are keyed by {@code String.valueOf(key)}, the same form that is broadcast, so a remote invalidation
+ * matches the local entry whatever the original key type.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache local;
+    private final Cache shared;
+    private final CacheInvalidationBus bus;
+
+    public TwoTierCache(String name, Cache local, Cache shared, CacheInvalidationBus bus) {
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return shared.getNativeCache();
+    }
+
+    public Cache getLocalCache() {
+        return local;
+    }
+
+    public Cache getSharedCache() {
+        return shared;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper value = local.get(localKey);
+        if (value == null) {
+            value = shared.get(key);
+            if (value != null) {
+                local.put(localKey, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object result = value != null ? value.get() : null;
+        if (result != null && type != null && !type.isInstance(result)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(localKey(key), () -> shared.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        shared.put(key, value);
+        local.put(localKey(key), value);
+        bus.publish(name, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = shared.putIfAbsent(key, value);
+        local.evict(localKey(key));
+        if (existing == null) {
+            bus.publish(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        shared.evict(key);
+        local.evict(localKey(key));
+        bus.publish(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = shared.evictIfPresent(key);
+        local.evict(localKey(key));
+        bus.publish(name, localKey(key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        shared.clear();
+        local.clear();
+        bus.publish(name, null);
+    }
+
+    /**
+     * Applies an invalidation broadcast by another instance: only the local tier is touched, L2 is shared.
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,75 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache manager pairing every cache of the shared L2 manager (Redis) with a bounded Caffeine L1 on this instance.
+ * See {@link TwoTierCache}. L1 builders are per cache name; caches without one use {@code defaultLocalSpec}.
+ * The invalidation bus is started and stopped with this bean.
+ */
+public class TwoTierCacheManager implements CacheManager, InitializingBean, DisposableBean {
+
+    private final CacheManager sharedCacheManager;
+    private final Map<String, Supplier<Caffeine<Object, Object>>> localSpecs;
+    private final Supplier<Caffeine<Object, Object>> defaultLocalSpec;
+    private final CacheInvalidationBus bus;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager sharedCacheManager,
+                               Map<String, Supplier<Caffeine<Object, Object>>> localSpecs,
+                               Supplier<Caffeine<Object, Object>> defaultLocalSpec,
+                               CacheInvalidationBus bus) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.localSpecs = localSpecs;
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.bus = bus;
+        bus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache shared = sharedCacheManager.getCache(name);
+        if (shared == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(n,
+                new CaffeineCache(n, localSpecs.getOrDefault(n, defaultLocalSpec).get().build(), true),
+                shared, bus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return sharedCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        bus.start();
+    }
+
+    @Override
+    public void destroy() {
+        bus.stop();
+    }
+
+    void onRemoteInvalidation(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.wyloks.churchRegistry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Annual sacrament statistics of a diocese: per-parish and diocese-wide counts by sacrament, gender and age
+ * bracket. Built from precomputed aggregates, so it may lag recent writes by up to the refresh interval.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnnualStatisticsResponse {
+
+    private Long dioceseId;
+    private int year;
+
+    /** Oldest refresh time of the included aggregates; null when the year has no records. */
+    private Instant refreshedAt;
+
+    /** Records per sacrament type across the diocese; every reported type is present, zero when empty. */
+    @Builder.Default
+    private Map<String, Long> totals = new LinkedHashMap<>();
+
+    /** Diocese-wide cells (sum over parishes). */
+    @Builder.Default
+    private List<StatisticCell> cells = new ArrayList<>();
+
+    /** Every parish of the diocese by name, including parishes without records. */
+    @Builder.Default
+    private List<ParishStatistics> parishes = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ParishStatistics {
+        private Long parishId;
+        private String parishName;
+        @Builder.Default
+        private Map<String, Long> totals = new LinkedHashMap<>();
+        @Builder.Default
+        private List<StatisticCell> cells = new ArrayList<>();
+    }
+
+    /**
+     * Count for one sacrament, gender and age bracket (age in completed years on the sacrament date).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StatisticCell {
+        private String sacramentType;
+        private String gender;
+        private String ageBracket;
+        private long count;
+    }
+}
@@ -1,6 +1,5 @@
 package com.wyloks.churchRegistry.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,8 +9,6 @@ import java.time.OffsetDateTime;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class BaptismResponse {
 
     private Long id;
@@ -36,4 +33,39 @@ public class BaptismResponse {
     private LocalDate dateOfBaptism;
     private String liberNo;
     private OffsetDateTime createdAt;
+
+    /**
+     * Constructor behind {@code BaptismRepository.RESPONSE_SELECT}, which passes its arguments in this order; the
+     * builder also goes through it. Written out so that reordering the fields cannot silently shift the projection.
+     */
+    @Builder
+    public BaptismResponse(
+            Long id, String baptismName, String surname, String gender, LocalDate dateOfBirth, String fathersName,
+            String mothersName, String sponsorNames, String otherNames, String officiatingPriest, Long parishId,
+            String address, String parishAddress, String parentAddress, String note, String externalCertificatePath,
+            String externalCertificateIssuingParish, String placeOfBirth, String placeOfBaptism,
+            LocalDate dateOfBaptism, String liberNo, OffsetDateTime createdAt) {
+        this.id = id;
+        this.baptismName = baptismName;
+        this.surname = surname;
+        this.gender = gender;
+        this.dateOfBirth = dateOfBirth;
+        this.fathersName = fathersName;
+        this.mothersName = mothersName;
+        this.sponsorNames = sponsorNames;
+        this.otherNames = otherNames;
+        this.officiatingPriest = officiatingPriest;
+        this.parishId = parishId;
+        this.address = address;
+        this.parishAddress = parishAddress;
+        this.parentAddress = parentAddress;
+        this.note = note;
+        this.externalCertificatePath = externalCertificatePath;
+        this.externalCertificateIssuingParish = externalCertificateIssuingParish;
+        this.placeOfBirth = placeOfBirth;
+        this.placeOfBaptism = placeOfBaptism;
+        this.dateOfBaptism = dateOfBaptism;
+        this.liberNo = liberNo;
+        this.createdAt = createdAt;
+    }
 }
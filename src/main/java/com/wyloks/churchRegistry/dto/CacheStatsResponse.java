@@ -0,0 +1,39 @@
+package com.wyloks.churchRegistry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of one cache since the instance started. Without Redis only {@code local} is set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+
+    private String name;
+    /** In-process Caffeine cache (the L1 tier when Redis is configured). */
+    private TierStats local;
+    /** Redis tier, or null without Redis. */
+    private TierStats shared;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TierStats {
+        private long hits;
+        private long misses;
+        /** Null until the cache has been read. */
+        private Double hitRatio;
+        /** Entries dropped by size limit or expiry; not tracked for Redis. */
+        private Long evictions;
+        /** Not tracked for Redis. */
+        private Long estimatedSize;
+        /** Null until the cache has loaded an entry; not tracked for Redis. */
+        private Double averageLoadMillis;
+    }
+}
@@ -1,6 +1,5 @@
 package com.wyloks.churchRegistry.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,8 +9,6 @@ import java.time.OffsetDateTime;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class ConfirmationResponse {
 
     private Long id;
@@ -29,4 +26,30 @@ public class ConfirmationResponse {
     private String fathersName;
     private String mothersName;
     private String note;
+
+    /**
+     * Used by {@code ConfirmationRepository.RESPONSE_SELECT} (arguments in this order) and by the builder; declared
+     * explicitly so the projection does not depend on field order.
+     */
+    @Builder
+    public ConfirmationResponse(
+            Long id, Long baptismId, Long communionId, LocalDate confirmationDate, String officiatingBishop,
+            String parish, OffsetDateTime createdAt, String baptismName, String otherNames, String surname,
+            LocalDate dateOfBirth, String gender, String fathersName, String mothersName, String note) {
+        this.id = id;
+        this.baptismId = baptismId;
+        this.communionId = communionId;
+        this.confirmationDate = confirmationDate;
+        this.officiatingBishop = officiatingBishop;
+        this.parish = parish;
+        this.createdAt = createdAt;
+        this.baptismName = baptismName;
+        this.otherNames = otherNames;
+        this.surname = surname;
+        this.dateOfBirth = dateOfBirth;
+        this.gender = gender;
+        this.fathersName = fathersName;
+        this.mothersName = mothersName;
+        this.note = note;
+    }
 }
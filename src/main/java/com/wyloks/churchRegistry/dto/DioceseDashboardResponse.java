@@ -5,12 +5,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Consolidated diocesan dashboard data: aggregated counts, parish activity,
  * cross-parish recent sacraments, and monthly chart data.
+ * Counts, parish activity and monthly data come from pre-aggregated views and may lag behind
+ * the registers; see {@link #aggregatesAsOf} and {@link #aggregatesStale}.
  */
 @Data
 @NoArgsConstructor
@@ -27,9 +30,18 @@ public class DioceseDashboardResponse {
     /** Cross-parish recent records for baptism, communion, confirmation, marriage. */
     private RecentSacraments recentSacraments;
 
-    /** Monthly counts per sacrament type for chart (12 elements each). Same shape as parish dashboard. */
+    /**
+     * Monthly counts per sacrament type for chart (12 elements each, January first) over the trailing twelve months,
+     * by record creation month. Same shape as parish dashboard.
+     */
     private MonthlyData monthly;
 
+    /** When counts, parish activity and monthly data were last aggregated. Null when the diocese has no parishes. */
+    private Instant aggregatesAsOf;
+
+    /** True when {@link #aggregatesAsOf} is older than the staleness threshold, i.e. view refreshes are falling behind. */
+    private boolean aggregatesStale;
+
     /**
      * Per-parish activity row for the parish activity table.
      */
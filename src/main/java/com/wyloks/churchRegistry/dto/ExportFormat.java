@@ -0,0 +1,47 @@
+package com.wyloks.churchRegistry.dto;
+
+import java.util.Locale;
+
+/**
+ * File format of a register export, selected with the {@code format} query parameter.
+ * <ul>
+ *   <li>{@code csv} (default): header row of response field names, then one record per row.</li>
+ *   <li>{@code ndjson}: one JSON object per line (JSON Lines), same shape as the list responses.</li>
+ * </ul>
+ */
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Parses the query parameter value (case-insensitive). Blank means {@link #CSV}.
+     *
+     * @throws IllegalArgumentException for unknown values
+     */
+    public static ExportFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid export format: " + value + " (expected csv or ndjson)");
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.wyloks.churchRegistry.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,8 +9,6 @@ import java.time.OffsetDateTime;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class FirstHolyCommunionResponse {
 
     private Long id;
@@ -34,4 +31,34 @@ public class FirstHolyCommunionResponse {
     private String fathersName;
     private String mothersName;
     private String note;
+
+    /**
+     * Used by {@code FirstHolyCommunionRepository.RESPONSE_SELECT} (arguments in this order) and by the builder;
+     * declared explicitly so the projection does not depend on field order.
+     */
+    @Builder
+    public FirstHolyCommunionResponse(
+            Long id, Long baptismId, LocalDate communionDate, String officiatingPriest, String parish,
+            String baptismCertificatePath, String communionCertificatePath, boolean baptismCertificatePending,
+            OffsetDateTime createdAt, String baptismName, String otherNames, String surname, LocalDate dateOfBirth,
+            String baptismParishName, String gender, String fathersName, String mothersName, String note) {
+        this.id = id;
+        this.baptismId = baptismId;
+        this.communionDate = communionDate;
+        this.officiatingPriest = officiatingPriest;
+        this.parish = parish;
+        this.baptismCertificatePath = baptismCertificatePath;
+        this.communionCertificatePath = communionCertificatePath;
+        this.baptismCertificatePending = baptismCertificatePending;
+        this.createdAt = createdAt;
+        this.baptismName = baptismName;
+        this.otherNames = otherNames;
+        this.surname = surname;
+        this.dateOfBirth = dateOfBirth;
+        this.baptismParishName = baptismParishName;
+        this.gender = gender;
+        this.fathersName = fathersName;
+        this.mothersName = mothersName;
+        this.note = note;
+    }
 }
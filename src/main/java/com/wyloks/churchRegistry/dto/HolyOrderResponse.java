@@ -1,6 +1,5 @@
 package com.wyloks.churchRegistry.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,8 +8,6 @@ import java.time.LocalDate;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class HolyOrderResponse {
 
     private Long id;
@@ -21,4 +18,22 @@ public class HolyOrderResponse {
     private String orderType;
     private String officiatingBishop;
     private Long parishId;
+
+    /**
+     * Used by {@code HolyOrderRepository.RESPONSE_SELECT} (arguments in this order) and by the builder; declared
+     * explicitly so the projection does not depend on field order.
+     */
+    @Builder
+    public HolyOrderResponse(
+            Long id, Long baptismId, Long communionId, Long confirmationId, LocalDate ordinationDate,
+            String orderType, String officiatingBishop, Long parishId) {
+        this.id = id;
+        this.baptismId = baptismId;
+        this.communionId = communionId;
+        this.confirmationId = confirmationId;
+        this.ordinationDate = ordinationDate;
+        this.orderType = orderType;
+        this.officiatingBishop = officiatingBishop;
+        this.parishId = parishId;
+    }
 }
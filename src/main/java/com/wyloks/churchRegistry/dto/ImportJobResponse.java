@@ -0,0 +1,52 @@
+package com.wyloks.churchRegistry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Status and progress of a background bulk import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobResponse {
+
+    private Long id;
+    private Long parishId;
+    private String sacramentType;
+
+    /** QUEUED, RUNNING, COMPLETED or FAILED. */
+    private String status;
+
+    private String fileName;
+
+    /** Data rows in the upload (header excluded). */
+    private long totalRows;
+
+    /** Data rows consumed so far, whether imported or rejected. */
+    private long processedRows;
+
+    private long importedRows;
+    private long failedRows;
+
+    /** processedRows as a percentage of totalRows, 0-100. */
+    private int percentComplete;
+
+    /** Why the job failed as a whole, when status is FAILED. */
+    private String lastError;
+
+    /** First rejected rows, in line order (capped). */
+    @Builder.Default
+    private List<ImportResultResponse.RowError> errors = new ArrayList<>();
+
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
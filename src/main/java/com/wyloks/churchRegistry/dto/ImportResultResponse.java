@@ -0,0 +1,50 @@
+package com.wyloks.churchRegistry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk sacrament import: row totals plus per-row errors for rows that were skipped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResultResponse {
+
+    /** Data rows read from the upload (header excluded). */
+    private long totalRows;
+
+    /** Rows inserted. */
+    private long importedRows;
+
+    /** Rows skipped because of validation or insert errors. */
+    private long failedRows;
+
+    /** Insert batches committed. */
+    private int batches;
+
+    /** First errors encountered, in row order; capped, see {@link #errorsTruncated}. */
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    /** True when more rows failed than are listed in {@link #errors}. */
+    private boolean errorsTruncated;
+
+    /**
+     * A rejected row. {@code line} is the CSV line on which the row starts (the header is line 1).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,36 @@
+package com.wyloks.churchRegistry.dto;
+
+import java.util.Locale;
+
+/**
+ * How a paged sacrament list computes its total, selected with the {@code count} query parameter.
+ * <ul>
+ *   <li>{@code exact} (default): separate COUNT query, response is a full page.</li>
+ *   <li>{@code none}: no COUNT query; fetches size + 1 rows and returns a {@link SliceResponse} whose
+ *       {@code page.hasNext} replaces the totals.
+ *       Intended for infinite-scroll lists.</li>
+ *   <li>{@code estimated}: no COUNT query per request; total comes from cached per-parish counts and is
+ *       clamped to what the fetched slice proves.</li>
+ * </ul>
+ */
+public enum PageCountMode {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    /**
+     * Parses the query parameter value (case-insensitive). Blank means {@link #EXACT}.
+     *
+     * @throws IllegalArgumentException for unknown values
+     */
+    public static PageCountMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid count mode: " + value + " (expected exact, none or estimated)");
+        }
+    }
+}
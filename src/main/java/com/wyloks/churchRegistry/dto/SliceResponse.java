@@ -0,0 +1,39 @@
+package com.wyloks.churchRegistry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * JSON body of a list read with {@code count=none}. Laid out like the {@code PagedModel} of the counted modes
+ * ({@code content} plus a {@code page} object) but without totals, so a client reads the same fields either way.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private SliceMetadata page;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(slice.getContent(),
+                new SliceMetadata(slice.getSize(), slice.getNumber(), slice.hasNext()));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SliceMetadata {
+        private int size;
+        private int number;
+        /** Whether a next slice exists; the only end-of-list signal since no total is counted. */
+        private boolean hasNext;
+    }
+}
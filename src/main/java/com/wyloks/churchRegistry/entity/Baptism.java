@@ -83,6 +83,13 @@ public class Baptism {
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
 
-    @OneToOne(mappedBy = "baptism", cascade = CascadeType.ALL, orphanRemoval = true)
-    private FirstHolyCommunion firstHolyCommunion;
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+
+    // No inverse @OneToOne to FirstHolyCommunion: Hibernate cannot proxy the non-owning side, so it would be
+    // resolved with one extra query per loaded baptism. Use FirstHolyCommunionRepository#findByBaptismId instead.
 }
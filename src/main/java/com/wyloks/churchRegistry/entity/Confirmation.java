@@ -39,12 +39,16 @@ public class Confirmation {
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
 
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+
     @Column(name = "note")
     private String note;
 
-    @OneToOne(mappedBy = "confirmation", cascade = CascadeType.ALL, orphanRemoval = true)
-    private Marriage marriage;
-
-    @OneToOne(mappedBy = "confirmation", cascade = CascadeType.ALL, orphanRemoval = true)
-    private HolyOrder holyOrder;
+    // Marriage and HolyOrder are looked up by confirmation id through their repositories; inverse one-to-ones
+    // here would cost an extra query each per loaded confirmation.
 }
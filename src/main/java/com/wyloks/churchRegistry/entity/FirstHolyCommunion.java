@@ -41,6 +41,13 @@ public class FirstHolyCommunion {
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
 
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+
     @Column(name = "note")
     private String note;
 }
@@ -0,0 +1,78 @@
+package com.wyloks.churchRegistry.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Background bulk import. {@code processedRows} is the resume checkpoint: it is advanced in the same
+ * transaction as each inserted batch, so a restarted worker continues exactly after the last committed batch.
+ */
+@Entity
+@Table(name = "import_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "parish_id", nullable = false)
+    private Long parishId;
+
+    @Column(name = "sacrament_type", nullable = false, length = 40)
+    private String sacramentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "total_rows", nullable = false)
+    private long totalRows;
+
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+
+    /** Set on every claim; only the holder of the current claim may record progress or finish the job. */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,31 @@
+package com.wyloks.churchRegistry.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One fixed-size piece of an {@link ImportJob}'s uploaded file, kept apart so job progress reads never load it.
+ * The file is the concatenation of its chunks in {@code chunkNo} order; all chunks are deleted when the job finishes.
+ */
+@Entity
+@Table(name = "import_job_content_chunk")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobContentChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "chunk_no", nullable = false)
+    private int chunkNo;
+
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+}
@@ -0,0 +1,27 @@
+package com.wyloks.churchRegistry.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "import_job_error")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line", nullable = false)
+    private long line;
+
+    @Column(name = "message", nullable = false, columnDefinition = "text")
+    private String message;
+}
@@ -2,10 +2,13 @@ package com.wyloks.churchRegistry.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "marriage")
@@ -70,4 +73,27 @@ public class Marriage {
 
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+
+    /**
+     * Parties and witnesses from the legacy marriage tables. Batch-fetched so a page of marriages
+     * initialises all of its collections with one query each (batch size matches the max page size).
+     */
+    @OneToMany(mappedBy = "marriage")
+    @OrderBy("id")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<MarriagePartyLegacy> parties = new ArrayList<>();
+
+    @OneToMany(mappedBy = "marriage")
+    @OrderBy("sortOrder ASC, id ASC")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<MarriageWitnessLegacy> witnesses = new ArrayList<>();
 }
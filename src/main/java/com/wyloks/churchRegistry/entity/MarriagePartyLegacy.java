@@ -18,8 +18,9 @@ public class MarriagePartyLegacy {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "marriage_id", nullable = false)
-    private Integer marriageId;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "marriage_id", nullable = false, foreignKey = @ForeignKey(name = "fk_marriage_parties_marriage_id"))
+    private Marriage marriage;
 
     @Column(name = "role", nullable = false, length = 20)
     private String role;
@@ -52,13 +53,13 @@ public class MarriagePartyLegacy {
     private String maritalStatus;
 
     @Column(name = "baptism_id")
-    private Integer baptismId;
+    private Long baptismId;
 
     @Column(name = "communion_id")
-    private Integer communionId;
+    private Long communionId;
 
     @Column(name = "confirmation_id")
-    private Integer confirmationId;
+    private Long confirmationId;
 
     @Column(name = "baptism_certificate_path")
     private String baptismCertificatePath;
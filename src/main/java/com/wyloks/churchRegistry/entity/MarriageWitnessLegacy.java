@@ -16,8 +16,9 @@ public class MarriageWitnessLegacy {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "marriage_id", nullable = false)
-    private Integer marriageId;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "marriage_id", nullable = false, foreignKey = @ForeignKey(name = "fk_marriage_witnesses_marriage_id"))
+    private Marriage marriage;
 
     @Column(name = "full_name", nullable = false, length = 255)
     private String fullName;
@@ -59,7 +59,9 @@ public class SacramentAuditLog {
         CREATE,
         UPDATE,
         DELETE,
-        CERTIFICATE_DOWNLOAD
+        CERTIFICATE_DOWNLOAD,
+        IMPORT,
+        EXPORT
     }
 
     public enum SacramentType {
@@ -0,0 +1,64 @@
+package com.wyloks.churchRegistry.entity;
+
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One cell of the annual sacrament statistics: how many records of a sacrament a parish registered in a year
+ * for one gender and age bracket. Derived data, recomputed from the sacrament tables.
+ */
+@Entity
+@Table(name = "sacrament_statistic")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SacramentStatistic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "parish_id", nullable = false)
+    private Long parishId;
+
+    @Column(name = "stat_year", nullable = false)
+    private int statYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sacrament_type", nullable = false, length = 40)
+    private SacramentType sacramentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gender", nullable = false, length = 10)
+    private Gender gender;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "age_bracket", nullable = false, length = 20)
+    private AgeBracket ageBracket;
+
+    @Column(name = "record_count", nullable = false)
+    private long recordCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private Instant refreshedAt;
+
+    public enum Gender {
+        MALE,
+        FEMALE,
+        UNKNOWN
+    }
+
+    /** Age in completed years on the sacrament date, in the bands used by the annual returns. */
+    public enum AgeBracket {
+        UNDER_1,
+        AGE_1_TO_6,
+        AGE_7_TO_17,
+        AGE_18_PLUS,
+        UNKNOWN
+    }
+}
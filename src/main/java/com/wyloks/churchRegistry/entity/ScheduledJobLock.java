@@ -0,0 +1,29 @@
+package com.wyloks.churchRegistry.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Lease that lets a scheduled job run on a single instance; see {@code ScheduledJobLockRepository#tryAcquire}.
+ */
+@Entity
+@Table(name = "scheduled_job_lock")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledJobLock {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "locked_by", length = 255)
+    private String lockedBy;
+}
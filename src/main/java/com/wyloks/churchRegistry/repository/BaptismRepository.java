@@ -1,18 +1,55 @@
 package com.wyloks.churchRegistry.repository;
 
+import com.wyloks.churchRegistry.dto.BaptismResponse;
 import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.repository.projection.BaptismParentNames;
+import com.wyloks.churchRegistry.repository.projection.BaptismParishLink;
+import com.wyloks.churchRegistry.repository.projection.StatisticSlice;
+import com.wyloks.churchRegistry.repository.projection.StatisticSourceRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface BaptismRepository extends JpaRepository<Baptism, Long> {
 
-    List<Baptism> findByParishId(Long parishId);
+    /**
+     * Constructor projection for list reads: selects straight into {@link BaptismResponse} (arguments in the order of
+     * its explicit constructor) so lists never hydrate entities or touch the inverse {@code firstHolyCommunion}
+     * one-to-one.
+     */
+    String RESPONSE_SELECT = """
+            SELECT new com.wyloks.churchRegistry.dto.BaptismResponse(
+                b.id, b.baptismName, b.surname, b.gender, b.dateOfBirth, b.fathersName, b.mothersName,
+                b.sponsorNames, b.otherNames, b.officiatingPriest, b.parish.id, b.address, b.parishAddress,
+                b.parentAddress, b.note, b.externalCertificatePath, b.externalCertificateIssuingParish,
+                b.placeOfBirth, b.placeOfBaptism, b.dateOfBaptism, b.liberNo, b.createdAt)
+            FROM Baptism b
+            """;
+
+    String SEARCH_WHERE = """
+            WHERE b.parish.id = :parishId AND (
+                LOWER(b.baptismName) LIKE LOWER(CONCAT('%', :q, '%'))
+                OR LOWER(b.surname) LIKE LOWER(CONCAT('%', :q, '%'))
+                OR LOWER(COALESCE(b.address, '')) LIKE LOWER(CONCAT('%', :q, '%'))
+                OR LOWER(COALESCE(b.parishAddress, '')) LIKE LOWER(CONCAT('%', :q, '%'))
+                OR LOWER(COALESCE(b.parentAddress, '')) LIKE LOWER(CONCAT('%', :q, '%')))
+            """;
+
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    List<BaptismResponse> findByParishId(@Param("parishId") Long parishId);
 
     long countByParishId(Long parishId);
 
@@ -21,18 +58,60 @@ public interface BaptismRepository extends JpaRepository<Baptism, Long> {
 
     long countByParishIdIn(Set<Long> parishIds);
 
-    Page<Baptism> findByParishId(Long parishId, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id = :parishId",
+            countQuery = "SELECT COUNT(b) FROM Baptism b WHERE b.parish.id = :parishId")
+    Page<BaptismResponse> findByParishId(@Param("parishId") Long parishId, Pageable pageable);
+
+    /** Same rows as {@link #findByParishId(Long, Pageable)} without the COUNT query (fetches size + 1). */
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    Slice<BaptismResponse> findSliceByParishId(@Param("parishId") Long parishId, Pageable pageable);
 
-    Page<Baptism> findByParishIdIn(Set<Long> parishIds, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id IN :parishIds",
+            countQuery = "SELECT COUNT(b) FROM Baptism b WHERE b.parish.id IN :parishIds")
+    Page<BaptismResponse> findByParishIdIn(@Param("parishIds") Set<Long> parishIds, Pageable pageable);
+
+    /** Parent names only, for marriage parties that link a baptism record. */
+    @Query("SELECT b.id AS id, b.fathersName AS fathersName, b.mothersName AS mothersName FROM Baptism b WHERE b.id IN :ids")
+    List<BaptismParentNames> findParentNamesByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT b.parish.id FROM Baptism b WHERE b.id = :id")
     java.util.Optional<Long> findParishIdById(@Param("id") Long id);
 
-    @Query("SELECT b FROM Baptism b WHERE b.parish.id = :parishId AND (" +
-            "LOWER(b.baptismName) LIKE LOWER(CONCAT('%', :q, '%')) " +
-            "OR LOWER(b.surname) LIKE LOWER(CONCAT('%', :q, '%')) " +
-            "OR LOWER(COALESCE(b.address, '')) LIKE LOWER(CONCAT('%', :q, '%')) " +
-            "OR LOWER(COALESCE(b.parishAddress, '')) LIKE LOWER(CONCAT('%', :q, '%')) " +
-            "OR LOWER(COALESCE(b.parentAddress, '')) LIKE LOWER(CONCAT('%', :q, '%')))")
-    Page<Baptism> searchByNameOrAddress(@Param("parishId") Long parishId, @Param("q") String query, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + SEARCH_WHERE,
+            countQuery = "SELECT COUNT(b) FROM Baptism b " + SEARCH_WHERE)
+    Page<BaptismResponse> searchByNameOrAddress(@Param("parishId") Long parishId, @Param("q") String query, Pageable pageable);
+
+    /**
+     * Parish of each baptism, for validating bulk-imported chain records in one query. Locks the baptism rows
+     * (in id order) until the caller's transaction ends, so concurrent imports for the same baptisms check and
+     * insert their chain records one after the other.
+     */
+    @Query(value = "SELECT b.id AS id, b.parish_id AS parishId FROM baptism b WHERE b.id IN :ids ORDER BY b.id FOR UPDATE",
+            nativeQuery = true)
+    List<BaptismParishLink> lockParishLinksByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Whole parish register in id order for exports, read with a JDBC fetch size instead of into a list.
+     * Must be consumed and closed inside a read-only transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = ExportQueryHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId ORDER BY b.id")
+    Stream<BaptismResponse> streamByParishId(@Param("parishId") Long parishId);
+
+    /** Date a baptism counts under in the statistics: the baptism date, or the birth date when it is missing. */
+    String STATISTIC_DATE = "COALESCE(b.dateOfBaptism, b.dateOfBirth)";
+
+    /** Statistics inputs for one parish with the {@link #STATISTIC_DATE} in [from, to). */
+    @Query("SELECT b.gender AS gender, b.dateOfBirth AS dateOfBirth, " + STATISTIC_DATE + " AS sacramentDate"
+            + " FROM Baptism b WHERE b.parish.id = :parishId"
+            + " AND " + STATISTIC_DATE + " >= :from AND " + STATISTIC_DATE + " < :to")
+    List<StatisticSourceRow> findStatisticRows(@Param("parishId") Long parishId, @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    /** Parish and date of records created after {@code since}, for incremental statistics refresh. */
+    @Query("SELECT DISTINCT b.parish.id AS parishId, " + STATISTIC_DATE + " AS sacramentDate FROM Baptism b"
+            + " WHERE b.createdAt > :since")
+    List<StatisticSlice> findStatisticSlicesCreatedAfter(@Param("since") OffsetDateTime since);
 }
@@ -1,16 +1,27 @@
 package com.wyloks.churchRegistry.repository;
 
+import com.wyloks.churchRegistry.dto.ConfirmationResponse;
 import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.repository.projection.SacramentLink;
+import com.wyloks.churchRegistry.repository.projection.StatisticSlice;
+import com.wyloks.churchRegistry.repository.projection.StatisticSourceRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ConfirmationRepository extends JpaRepository<Confirmation, Long> {
 
@@ -18,8 +29,20 @@ public interface ConfirmationRepository extends JpaRepository<Confirmation, Long
 
     Optional<Confirmation> findByFirstHolyCommunionId(Long communionId);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion"})
-    List<Confirmation> findByBaptismParishId(Long parishId);
+    /**
+     * Constructor projection for list reads into {@link ConfirmationResponse} (arguments in the order of its
+     * explicit constructor).
+     */
+    String RESPONSE_SELECT = """
+            SELECT new com.wyloks.churchRegistry.dto.ConfirmationResponse(
+                c.id, b.id, c.firstHolyCommunion.id, c.confirmationDate, c.officiatingBishop, c.parish, c.createdAt,
+                b.baptismName, b.otherNames, b.surname, b.dateOfBirth, b.gender, b.fathersName, b.mothersName, c.note)
+            FROM Confirmation c
+            JOIN c.baptism b
+            """;
+
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    List<ConfirmationResponse> findByBaptismParishId(@Param("parishId") Long parishId);
 
     long countByBaptismParishId(Long parishId);
 
@@ -28,15 +51,46 @@ public interface ConfirmationRepository extends JpaRepository<Confirmation, Long
 
     long countByBaptismParishIdIn(Set<Long> parishIds);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion"})
-    Page<Confirmation> findByBaptismParishId(Long parishId, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id = :parishId",
+            countQuery = "SELECT COUNT(c) FROM Confirmation c WHERE c.baptism.parish.id = :parishId")
+    Page<ConfirmationResponse> findByBaptismParishId(@Param("parishId") Long parishId, Pageable pageable);
+
+    /** Same rows as {@link #findByBaptismParishId(Long, Pageable)} without the COUNT query (fetches size + 1). */
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    Slice<ConfirmationResponse> findSliceByBaptismParishId(@Param("parishId") Long parishId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion"})
-    Page<Confirmation> findByBaptismParishIdIn(Set<Long> parishIds, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id IN :parishIds",
+            countQuery = "SELECT COUNT(c) FROM Confirmation c WHERE c.baptism.parish.id IN :parishIds")
+    Page<ConfirmationResponse> findByBaptismParishIdIn(@Param("parishIds") Set<Long> parishIds, Pageable pageable);
 
     @Query("SELECT c.baptism.parish.id FROM Confirmation c WHERE c.id = :id")
     Optional<Long> findParishIdById(@Param("id") Long id);
 
     @Query("SELECT c.baptism.parish.id FROM Confirmation c WHERE c.firstHolyCommunion.id = :communionId")
     Optional<Long> findParishIdByFirstHolyCommunionId(@Param("communionId") Long communionId);
+
+    /** Existing records for the given baptisms (at most one each), for resolving chain parents in one query. */
+    @Query("SELECT c.id AS id, c.baptism.id AS baptismId FROM Confirmation c WHERE c.baptism.id IN :baptismIds")
+    List<SacramentLink> findLinksByBaptismIdIn(@Param("baptismIds") Collection<Long> baptismIds);
+
+    /**
+     * Whole parish register in id order for exports; see {@link BaptismRepository#streamByParishId(Long)}.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = ExportQueryHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId ORDER BY c.id")
+    Stream<ConfirmationResponse> streamByBaptismParishId(@Param("parishId") Long parishId);
+
+    /** Statistics inputs for one parish with the confirmation date in [from, to). */
+    @Query("SELECT b.gender AS gender, b.dateOfBirth AS dateOfBirth, c.confirmationDate AS sacramentDate"
+            + " FROM Confirmation c JOIN c.baptism b WHERE b.parish.id = :parishId"
+            + " AND c.confirmationDate >= :from AND c.confirmationDate < :to")
+    List<StatisticSourceRow> findStatisticRows(@Param("parishId") Long parishId, @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    /** Parish and date of records created after {@code since}, for incremental statistics refresh. */
+    @Query("SELECT DISTINCT b.parish.id AS parishId, c.confirmationDate AS sacramentDate"
+            + " FROM Confirmation c JOIN c.baptism b WHERE c.createdAt > :since")
+    List<StatisticSlice> findStatisticSlicesCreatedAfter(@Param("since") OffsetDateTime since);
 }
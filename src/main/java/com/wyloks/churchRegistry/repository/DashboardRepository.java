@@ -1,7 +1,8 @@
 package com.wyloks.churchRegistry.repository;
 
 import com.wyloks.churchRegistry.entity.Baptism;
-import com.wyloks.churchRegistry.repository.projection.ParishActivityRow;
+import com.wyloks.churchRegistry.repository.projection.MonthlyActivityRow;
+import com.wyloks.churchRegistry.repository.projection.ParishActivityViewRow;
 import com.wyloks.churchRegistry.repository.projection.ParishDashboardCounts;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
@@ -33,22 +34,39 @@ public interface DashboardRepository extends Repository<Baptism, Long> {
     ParishDashboardCounts getParishCounts(@Param("parishId") Long parishId);
 
     /**
-     * Returns per-parish sacrament counts for all parishes in a diocese.
+     * Returns per-parish sacrament counts for all parishes in a diocese from the {@code mv_parish_activity}
+     * view. On PostgreSQL this is a materialized view, so counts are as of {@code refreshedAt}.
      */
     @Query(value = """
         SELECT
-            p.id AS parishId,
-            p.parish_name AS parishName,
-            (SELECT COUNT(*) FROM baptism WHERE parish_id = p.id) AS baptisms,
-            (SELECT COUNT(*) FROM first_holy_communion f
-             JOIN baptism b ON f.baptism_id = b.id WHERE b.parish_id = p.id) AS communions,
-            (SELECT COUNT(*) FROM confirmation c
-             JOIN baptism b ON c.baptism_id = b.id WHERE b.parish_id = p.id) AS confirmations,
-            (SELECT COUNT(*) FROM marriage m
-             JOIN baptism b ON m.baptism_id = b.id WHERE b.parish_id = p.id) AS marriages
-        FROM parish p
-        WHERE p.diocese_id = :dioceseId
-        ORDER BY p.parish_name
+            a.parish_id AS parishId,
+            a.parish_name AS parishName,
+            a.baptisms AS baptisms,
+            a.communions AS communions,
+            a.confirmations AS confirmations,
+            a.marriages AS marriages,
+            a.holy_orders AS holyOrders,
+            CAST(EXTRACT(EPOCH FROM a.refreshed_at) * 1000 AS BIGINT) AS refreshedAtMillis
+        FROM mv_parish_activity a
+        WHERE a.diocese_id = :dioceseId
+        ORDER BY a.parish_name
+        """, nativeQuery = true)
+    List<ParishActivityViewRow> getParishActivity(@Param("dioceseId") Long dioceseId);
+
+    /**
+     * Returns diocese-wide record counts per sacrament type and creation month from
+     * {@code mv_parish_monthly_activity}, for months from {@code fromYear} onwards.
+     */
+    @Query(value = """
+        SELECT
+            m.sacrament_type AS sacramentType,
+            m.stat_year AS statYear,
+            m.stat_month AS statMonth,
+            SUM(m.record_count) AS recordCount
+        FROM mv_parish_monthly_activity m
+        JOIN parish p ON p.id = m.parish_id
+        WHERE p.diocese_id = :dioceseId AND m.stat_year >= :fromYear
+        GROUP BY m.sacrament_type, m.stat_year, m.stat_month
         """, nativeQuery = true)
-    List<ParishActivityRow> getParishActivity(@Param("dioceseId") Long dioceseId);
+    List<MonthlyActivityRow> getMonthlyActivity(@Param("dioceseId") Long dioceseId, @Param("fromYear") int fromYear);
 }
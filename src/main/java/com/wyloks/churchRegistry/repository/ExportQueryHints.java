@@ -0,0 +1,16 @@
+package com.wyloks.churchRegistry.repository;
+
+/**
+ * Query hint values shared by the {@code Stream} repository methods used for register exports.
+ */
+public final class ExportQueryHints {
+
+    /**
+     * Rows the JDBC driver fetches per round trip. PostgreSQL only honours it inside a transaction
+     * (autocommit off); without it the driver buffers the whole result set.
+     */
+    public static final String FETCH_SIZE = "500";
+
+    private ExportQueryHints() {
+    }
+}
@@ -1,23 +1,52 @@
 package com.wyloks.churchRegistry.repository;
 
+import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
 import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.repository.projection.SacramentLink;
+import com.wyloks.churchRegistry.repository.projection.StatisticSlice;
+import com.wyloks.churchRegistry.repository.projection.StatisticSourceRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface FirstHolyCommunionRepository extends JpaRepository<FirstHolyCommunion, Long> {
 
     Optional<FirstHolyCommunion> findByBaptismId(Long baptismId);
 
-    @EntityGraph(attributePaths = {"baptism", "baptism.parish"})
-    List<FirstHolyCommunion> findByBaptismParishId(Long parishId);
+    /**
+     * Constructor projection for list reads into {@link FirstHolyCommunionResponse} (arguments in the order of its
+     * explicit constructor).
+     * {@code baptismCertificatePending} mirrors the service rule: external issuing parish set, certificate not stored.
+     */
+    String RESPONSE_SELECT = """
+            SELECT new com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse(
+                c.id, b.id, c.communionDate, c.officiatingPriest, c.parish, c.baptismCertificatePath,
+                c.communionCertificatePath,
+                CASE WHEN TRIM(COALESCE(b.externalCertificateIssuingParish, '')) <> ''
+                      AND TRIM(COALESCE(b.externalCertificatePath, '')) = '' THEN true ELSE false END,
+                c.createdAt, b.baptismName, b.otherNames, b.surname, b.dateOfBirth, bp.parishName, b.gender,
+                b.fathersName, b.mothersName, c.note)
+            FROM FirstHolyCommunion c
+            JOIN c.baptism b
+            LEFT JOIN b.parish bp
+            """;
+
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    List<FirstHolyCommunionResponse> findByBaptismParishId(@Param("parishId") Long parishId);
 
     long countByBaptismParishId(Long parishId);
 
@@ -26,15 +55,46 @@ public interface FirstHolyCommunionRepository extends JpaRepository<FirstHolyCom
 
     long countByBaptismParishIdIn(Set<Long> parishIds);
 
-    @EntityGraph(attributePaths = {"baptism", "baptism.parish"})
-    Page<FirstHolyCommunion> findByBaptismParishId(Long parishId, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id = :parishId",
+            countQuery = "SELECT COUNT(c) FROM FirstHolyCommunion c WHERE c.baptism.parish.id = :parishId")
+    Page<FirstHolyCommunionResponse> findByBaptismParishId(@Param("parishId") Long parishId, Pageable pageable);
+
+    /** Same rows as {@link #findByBaptismParishId(Long, Pageable)} without the COUNT query (fetches size + 1). */
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    Slice<FirstHolyCommunionResponse> findSliceByBaptismParishId(@Param("parishId") Long parishId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"baptism", "baptism.parish"})
-    Page<FirstHolyCommunion> findByBaptismParishIdIn(Set<Long> parishIds, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id IN :parishIds",
+            countQuery = "SELECT COUNT(c) FROM FirstHolyCommunion c WHERE c.baptism.parish.id IN :parishIds")
+    Page<FirstHolyCommunionResponse> findByBaptismParishIdIn(@Param("parishIds") Set<Long> parishIds, Pageable pageable);
 
     @Query("SELECT c.baptism.parish.id FROM FirstHolyCommunion c WHERE c.id = :id")
     Optional<Long> findParishIdById(@Param("id") Long id);
 
     @Query("SELECT c.baptism.parish.id FROM FirstHolyCommunion c WHERE c.baptism.id = :baptismId")
     Optional<Long> findParishIdByBaptismId(@Param("baptismId") Long baptismId);
+
+    /** Existing records for the given baptisms (at most one each), for resolving chain parents in one query. */
+    @Query("SELECT c.id AS id, c.baptism.id AS baptismId FROM FirstHolyCommunion c WHERE c.baptism.id IN :baptismIds")
+    List<SacramentLink> findLinksByBaptismIdIn(@Param("baptismIds") Collection<Long> baptismIds);
+
+    /**
+     * Whole parish register in id order for exports; see {@link BaptismRepository#streamByParishId(Long)}.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = ExportQueryHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId ORDER BY c.id")
+    Stream<FirstHolyCommunionResponse> streamByBaptismParishId(@Param("parishId") Long parishId);
+
+    /** Statistics inputs for one parish with the communion date in [from, to). */
+    @Query("SELECT b.gender AS gender, b.dateOfBirth AS dateOfBirth, c.communionDate AS sacramentDate"
+            + " FROM FirstHolyCommunion c JOIN c.baptism b WHERE b.parish.id = :parishId"
+            + " AND c.communionDate >= :from AND c.communionDate < :to")
+    List<StatisticSourceRow> findStatisticRows(@Param("parishId") Long parishId, @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    /** Parish and date of records created after {@code since}, for incremental statistics refresh. */
+    @Query("SELECT DISTINCT b.parish.id AS parishId, c.communionDate AS sacramentDate"
+            + " FROM FirstHolyCommunion c JOIN c.baptism b WHERE c.createdAt > :since")
+    List<StatisticSlice> findStatisticSlicesCreatedAfter(@Param("since") OffsetDateTime since);
 }
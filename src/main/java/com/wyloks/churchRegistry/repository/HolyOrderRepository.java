@@ -1,16 +1,23 @@
 package com.wyloks.churchRegistry.repository;
 
+import com.wyloks.churchRegistry.dto.HolyOrderResponse;
 import com.wyloks.churchRegistry.entity.HolyOrder;
+import com.wyloks.churchRegistry.repository.projection.SacramentLink;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface HolyOrderRepository extends JpaRepository<HolyOrder, Long> {
 
@@ -18,8 +25,20 @@ public interface HolyOrderRepository extends JpaRepository<HolyOrder, Long> {
 
     Optional<HolyOrder> findByBaptismId(Long baptismId);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion", "confirmation", "parish"})
-    List<HolyOrder> findByBaptismParishId(Long parishId);
+    /**
+     * Constructor projection for list reads into {@link HolyOrderResponse} (arguments in the order of its explicit
+     * constructor).
+     */
+    String RESPONSE_SELECT = """
+            SELECT new com.wyloks.churchRegistry.dto.HolyOrderResponse(
+                h.id, b.id, h.firstHolyCommunion.id, h.confirmation.id, h.ordinationDate, h.orderType,
+                h.officiatingBishop, h.parish.id)
+            FROM HolyOrder h
+            JOIN h.baptism b
+            """;
+
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    List<HolyOrderResponse> findByBaptismParishId(@Param("parishId") Long parishId);
 
     long countByBaptismParishId(Long parishId);
 
@@ -28,9 +47,27 @@ public interface HolyOrderRepository extends JpaRepository<HolyOrder, Long> {
 
     long countByBaptismParishIdIn(Set<Long> parishIds);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion", "confirmation", "parish"})
-    Page<HolyOrder> findByBaptismParishId(Long parishId, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + "WHERE b.parish.id = :parishId",
+            countQuery = "SELECT COUNT(h) FROM HolyOrder h WHERE h.baptism.parish.id = :parishId")
+    Page<HolyOrderResponse> findByBaptismParishId(@Param("parishId") Long parishId, Pageable pageable);
+
+    /** Same rows as {@link #findByBaptismParishId(Long, Pageable)} without the COUNT query (fetches size + 1). */
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId")
+    Slice<HolyOrderResponse> findSliceByBaptismParishId(@Param("parishId") Long parishId, Pageable pageable);
 
     @Query("SELECT COALESCE(h.parish.id, h.baptism.parish.id) FROM HolyOrder h WHERE h.id = :id")
     Optional<Long> findParishIdById(@Param("id") Long id);
+
+    /** Existing records for the given baptisms (at most one each), for resolving chain parents in one query. */
+    @Query("SELECT h.id AS id, h.baptism.id AS baptismId FROM HolyOrder h WHERE h.baptism.id IN :baptismIds")
+    List<SacramentLink> findLinksByBaptismIdIn(@Param("baptismIds") Collection<Long> baptismIds);
+
+    /**
+     * Whole parish register in id order for exports; see {@link BaptismRepository#streamByParishId(Long)}.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = ExportQueryHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query(RESPONSE_SELECT + "WHERE b.parish.id = :parishId ORDER BY h.id")
+    Stream<HolyOrderResponse> streamByBaptismParishId(@Param("parishId") Long parishId);
 }
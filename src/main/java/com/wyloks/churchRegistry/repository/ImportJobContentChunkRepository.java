@@ -0,0 +1,28 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.entity.ImportJobContentChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface ImportJobContentChunkRepository extends JpaRepository<ImportJobContentChunk, Long> {
+
+    /**
+     * Inserts a chunk without keeping it in the persistence context, so an upload is never held in memory whole.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO import_job_content_chunk (job_id, chunk_no, data) VALUES (:jobId, :chunkNo, :data)",
+            nativeQuery = true)
+    int insert(Long jobId, int chunkNo, byte[] data);
+
+    @Query("SELECT c.data FROM ImportJobContentChunk c WHERE c.jobId = :jobId AND c.chunkNo = :chunkNo")
+    Optional<byte[]> findData(Long jobId, int chunkNo);
+
+    boolean existsByJobId(Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM ImportJobContentChunk c WHERE c.jobId = :jobId")
+    int deleteByJobId(Long jobId);
+}
@@ -0,0 +1,11 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.entity.ImportJobError;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImportJobErrorRepository extends JpaRepository<ImportJobError, Long> {
+
+    List<ImportJobError> findByJobIdOrderByLineAsc(Long jobId);
+}
@@ -0,0 +1,49 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.entity.ImportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    /**
+     * Queued jobs, plus running jobs whose worker stopped reporting progress (e.g. the instance restarted), oldest first.
+     */
+    @Query("SELECT j.id FROM ImportJob j WHERE j.status = com.wyloks.churchRegistry.entity.ImportJob.Status.QUEUED"
+            + " OR (j.status = com.wyloks.churchRegistry.entity.ImportJob.Status.RUNNING AND j.updatedAt < :staleBefore)"
+            + " ORDER BY j.id")
+    List<Long> findRunnableIds(Instant staleBefore, Pageable pageable);
+
+    /**
+     * Marks a runnable job as running under a new claim token. Returns 0 if another worker claimed it first.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = com.wyloks.churchRegistry.entity.ImportJob.Status.RUNNING,"
+            + " j.claimToken = :claimToken, j.startedAt = COALESCE(j.startedAt, :now), j.updatedAt = :now"
+            + " WHERE j.id = :id AND (j.status = com.wyloks.churchRegistry.entity.ImportJob.Status.QUEUED"
+            + " OR (j.status = com.wyloks.churchRegistry.entity.ImportJob.Status.RUNNING AND j.updatedAt < :staleBefore))")
+    int claim(Long id, String claimToken, Instant now, Instant staleBefore);
+
+    /**
+     * Advances the checkpoint after a batch; also serves as the running job's heartbeat. Returns 0 if the claim was
+     * taken over by another worker, in which case the batch must not commit.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.processedRows = :processedRows, j.importedRows = j.importedRows + :importedRows,"
+            + " j.failedRows = j.failedRows + :failedRows, j.updatedAt = :now"
+            + " WHERE j.id = :id AND j.claimToken = :claimToken")
+    int recordProgress(Long id, String claimToken, long processedRows, long importedRows, long failedRows, Instant now);
+
+    /**
+     * Records the final status of a job. Returns 0 if the claim was taken over by another worker.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.lastError = :lastError, j.updatedAt = :now, j.finishedAt = :now"
+            + " WHERE j.id = :id AND j.claimToken = :claimToken")
+    int finish(Long id, String claimToken, ImportJob.Status status, String lastError, Instant now);
+}
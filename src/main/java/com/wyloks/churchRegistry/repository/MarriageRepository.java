@@ -1,24 +1,54 @@
 package com.wyloks.churchRegistry.repository;
 
 import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.repository.projection.MarriageDetailRow;
+import com.wyloks.churchRegistry.repository.projection.SacramentLink;
+import com.wyloks.churchRegistry.repository.projection.StatisticSlice;
+import com.wyloks.churchRegistry.repository.projection.StatisticSourceRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface MarriageRepository extends JpaRepository<Marriage, Long> {
 
+    /** Shared select for the marriage detail queries below. */
+    String DETAIL_SELECT = """
+            SELECT m AS marriage,
+                   p AS party,
+                   pb.fathersName AS partyFathersName,
+                   pb.mothersName AS partyMothersName,
+                   w AS witness
+            FROM Marriage m
+            LEFT JOIN m.parties p
+            LEFT JOIN Baptism pb ON pb.id = p.baptismId
+            LEFT JOIN m.witnesses w
+            """;
+
+    String DETAIL_ORDER = " ORDER BY p.id, w.sortOrder, w.id";
+
     Optional<Marriage> findByConfirmationId(Long confirmationId);
 
     Optional<Marriage> findByBaptismId(Long baptismId);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion", "confirmation"})
+    /**
+     * List reads load marriages without their to-one links: responses only need the link ids, which come from
+     * the FK columns, so fetching Baptism/Confirmation would only load data nobody reads. Parties and witnesses
+     * are batch-fetched collections.
+     */
     List<Marriage> findByBaptismParishId(Long parishId);
 
     long countByBaptismParishId(Long parishId);
@@ -28,15 +58,52 @@ public interface MarriageRepository extends JpaRepository<Marriage, Long> {
 
     long countByBaptismParishIdIn(Set<Long> parishIds);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion", "confirmation"})
     Page<Marriage> findByBaptismParishId(Long parishId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"baptism", "firstHolyCommunion", "confirmation"})
+    /** Same rows as {@link #findByBaptismParishId(Long, Pageable)} without the COUNT query (fetches size + 1). */
+    Slice<Marriage> findSliceByBaptismParishId(Long parishId, Pageable pageable);
+
     Page<Marriage> findByBaptismParishIdIn(Set<Long> parishIds, Pageable pageable);
 
+    /**
+     * Detail rows for one marriage by id in a single statement: parties, witnesses and the parties'
+     * baptism parent names are joined instead of loaded per record.
+     */
+    @Query(DETAIL_SELECT + "WHERE m.id = :id" + DETAIL_ORDER)
+    List<MarriageDetailRow> findDetailRowsById(@Param("id") Long id);
+
+    @Query(DETAIL_SELECT + "WHERE m.confirmation.id = :confirmationId" + DETAIL_ORDER)
+    List<MarriageDetailRow> findDetailRowsByConfirmationId(@Param("confirmationId") Long confirmationId);
+
+    @Query(DETAIL_SELECT + "WHERE m.baptism.id = :baptismId" + DETAIL_ORDER)
+    List<MarriageDetailRow> findDetailRowsByBaptismId(@Param("baptismId") Long baptismId);
+
     @Query("SELECT m.baptism.parish.id FROM Marriage m WHERE m.id = :id")
     Optional<Long> findParishIdById(@Param("id") Long id);
 
-    @Query("SELECT m.baptism.parish.id FROM Marriage m WHERE m.confirmation.id = :confirmationId")
-    Optional<Long> findParishIdByConfirmationId(@Param("confirmationId") Long confirmationId);
+    /** Existing records for the given baptisms (at most one each), for resolving chain parents in one query. */
+    @Query("SELECT m.id AS id, m.baptism.id AS baptismId FROM Marriage m WHERE m.baptism.id IN :baptismIds")
+    List<SacramentLink> findLinksByBaptismIdIn(@Param("baptismIds") Collection<Long> baptismIds);
+
+    /**
+     * Whole parish register in id order for exports, as entities without their to-one links (like the list
+     * reads). Entities stay managed, so callers map and clear the persistence context in chunks.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = ExportQueryHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT m FROM Marriage m WHERE m.baptism.parish.id = :parishId ORDER BY m.id")
+    Stream<Marriage> streamByBaptismParishId(@Param("parishId") Long parishId);
+
+    /** Statistics inputs for one parish with the marriage date in [from, to). */
+    @Query("SELECT b.gender AS gender, b.dateOfBirth AS dateOfBirth, m.marriageDate AS sacramentDate"
+            + " FROM Marriage m JOIN m.baptism b WHERE b.parish.id = :parishId"
+            + " AND m.marriageDate >= :from AND m.marriageDate < :to")
+    List<StatisticSourceRow> findStatisticRows(@Param("parishId") Long parishId, @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    /** Parish and date of records created after {@code since}, for incremental statistics refresh. */
+    @Query("SELECT DISTINCT b.parish.id AS parishId, m.marriageDate AS sacramentDate"
+            + " FROM Marriage m JOIN m.baptism b WHERE m.createdAt > :since")
+    List<StatisticSlice> findStatisticSlicesCreatedAfter(@Param("since") OffsetDateTime since);
 }
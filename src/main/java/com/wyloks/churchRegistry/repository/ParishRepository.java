@@ -3,8 +3,12 @@ package com.wyloks.churchRegistry.repository;
 import com.wyloks.churchRegistry.entity.Parish;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface ParishRepository extends JpaRepository<Parish, Long> {
@@ -12,10 +16,13 @@ public interface ParishRepository extends JpaRepository<Parish, Long> {
     @EntityGraph(attributePaths = {"diocese"})
     List<Parish> findByDioceseId(Long dioceseId);
 
-    @EntityGraph(attributePaths = {"diocese"})
-    List<Parish> findByIdInAndDioceseId(Set<Long> parishIds, Long dioceseId);
-
     List<Parish> findByIdIn(Set<Long> parishIds);
 
+    @Query("SELECT p.diocese.id FROM Parish p WHERE p.id = :id")
+    Optional<Long> findDioceseIdById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT p.diocese.id FROM Parish p WHERE p.id IN :ids")
+    List<Long> findDioceseIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     boolean existsByParishNameIgnoreCaseAndDioceseId(String parishName, Long dioceseId);
 }
@@ -1,10 +1,23 @@
 package com.wyloks.churchRegistry.repository;
 
 import com.wyloks.churchRegistry.entity.SacramentAuditLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
 
 /**
  * Repository for sacrament audit log. Append-only; no update/delete methods used.
  */
 public interface SacramentAuditLogRepository extends JpaRepository<SacramentAuditLog, Long> {
+
+    /**
+     * Parish ids ordered by number of audit events since {@code since}, most active first.
+     */
+    @Query("SELECT a.parishId FROM SacramentAuditLog a WHERE a.parishId IS NOT NULL AND a.createdAt >= :since "
+            + "GROUP BY a.parishId ORDER BY COUNT(a) DESC")
+    List<Long> findMostActiveParishIds(@Param("since") OffsetDateTime since, Pageable pageable);
 }
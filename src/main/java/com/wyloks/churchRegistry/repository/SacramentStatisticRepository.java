@@ -0,0 +1,23 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.entity.SacramentStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SacramentStatisticRepository extends JpaRepository<SacramentStatistic, Long> {
+
+    @Query("SELECT s FROM SacramentStatistic s, Parish p"
+            + " WHERE p.id = s.parishId AND p.diocese.id = :dioceseId AND s.statYear = :year")
+    List<SacramentStatistic> findByDioceseIdAndYear(Long dioceseId, int year);
+
+    @Modifying
+    @Query("DELETE FROM SacramentStatistic s WHERE s.parishId = :parishId AND s.statYear = :year")
+    int deleteByParishIdAndYear(Long parishId, int year);
+
+    @Modifying
+    @Query("DELETE FROM SacramentStatistic s WHERE s.parishId = :parishId")
+    int deleteByParishId(Long parishId);
+}
@@ -0,0 +1,19 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.entity.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * Takes the named lease until {@code lockedUntil} if it has expired. Returns 0 if another instance holds it.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy"
+            + " WHERE l.name = :name AND l.lockedUntil <= :now")
+    int tryAcquire(String name, Instant now, Instant lockedUntil, String lockedBy);
+}
@@ -0,0 +1,13 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+/**
+ * Parent names of a baptism record, used to fill groom/bride parent names on marriage responses.
+ */
+public interface BaptismParentNames {
+
+    Long getId();
+
+    String getFathersName();
+
+    String getMothersName();
+}
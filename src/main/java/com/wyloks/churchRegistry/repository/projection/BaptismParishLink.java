@@ -0,0 +1,11 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+/**
+ * Baptism id and its parish, for checking in bulk that imported records belong to the importing parish.
+ */
+public interface BaptismParishLink {
+
+    Long getId();
+
+    Long getParishId();
+}
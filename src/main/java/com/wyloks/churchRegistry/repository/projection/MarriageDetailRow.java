@@ -0,0 +1,22 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.entity.MarriagePartyLegacy;
+import com.wyloks.churchRegistry.entity.MarriageWitnessLegacy;
+
+/**
+ * One row of the single-query marriage detail load: the marriage joined with each party (plus the
+ * party's baptism parent names) and each witness. Party and witness repeat across rows and may be null.
+ */
+public interface MarriageDetailRow {
+
+    Marriage getMarriage();
+
+    MarriagePartyLegacy getParty();
+
+    String getPartyFathersName();
+
+    String getPartyMothersName();
+
+    MarriageWitnessLegacy getWitness();
+}
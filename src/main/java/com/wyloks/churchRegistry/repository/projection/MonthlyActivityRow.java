@@ -0,0 +1,16 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+/**
+ * Row of the {@code mv_parish_monthly_activity} dashboard view, summed over a diocese: records of one sacrament
+ * type created in one calendar month.
+ */
+public interface MonthlyActivityRow {
+
+    String getSacramentType();
+
+    int getStatYear();
+
+    int getStatMonth();
+
+    long getRecordCount();
+}
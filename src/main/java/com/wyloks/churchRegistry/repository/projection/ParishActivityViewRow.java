@@ -0,0 +1,19 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Row of the {@code mv_parish_activity} dashboard view: parish activity plus holy orders and the time the
+ * view was last refreshed.
+ */
+public interface ParishActivityViewRow extends ParishActivityRow {
+
+    long getHolyOrders();
+
+    /** Refresh time as epoch millis; drivers disagree on the Java type of timestamp-with-time-zone columns. */
+    long getRefreshedAtMillis();
+
+    default Instant getRefreshedAt() {
+        return Instant.ofEpochMilli(getRefreshedAtMillis());
+    }
+}
@@ -0,0 +1,11 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+/**
+ * Id of a sacrament record and the baptism it belongs to, for resolving chain parents in bulk.
+ */
+public interface SacramentLink {
+
+    Long getId();
+
+    Long getBaptismId();
+}
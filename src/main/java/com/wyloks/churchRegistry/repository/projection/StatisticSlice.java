@@ -0,0 +1,13 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Parish and sacrament date of a recently created record, for finding which statistics slices to recompute.
+ */
+public interface StatisticSlice {
+
+    Long getParishId();
+
+    LocalDate getSacramentDate();
+}
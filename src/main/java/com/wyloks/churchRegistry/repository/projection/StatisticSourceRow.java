@@ -0,0 +1,16 @@
+package com.wyloks.churchRegistry.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of one sacrament record that the annual statistics are computed from; gender and date of birth
+ * come from the baptism record.
+ */
+public interface StatisticSourceRow {
+
+    String getGender();
+
+    LocalDate getDateOfBirth();
+
+    LocalDate getSacramentDate();
+}
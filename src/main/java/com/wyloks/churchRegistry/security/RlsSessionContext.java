@@ -5,6 +5,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +32,24 @@ public final class RlsSessionContext {
         HOLDER.remove();
     }
 
+    /**
+     * Runs {@code action} with admin RLS values and restores the caller's values afterwards. Only connections
+     * obtained inside the action (e.g. by a new transaction) see every tenant's rows.
+     */
+    public static <T> T callAsAdmin(Supplier<T> action) {
+        RlsValues previous = HOLDER.get();
+        HOLDER.set(new RlsValues(Collections.emptySet(), true));
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                HOLDER.set(previous);
+            } else {
+                HOLDER.remove();
+            }
+        }
+    }
+
     /**
      * Get current RLS values. Returns empty/false if not set (e.g. unauthenticated).
      */
@@ -107,8 +107,12 @@ public class SacramentAuthorizationService {
         return marriageRepository.findParishIdById(marriageId);
     }
 
+    /**
+     * Register parish of the marriage for a confirmation: the parish of the confirmed person's baptism. Resolved from
+     * the confirmation rather than an existing marriage, so it is also known when the marriage is being created.
+     */
     public Optional<Long> findMarriageParishIdByConfirmationId(Long confirmationId) {
-        return marriageRepository.findParishIdByConfirmationId(confirmationId);
+        return confirmationRepository.findParishIdById(confirmationId);
     }
 
     public Optional<Long> findHolyOrderParishId(Long holyOrderId) {
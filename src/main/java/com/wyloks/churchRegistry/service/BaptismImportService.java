@@ -0,0 +1,26 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BaptismImportService {
+
+    /**
+     * Streams a UTF-8 CSV of baptisms into the parish. The first row is a header naming {@code BaptismRequest}
+     * fields (camelCase or snake_case, any order); dates are {@code yyyy-MM-dd} or {@code dd/MM/yyyy}.
+     * Valid rows are normalized like single creates and inserted in JDBC batches, each batch committed on its own;
+     * invalid rows are reported and skipped. One audit event is written per committed batch.
+     *
+     * @throws IllegalArgumentException if the parish does not exist or the header is missing or unusable
+     */
+    ImportResultResponse importCsv(Long parishId, InputStream csv) throws IOException;
+
+    /**
+     * Same as {@link #importCsv(Long, InputStream)}, resuming after the first {@code skipRows} data rows and
+     * reporting each committed batch to {@code listener}. The returned totals cover only this run.
+     */
+    ImportResultResponse importCsv(Long parishId, InputStream csv, long skipRows, ImportProgressListener listener)
+            throws IOException;
+}
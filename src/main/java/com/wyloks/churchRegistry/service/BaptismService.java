@@ -5,17 +5,35 @@ import com.wyloks.churchRegistry.dto.BaptismResponse;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface BaptismService {
 
     List<BaptismResponse> findByParishId(Long parishId);
 
+    /**
+     * Whole parish register in id order, read with a JDBC fetch size for exports. Must be consumed and closed
+     * inside the caller's read-only transaction.
+     */
+    Stream<BaptismResponse> streamByParishId(Long parishId);
+
     Page<BaptismResponse> findByParishId(Long parishId, Pageable pageable);
 
+    /**
+     * Parish list without the COUNT query: fetches size + 1 rows to determine whether a next page exists.
+     */
+    Slice<BaptismResponse> findSliceByParishId(Long parishId, Pageable pageable);
+
+    /**
+     * Parish list page whose total is estimated from cached parish counts instead of a COUNT query.
+     */
+    Page<BaptismResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable);
+
     Page<BaptismResponse> findByParishIdIn(Set<Long> parishIds, Pageable pageable);
 
     Page<BaptismResponse> searchByNameOrAddress(Long parishId, String query, Pageable pageable);
@@ -0,0 +1,164 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.SacramentAuditLogRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills the caches a fresh instance would otherwise compute on its first requests: the admin diocese/parish tree,
+ * the parish dashboards of the {@code app.cache.warmup.top-parishes} most active parishes (by audit log events over
+ * {@code app.cache.warmup.activity-window}) and their diocese dashboards.
+ * <p>
+ * Starts once the application is ready (after Liquibase) on a background thread, loading at most
+ * {@code app.cache.warmup.concurrency} entries at a time. {@link #isReady()} reports readiness for the health
+ * check; warm-up is best effort, so failures, or running past {@code app.cache.warmup.timeout}, still count as
+ * ready.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmupService {
+
+    public enum State {
+        DISABLED,
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final DioceseParishDirectory dioceseParishDirectory;
+    private final DashboardService dashboardService;
+    private final DioceseDashboardService dioceseDashboardService;
+    private final SacramentAuditLogRepository auditLogRepository;
+    private final ParishRepository parishRepository;
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.cache.warmup.top-parishes:20}")
+    private int topParishes = 20;
+
+    @Value("${app.cache.warmup.activity-window:P30D}")
+    private Duration activityWindow = Duration.ofDays(30);
+
+    @Value("${app.cache.warmup.concurrency:2}")
+    private int concurrency = 2;
+
+    @Value("${app.cache.warmup.timeout:PT2M}")
+    private Duration timeout = Duration.ofMinutes(2);
+
+    private volatile State state = State.PENDING;
+    private volatile Instant startedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * True once warm-up has finished (successfully or not), is disabled, or has run longer than the timeout.
+     */
+    public boolean isReady() {
+        State current = state;
+        if (current != State.PENDING && current != State.RUNNING) {
+            return true;
+        }
+        Instant started = startedAt;
+        return started != null && started.plus(timeout).isBefore(Instant.now());
+    }
+
+    /**
+     * Runs the warm-up on the calling thread and returns the number of cache entries loaded.
+     */
+    int warmUp() {
+        state = State.RUNNING;
+        startedAt = Instant.now();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger failures = new AtomicInteger();
+        try {
+            List<Long> parishIds = RlsSessionContext.callAsAdmin(() -> auditLogRepository.findMostActiveParishIds(
+                    OffsetDateTime.now().minus(activityWindow), PageRequest.of(0, Math.max(1, topParishes))));
+            List<Long> dioceseIds = parishIds.isEmpty()
+                    ? List.of()
+                    : RlsSessionContext.callAsAdmin(() -> parishRepository.findDioceseIdsByIdIn(parishIds));
+
+            List<Future<?>> loads = new ArrayList<>();
+            loads.add(submit(executor, failures, "diocese/parish tree", dioceseParishDirectory::allDiocesesWithParishes));
+            for (Long dioceseId : dioceseIds) {
+                loads.add(submit(executor, failures, "diocese dashboard " + dioceseId,
+                        () -> dioceseDashboardService.getDioceseDashboard(dioceseId)));
+                loads.add(submit(executor, failures, "parishes of diocese " + dioceseId,
+                        () -> dioceseParishDirectory.parishesOfDiocese(dioceseId)));
+            }
+            for (Long parishId : parishIds) {
+                loads.add(submit(executor, failures, "parish dashboard " + parishId,
+                        () -> dashboardService.getDashboard(parishId)));
+            }
+            for (Future<?> load : loads) {
+                load.get();
+            }
+            int loaded = loads.size() - failures.get();
+            state = failures.get() == 0 ? State.COMPLETED : State.FAILED;
+            log.info("Cache warm-up loaded {} of {} entries ({} parishes, {} dioceses) in {} ms", loaded, loads.size(),
+                    parishIds.size(), dioceseIds.size(), Duration.between(startedAt, Instant.now()).toMillis());
+            return loaded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = State.FAILED;
+            return 0;
+        } catch (Exception e) {
+            state = State.FAILED;
+            log.warn("Cache warm-up failed; caches will fill on demand", e);
+            return 0;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Future<?> submit(ExecutorService executor, AtomicInteger failures, String description,
+                                    Runnable load) {
+        return executor.submit(() -> {
+            try {
+                RlsSessionContext.callAsAdmin(() -> {
+                    load.run();
+                    return null;
+                });
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                log.warn("Cache warm-up of {} failed", description, e);
+            }
+        });
+    }
+}
@@ -5,17 +5,32 @@ import com.wyloks.churchRegistry.dto.ConfirmationResponse;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ConfirmationService {
 
     List<ConfirmationResponse> findByParishId(Long parishId);
 
+    /** Whole parish register in id order for exports; see {@link BaptismService#streamByParishId(Long)}. */
+    Stream<ConfirmationResponse> streamByParishId(Long parishId);
+
     Page<ConfirmationResponse> findByParishId(Long parishId, Pageable pageable);
 
+    /**
+     * Parish list without the COUNT query: fetches size + 1 rows to determine whether a next page exists.
+     */
+    Slice<ConfirmationResponse> findSliceByParishId(Long parishId, Pageable pageable);
+
+    /**
+     * Parish list page whose total is estimated from cached parish counts instead of a COUNT query.
+     */
+    Page<ConfirmationResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable);
+
     Page<ConfirmationResponse> findByParishIdIn(Set<Long> parishIds, Pageable pageable);
 
     Optional<ConfirmationResponse> findById(Long id);
@@ -0,0 +1,43 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the cached dashboards a sacrament change affects: the parish dashboard of the record's parish and the
+ * dashboard of that parish's diocese. Runs after commit so a concurrent request cannot re-cache pre-commit data;
+ * with writes evicting their own entries the dashboard TTLs only bound staleness from changes made outside the app.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+    private final ParishRepository parishRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSacramentChanged(SacramentChangedEvent event) {
+        Long parishId = event.parishId();
+        if (parishId == null) {
+            return;
+        }
+        evict(CacheConfig.CACHE_PARISH_DASHBOARD, parishId);
+        parishRepository.findDioceseIdById(parishId)
+                .ifPresent(dioceseId -> evict(CacheConfig.CACHE_DIOCESE_DASHBOARD, dioceseId));
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            log.debug("Evicted {} entry {}", cacheName, key);
+        }
+    }
+}
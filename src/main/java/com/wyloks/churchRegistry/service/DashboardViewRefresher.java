@@ -0,0 +1,145 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.repository.ScheduledJobLockRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refreshes the diocese dashboard materialized views ({@code mv_parish_activity}, {@code mv_parish_monthly_activity})
+ * with {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}, so dashboards keep reading the previous contents while a
+ * refresh runs. Views are refreshed once {@code app.dashboard.views.refresh-interval} has passed, or on the next poll
+ * after a bulk import ({@link SacramentChangedEvent.Change#IMPORTED}). Single-record changes wait for the interval;
+ * refreshing whole views per write would cost more than it saves. Cached diocese dashboards are evicted after each
+ * refresh.
+ * <p>
+ * The views are shared by every instance, so the timed refresh first takes the {@value #LOCK_NAME} lease for one
+ * interval and instances that find it held skip. A requested refresh runs on the instance that published the import
+ * without the lease, so its dashboards show the import on the next poll.
+ * <p>
+ * Only PostgreSQL has materialized views; on other databases the dashboard views are plain views and this is a no-op.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardViewRefresher {
+
+    static final String LOCK_NAME = "dashboard-views";
+
+    static final List<String> MATERIALIZED_VIEWS = List.of("mv_parish_activity", "mv_parish_monthly_activity");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ScheduledJobLockRepository lockRepository;
+
+    @Value("${app.dashboard.views.refresh-interval:PT5M}")
+    private Duration refreshInterval;
+
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private volatile Boolean materialized;
+    private volatile Instant lastRefresh;
+
+    /**
+     * Asks for a refresh on the next poll, e.g. after a bulk import. Cheap and safe to call from request threads;
+     * repeated requests before the poll collapse into one refresh.
+     */
+    public void requestRefresh() {
+        refreshRequested.set(true);
+    }
+
+    @EventListener
+    public void onSacramentChanged(SacramentChangedEvent event) {
+        if (event.change() == SacramentChangedEvent.Change.IMPORTED) {
+            requestRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.views.poll-interval-ms:15000}")
+    public void refreshIfDue() {
+        if (!isMaterialized()) {
+            return;
+        }
+        boolean requested = refreshRequested.getAndSet(false);
+        Instant last = lastRefresh;
+        if (requested) {
+            refresh();
+        } else if (last == null || last.isBefore(Instant.now().minus(refreshInterval))) {
+            if (acquireLease()) {
+                refresh();
+            } else {
+                log.debug("Dashboard view refresh skipped; another instance holds the {} lease", LOCK_NAME);
+            }
+        }
+    }
+
+    /**
+     * Refreshes all dashboard views in one transaction and evicts cached diocese dashboards.
+     *
+     * @return false if the database has no materialized views or the refresh failed (it is retried on the next poll)
+     */
+    public boolean refresh() {
+        if (!isMaterialized()) {
+            return false;
+        }
+        Instant started = Instant.now();
+        RlsSessionContext.set(Set.of(), true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // The view queries run with the tenant policies of the base tables; refresh as admin so every
+                // parish is included.
+                jdbcTemplate.queryForObject("SELECT set_config('app.is_admin', 'true', true)", String.class);
+                for (String view : MATERIALIZED_VIEWS) {
+                    jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+                }
+            });
+            lastRefresh = started;
+            Cache dashboards = cacheManager.getCache(CacheConfig.CACHE_DIOCESE_DASHBOARD);
+            if (dashboards != null) {
+                dashboards.clear();
+            }
+            log.debug("Dashboard views refreshed in {} ms", Duration.between(started, Instant.now()).toMillis());
+            return true;
+        } catch (Exception e) {
+            refreshRequested.set(true);
+            log.warn("Dashboard view refresh failed; retrying on next poll", e);
+            return false;
+        } finally {
+            RlsSessionContext.clear();
+        }
+    }
+
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Integer acquired = transactionTemplate.execute(tx -> lockRepository.tryAcquire(
+                LOCK_NAME, now, now.plus(refreshInterval), ManagementFactory.getRuntimeMXBean().getName()));
+        return acquired != null && acquired == 1;
+    }
+
+    private boolean isMaterialized() {
+        Boolean result = materialized;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product);
+            materialized = result;
+        }
+        return result;
+    }
+}
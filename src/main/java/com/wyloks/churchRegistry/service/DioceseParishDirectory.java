@@ -0,0 +1,130 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cached admin (unfiltered) view of dioceses and their parishes. Each view is cached once, whoever asks;
+ * tenant-filtered lists are derived per request with {@link #visibleTo(List, Set)} and
+ * {@link #visibleParishes(List, Set)}, so the cache holds one entry per diocese rather than one per distinct
+ * parish-access set, and reassigning a user's parishes never invalidates it.
+ * <p>
+ * Loads run in a new transaction with admin RLS values, so a cache miss triggered by a parish user still caches
+ * every row.
+ */
+@Service
+public class DioceseParishDirectory {
+
+    private final DioceseRepository dioceseRepository;
+    private final ParishRepository parishRepository;
+    private final TransactionTemplate adminReadTransaction;
+
+    public DioceseParishDirectory(DioceseRepository dioceseRepository,
+                                  ParishRepository parishRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.dioceseRepository = dioceseRepository;
+        this.parishRepository = parishRepository;
+        this.adminReadTransaction = new TransactionTemplate(transactionManager);
+        this.adminReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.adminReadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Every diocese with all of its parishes (including dioceses without parishes). Do not modify the result.
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_DIOCESES_WITH_PARISHES, key = "'all'", sync = true)
+    public List<DioceseWithParishesResponse> allDiocesesWithParishes() {
+        return RlsSessionContext.callAsAdmin(() -> adminReadTransaction.execute(status ->
+                dioceseRepository.findAllWithParishes().stream()
+                        .map(DioceseParishDirectory::toResponseWithParishes)
+                        .toList()));
+    }
+
+    /**
+     * All parishes of the diocese. Do not modify the result.
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_PARISHES_BY_DIOCESE, key = "#dioceseId", sync = true)
+    public List<ParishResponse> parishesOfDiocese(Long dioceseId) {
+        return RlsSessionContext.callAsAdmin(() -> adminReadTransaction.execute(status ->
+                parishRepository.findByDioceseId(dioceseId).stream()
+                        .map(DioceseParishDirectory::toParishResponse)
+                        .toList()));
+    }
+
+    /**
+     * The dioceses containing at least one of {@code parishIds}, each listing only those parishes. Returns copies;
+     * the cached list is not modified.
+     */
+    public static List<DioceseWithParishesResponse> visibleTo(List<DioceseWithParishesResponse> dioceses,
+                                                              Set<Long> parishIds) {
+        if (parishIds.isEmpty()) {
+            return List.of();
+        }
+        return dioceses.stream()
+                .map(d -> {
+                    List<ParishResponse> parishes = visibleParishes(d.getParishes(), parishIds);
+                    return parishes.isEmpty() ? null : DioceseWithParishesResponse.builder()
+                            .id(d.getId())
+                            .dioceseName(d.getDioceseName())
+                            .code(d.getCode())
+                            .description(d.getDescription())
+                            .parishes(parishes)
+                            .build();
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * The parishes whose id is in {@code parishIds}.
+     */
+    public static List<ParishResponse> visibleParishes(List<ParishResponse> parishes, Set<Long> parishIds) {
+        if (parishes == null || parishIds.isEmpty()) {
+            return List.of();
+        }
+        return parishes.stream()
+                .filter(p -> p.getId() != null && parishIds.contains(p.getId()))
+                .toList();
+    }
+
+    private static DioceseWithParishesResponse toResponseWithParishes(Diocese e) {
+        List<ParishResponse> parishes = e.getParishes() != null
+                ? e.getParishes().stream()
+                        .filter(Objects::nonNull)
+                        .map(DioceseParishDirectory::toParishResponse)
+                        .toList()
+                : List.of();
+        return DioceseWithParishesResponse.builder()
+                .id(e.getId())
+                .dioceseName(e.getDioceseName())
+                .code(e.getCode())
+                .description(e.getDescription())
+                .parishes(parishes)
+                .build();
+    }
+
+    private static ParishResponse toParishResponse(Parish p) {
+        return ParishResponse.builder()
+                .id(p.getId())
+                .parishName(p.getParishName())
+                .dioceseId(p.getDiocese() != null ? p.getDiocese().getId() : null)
+                .description(p.getDescription())
+                .requireMarriageConfirmation(p.isRequireMarriageConfirmation())
+                .build();
+    }
+}
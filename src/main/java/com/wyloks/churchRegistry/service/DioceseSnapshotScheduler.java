@@ -0,0 +1,62 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.SchedulingConfig;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ScheduledJobLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Writes a fresh analytics snapshot of every diocese off-peak. A failing diocese is logged and skipped so the
+ * others still get their snapshot.
+ * <p>
+ * Every instance fires the same cron, so the run takes the {@value #LOCK_NAME} lease first and instances that
+ * find it held skip. The lease is not released after the run: it expires after {@code app.snapshot.lock-lease},
+ * which covers instances whose clock or schedule fires a little later.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DioceseSnapshotScheduler {
+
+    static final String LOCK_NAME = "diocese-snapshot";
+
+    private final DioceseRepository dioceseRepository;
+    private final DioceseSnapshotService snapshotService;
+    private final ScheduledJobLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.snapshot.lock-lease:PT1H}")
+    private Duration lockLease;
+
+    @Scheduled(cron = "${app.snapshot.cron:0 30 2 * * *}", scheduler = SchedulingConfig.BULK_JOB_SCHEDULER)
+    public void snapshotAllDioceses() {
+        if (!acquireLease()) {
+            log.info("Diocese snapshots skipped; another instance holds the {} lease", LOCK_NAME);
+            return;
+        }
+        for (Diocese diocese : dioceseRepository.findAll()) {
+            try {
+                snapshotService.createSnapshot(diocese.getId());
+            } catch (Exception e) {
+                log.warn("Snapshot of diocese {} failed", diocese.getId(), e);
+            }
+        }
+    }
+
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Integer acquired = transactionTemplate.execute(tx -> lockRepository.tryAcquire(
+                LOCK_NAME, now, now.plus(lockLease), ManagementFactory.getRuntimeMXBean().getName()));
+        return acquired != null && acquired == 1;
+    }
+}
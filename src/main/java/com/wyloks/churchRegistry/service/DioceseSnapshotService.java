@@ -0,0 +1,33 @@
+package com.wyloks.churchRegistry.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Offline analytics snapshots of a diocese's sacrament registers, so annual-report style reads run against a
+ * file instead of the live database.
+ */
+public interface DioceseSnapshotService {
+
+    /**
+     * Writes a new snapshot of every sacrament register in the diocese, read in one consistent read-only
+     * transaction. The file is a ZIP of CSV files split into partition directories
+     * ({@code baptisms/parish_id=12/year=2019/part-0.csv}) plus a {@code manifest.json}; partial files are never
+     * visible. The file is built in a temporary directory and then handed to the {@link SnapshotStore}. Older
+     * snapshots beyond the retention count are deleted.
+     *
+     * @return file name of the new snapshot
+     * @throws IllegalArgumentException if the diocese does not exist
+     */
+    String createSnapshot(Long dioceseId) throws IOException;
+
+    /**
+     * Most recent completed snapshot for the diocese, if any.
+     */
+    Optional<Snapshot> findLatest(Long dioceseId) throws IOException;
+
+    record Snapshot(String fileName, Resource content) {
+    }
+}
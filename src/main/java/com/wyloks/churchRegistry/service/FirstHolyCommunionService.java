@@ -5,17 +5,32 @@ import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface FirstHolyCommunionService {
 
     List<FirstHolyCommunionResponse> findByParishId(Long parishId);
 
+    /** Whole parish register in id order for exports; see {@link BaptismService#streamByParishId(Long)}. */
+    Stream<FirstHolyCommunionResponse> streamByParishId(Long parishId);
+
     Page<FirstHolyCommunionResponse> findByParishId(Long parishId, Pageable pageable);
 
+    /**
+     * Parish list without the COUNT query: fetches size + 1 rows to determine whether a next page exists.
+     */
+    Slice<FirstHolyCommunionResponse> findSliceByParishId(Long parishId, Pageable pageable);
+
+    /**
+     * Parish list page whose total is estimated from cached parish counts instead of a COUNT query.
+     */
+    Page<FirstHolyCommunionResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable);
+
     Page<FirstHolyCommunionResponse> findByParishIdIn(Set<Long> parishIds, Pageable pageable);
 
     Optional<FirstHolyCommunionResponse> findById(Long id);
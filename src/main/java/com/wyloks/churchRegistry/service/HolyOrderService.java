@@ -4,16 +4,31 @@ import com.wyloks.churchRegistry.dto.HolyOrderRequest;
 import com.wyloks.churchRegistry.dto.HolyOrderResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface HolyOrderService {
 
     List<HolyOrderResponse> findByParishId(Long parishId);
 
+    /** Whole parish register in id order for exports; see {@link BaptismService#streamByParishId(Long)}. */
+    Stream<HolyOrderResponse> streamByParishId(Long parishId);
+
     Page<HolyOrderResponse> findByParishId(Long parishId, Pageable pageable);
 
+    /**
+     * Parish list without the COUNT query: fetches size + 1 rows to determine whether a next page exists.
+     */
+    Slice<HolyOrderResponse> findSliceByParishId(Long parishId, Pageable pageable);
+
+    /**
+     * Parish list page whose total is estimated from cached parish counts instead of a COUNT query.
+     */
+    Page<HolyOrderResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable);
+
     Optional<HolyOrderResponse> findById(Long id);
 
     Optional<HolyOrderResponse> findByConfirmationId(Long confirmationId);
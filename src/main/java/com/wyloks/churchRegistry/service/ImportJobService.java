@@ -0,0 +1,22 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportJobResponse;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface ImportJobService {
+
+    /**
+     * Stores the upload and queues it for the background worker. The CSV is scanned once so malformed
+     * files are rejected up front and progress can be reported against a known row count.
+     *
+     * @throws IllegalArgumentException if the parish does not exist, the sacrament type is not importable
+     *                                  or the CSV is malformed
+     */
+    ImportJobResponse submit(Long parishId, SacramentType sacramentType, String fileName, InputStream csv) throws IOException;
+
+    Optional<ImportJobResponse> findById(Long id);
+}
@@ -0,0 +1,237 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.SchedulingConfig;
+import com.wyloks.churchRegistry.dto.ImportResultResponse.RowError;
+import com.wyloks.churchRegistry.entity.ImportJob;
+import com.wyloks.churchRegistry.entity.ImportJobError;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.ImportJobContentChunkRepository;
+import com.wyloks.churchRegistry.repository.ImportJobErrorRepository;
+import com.wyloks.churchRegistry.repository.ImportJobRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Runs queued import jobs one at a time on the bulk job scheduler. Each job is processed in checkpointed batches
+ * (see {@link ImportProgressListener}); a job whose worker died is picked up again once its heartbeat is stale
+ * and resumes after the last committed batch. Every claim carries a fresh token, and a worker whose claim was
+ * taken over (it stalled past the stale timeout) rolls back its current batch and stops.
+ * <p>
+ * Writes are throttled so imports do not starve interactive requests: only one job runs per instance, it holds a
+ * pooled connection only while a batch commits, and it pauses between batches, longer while other threads are
+ * waiting for a Hikari connection.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobWorker {
+
+    public static final Set<SacramentType> SUPPORTED_TYPES = Set.of(SacramentType.BAPTISM);
+
+    static final int MAX_STORED_ERRORS = 200;
+    private static final int MAX_BACKOFF_PAUSES = 50;
+
+    private final ImportJobRepository jobRepository;
+    private final ImportJobContentChunkRepository contentRepository;
+    private final ImportJobErrorRepository errorRepository;
+    private final BaptismImportService baptismImportService;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    @Value("${app.import.job.batch-pause-ms:100}")
+    private long batchPauseMs;
+
+    @Value("${app.import.job.stale-after:PT2M}")
+    private Duration staleAfter;
+
+    /**
+     * Runs every runnable job until none is left. Called periodically by the scheduler.
+     */
+    @Scheduled(fixedDelayString = "${app.import.job.poll-interval-ms:5000}", scheduler = SchedulingConfig.BULK_JOB_SCHEDULER)
+    public void runPendingJobs() {
+        Claim claim;
+        while ((claim = claimNext()) != null) {
+            runJob(claim);
+        }
+    }
+
+    private Claim claimNext() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Instant staleBefore = now.minus(staleAfter);
+            for (Long id : jobRepository.findRunnableIds(staleBefore, PageRequest.of(0, 5))) {
+                String token = UUID.randomUUID().toString();
+                if (jobRepository.claim(id, token, now, staleBefore) == 1) {
+                    return new Claim(id, token);
+                }
+            }
+            return null;
+        });
+    }
+
+    private void runJob(Claim claim) {
+        Long jobId = claim.jobId();
+        ImportJob job = jobRepository.findById(jobId).orElseThrow();
+        if (!contentRepository.existsByJobId(jobId)) {
+            finish(claim, ImportJob.Status.FAILED, "Upload content is missing");
+            return;
+        }
+        log.info("Import job {} {} for parish {}: starting at row {} of {}",
+                jobId, job.getSacramentType(), job.getParishId(), job.getProcessedRows(), job.getTotalRows());
+        RlsSessionContext.set(Set.of(job.getParishId()), false);
+        try {
+            baptismImportService.importCsv(job.getParishId(), new ContentStream(jobId),
+                    job.getProcessedRows(), new JobProgress(claim, job.getFailedRows()));
+            finish(claim, ImportJob.Status.COMPLETED, null);
+            log.info("Import job {} completed", jobId);
+        } catch (ClaimLostException e) {
+            log.warn("Import job {} was claimed by another worker; stopping", jobId);
+        } catch (Exception e) {
+            log.warn("Import job {} failed", jobId, e);
+            finish(claim, ImportJob.Status.FAILED, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            RlsSessionContext.clear();
+        }
+    }
+
+    /**
+     * Records the final status and discards the upload, whether the job completed or failed; a failed job is not
+     * retried, so its content would never be read again. Nothing changes if the claim was taken over.
+     */
+    private void finish(Claim claim, ImportJob.Status status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (jobRepository.finish(claim.jobId(), claim.token(), status, error, Instant.now()) == 0) {
+                log.warn("Import job {} was claimed by another worker; not marking it {}", claim.jobId(), status);
+                return;
+            }
+            contentRepository.deleteByJobId(claim.jobId());
+        });
+    }
+
+    private void pauseBetweenBatches() {
+        if (batchPauseMs <= 0) {
+            return;
+        }
+        HikariPoolMXBean pool = hikariPool();
+        try {
+            Thread.sleep(batchPauseMs);
+            for (int i = 0; pool != null && pool.getThreadsAwaitingConnection() > 0 && i < MAX_BACKOFF_PAUSES; i++) {
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean()
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private record Claim(Long jobId, String token) {}
+
+    /**
+     * Thrown inside a batch transaction when the job's claim was taken over, so the batch rolls back.
+     */
+    private static final class ClaimLostException extends RuntimeException {
+        private ClaimLostException(Long jobId) {
+            super("Import job " + jobId + " was claimed by another worker");
+        }
+    }
+
+    /**
+     * Reads the upload one stored chunk at a time, so at most one chunk is held in memory.
+     */
+    private final class ContentStream extends InputStream {
+
+        private final Long jobId;
+        private int nextChunk;
+        private InputStream current = InputStream.nullInputStream();
+        private boolean exhausted;
+
+        private ContentStream(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (!exhausted) {
+                int n = current.read(b, off, len);
+                if (n > 0) {
+                    return n;
+                }
+                contentRepository.findData(jobId, nextChunk++).ifPresentOrElse(
+                        data -> current = new ByteArrayInputStream(data),
+                        () -> exhausted = true);
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the checkpoint, counters and (capped) row errors in the batch transaction.
+     */
+    private final class JobProgress implements ImportProgressListener {
+
+        private final Claim claim;
+        private long failedRows;
+
+        private JobProgress(Claim claim, long failedRows) {
+            this.claim = claim;
+            this.failedRows = failedRows;
+        }
+
+        @Override
+        public void onBatch(long rowsConsumed, int importedRows, List<RowError> errors) {
+            Long jobId = claim.jobId();
+            if (jobRepository.recordProgress(jobId, claim.token(), rowsConsumed, importedRows, errors.size(),
+                    Instant.now()) == 0) {
+                throw new ClaimLostException(jobId);
+            }
+            List<ImportJobError> stored = errors.stream()
+                    .limit(Math.max(0, MAX_STORED_ERRORS - failedRows))
+                    .map(e -> ImportJobError.builder().jobId(jobId).line(e.getLine()).message(e.getMessage()).build())
+                    .toList();
+            errorRepository.saveAll(stored);
+            failedRows += errors.size();
+        }
+
+        @Override
+        public void afterBatch() {
+            pauseBetweenBatches();
+        }
+    }
+}
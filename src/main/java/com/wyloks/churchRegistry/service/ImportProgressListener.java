@@ -0,0 +1,29 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportResultResponse.RowError;
+
+import java.util.List;
+
+/**
+ * Receives progress from a streaming bulk import, once per committed batch.
+ */
+public interface ImportProgressListener {
+
+    ImportProgressListener NONE = (rowsConsumed, importedRows, errors) -> { };
+
+    /**
+     * Called inside the batch transaction, so a checkpoint written here commits atomically with the batch.
+     *
+     * @param rowsConsumed data rows read so far, including skipped, blank and failed rows; pass back as
+     *                     {@code skipRows} to resume after this batch
+     * @param importedRows rows inserted by this batch
+     * @param errors       rows rejected since the previous batch
+     */
+    void onBatch(long rowsConsumed, int importedRows, List<RowError> errors);
+
+    /**
+     * Called after the batch transaction has finished, outside it; a place to pause between batches.
+     */
+    default void afterBatch() {
+    }
+}
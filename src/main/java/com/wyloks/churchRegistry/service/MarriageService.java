@@ -6,17 +6,32 @@ import com.wyloks.churchRegistry.dto.CreateMarriageWithPartiesRequest;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface MarriageService {
 
     List<MarriageResponse> findByParishId(Long parishId);
 
+    /** Whole parish register in id order for exports; see {@link BaptismService#streamByParishId(Long)}. */
+    Stream<MarriageResponse> streamByParishId(Long parishId);
+
     Page<MarriageResponse> findByParishId(Long parishId, Pageable pageable);
 
+    /**
+     * Parish list without the COUNT query: fetches size + 1 rows to determine whether a next page exists.
+     */
+    Slice<MarriageResponse> findSliceByParishId(Long parishId, Pageable pageable);
+
+    /**
+     * Parish list page whose total is estimated from cached parish counts instead of a COUNT query.
+     */
+    Page<MarriageResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable);
+
     Page<MarriageResponse> findByParishIdIn(Set<Long> parishIds, Pageable pageable);
 
     Optional<MarriageResponse> findById(Long id);
@@ -0,0 +1,65 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.repository.DashboardRepository;
+import com.wyloks.churchRegistry.repository.projection.ParishDashboardCounts;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * Supplies approximate per-parish sacrament totals for list endpoints requested with {@code count=estimated}.
+ * Counts come from the single batched dashboard count query and are cached briefly, so estimated lists
+ * skip the per-request COUNT entirely.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParishCountEstimateService {
+
+    private final DashboardRepository dashboardRepository;
+
+    /**
+     * Returns cached sacrament counts for the parish (one query per parish per cache TTL).
+     */
+    @Cacheable(cacheNames = CacheConfig.CACHE_PARISH_COUNT_ESTIMATES, key = "#parishId", sync = true)
+    public ParishCounts getEstimatedCounts(Long parishId) {
+        ParishDashboardCounts counts = dashboardRepository.getParishCounts(parishId);
+        return new ParishCounts(
+                counts.getBaptisms(),
+                counts.getCommunions(),
+                counts.getConfirmations(),
+                counts.getMarriages(),
+                counts.getHolyOrders());
+    }
+
+    /**
+     * Turns a slice into a page whose total is the estimate, clamped to what the slice proves:
+     * on the last slice the total is exact; otherwise it is at least one more than the rows seen so far.
+     */
+    public static <T> Page<T> toEstimatedPage(Slice<T> slice, long estimatedTotal) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : seen;
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * Per-parish sacrament totals. A plain class (not a record) so it round-trips through the typed Redis serializer.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParishCounts {
+        private long baptisms;
+        private long communions;
+        private long confirmations;
+        private long marriages;
+        private long holyOrders;
+    }
+}
@@ -0,0 +1,19 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ExportFormat;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface RegisterExportService {
+
+    /**
+     * Writes a parish's whole register for one sacrament to {@code out}, row by row from a database cursor, so
+     * memory use does not grow with the parish. Rows are the list responses in id order; CSV exports leave out
+     * nested lists (marriage parties and witnesses, which NDJSON keeps). {@code out} is flushed, not closed.
+     *
+     * @return number of rows written
+     */
+    long export(SacramentType sacramentType, Long parishId, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -204,6 +204,21 @@ public class RemoteFileService {
         }
     }
 
+    /**
+     * Base URL of the Supabase Storage object API (e.g. {@code https://ref.supabase.co/storage/v1/object}),
+     * or blank when it is not configured.
+     */
+    public String storageObjectBaseUrl() {
+        return resolveStorageBase();
+    }
+
+    /**
+     * Key sent as bearer token and apikey to Supabase Storage (service role key, else anon key); blank if unset.
+     */
+    public String storageApiKey() {
+        return sanitizeHeaderValue(!serviceRoleKey.isBlank() ? serviceRoleKey : anonKey);
+    }
+
     private String resolveStorageBase() {
         if (!storageBaseUrl.isBlank()) {
             return trimTrailingSlash(storageBaseUrl);
@@ -57,6 +57,22 @@ public class SacramentAuditService {
         logEvent(EventType.CERTIFICATE_DOWNLOAD, sacramentType, recordId, parishId, details);
     }
 
+    /**
+     * Records one bulk-import batch. Imports audit per committed batch rather than per inserted row.
+     */
+    @Transactional(readOnly = false)
+    public void logImport(SacramentType sacramentType, Long parishId, String details) {
+        logEvent(EventType.IMPORT, sacramentType, null, parishId, details);
+    }
+
+    /**
+     * Records one register export. Exports audit once per download rather than per exported row.
+     */
+    @Transactional(readOnly = false)
+    public void logExport(SacramentType sacramentType, Long parishId, String details) {
+        logEvent(EventType.EXPORT, sacramentType, null, parishId, details);
+    }
+
     private void logEvent(EventType eventType, SacramentType sacramentType, Long recordId, Long parishId, String details) {
         try {
             var actor = resolveActor();
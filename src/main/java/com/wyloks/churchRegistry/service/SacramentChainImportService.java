@@ -0,0 +1,29 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface SacramentChainImportService {
+
+    /**
+     * Streams a UTF-8 CSV of communions, confirmations and marriages for existing baptisms of the parish.
+     * Each row names a {@code baptismId} and any of the tiers that follow it; a tier is present when any of its
+     * columns is filled:
+     * <ul>
+     *   <li>communion: {@code communionDate, communionOfficiatingPriest, communionParish}</li>
+     *   <li>confirmation: {@code confirmationDate, confirmationOfficiatingBishop, confirmationParish}</li>
+     *   <li>marriage: {@code marriageDate, partnersName, marriageOfficiatingPriest, marriageParish} and optionally
+     *       {@code marriageTime, churchName, marriageRegister, diocese, civilRegistryNumber, dispensationGranted,
+     *       canonicalNotes}</li>
+     * </ul>
+     * A tier may build on a record that already exists (e.g. a confirmation for an existing communion). Rows are
+     * processed in chunks: parents and existing records are resolved with one query per table, the chain rules of
+     * the single-record creates are checked in memory and each tier is written as one JDBC batch. Each chunk
+     * commits on its own and writes one audit event per tier. Rows that break a rule are reported and skipped.
+     *
+     * @throws IllegalArgumentException if the parish does not exist or the header has no baptismId column
+     */
+    ImportResultResponse importCsv(Long parishId, InputStream csv) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+
+/**
+ * Published by the sacrament services when records are created or changed, so derived data (dashboard caches,
+ * dashboard views) can be invalidated for exactly the affected parish. Listeners act after the publishing
+ * transaction commits.
+ *
+ * @param parishId the register parish: the parish of the baptism the record belongs to, or null if it has none
+ */
+public record SacramentChangedEvent(SacramentType sacramentType, Long parishId, Change change) {
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        /** A bulk import committed one or more rows. */
+        IMPORTED
+    }
+
+    /**
+     * Event for a record belonging to {@code baptism}; dashboards count every sacrament under its baptism's parish.
+     */
+    public static SacramentChangedEvent of(SacramentType sacramentType, Baptism baptism, Change change) {
+        Long parishId = baptism != null && baptism.getParish() != null ? baptism.getParish().getId() : null;
+        return new SacramentChangedEvent(sacramentType, parishId, change);
+    }
+}
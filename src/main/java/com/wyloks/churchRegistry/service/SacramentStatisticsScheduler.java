@@ -0,0 +1,102 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.SchedulingConfig;
+import com.wyloks.churchRegistry.repository.ScheduledJobLockRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Keeps the annual statistics current: every minute the slices touched by newly created records are recomputed
+ * (single creates and bulk imports alike), and a nightly rebuild catches anything the incremental pass cannot
+ * see, such as deletions or a watermark lost on restart.
+ * <p>
+ * The watermark is held in memory. Each pass looks back an extra overlap so records whose transaction
+ * committed after the previous pass started are not missed; recomputing a slice twice is harmless.
+ * <p>
+ * Every instance runs both schedules, so each run first takes its lease ({@value #REFRESH_LOCK_NAME} or
+ * {@value #REBUILD_LOCK_NAME}) and instances that find it held skip; two instances rewriting the same slice
+ * would otherwise collide on its unique key. An instance that skips keeps its own watermark, so its next pass
+ * looks back over whatever another instance already covered.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SacramentStatisticsScheduler {
+
+    static final String REFRESH_LOCK_NAME = "statistics-refresh";
+    static final String REBUILD_LOCK_NAME = "statistics-rebuild";
+
+    private final SacramentStatisticsService statisticsService;
+    private final ScheduledJobLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.statistics.refresh-overlap:PT5M}")
+    private Duration refreshOverlap;
+
+    @Value("${app.statistics.initial-lookback:PT26H}")
+    private Duration initialLookback;
+
+    @Value("${app.statistics.refresh-lock-lease:PT50S}")
+    private Duration refreshLockLease;
+
+    @Value("${app.statistics.rebuild-lock-lease:PT1H}")
+    private Duration rebuildLockLease;
+
+    private volatile Instant watermark;
+
+    @Scheduled(fixedDelayString = "${app.statistics.refresh-interval-ms:60000}")
+    public void refreshRecentChanges() {
+        Instant started = Instant.now();
+        if (!acquireLease(REFRESH_LOCK_NAME, refreshLockLease)) {
+            log.debug("Statistics refresh skipped; another instance holds the {} lease", REFRESH_LOCK_NAME);
+            return;
+        }
+        Instant since = watermark != null ? watermark.minus(refreshOverlap) : started.minus(initialLookback);
+        RlsSessionContext.set(Set.of(), true);
+        try {
+            int slices = statisticsService.refreshCreatedSince(since);
+            watermark = started;
+            if (slices > 0) {
+                log.debug("Recomputed {} statistics slices", slices);
+            }
+        } catch (Exception e) {
+            log.warn("Incremental statistics refresh failed; retrying from {}", since, e);
+        } finally {
+            RlsSessionContext.clear();
+        }
+    }
+
+    @Scheduled(cron = "${app.statistics.rebuild-cron:0 0 3 * * *}", scheduler = SchedulingConfig.BULK_JOB_SCHEDULER)
+    public void rebuildAll() {
+        if (!acquireLease(REBUILD_LOCK_NAME, rebuildLockLease)) {
+            log.info("Statistics rebuild skipped; another instance holds the {} lease", REBUILD_LOCK_NAME);
+            return;
+        }
+        RlsSessionContext.set(Set.of(), true);
+        try {
+            statisticsService.rebuildAll();
+            log.info("Annual statistics rebuilt");
+        } catch (Exception e) {
+            log.warn("Statistics rebuild failed", e);
+        } finally {
+            RlsSessionContext.clear();
+        }
+    }
+
+    private boolean acquireLease(String name, Duration lease) {
+        Instant now = Instant.now();
+        Integer acquired = transactionTemplate.execute(tx -> lockRepository.tryAcquire(
+                name, now, now.plus(lease), ManagementFactory.getRuntimeMXBean().getName()));
+        return acquired != null && acquired == 1;
+    }
+}
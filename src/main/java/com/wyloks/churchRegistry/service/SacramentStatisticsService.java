@@ -0,0 +1,33 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse;
+
+import java.time.Instant;
+
+/**
+ * Annual sacrament statistics (baptisms, first communions, confirmations, marriages) by parish, year, gender and
+ * age bracket, kept as precomputed aggregates in {@code sacrament_statistic}. Records count under their parish
+ * of baptism and the year of the sacrament date.
+ */
+public interface SacramentStatisticsService {
+
+    /**
+     * Complete report for one diocese and year from the stored aggregates.
+     *
+     * @throws IllegalArgumentException if the diocese does not exist
+     */
+    AnnualStatisticsResponse getAnnualReport(Long dioceseId, int year);
+
+    /**
+     * Recomputes every parish-year slice that has a record created after {@code since}. Each slice is replaced
+     * in its own transaction. Deletions are not detected here; {@link #rebuildAll()} catches up on them.
+     *
+     * @return number of slices recomputed
+     */
+    int refreshCreatedSince(Instant since);
+
+    /**
+     * Recomputes all aggregates, one parish per transaction.
+     */
+    void rebuildAll();
+}
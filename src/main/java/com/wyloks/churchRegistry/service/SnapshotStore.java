@@ -0,0 +1,33 @@
+package com.wyloks.churchRegistry.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where diocese snapshots are kept, selected with {@code app.snapshot.store}. Every instance must see the same
+ * snapshots, so deployments with ephemeral or per-machine disks use the object storage store ({@code supabase});
+ * the local directory store ({@code local}) suits development and tests.
+ */
+public interface SnapshotStore {
+
+    /**
+     * Stores a finished snapshot file under the diocese; readers never see it partially written.
+     */
+    void save(Long dioceseId, String fileName, Path file) throws IOException;
+
+    /**
+     * File names of the diocese's stored snapshots, oldest first (names sort by timestamp).
+     */
+    List<String> list(Long dioceseId) throws IOException;
+
+    /**
+     * Content of a stored snapshot, or empty if it does not exist (e.g. pruned since it was listed).
+     */
+    Optional<Resource> open(Long dioceseId, String fileName) throws IOException;
+
+    void delete(Long dioceseId, String fileName) throws IOException;
+}
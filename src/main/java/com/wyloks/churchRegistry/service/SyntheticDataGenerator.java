@@ -0,0 +1,404 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds dioceses, parishes and baptism registers with realistic sacrament chains, for reproducing production-sized
+ * data locally (H2 or PostgreSQL) and for the load-test runner. Runs at startup when
+ * {@code app.synthetic-data.enabled} is true, e.g. with the {@code loadtest} profile.
+ * <p>
+ * Each baptized person may go on to First Holy Communion (age 8-10), Confirmation (age 12-15) and Marriage
+ * (age 22-34), at the configured rates; sacraments whose date would lie in the future are left out, so young
+ * people have shorter chains. Rows are written with JDBC batch inserts, one transaction per parish, and generated
+ * ids are read back once per tier. Output depends only on the plan and the current date, so a seed reproduces
+ * the same registers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    /** Diocese codes of generated data start with this prefix, followed by the seed. */
+    static final String CODE_PREFIX = "SYN-";
+
+    private static final String INSERT_BAPTISM_SQL = """
+            INSERT INTO baptism (baptism_name, surname, gender, date_of_birth, fathers_name, mothers_name,
+                sponsor_names, other_names, officiating_priest, parish_id, address, parish_address, parent_address,
+                place_of_birth, place_of_baptism, date_of_baptism, liber_no, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_COMMUNION_SQL = """
+            INSERT INTO first_holy_communion (baptism_id, communion_date, officiating_priest, parish, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_CONFIRMATION_SQL = """
+            INSERT INTO confirmation (baptism_id, communion_id, confirmation_date, officiating_bishop, parish, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_MARRIAGE_SQL = """
+            INSERT INTO marriage (baptism_id, communion_id, confirmation_id, partners_name, marriage_date,
+                church_name, diocese, officiating_priest, parish, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String COMMUNION_IDS_SQL = """
+            SELECT f.id, f.baptism_id FROM first_holy_communion f JOIN baptism b ON b.id = f.baptism_id
+            WHERE b.parish_id = ?
+            """;
+
+    private static final String CONFIRMATION_IDS_SQL = """
+            SELECT c.id, c.baptism_id FROM confirmation c JOIN baptism b ON b.id = c.baptism_id
+            WHERE b.parish_id = ?
+            """;
+
+    private static final List<String> MALE_NAMES = List.of("Chinedu", "Emeka", "Obinna", "Tunde", "Segun", "Ifeanyi",
+            "Uche", "Kelechi", "Chukwuemeka", "Babatunde", "Ikenna", "Nnamdi", "Femi", "Joseph", "Peter", "Paul",
+            "Michael", "Anthony", "Francis", "Augustine", "Gabriel", "Raphael", "Dominic", "Benedict");
+    private static final List<String> FEMALE_NAMES = List.of("Ngozi", "Adaeze", "Chioma", "Funke", "Amaka", "Ifeoma",
+            "Nneka", "Yetunde", "Chiamaka", "Obiageli", "Bisola", "Uchenna", "Mary", "Theresa", "Cecilia",
+            "Monica", "Agnes", "Bernadette", "Veronica", "Lucy", "Rita", "Patience", "Grace", "Blessing");
+    private static final List<String> SURNAMES = List.of("Okafor", "Eze", "Okeke", "Nwosu", "Obi", "Adeyemi",
+            "Okonkwo", "Nwachukwu", "Ibe", "Onyeka", "Ogunleye", "Uzor", "Chukwu", "Anyanwu", "Ezeh", "Nwankwo",
+            "Olawale", "Agu", "Odum", "Mbah", "Nnaji", "Ugwu", "Okoro", "Igwe", "Onuoha", "Ekwueme", "Afolabi",
+            "Udeh", "Ani", "Nweke");
+    private static final List<String> TOWNS = List.of("Enugu", "Onitsha", "Nsukka", "Awka", "Owerri", "Abakaliki",
+            "Lagos", "Ibadan", "Abuja", "Port Harcourt");
+    private static final List<String> STREETS = List.of("Okpara Avenue", "Zik Avenue", "Market Road", "Church Street",
+            "Ogui Road", "Bisala Road", "Chime Avenue", "Independence Layout");
+
+    private final DioceseRepository dioceseRepository;
+    private final ParishRepository parishRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SacramentStatisticsService statisticsService;
+    private final DashboardViewRefresher dashboardViewRefresher;
+
+    @Value("${app.synthetic-data.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.synthetic-data.dioceses:3}")
+    private int dioceses = 3;
+
+    @Value("${app.synthetic-data.parishes-per-diocese:10}")
+    private int parishesPerDiocese = 10;
+
+    @Value("${app.synthetic-data.baptisms-per-parish:2000}")
+    private int baptismsPerParish = 2000;
+
+    @Value("${app.synthetic-data.seed:42}")
+    private long seed = 42;
+
+    @Value("${app.synthetic-data.communion-rate:0.8}")
+    private double communionRate = 0.8;
+
+    @Value("${app.synthetic-data.confirmation-rate:0.75}")
+    private double confirmationRate = 0.75;
+
+    @Value("${app.synthetic-data.marriage-rate:0.5}")
+    private double marriageRate = 0.5;
+
+    @Value("${app.synthetic-data.batch-size:1000}")
+    private int batchSize = 1000;
+
+    /**
+     * What to generate. Rates are the share of people old enough for a sacrament who receive it, given the
+     * previous one.
+     */
+    public record Plan(int dioceses, int parishesPerDiocese, int baptismsPerParish, long seed,
+                       double communionRate, double confirmationRate, double marriageRate) {
+
+        public Plan {
+            if (dioceses < 1 || parishesPerDiocese < 1 || baptismsPerParish < 0) {
+                throw new IllegalArgumentException("Synthetic data needs at least one diocese and parish");
+            }
+        }
+    }
+
+    public record Summary(List<Long> dioceseIds, List<Long> parishIds, long baptisms, long communions,
+                          long confirmations, long marriages, Duration elapsed) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Plan plan = new Plan(dioceses, parishesPerDiocese, baptismsPerParish, seed,
+                communionRate, confirmationRate, marriageRate);
+        Integer existing = RlsSessionContext.callAsAdmin(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM diocese WHERE code LIKE ?", Integer.class, codePrefix(plan) + "%"));
+        if (existing != null && existing > 0) {
+            log.info("Synthetic data for seed {} already present; skipping generation", plan.seed());
+            return;
+        }
+        Summary summary = generate(plan);
+        log.info("Synthetic data: {} dioceses, {} parishes, {} baptisms, {} communions, {} confirmations, "
+                        + "{} marriages in {} ms", summary.dioceseIds().size(), summary.parishIds().size(),
+                summary.baptisms(), summary.communions(), summary.confirmations(), summary.marriages(),
+                summary.elapsed().toMillis());
+    }
+
+    /**
+     * Creates new dioceses and parishes and fills their registers. Existing data is left alone; running the same
+     * plan twice creates a second, identical set of dioceses.
+     */
+    public Summary generate(Plan plan) {
+        Instant started = Instant.now();
+        Random random = new Random(plan.seed());
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<Long> dioceseIds = new ArrayList<>();
+        List<Long> parishIds = new ArrayList<>();
+        long[] totals = new long[4];
+
+        for (int d = 1; d <= plan.dioceses(); d++) {
+            String town = TOWNS.get((d - 1) % TOWNS.size());
+            Diocese diocese = createDiocese(plan, d, town);
+            dioceseIds.add(diocese.getId());
+            for (int p = 1; p <= plan.parishesPerDiocese(); p++) {
+                Parish parish = createParish(diocese, p, town, pick(random, SURNAMES));
+                parishIds.add(parish.getId());
+                List<Person> people = people(plan, parish, town, random, today);
+                long[] inserted = RlsSessionContext.callAsAdmin(() -> transactionTemplate.execute(status ->
+                        insertRegister(parish, diocese, people)));
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += inserted[i];
+                }
+                eventPublisher.publishEvent(new SacramentChangedEvent(SacramentType.BAPTISM, parish.getId(), Change.IMPORTED));
+            }
+        }
+        // Records are dated in the past, which the incremental statistics refresh (by creation time) never sees.
+        RlsSessionContext.callAsAdmin(() -> {
+            statisticsService.rebuildAll();
+            return null;
+        });
+        dashboardViewRefresher.refresh();
+        return new Summary(dioceseIds, parishIds, totals[0], totals[1], totals[2], totals[3],
+                Duration.between(started, Instant.now()));
+    }
+
+    private Diocese createDiocese(Plan plan, int number, String town) {
+        return RlsSessionContext.callAsAdmin(() -> dioceseRepository.save(Diocese.builder()
+                .dioceseName("Synthetic Diocese of " + town + " " + number)
+                .code(codePrefix(plan) + number)
+                .description("Generated test data (seed " + plan.seed() + ")")
+                .build()));
+    }
+
+    private Parish createParish(Diocese diocese, int number, String town, String patron) {
+        return RlsSessionContext.callAsAdmin(() -> parishRepository.save(Parish.builder()
+                .parishName("St. " + patron + " Parish " + number + ", " + town)
+                .diocese(diocese)
+                .description("Generated test data")
+                .build()));
+    }
+
+    private List<Person> people(Plan plan, Parish parish, String town, Random random, LocalDate today) {
+        List<String> priests = List.of("Fr. " + pick(random, MALE_NAMES) + " " + pick(random, SURNAMES),
+                "Fr. " + pick(random, MALE_NAMES) + " " + pick(random, SURNAMES),
+                "Fr. " + pick(random, MALE_NAMES) + " " + pick(random, SURNAMES));
+        String bishop = "Most Rev. " + pick(random, MALE_NAMES) + " " + pick(random, SURNAMES);
+        String parishAddress = (1 + random.nextInt(40)) + " " + pick(random, STREETS) + ", " + town;
+
+        List<Person> people = new ArrayList<>(plan.baptismsPerParish());
+        for (int i = 0; i < plan.baptismsPerParish(); i++) {
+            boolean male = random.nextBoolean();
+            String surname = pick(random, SURNAMES);
+            LocalDate born = today.minusDays(random.nextInt(75 * 365));
+            LocalDate baptized = born.plusDays(random.nextInt(120));
+            if (baptized.isAfter(today)) {
+                baptized = today;
+            }
+            Person person = new Person();
+            person.baptismName = pick(random, male ? MALE_NAMES : FEMALE_NAMES);
+            person.surname = surname;
+            person.otherNames = pick(random, male ? MALE_NAMES : FEMALE_NAMES);
+            person.gender = male ? "MALE" : "FEMALE";
+            person.dateOfBirth = born;
+            person.dateOfBaptism = baptized;
+            person.fathersName = pick(random, MALE_NAMES) + " " + surname;
+            person.mothersName = pick(random, FEMALE_NAMES) + " " + surname;
+            person.sponsorNames = pick(random, MALE_NAMES) + " " + pick(random, SURNAMES) + ", "
+                    + pick(random, FEMALE_NAMES) + " " + pick(random, SURNAMES);
+            person.priest = pick(random, priests);
+            person.address = (1 + random.nextInt(200)) + " " + pick(random, STREETS) + ", " + town;
+            person.parishAddress = parishAddress;
+            person.placeOfBirth = pick(random, TOWNS);
+            person.placeOfBaptism = parish.getParishName();
+            person.liberNo = "L" + (1 + i / 500) + "/" + (1 + i % 500);
+
+            person.communionDate = sacramentDate(random, born, 8, 3, today, plan.communionRate(), true);
+            person.confirmationDate = sacramentDate(random, born, 12, 4, today, plan.confirmationRate(),
+                    person.communionDate != null);
+            person.marriageDate = sacramentDate(random, born, 22, 13, today, plan.marriageRate(),
+                    person.confirmationDate != null);
+            person.communionPriest = pick(random, priests);
+            person.bishop = bishop;
+            person.marriagePriest = pick(random, priests);
+            person.partnersName = pick(random, male ? FEMALE_NAMES : MALE_NAMES) + " " + pick(random, SURNAMES);
+            people.add(person);
+        }
+        return people;
+    }
+
+    /**
+     * Date of a sacrament received between {@code fromAge} and {@code fromAge + ageSpan} years, or null if the
+     * previous sacrament is missing, the person is not selected at {@code rate}, or the date is still ahead.
+     * Always draws the same random numbers, so one person's chain does not change the next person's data.
+     */
+    private static LocalDate sacramentDate(Random random, LocalDate born, int fromAge, int ageSpan, LocalDate today,
+                                           double rate, boolean eligible) {
+        boolean selected = random.nextDouble() < rate;
+        LocalDate date = born.plusYears(fromAge).plusDays(random.nextInt(ageSpan * 365));
+        return eligible && selected && !date.isAfter(today) ? date : null;
+    }
+
+    /**
+     * Inserts one parish register tier by tier and returns the rows inserted: baptisms, communions,
+     * confirmations, marriages.
+     */
+    private long[] insertRegister(Parish parish, Diocese diocese, List<Person> people) {
+        Long parishId = parish.getId();
+        String parishName = parish.getParishName();
+        jdbcTemplate.batchUpdate(INSERT_BAPTISM_SQL, people, batchSize, (ps, p) -> {
+            ps.setString(1, p.baptismName);
+            ps.setString(2, p.surname);
+            ps.setString(3, p.gender);
+            ps.setDate(4, Date.valueOf(p.dateOfBirth));
+            ps.setString(5, p.fathersName);
+            ps.setString(6, p.mothersName);
+            ps.setString(7, p.sponsorNames);
+            ps.setString(8, p.otherNames);
+            ps.setString(9, p.priest);
+            ps.setLong(10, parishId);
+            ps.setString(11, p.address);
+            ps.setString(12, p.parishAddress);
+            ps.setString(13, p.address);
+            ps.setString(14, p.placeOfBirth);
+            ps.setString(15, p.placeOfBaptism);
+            ps.setDate(16, Date.valueOf(p.dateOfBaptism));
+            ps.setString(17, p.liberNo);
+            ps.setTimestamp(18, recordedOn(p.dateOfBaptism));
+        });
+        // A new parish: its baptism ids, in id order, are the people in insertion order.
+        List<Long> baptismIds = jdbcTemplate.queryForList(
+                "SELECT id FROM baptism WHERE parish_id = ? ORDER BY id", Long.class, parishId);
+        for (int i = 0; i < people.size(); i++) {
+            people.get(i).baptismId = baptismIds.get(i);
+        }
+
+        List<Person> communicants = people.stream().filter(p -> p.communionDate != null).toList();
+        jdbcTemplate.batchUpdate(INSERT_COMMUNION_SQL, communicants, batchSize, (ps, p) -> {
+            ps.setLong(1, p.baptismId);
+            ps.setDate(2, Date.valueOf(p.communionDate));
+            ps.setString(3, p.communionPriest);
+            ps.setString(4, parishName);
+            ps.setTimestamp(5, recordedOn(p.communionDate));
+        });
+        Map<Long, Long> communionIds = idsByBaptism(COMMUNION_IDS_SQL, parishId);
+
+        List<Person> confirmed = communicants.stream().filter(p -> p.confirmationDate != null).toList();
+        jdbcTemplate.batchUpdate(INSERT_CONFIRMATION_SQL, confirmed, batchSize, (ps, p) -> {
+            ps.setLong(1, p.baptismId);
+            ps.setLong(2, communionIds.get(p.baptismId));
+            ps.setDate(3, Date.valueOf(p.confirmationDate));
+            ps.setString(4, p.bishop);
+            ps.setString(5, parishName);
+            ps.setTimestamp(6, recordedOn(p.confirmationDate));
+        });
+        Map<Long, Long> confirmationIds = idsByBaptism(CONFIRMATION_IDS_SQL, parishId);
+
+        List<Person> married = confirmed.stream().filter(p -> p.marriageDate != null).toList();
+        jdbcTemplate.batchUpdate(INSERT_MARRIAGE_SQL, married, batchSize, (ps, p) -> {
+            ps.setLong(1, p.baptismId);
+            ps.setLong(2, communionIds.get(p.baptismId));
+            ps.setLong(3, confirmationIds.get(p.baptismId));
+            ps.setString(4, p.partnersName);
+            ps.setDate(5, Date.valueOf(p.marriageDate));
+            ps.setString(6, parishName);
+            ps.setString(7, diocese.getDioceseName());
+            ps.setString(8, p.marriagePriest);
+            ps.setString(9, parishName);
+            ps.setTimestamp(10, recordedOn(p.marriageDate));
+        });
+        return new long[] {people.size(), communicants.size(), confirmed.size(), married.size()};
+    }
+
+    private Map<Long, Long> idsByBaptism(String sql, Long parishId) {
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getLong(2), rs.getLong(1));
+        }, parishId);
+        return ids;
+    }
+
+    /** Records are entered on the day of the sacrament, so dashboard activity is spread over the years. */
+    private static Timestamp recordedOn(LocalDate date) {
+        return Timestamp.from(date.atTime(LocalTime.of(10, 0)).toInstant(ZoneOffset.UTC));
+    }
+
+    private static String codePrefix(Plan plan) {
+        return CODE_PREFIX + plan.seed() + "-";
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static final class Person {
+        String baptismName;
+        String surname;
+        String otherNames;
+        String gender;
+        LocalDate dateOfBirth;
+        LocalDate dateOfBaptism;
+        String fathersName;
+        String mothersName;
+        String sponsorNames;
+        String priest;
+        String address;
+        String parishAddress;
+        String placeOfBirth;
+        String placeOfBaptism;
+        String liberNo;
+        LocalDate communionDate;
+        String communionPriest;
+        LocalDate confirmationDate;
+        String bishop;
+        LocalDate marriageDate;
+        String marriagePriest;
+        String partnersName;
+        Long baptismId;
+    }
+}
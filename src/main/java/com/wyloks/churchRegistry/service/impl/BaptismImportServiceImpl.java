@@ -0,0 +1,368 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.dto.BaptismRequest;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.service.BaptismImportService;
+import com.wyloks.churchRegistry.service.ImportProgressListener;
+import com.wyloks.churchRegistry.service.SacramentAuditService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
+import com.wyloks.churchRegistry.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk baptism import. Rows are parsed, validated and normalized one at a time while streaming the upload,
+ * then written with plain JDBC batch inserts (Hibernate cannot batch inserts for IDENTITY ids). Memory is
+ * bounded by the batch size and the error cap, not by the size of the file.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BaptismImportServiceImpl implements BaptismImportService {
+
+    static final int MAX_REPORTED_ERRORS = 200;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO baptism (baptism_name, surname, gender, date_of_birth, fathers_name, mothers_name,
+                sponsor_names, other_names, officiating_priest, parish_id, address, parish_address, parent_address,
+                note, external_certificate_path, external_certificate_issuing_parish, place_of_birth,
+                place_of_baptism, date_of_baptism, liber_no, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final DateTimeFormatter DAY_FIRST = DateTimeFormatter.ofPattern("d/M/uuuu");
+
+    private static final Map<String, BiConsumer<BaptismRequest, String>> COLUMNS = columns();
+
+    private final ParishRepository parishRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final SacramentAuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public ImportResultResponse importCsv(Long parishId, InputStream csv) throws IOException {
+        return importCsv(parishId, csv, 0, ImportProgressListener.NONE);
+    }
+
+    @Override
+    public ImportResultResponse importCsv(Long parishId, InputStream csv, long skipRows, ImportProgressListener listener)
+            throws IOException {
+        Parish parish = parishRepository.findById(parishId)
+                .orElseThrow(() -> new IllegalArgumentException("Parish not found: " + parishId));
+        ImportRun run = new ImportRun(parishId, listener, batchSize);
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            List<BiConsumer<BaptismRequest, String>> setters = readHeader(reader.readRecord());
+            List<String> record;
+            long line = reader.getLineNumber();
+            while ((record = reader.readRecord()) != null) {
+                run.rowsConsumed++;
+                if (run.rowsConsumed <= skipRows || isBlank(record)) {
+                    line = reader.getLineNumber();
+                    continue;
+                }
+                run.result.setTotalRows(run.result.getTotalRows() + 1);
+                try {
+                    run.batch.add(new PendingRow(line, toEntity(record, setters, parish)));
+                } catch (IllegalArgumentException e) {
+                    run.addError(line, e.getMessage());
+                }
+                if (run.batch.size() + run.pendingErrors.size() >= batchSize) {
+                    flush(run);
+                }
+                line = reader.getLineNumber();
+            }
+            flush(run);
+        }
+        run.result.getErrors().sort(Comparator.comparingLong(ImportResultResponse.RowError::getLine));
+        if (run.result.getImportedRows() > 0) {
+            eventPublisher.publishEvent(new SacramentChangedEvent(SacramentType.BAPTISM, parishId, Change.IMPORTED));
+        }
+        return run.result;
+    }
+
+    private Baptism toEntity(List<String> record, List<BiConsumer<BaptismRequest, String>> setters, Parish parish) {
+        BaptismRequest request = new BaptismRequest();
+        request.setOtherNames("");
+        request.setOfficiatingPriest("");
+        for (int i = 0; i < setters.size() && i < record.size(); i++) {
+            BiConsumer<BaptismRequest, String> setter = setters.get(i);
+            String value = record.get(i).trim();
+            if (setter != null && !value.isEmpty()) {
+                setter.accept(request, value);
+            }
+        }
+        Set<ConstraintViolation<BaptismRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining("; ")));
+        }
+        return BaptismServiceImpl.toEntity(request, parish);
+    }
+
+    /**
+     * Inserts the pending batch and reports it to the listener in one transaction. Rows rejected since the
+     * previous batch are reported even when nothing is left to insert, so a checkpoint never lags behind them.
+     * When the batch insert fails, the batch is retried row by row so only the rows the database refuses are
+     * reported, each with its own error.
+     */
+    private void flush(ImportRun run) {
+        List<PendingRow> batch = run.batch;
+        boolean reportErrorsOnly = batch.isEmpty() && !run.pendingErrors.isEmpty() && run.listener != ImportProgressListener.NONE;
+        if (batch.isEmpty() && !reportErrorsOnly) {
+            run.pendingErrors.clear();
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<PendingRow> inserted = batch;
+        List<ImportResultResponse.RowError> refused = List.of();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!batch.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> bind(ps, row.baptism(), now));
+                }
+                run.listener.onBatch(run.rowsConsumed, batch.size(), List.copyOf(run.pendingErrors));
+            });
+        } catch (DataAccessException e) {
+            if (batch.isEmpty()) {
+                throw e;
+            }
+            log.warn("Baptism import batch failed for parish {} (lines {}-{}); retrying row by row",
+                    run.parishId, batch.get(0).line(), batch.get(batch.size() - 1).line(), e);
+            RowByRow retried = insertRowByRow(run, now);
+            if (retried == null) {
+                for (PendingRow row : batch) {
+                    run.addError(row.line(), "Batch insert failed; no rows of this batch were saved");
+                }
+                batch.clear();
+                flush(run);
+                return;
+            }
+            inserted = retried.inserted();
+            refused = retried.refused();
+        }
+        for (ImportResultResponse.RowError error : refused) {
+            run.addError(error.getLine(), error.getMessage());
+        }
+        if (!inserted.isEmpty()) {
+            ImportResultResponse result = run.result;
+            result.setImportedRows(result.getImportedRows() + inserted.size());
+            result.setBatches(result.getBatches() + 1);
+            auditService.logImport(SacramentType.BAPTISM, run.parishId,
+                    "import_batch:" + result.getBatches() + " rows:" + inserted.size()
+                            + " lines:" + inserted.get(0).line() + "-" + inserted.get(inserted.size() - 1).line());
+        }
+        batch.clear();
+        run.pendingErrors.clear();
+        run.listener.afterBatch();
+    }
+
+    /**
+     * Inserts the pending batch one row at a time, each under its own savepoint, and reports the batch to the
+     * listener in the same transaction. Returns null when that transaction fails as a whole.
+     */
+    private RowByRow insertRowByRow(ImportRun run, Timestamp now) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<PendingRow> inserted = new ArrayList<>(run.batch.size());
+                List<ImportResultResponse.RowError> refused = new ArrayList<>();
+                for (PendingRow row : run.batch) {
+                    String error = jdbcTemplate.execute((ConnectionCallback<String>) con ->
+                            insertUnderSavepoint(con, row.baptism(), now));
+                    if (error == null) {
+                        inserted.add(row);
+                    } else {
+                        refused.add(new ImportResultResponse.RowError(row.line(), "Insert failed: " + error));
+                    }
+                }
+                List<ImportResultResponse.RowError> errors = new ArrayList<>(run.pendingErrors);
+                errors.addAll(refused);
+                run.listener.onBatch(run.rowsConsumed, inserted.size(), errors);
+                return new RowByRow(inserted, refused);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Baptism import row-by-row retry failed for parish {}", run.parishId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Inserts one row on the transaction's connection, rolling back to a savepoint when the database refuses it
+     * (PostgreSQL aborts the whole transaction on a failed statement otherwise).
+     *
+     * @return null when inserted, otherwise the first line of the database's error message
+     */
+    private static String insertUnderSavepoint(Connection con, Baptism baptism, Timestamp now) throws SQLException {
+        Savepoint savepoint = con.setSavepoint();
+        try (PreparedStatement ps = con.prepareStatement(INSERT_SQL)) {
+            bind(ps, baptism, now);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            con.rollback(savepoint);
+            return String.valueOf(e.getMessage()).lines().findFirst().orElse("");
+        }
+        con.releaseSavepoint(savepoint);
+        return null;
+    }
+
+    private static void bind(PreparedStatement ps, Baptism b, Timestamp createdAt) throws SQLException {
+        ps.setString(1, b.getBaptismName());
+        ps.setString(2, b.getSurname());
+        ps.setString(3, b.getGender());
+        ps.setDate(4, Date.valueOf(b.getDateOfBirth()));
+        ps.setString(5, b.getFathersName());
+        ps.setString(6, b.getMothersName());
+        ps.setString(7, b.getSponsorNames());
+        ps.setString(8, b.getOtherNames());
+        ps.setString(9, b.getOfficiatingPriest());
+        ps.setLong(10, b.getParish().getId());
+        ps.setString(11, b.getAddress());
+        ps.setString(12, b.getParishAddress());
+        ps.setString(13, b.getParentAddress());
+        ps.setString(14, b.getNote());
+        ps.setString(15, b.getExternalCertificatePath());
+        ps.setString(16, b.getExternalCertificateIssuingParish());
+        ps.setString(17, b.getPlaceOfBirth());
+        ps.setString(18, b.getPlaceOfBaptism());
+        if (b.getDateOfBaptism() != null) {
+            ps.setDate(19, Date.valueOf(b.getDateOfBaptism()));
+        } else {
+            ps.setNull(19, Types.DATE);
+        }
+        ps.setString(20, b.getLiberNo());
+        ps.setTimestamp(21, createdAt);
+    }
+
+    private static List<BiConsumer<BaptismRequest, String>> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty; expected a header row");
+        }
+        List<BiConsumer<BaptismRequest, String>> setters = new ArrayList<>(header.size());
+        for (String name : header) {
+            setters.add(COLUMNS.get(normalizeHeader(name)));
+        }
+        if (setters.stream().allMatch(s -> s == null)) {
+            throw new IllegalArgumentException("CSV header does not contain any baptism columns");
+        }
+        return setters;
+    }
+
+    static String normalizeHeader(String name) {
+        return name.trim().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, BiConsumer<BaptismRequest, String>> columns() {
+        Map<String, BiConsumer<BaptismRequest, String>> map = new HashMap<>();
+        map.put("baptismname", BaptismRequest::setBaptismName);
+        map.put("surname", BaptismRequest::setSurname);
+        map.put("othernames", BaptismRequest::setOtherNames);
+        map.put("gender", BaptismRequest::setGender);
+        map.put("dateofbirth", (r, v) -> r.setDateOfBirth(parseDate("dateOfBirth", v)));
+        map.put("fathersname", BaptismRequest::setFathersName);
+        map.put("mothersname", BaptismRequest::setMothersName);
+        map.put("sponsornames", BaptismRequest::setSponsorNames);
+        map.put("officiatingpriest", BaptismRequest::setOfficiatingPriest);
+        map.put("address", BaptismRequest::setAddress);
+        map.put("parishaddress", BaptismRequest::setParishAddress);
+        map.put("parentaddress", BaptismRequest::setParentAddress);
+        map.put("note", BaptismRequest::setNote);
+        map.put("externalcertificatepath", BaptismRequest::setExternalCertificatePath);
+        map.put("externalcertificateissuingparish", BaptismRequest::setExternalCertificateIssuingParish);
+        map.put("placeofbirth", BaptismRequest::setPlaceOfBirth);
+        map.put("placeofbaptism", BaptismRequest::setPlaceOfBaptism);
+        map.put("dateofbaptism", (r, v) -> r.setDateOfBaptism(parseDate("dateOfBaptism", v)));
+        map.put("liberno", BaptismRequest::setLiberNo);
+        return Map.copyOf(map);
+    }
+
+    static LocalDate parseDate(String field, String value) {
+        try {
+            return value.contains("/") ? LocalDate.parse(value, DAY_FIRST) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + ": invalid date '" + value + "'");
+        }
+    }
+
+    static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private record PendingRow(long line, Baptism baptism) {}
+
+    private record RowByRow(List<PendingRow> inserted, List<ImportResultResponse.RowError> refused) {}
+
+    /**
+     * Mutable state of one import call: the pending batch, errors not yet reported to the listener and totals.
+     */
+    private static final class ImportRun {
+        final Long parishId;
+        final ImportProgressListener listener;
+        final List<PendingRow> batch;
+        final List<ImportResultResponse.RowError> pendingErrors = new ArrayList<>();
+        final ImportResultResponse result = ImportResultResponse.builder().build();
+        long rowsConsumed;
+
+        ImportRun(Long parishId, ImportProgressListener listener, int batchSize) {
+            this.parishId = parishId;
+            this.listener = listener;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        void addError(long line, String message) {
+            ImportResultResponse.RowError error = new ImportResultResponse.RowError(line, message);
+            pendingErrors.add(error);
+            result.setFailedRows(result.getFailedRows() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(error);
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+}
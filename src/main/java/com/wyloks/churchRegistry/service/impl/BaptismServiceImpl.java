@@ -1,5 +1,6 @@
 package com.wyloks.churchRegistry.service.impl;
 
+import com.wyloks.churchRegistry.config.MetricsConfig;
 import com.wyloks.churchRegistry.dto.BaptismRequest;
 import com.wyloks.churchRegistry.dto.BaptismResponse;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
@@ -7,16 +8,23 @@ import com.wyloks.churchRegistry.entity.Baptism;
 import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
 import com.wyloks.churchRegistry.entity.Parish;
 import com.wyloks.churchRegistry.entity.SacramentNoteHistory;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.repository.BaptismRepository;
 import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
 import com.wyloks.churchRegistry.repository.ParishRepository;
 import com.wyloks.churchRegistry.repository.SacramentNoteHistoryRepository;
 import com.wyloks.churchRegistry.security.AppUserDetails;
 import com.wyloks.churchRegistry.service.BaptismService;
+import com.wyloks.churchRegistry.service.ParishCountEstimateService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
 import com.wyloks.churchRegistry.util.NameUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -27,28 +35,49 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SACRAMENT_SERVICE_TIMER)
 public class BaptismServiceImpl implements BaptismService {
 
     private final BaptismRepository baptismRepository;
     private final FirstHolyCommunionRepository firstHolyCommunionRepository;
     private final ParishRepository parishRepository;
     private final SacramentNoteHistoryRepository noteHistoryRepository;
+    private final ParishCountEstimateService parishCountEstimateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<BaptismResponse> findByParishId(Long parishId) {
-        return baptismRepository.findByParishId(parishId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return baptismRepository.findByParishId(parishId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<BaptismResponse> streamByParishId(Long parishId) {
+        return baptismRepository.streamByParishId(parishId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<BaptismResponse> findByParishId(Long parishId, Pageable pageable) {
-        return baptismRepository.findByParishId(parishId, pageable).map(this::toResponse);
+        return baptismRepository.findByParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<BaptismResponse> findSliceByParishId(Long parishId, Pageable pageable) {
+        return baptismRepository.findSliceByParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BaptismResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable) {
+        long estimate = parishCountEstimateService.getEstimatedCounts(parishId).getBaptisms();
+        return ParishCountEstimateService.toEstimatedPage(findSliceByParishId(parishId, pageable), estimate);
     }
 
     @Override
@@ -57,13 +86,13 @@ public class BaptismServiceImpl implements BaptismService {
         if (parishIds == null || parishIds.isEmpty()) {
             return org.springframework.data.domain.Page.empty(pageable);
         }
-        return baptismRepository.findByParishIdIn(parishIds, pageable).map(this::toResponse);
+        return baptismRepository.findByParishIdIn(parishIds, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<BaptismResponse> searchByNameOrAddress(Long parishId, String query, Pageable pageable) {
-        return baptismRepository.searchByNameOrAddress(parishId, query, pageable).map(this::toResponse);
+        return baptismRepository.searchByNameOrAddress(parishId, query, pageable);
     }
 
     @Override
@@ -78,7 +107,18 @@ public class BaptismServiceImpl implements BaptismService {
         Parish parish = parishId != null
                 ? parishRepository.findById(parishId).orElseThrow(() -> new IllegalArgumentException("Parish not found: " + parishId))
                 : null;
-        Baptism entity = Baptism.builder()
+        Baptism entity = toEntity(request, parish);
+        entity = baptismRepository.save(entity);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.BAPTISM, entity, Change.CREATED));
+        return toResponse(entity);
+    }
+
+    /**
+     * Builds a new baptism from the request, normalizing names with {@link NameUtils} and trimming places.
+     * Shared by single creates and the bulk import so both store identical values.
+     */
+    static Baptism toEntity(BaptismRequest request, Parish parish) {
+        return Baptism.builder()
                 .baptismName(NameUtils.capitalizeNameOrEmpty(request.getBaptismName()))
                 .surname(NameUtils.capitalizeNameOrEmpty(request.getSurname()))
                 .gender(request.getGender())
@@ -100,8 +140,6 @@ public class BaptismServiceImpl implements BaptismService {
                 .dateOfBaptism(request.getDateOfBaptism())
                 .liberNo(request.getLiberNo() != null ? request.getLiberNo().trim() : null)
                 .build();
-        entity = baptismRepository.save(entity);
-        return toResponse(entity);
     }
 
     @Override
@@ -133,6 +171,7 @@ public class BaptismServiceImpl implements BaptismService {
             communion.setBaptismCertificatePath(storedPath.trim());
             firstHolyCommunionRepository.save(communion);
         });
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.BAPTISM, baptism, Change.UPDATED));
         return toResponse(baptism);
     }
 
@@ -150,6 +189,7 @@ public class BaptismServiceImpl implements BaptismService {
                 .content(safeNote)
                 .createdBy(resolveActorName())
                 .build());
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.BAPTISM, baptism, Change.UPDATED));
         return toResponse(baptism);
     }
 
@@ -1,20 +1,28 @@
 package com.wyloks.churchRegistry.service.impl;
 
+import com.wyloks.churchRegistry.config.MetricsConfig;
 import com.wyloks.churchRegistry.dto.ConfirmationRequest;
 import com.wyloks.churchRegistry.dto.ConfirmationResponse;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import com.wyloks.churchRegistry.entity.Confirmation;
 import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
 import com.wyloks.churchRegistry.entity.SacramentNoteHistory;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.repository.ConfirmationRepository;
 import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
 import com.wyloks.churchRegistry.repository.SacramentNoteHistoryRepository;
 import com.wyloks.churchRegistry.security.AppUserDetails;
 import com.wyloks.churchRegistry.service.ConfirmationService;
+import com.wyloks.churchRegistry.service.ParishCountEstimateService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
 import com.wyloks.churchRegistry.util.NameUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -25,27 +33,48 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SACRAMENT_SERVICE_TIMER)
 public class ConfirmationServiceImpl implements ConfirmationService {
 
     private final ConfirmationRepository confirmationRepository;
     private final FirstHolyCommunionRepository communionRepository;
     private final SacramentNoteHistoryRepository noteHistoryRepository;
+    private final ParishCountEstimateService parishCountEstimateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<ConfirmationResponse> findByParishId(Long parishId) {
-        return confirmationRepository.findByBaptismParishId(parishId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return confirmationRepository.findByBaptismParishId(parishId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<ConfirmationResponse> streamByParishId(Long parishId) {
+        return confirmationRepository.streamByBaptismParishId(parishId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ConfirmationResponse> findByParishId(Long parishId, Pageable pageable) {
-        return confirmationRepository.findByBaptismParishId(parishId, pageable).map(this::toResponse);
+        return confirmationRepository.findByBaptismParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ConfirmationResponse> findSliceByParishId(Long parishId, Pageable pageable) {
+        return confirmationRepository.findSliceByBaptismParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ConfirmationResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable) {
+        long estimate = parishCountEstimateService.getEstimatedCounts(parishId).getConfirmations();
+        return ParishCountEstimateService.toEstimatedPage(findSliceByParishId(parishId, pageable), estimate);
     }
 
     @Override
@@ -54,7 +83,7 @@ public class ConfirmationServiceImpl implements ConfirmationService {
         if (parishIds == null || parishIds.isEmpty()) {
             return org.springframework.data.domain.Page.empty(pageable);
         }
-        return confirmationRepository.findByBaptismParishIdIn(parishIds, pageable).map(this::toResponse);
+        return confirmationRepository.findByBaptismParishIdIn(parishIds, pageable);
     }
 
     @Override
@@ -77,15 +106,24 @@ public class ConfirmationServiceImpl implements ConfirmationService {
         if (confirmationRepository.findByFirstHolyCommunionId(request.getCommunionId()).isPresent()) {
             throw new IllegalArgumentException("Confirmation already exists for this communion");
         }
-        Confirmation entity = Confirmation.builder()
+        Confirmation entity = toEntity(request, communion);
+        entity = confirmationRepository.save(entity);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.CONFIRMATION, entity.getBaptism(), Change.CREATED));
+        return toResponse(entity);
+    }
+
+    /**
+     * Builds a new confirmation following the communion (and its baptism) with normalized names.
+     * Shared by single creates and bulk imports.
+     */
+    static Confirmation toEntity(ConfirmationRequest request, FirstHolyCommunion communion) {
+        return Confirmation.builder()
                 .baptism(communion.getBaptism())
                 .firstHolyCommunion(communion)
                 .confirmationDate(request.getConfirmationDate())
                 .officiatingBishop(NameUtils.capitalizeNameOrEmpty(request.getOfficiatingBishop()))
                 .parish(request.getParish() != null ? NameUtils.capitalizeName(request.getParish()) : null)
                 .build();
-        entity = confirmationRepository.save(entity);
-        return toResponse(entity);
     }
 
     @Override
@@ -102,6 +140,7 @@ public class ConfirmationServiceImpl implements ConfirmationService {
                 .content(safeNote)
                 .createdBy(resolveActorName())
                 .build());
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.CONFIRMATION, confirmation.getBaptism(), Change.UPDATED));
         return toResponse(confirmation);
     }
 
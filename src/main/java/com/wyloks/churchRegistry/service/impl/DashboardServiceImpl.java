@@ -34,7 +34,7 @@ public class DashboardServiceImpl implements DashboardService {
     private final MarriageService marriageService;
 
     @Override
-    @Cacheable(cacheNames = CacheConfig.CACHE_PARISH_DASHBOARD, key = "#parishId")
+    @Cacheable(cacheNames = CacheConfig.CACHE_PARISH_DASHBOARD, key = "#parishId", sync = true)
     public DashboardResponse getDashboard(Long parishId) {
         Map<String, Long> counts = getParishCounts(parishId);
 
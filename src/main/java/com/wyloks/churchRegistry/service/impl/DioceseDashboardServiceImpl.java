@@ -6,91 +6,93 @@ import com.wyloks.churchRegistry.dto.ConfirmationResponse;
 import com.wyloks.churchRegistry.dto.DioceseDashboardResponse;
 import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
 import com.wyloks.churchRegistry.dto.MarriageResponse;
-import com.wyloks.churchRegistry.repository.BaptismRepository;
-import com.wyloks.churchRegistry.repository.ConfirmationRepository;
 import com.wyloks.churchRegistry.repository.DashboardRepository;
-import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
-import com.wyloks.churchRegistry.repository.HolyOrderRepository;
-import com.wyloks.churchRegistry.repository.MarriageRepository;
 import com.wyloks.churchRegistry.repository.ParishRepository;
-import com.wyloks.churchRegistry.repository.projection.ParishActivityRow;
+import com.wyloks.churchRegistry.repository.projection.MonthlyActivityRow;
+import com.wyloks.churchRegistry.repository.projection.ParishActivityViewRow;
 import com.wyloks.churchRegistry.service.BaptismService;
 import com.wyloks.churchRegistry.service.ConfirmationService;
 import com.wyloks.churchRegistry.service.DioceseDashboardService;
 import com.wyloks.churchRegistry.service.FirstHolyCommunionService;
 import com.wyloks.churchRegistry.service.MarriageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.time.OffsetDateTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Builds the diocese dashboard. Counts, parish activity and monthly chart data are read from the dashboard views
+ * ({@code mv_parish_activity}, {@code mv_parish_monthly_activity}), which are materialized on PostgreSQL and kept
+ * current by {@link com.wyloks.churchRegistry.service.DashboardViewRefresher}; recent sacraments are always live.
+ */
 @Service
 @RequiredArgsConstructor
 public class DioceseDashboardServiceImpl implements DioceseDashboardService {
 
     private static final int DASHBOARD_PAGE_SIZE = 50;
-    private static final int MONTHLY_PAGE_SIZE = 200;
 
     private final ParishRepository parishRepository;
     private final DashboardRepository dashboardRepository;
-    private final BaptismRepository baptismRepository;
-    private final FirstHolyCommunionRepository communionRepository;
-    private final ConfirmationRepository confirmationRepository;
-    private final MarriageRepository marriageRepository;
-    private final HolyOrderRepository holyOrderRepository;
     private final BaptismService baptismService;
     private final FirstHolyCommunionService communionService;
     private final ConfirmationService confirmationService;
     private final MarriageService marriageService;
 
+    @Value("${app.dashboard.views.stale-after:PT15M}")
+    private Duration staleAfter = Duration.ofMinutes(15);
+
     @Override
-    @Cacheable(cacheNames = CacheConfig.CACHE_DIOCESE_DASHBOARD, key = "#dioceseId")
+    @Cacheable(cacheNames = CacheConfig.CACHE_DIOCESE_DASHBOARD, key = "#dioceseId", sync = true)
     public DioceseDashboardResponse getDioceseDashboard(Long dioceseId) {
         List<com.wyloks.churchRegistry.entity.Parish> parishes = parishRepository.findByDioceseId(dioceseId);
         Set<Long> parishIds = parishes.stream()
                 .map(com.wyloks.churchRegistry.entity.Parish::getId)
                 .collect(Collectors.toSet());
 
-        Map<String, Long> counts = buildCounts(dioceseId, parishIds, parishes.size());
-        List<DioceseDashboardResponse.ParishActivityItem> parishActivity = buildParishActivity(dioceseId);
-        DioceseDashboardResponse.RecentSacraments recentSacraments = buildRecentSacraments(parishIds);
-        DioceseDashboardResponse.MonthlyData monthly = buildMonthlyData(parishIds);
+        List<ParishActivityViewRow> activityRows = parishIds.isEmpty()
+                ? List.of()
+                : dashboardRepository.getParishActivity(dioceseId);
+        Instant aggregatesAsOf = activityRows.stream()
+                .map(ParishActivityViewRow::getRefreshedAt)
+                .filter(Objects::nonNull)
+                .min(Instant::compareTo)
+                .orElse(null);
 
         return DioceseDashboardResponse.builder()
-                .counts(counts)
-                .parishActivity(parishActivity)
-                .recentSacraments(recentSacraments)
-                .monthly(monthly)
+                .counts(buildCounts(activityRows, parishes.size()))
+                .parishActivity(buildParishActivity(activityRows))
+                .recentSacraments(buildRecentSacraments(parishIds))
+                .monthly(buildMonthlyData(dioceseId, parishIds))
+                .aggregatesAsOf(aggregatesAsOf)
+                .aggregatesStale(aggregatesAsOf != null && aggregatesAsOf.isBefore(Instant.now().minus(staleAfter)))
                 .build();
     }
 
-    private Map<String, Long> buildCounts(Long dioceseId, Set<Long> parishIds, int parishCount) {
-        long baptisms = baptismRepository.countByParish_Diocese_Id(dioceseId);
-        long communions = communionRepository.countByBaptismParish_Diocese_Id(dioceseId);
-        long confirmations = confirmationRepository.countByBaptismParish_Diocese_Id(dioceseId);
-        long marriages = marriageRepository.countByBaptismParish_Diocese_Id(dioceseId);
-        long holyOrders = holyOrderRepository.countByBaptismParish_Diocese_Id(dioceseId);
-
+    private Map<String, Long> buildCounts(List<ParishActivityViewRow> rows, int parishCount) {
         return Map.of(
                 "parishes", (long) parishCount,
-                "baptisms", baptisms,
-                "communions", communions,
-                "confirmations", confirmations,
-                "marriages", marriages,
-                "holyOrders", holyOrders
+                "baptisms", rows.stream().mapToLong(ParishActivityViewRow::getBaptisms).sum(),
+                "communions", rows.stream().mapToLong(ParishActivityViewRow::getCommunions).sum(),
+                "confirmations", rows.stream().mapToLong(ParishActivityViewRow::getConfirmations).sum(),
+                "marriages", rows.stream().mapToLong(ParishActivityViewRow::getMarriages).sum(),
+                "holyOrders", rows.stream().mapToLong(ParishActivityViewRow::getHolyOrders).sum()
         );
     }
 
-    private List<DioceseDashboardResponse.ParishActivityItem> buildParishActivity(Long dioceseId) {
-        List<ParishActivityRow> rows = dashboardRepository.getParishActivity(dioceseId);
+    private List<DioceseDashboardResponse.ParishActivityItem> buildParishActivity(List<ParishActivityViewRow> rows) {
         return rows.stream()
                 .map(row -> DioceseDashboardResponse.ParishActivityItem.builder()
                         .parishId(row.getParishId())
@@ -129,51 +131,34 @@ public class DioceseDashboardServiceImpl implements DioceseDashboardService {
                 .build();
     }
 
-    private DioceseDashboardResponse.MonthlyData buildMonthlyData(Set<Long> parishIds) {
-        List<Long> baptisms = new ArrayList<>(List.of(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L));
-        List<Long> communions = new ArrayList<>(List.of(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L));
-        List<Long> confirmations = new ArrayList<>(List.of(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L));
-        List<Long> marriages = new ArrayList<>(List.of(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L));
-
-        if (parishIds.isEmpty()) {
-            return DioceseDashboardResponse.MonthlyData.builder()
-                    .baptisms(baptisms)
-                    .communions(communions)
-                    .confirmations(confirmations)
-                    .marriages(marriages)
-                    .build();
-        }
-
-        Sort sortByCreatedDesc = Sort.by(Sort.Direction.DESC, "createdAt");
-        PageRequest page = PageRequest.of(0, MONTHLY_PAGE_SIZE, sortByCreatedDesc);
-
-        List<BaptismResponse> baptismRecords = baptismService.findByParishIdIn(parishIds, page).getContent();
-        List<FirstHolyCommunionResponse> communionRecords = communionService.findByParishIdIn(parishIds, page).getContent();
-        List<ConfirmationResponse> confirmationRecords = confirmationService.findByParishIdIn(parishIds, page).getContent();
-        List<MarriageResponse> marriageRecords = marriageService.findByParishIdIn(parishIds, page).getContent();
-
-        for (BaptismResponse r : baptismRecords) {
-            int month = getMonthIndex(r.getCreatedAt(), r.getDateOfBirth() != null ? r.getDateOfBirth().toString() : null);
-            if (month >= 0 && month < 12) {
-                baptisms.set(month, baptisms.get(month) + 1);
-            }
-        }
-        for (FirstHolyCommunionResponse r : communionRecords) {
-            int month = getMonthIndex(r.getCreatedAt(), r.getCommunionDate() != null ? r.getCommunionDate().toString() : null);
-            if (month >= 0 && month < 12) {
-                communions.set(month, communions.get(month) + 1);
-            }
-        }
-        for (ConfirmationResponse r : confirmationRecords) {
-            int month = getMonthIndex(r.getCreatedAt(), r.getConfirmationDate() != null ? r.getConfirmationDate().toString() : null);
-            if (month >= 0 && month < 12) {
-                confirmations.set(month, confirmations.get(month) + 1);
-            }
-        }
-        for (MarriageResponse r : marriageRecords) {
-            int month = getMonthIndex(r.getCreatedAt(), r.getMarriageDate() != null ? r.getMarriageDate().toString() : null);
-            if (month >= 0 && month < 12) {
-                marriages.set(month, marriages.get(month) + 1);
+    /**
+     * Folds the trailing twelve months (including the current one) into month-of-year buckets, January first.
+     */
+    private DioceseDashboardResponse.MonthlyData buildMonthlyData(Long dioceseId, Set<Long> parishIds) {
+        List<Long> baptisms = new ArrayList<>(Collections.nCopies(12, 0L));
+        List<Long> communions = new ArrayList<>(Collections.nCopies(12, 0L));
+        List<Long> confirmations = new ArrayList<>(Collections.nCopies(12, 0L));
+        List<Long> marriages = new ArrayList<>(Collections.nCopies(12, 0L));
+
+        if (!parishIds.isEmpty()) {
+            YearMonth current = YearMonth.now();
+            YearMonth first = current.minusMonths(11);
+            for (MonthlyActivityRow row : dashboardRepository.getMonthlyActivity(dioceseId, first.getYear())) {
+                YearMonth month = YearMonth.of(row.getStatYear(), row.getStatMonth());
+                if (month.isBefore(first) || month.isAfter(current)) {
+                    continue;
+                }
+                List<Long> series = switch (row.getSacramentType()) {
+                    case "BAPTISM" -> baptisms;
+                    case "COMMUNION" -> communions;
+                    case "CONFIRMATION" -> confirmations;
+                    case "MARRIAGE" -> marriages;
+                    default -> null;
+                };
+                if (series != null) {
+                    int index = row.getStatMonth() - 1;
+                    series.set(index, series.get(index) + row.getRecordCount());
+                }
             }
         }
 
@@ -184,23 +169,4 @@ public class DioceseDashboardServiceImpl implements DioceseDashboardService {
                 .marriages(marriages)
                 .build();
     }
-
-    /**
-     * Returns 0-11 for month index from creation or sacrament date, or -1 if not parseable.
-     */
-    private int getMonthIndex(OffsetDateTime createdAt, String fallbackDate) {
-        String source = createdAt != null ? createdAt.toString() : fallbackDate;
-        if (source == null) return -1;
-        var isoLike = java.util.regex.Pattern.compile("^(\\d{4})-(\\d{2})").matcher(source);
-        if (isoLike.find()) {
-            int month = Integer.parseInt(isoLike.group(2), 10) - 1;
-            return month >= 0 && month < 12 ? month : -1;
-        }
-        try {
-            java.time.LocalDate d = java.time.LocalDate.parse(source.substring(0, Math.min(10, source.length())));
-            return d.getMonthValue() - 1;
-        } catch (Exception ignored) {
-            return -1;
-        }
-    }
 }
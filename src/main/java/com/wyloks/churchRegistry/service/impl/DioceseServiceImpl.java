@@ -4,22 +4,19 @@ import com.wyloks.churchRegistry.config.CacheConfig;
 import com.wyloks.churchRegistry.dto.DioceseRequest;
 import com.wyloks.churchRegistry.dto.DioceseResponse;
 import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
-import com.wyloks.churchRegistry.dto.ParishResponse;
 import com.wyloks.churchRegistry.entity.Diocese;
-import com.wyloks.churchRegistry.entity.Parish;
 import com.wyloks.churchRegistry.repository.DioceseRepository;
 import com.wyloks.churchRegistry.security.CurrentUserAccessService;
+import com.wyloks.churchRegistry.service.DioceseParishDirectory;
 import com.wyloks.churchRegistry.service.DioceseService;
 import com.wyloks.churchRegistry.util.NameUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +25,7 @@ public class DioceseServiceImpl implements DioceseService {
 
     private final DioceseRepository dioceseRepository;
     private final CurrentUserAccessService currentUserAccessService;
+    private final DioceseParishDirectory dioceseParishDirectory;
 
     @Override
     @Transactional(readOnly = true)
@@ -44,21 +42,14 @@ public class DioceseServiceImpl implements DioceseService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Served from the shared admin view in {@link DioceseParishDirectory}, filtered to the caller's parishes.
+     */
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConfig.CACHE_DIOCESES_WITH_PARISHES, keyGenerator = "dioceseParishCacheKeyGenerator")
     public List<DioceseWithParishesResponse> findDiocesesWithParishes() {
         CurrentUserAccessService.CurrentUserAccess currentUser = currentUserAccessService.currentUser();
-        List<Diocese> dioceses = currentUser.isAdmin()
-                ? dioceseRepository.findAllWithParishes()
-                : currentUser.parishIds().isEmpty()
-                    ? List.of()
-                    : dioceseRepository.findDistinctByParishesIdIn(currentUser.parishIds());
-
-        Set<Long> allowedParishIds = currentUser.isAdmin() ? null : currentUser.parishIds();
-        return dioceses.stream()
-                .map(d -> toResponseWithParishes(d, allowedParishIds))
-                .collect(Collectors.toList());
+        List<DioceseWithParishesResponse> all = dioceseParishDirectory.allDiocesesWithParishes();
+        return currentUser.isAdmin() ? all : DioceseParishDirectory.visibleTo(all, currentUser.parishIds());
     }
 
     @Override
@@ -92,30 +83,4 @@ public class DioceseServiceImpl implements DioceseService {
                 .description(e.getDescription())
                 .build();
     }
-
-    private DioceseWithParishesResponse toResponseWithParishes(Diocese e, Set<Long> allowedParishIds) {
-        List<ParishResponse> parishes = e.getParishes() != null
-                ? e.getParishes().stream()
-                        .filter(p -> allowedParishIds == null || (p != null && p.getId() != null && allowedParishIds.contains(p.getId())))
-                        .map(this::toParishResponse)
-                        .collect(Collectors.toList())
-                : List.of();
-        return DioceseWithParishesResponse.builder()
-                .id(e.getId())
-                .dioceseName(e.getDioceseName())
-                .code(e.getCode())
-                .description(e.getDescription())
-                .parishes(parishes)
-                .build();
-    }
-
-    private ParishResponse toParishResponse(Parish p) {
-        return ParishResponse.builder()
-                .id(p.getId())
-                .parishName(p.getParishName())
-                .dioceseId(p.getDiocese() != null ? p.getDiocese().getId() : null)
-                .description(p.getDescription())
-                .requireMarriageConfirmation(p.isRequireMarriageConfirmation())
-                .build();
-    }
 }
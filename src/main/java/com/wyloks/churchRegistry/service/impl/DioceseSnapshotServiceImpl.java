@@ -0,0 +1,252 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.ConfirmationResponse;
+import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
+import com.wyloks.churchRegistry.dto.HolyOrderResponse;
+import com.wyloks.churchRegistry.dto.MarriageResponse;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.security.RlsSessionContext;
+import com.wyloks.churchRegistry.service.DioceseSnapshotService;
+import com.wyloks.churchRegistry.service.SnapshotStore;
+import com.wyloks.churchRegistry.util.CsvWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+@Slf4j
+public class DioceseSnapshotServiceImpl implements DioceseSnapshotService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'").withZone(ZoneOffset.UTC);
+    private static final String FILE_PREFIX = "snapshot-";
+    private static final String FILE_SUFFIX = ".zip";
+    private static final String UNKNOWN_YEAR = "unknown";
+
+    /** Directory name and partition date of each register, in snapshot order. */
+    private static final Map<SacramentType, Register> REGISTERS = new LinkedHashMap<>();
+
+    static {
+        REGISTERS.put(SacramentType.BAPTISM, new Register("baptisms",
+                r -> ((BaptismResponse) r).getDateOfBaptism() != null
+                        ? ((BaptismResponse) r).getDateOfBaptism()
+                        : ((BaptismResponse) r).getDateOfBirth()));
+        REGISTERS.put(SacramentType.COMMUNION, new Register("communions",
+                r -> ((FirstHolyCommunionResponse) r).getCommunionDate()));
+        REGISTERS.put(SacramentType.CONFIRMATION, new Register("confirmations",
+                r -> ((ConfirmationResponse) r).getConfirmationDate()));
+        REGISTERS.put(SacramentType.MARRIAGE, new Register("marriages",
+                r -> ((MarriageResponse) r).getMarriageDate()));
+        REGISTERS.put(SacramentType.HOLY_ORDER, new Register("holy-orders",
+                r -> ((HolyOrderResponse) r).getOrdinationDate()));
+    }
+
+    private final DioceseRepository dioceseRepository;
+    private final ParishRepository parishRepository;
+    private final SacramentRegisters registers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTransaction;
+    private final SnapshotStore store;
+    private final int retain;
+
+    public DioceseSnapshotServiceImpl(
+            DioceseRepository dioceseRepository,
+            ParishRepository parishRepository,
+            SacramentRegisters registers,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            SnapshotStore store,
+            @Value("${app.snapshot.retain:3}") int retain) {
+        this.dioceseRepository = dioceseRepository;
+        this.parishRepository = parishRepository;
+        this.registers = registers;
+        this.objectMapper = objectMapper;
+        this.store = store;
+        this.retain = Math.max(1, retain);
+        // One repeatable-read transaction gives every register the same point-in-time view.
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public String createSnapshot(Long dioceseId) throws IOException {
+        if (!dioceseRepository.existsById(dioceseId)) {
+            throw new IllegalArgumentException("Diocese not found: " + dioceseId);
+        }
+        List<Parish> parishes = parishRepository.findByDioceseId(dioceseId);
+        Instant takenAt = Instant.now();
+        String fileName = FILE_PREFIX + FILE_TIMESTAMP.format(takenAt) + FILE_SUFFIX;
+        Path workDir = Files.createTempDirectory("diocese-" + dioceseId + "-snapshot-");
+        Path file = workDir.resolve(fileName);
+
+        Set<Long> parishIds = parishes.stream().map(Parish::getId).collect(Collectors.toSet());
+        RlsSessionContext.set(parishIds, false);
+        try {
+            try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                Map<String, Long> rowCounts = snapshotTransaction.execute(tx -> {
+                    try {
+                        return writeRegisters(zip, parishes, workDir);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writeManifest(zip, dioceseId, takenAt, parishIds, rowCounts);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                RlsSessionContext.clear();
+            }
+            store.save(dioceseId, fileName, file);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(workDir);
+        }
+        pruneOldSnapshots(dioceseId);
+        log.info("Diocese {} snapshot {} stored ({} parishes)", dioceseId, fileName, parishes.size());
+        return fileName;
+    }
+
+    @Override
+    public Optional<Snapshot> findLatest(Long dioceseId) throws IOException {
+        List<String> snapshots = listSnapshots(dioceseId);
+        // Newest first; a snapshot pruned by another instance since the listing is skipped
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            String fileName = snapshots.get(i);
+            Optional<Resource> content = store.open(dioceseId, fileName);
+            if (content.isPresent()) {
+                return Optional.of(new Snapshot(fileName, content.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Map<String, Long> writeRegisters(ZipOutputStream zip, List<Parish> parishes, Path workDir) throws IOException {
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        for (Map.Entry<SacramentType, Register> entry : REGISTERS.entrySet()) {
+            SacramentType sacramentType = entry.getKey();
+            Register register = entry.getValue();
+            ResponseCsvColumns columns = ResponseCsvColumns.of(objectMapper, SacramentRegisters.responseType(sacramentType));
+            long rows = 0;
+            for (Parish parish : parishes) {
+                rows += writeParishPartitions(zip, sacramentType, register, columns, parish.getId(), workDir);
+            }
+            rowCounts.put(register.directory(), rows);
+        }
+        return rowCounts;
+    }
+
+    /**
+     * Rows arrive in id order, not by year, so each year is spooled to its own temporary CSV and the finished
+     * files are copied into the archive in year order. Memory stays bounded by one row per open partition.
+     */
+    private long writeParishPartitions(ZipOutputStream zip, SacramentType sacramentType, Register register,
+                                       ResponseCsvColumns columns, Long parishId, Path workDir) throws IOException {
+        Map<String, Partition> partitions = new TreeMap<>();
+        List<Object> values = new ArrayList<>();
+        long rows = 0;
+        try (Stream<?> stream = registers.open(sacramentType, parishId)) {
+            Iterator<?> it = stream.iterator();
+            while (it.hasNext()) {
+                Object row = it.next();
+                LocalDate date = register.partitionDate().apply(row);
+                String year = date != null ? Integer.toString(date.getYear()) : UNKNOWN_YEAR;
+                Partition partition = partitions.get(year);
+                if (partition == null) {
+                    partition = Partition.open(workDir, columns.names());
+                    partitions.put(year, partition);
+                }
+                columns.values(row, values);
+                partition.csv().writeRecord(values);
+                rows++;
+            }
+            for (Map.Entry<String, Partition> entry : partitions.entrySet()) {
+                entry.getValue().csv().close();
+                zip.putNextEntry(new ZipEntry(register.directory() + "/parish_id=" + parishId
+                        + "/year=" + entry.getKey() + "/part-0.csv"));
+                Files.copy(entry.getValue().file(), zip);
+                zip.closeEntry();
+            }
+        } finally {
+            for (Partition partition : partitions.values()) {
+                partition.csv().close();
+                Files.deleteIfExists(partition.file());
+            }
+        }
+        return rows;
+    }
+
+    private void writeManifest(ZipOutputStream zip, Long dioceseId, Instant takenAt, Set<Long> parishIds,
+                               Map<String, Long> rowCounts) throws IOException {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("dioceseId", dioceseId);
+        manifest.put("takenAt", takenAt.toString());
+        manifest.put("parishIds", parishIds.stream().sorted().toList());
+        manifest.put("partitioning", List.of("parish_id", "year"));
+        manifest.put("rowCounts", rowCounts);
+        zip.putNextEntry(new ZipEntry("manifest.json"));
+        zip.write(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest));
+        zip.closeEntry();
+    }
+
+    private void pruneOldSnapshots(Long dioceseId) throws IOException {
+        List<String> snapshots = listSnapshots(dioceseId);
+        for (int i = 0; i < snapshots.size() - retain; i++) {
+            store.delete(dioceseId, snapshots.get(i));
+        }
+    }
+
+    /** Completed snapshots, oldest first (file names sort by timestamp). */
+    private List<String> listSnapshots(Long dioceseId) throws IOException {
+        return store.list(dioceseId).stream()
+                .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+                .sorted()
+                .toList();
+    }
+
+    private record Register(String directory, Function<Object, LocalDate> partitionDate) {
+    }
+
+    private record Partition(Path file, CsvWriter csv) {
+
+        static Partition open(Path workDir, List<String> header) throws IOException {
+            Path file = Files.createTempFile(workDir, "partition-", ".csv.tmp");
+            CsvWriter csv = new CsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+            csv.writeRecord(header);
+            return new Partition(file, csv);
+        }
+    }
+}
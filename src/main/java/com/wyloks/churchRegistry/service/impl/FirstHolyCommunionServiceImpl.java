@@ -1,20 +1,28 @@
 package com.wyloks.churchRegistry.service.impl;
 
+import com.wyloks.churchRegistry.config.MetricsConfig;
 import com.wyloks.churchRegistry.dto.FirstHolyCommunionRequest;
 import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import com.wyloks.churchRegistry.entity.Baptism;
 import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
 import com.wyloks.churchRegistry.entity.SacramentNoteHistory;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.repository.BaptismRepository;
 import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
 import com.wyloks.churchRegistry.repository.SacramentNoteHistoryRepository;
 import com.wyloks.churchRegistry.security.AppUserDetails;
 import com.wyloks.churchRegistry.service.FirstHolyCommunionService;
+import com.wyloks.churchRegistry.service.ParishCountEstimateService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
 import com.wyloks.churchRegistry.util.NameUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -25,27 +33,48 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SACRAMENT_SERVICE_TIMER)
 public class FirstHolyCommunionServiceImpl implements FirstHolyCommunionService {
 
     private final FirstHolyCommunionRepository communionRepository;
     private final BaptismRepository baptismRepository;
     private final SacramentNoteHistoryRepository noteHistoryRepository;
+    private final ParishCountEstimateService parishCountEstimateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<FirstHolyCommunionResponse> findByParishId(Long parishId) {
-        return communionRepository.findByBaptismParishId(parishId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return communionRepository.findByBaptismParishId(parishId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<FirstHolyCommunionResponse> streamByParishId(Long parishId) {
+        return communionRepository.streamByBaptismParishId(parishId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<FirstHolyCommunionResponse> findByParishId(Long parishId, Pageable pageable) {
-        return communionRepository.findByBaptismParishId(parishId, pageable).map(this::toResponse);
+        return communionRepository.findByBaptismParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<FirstHolyCommunionResponse> findSliceByParishId(Long parishId, Pageable pageable) {
+        return communionRepository.findSliceByBaptismParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<FirstHolyCommunionResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable) {
+        long estimate = parishCountEstimateService.getEstimatedCounts(parishId).getCommunions();
+        return ParishCountEstimateService.toEstimatedPage(findSliceByParishId(parishId, pageable), estimate);
     }
 
     @Override
@@ -54,7 +83,7 @@ public class FirstHolyCommunionServiceImpl implements FirstHolyCommunionService
         if (parishIds == null || parishIds.isEmpty()) {
             return org.springframework.data.domain.Page.empty(pageable);
         }
-        return communionRepository.findByBaptismParishIdIn(parishIds, pageable).map(this::toResponse);
+        return communionRepository.findByBaptismParishIdIn(parishIds, pageable);
     }
 
     @Override
@@ -77,7 +106,17 @@ public class FirstHolyCommunionServiceImpl implements FirstHolyCommunionService
         if (communionRepository.findByBaptismId(request.getBaptismId()).isPresent()) {
             throw new IllegalArgumentException("First Holy Communion already exists for this baptism");
         }
-        FirstHolyCommunion entity = FirstHolyCommunion.builder()
+        FirstHolyCommunion entity = toEntity(request, baptism);
+        entity = communionRepository.save(entity);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.COMMUNION, baptism, Change.CREATED));
+        return toResponse(entity);
+    }
+
+    /**
+     * Builds a new communion for the baptism with normalized names. Shared by single creates and bulk imports.
+     */
+    static FirstHolyCommunion toEntity(FirstHolyCommunionRequest request, Baptism baptism) {
+        return FirstHolyCommunion.builder()
                 .baptism(baptism)
                 .communionDate(request.getCommunionDate())
                 .officiatingPriest(NameUtils.capitalizeNameOrEmpty(request.getOfficiatingPriest()))
@@ -85,8 +124,6 @@ public class FirstHolyCommunionServiceImpl implements FirstHolyCommunionService
                 .baptismCertificatePath(request.getBaptismCertificatePath())
                 .communionCertificatePath(request.getCommunionCertificatePath())
                 .build();
-        entity = communionRepository.save(entity);
-        return toResponse(entity);
     }
 
     @Override
@@ -103,6 +140,7 @@ public class FirstHolyCommunionServiceImpl implements FirstHolyCommunionService
                 .content(safeNote)
                 .createdBy(resolveActorName())
                 .build());
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.COMMUNION, communion.getBaptism(), Change.UPDATED));
         return toResponse(communion);
     }
 
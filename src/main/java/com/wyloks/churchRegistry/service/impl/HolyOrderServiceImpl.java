@@ -1,47 +1,75 @@
 package com.wyloks.churchRegistry.service.impl;
 
+import com.wyloks.churchRegistry.config.MetricsConfig;
 import com.wyloks.churchRegistry.dto.HolyOrderRequest;
 import com.wyloks.churchRegistry.dto.HolyOrderResponse;
 import com.wyloks.churchRegistry.entity.Confirmation;
 import com.wyloks.churchRegistry.entity.HolyOrder;
 import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.repository.ConfirmationRepository;
 import com.wyloks.churchRegistry.repository.HolyOrderRepository;
 import com.wyloks.churchRegistry.repository.MarriageRepository;
 import com.wyloks.churchRegistry.repository.ParishRepository;
 import com.wyloks.churchRegistry.service.HolyOrderService;
+import com.wyloks.churchRegistry.service.ParishCountEstimateService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
 import com.wyloks.churchRegistry.util.NameUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SACRAMENT_SERVICE_TIMER)
 public class HolyOrderServiceImpl implements HolyOrderService {
 
     private final HolyOrderRepository holyOrderRepository;
     private final ConfirmationRepository confirmationRepository;
     private final MarriageRepository marriageRepository;
     private final ParishRepository parishRepository;
+    private final ParishCountEstimateService parishCountEstimateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<HolyOrderResponse> findByParishId(Long parishId) {
-        return holyOrderRepository.findByBaptismParishId(parishId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return holyOrderRepository.findByBaptismParishId(parishId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<HolyOrderResponse> streamByParishId(Long parishId) {
+        return holyOrderRepository.streamByBaptismParishId(parishId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<HolyOrderResponse> findByParishId(Long parishId, Pageable pageable) {
-        return holyOrderRepository.findByBaptismParishId(parishId, pageable).map(this::toResponse);
+        return holyOrderRepository.findByBaptismParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<HolyOrderResponse> findSliceByParishId(Long parishId, Pageable pageable) {
+        return holyOrderRepository.findSliceByBaptismParishId(parishId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<HolyOrderResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable) {
+        long estimate = parishCountEstimateService.getEstimatedCounts(parishId).getHolyOrders();
+        return ParishCountEstimateService.toEstimatedPage(findSliceByParishId(parishId, pageable), estimate);
     }
 
     @Override
@@ -80,6 +108,7 @@ public class HolyOrderServiceImpl implements HolyOrderService {
                 .parish(parish)
                 .build();
         entity = holyOrderRepository.save(entity);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.HOLY_ORDER, entity.getBaptism(), Change.CREATED));
         return toResponse(entity);
     }
 
@@ -0,0 +1,187 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.dto.ImportJobResponse;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.entity.ImportJob;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.ImportJobContentChunkRepository;
+import com.wyloks.churchRegistry.repository.ImportJobErrorRepository;
+import com.wyloks.churchRegistry.repository.ImportJobRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.security.AppUserDetails;
+import com.wyloks.churchRegistry.service.ImportJobService;
+import com.wyloks.churchRegistry.service.ImportJobWorker;
+import com.wyloks.churchRegistry.util.CsvReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ImportJobServiceImpl implements ImportJobService {
+
+    /** Size of a stored upload chunk; the most of an upload held in memory at once. */
+    public static final int CONTENT_CHUNK_BYTES = 1024 * 1024;
+
+    private final ImportJobRepository jobRepository;
+    private final ImportJobContentChunkRepository contentRepository;
+    private final ImportJobErrorRepository errorRepository;
+    private final ParishRepository parishRepository;
+
+    @Override
+    @Transactional
+    public ImportJobResponse submit(Long parishId, SacramentType sacramentType, String fileName, InputStream csv)
+            throws IOException {
+        if (!ImportJobWorker.SUPPORTED_TYPES.contains(sacramentType)) {
+            throw new IllegalArgumentException("Background import is not supported for " + sacramentType);
+        }
+        if (!parishRepository.existsById(parishId)) {
+            throw new IllegalArgumentException("Parish not found: " + parishId);
+        }
+        Instant now = Instant.now();
+        ImportJob job = jobRepository.save(ImportJob.builder()
+                .parishId(parishId)
+                .sacramentType(sacramentType.name())
+                .status(ImportJob.Status.QUEUED)
+                .fileName(fileName)
+                .createdBy(currentUserId())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        try (ChunkingInputStream content = new ChunkingInputStream(csv, job.getId())) {
+            job.setTotalRows(countDataRows(content));
+        }
+        return toResponse(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImportJobResponse> findById(Long id) {
+        return jobRepository.findById(id).map(this::toResponse);
+    }
+
+    private ImportJobResponse toResponse(ImportJob job) {
+        int percent = job.getTotalRows() > 0
+                ? (int) Math.min(100, job.getProcessedRows() * 100 / job.getTotalRows())
+                : (job.getStatus() == ImportJob.Status.COMPLETED ? 100 : 0);
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .parishId(job.getParishId())
+                .sacramentType(job.getSacramentType())
+                .status(job.getStatus().name())
+                .fileName(job.getFileName())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .importedRows(job.getImportedRows())
+                .failedRows(job.getFailedRows())
+                .percentComplete(percent)
+                .lastError(job.getLastError())
+                .errors(job.getId() == null || job.getFailedRows() == 0
+                        ? new ArrayList<>()
+                        : errorRepository.findByJobIdOrderByLineAsc(job.getId()).stream()
+                                .map(e -> new ImportResultResponse.RowError(e.getLine(), e.getMessage()))
+                                .collect(Collectors.toList()))
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    /**
+     * Counts records after the header, the same unit as the job's processed_rows checkpoint. Reads to the end of
+     * the upload, so every byte passes through to the stored chunks.
+     */
+    private static long countDataRows(InputStream content) throws IOException {
+        try (CsvReader reader = new CsvReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            if (reader.readRecord() == null) {
+                throw new IllegalArgumentException("CSV is empty; expected a header row");
+            }
+            long rows = 0;
+            while (reader.readRecord() != null) {
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AppUserDetails userDetails
+                && userDetails.getAppUser() != null) {
+            return userDetails.getAppUser().getId();
+        }
+        return null;
+    }
+
+    /**
+     * Passes the upload through unchanged while storing it as {@link #CONTENT_CHUNK_BYTES} chunks of the job;
+     * the last, partial chunk is stored on close.
+     */
+    private final class ChunkingInputStream extends FilterInputStream {
+
+        private final Long jobId;
+        private final byte[] buffer = new byte[CONTENT_CHUNK_BYTES];
+        private int buffered;
+        private int chunkNo;
+
+        private ChunkingInputStream(InputStream in, Long jobId) {
+            super(in);
+            this.jobId = jobId;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, Math.min(len, buffer.length - buffered));
+            if (n > 0) {
+                System.arraycopy(b, off, buffer, buffered, n);
+                buffered += n;
+                if (buffered == buffer.length) {
+                    storeChunk();
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            throw new UnsupportedOperationException("Skipping would leave gaps in the stored upload");
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffered > 0) {
+                storeChunk();
+            }
+            super.close();
+        }
+
+        private void storeChunk() {
+            contentRepository.insert(jobId, chunkNo++, Arrays.copyOf(buffer, buffered));
+            buffered = 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.service.SnapshotStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Keeps snapshots in {@code app.snapshot.directory}, one sub-directory per diocese. Only suitable when every
+ * instance shares that directory and it survives restarts.
+ */
+@Service
+@ConditionalOnProperty(name = "app.snapshot.store", havingValue = "local", matchIfMissing = true)
+public class LocalSnapshotStore implements SnapshotStore {
+
+    private final Path directory;
+
+    public LocalSnapshotStore(@Value("${app.snapshot.directory:./data/snapshots}") Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void save(Long dioceseId, String fileName, Path file) throws IOException {
+        Path dioceseDir = dioceseDirectory(dioceseId);
+        Files.createDirectories(dioceseDir);
+        Path partial = dioceseDir.resolve(fileName + ".partial");
+        try {
+            Files.copy(file, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, dioceseDir.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    @Override
+    public List<String> list(Long dioceseId) throws IOException {
+        Path dioceseDir = dioceseDirectory(dioceseId);
+        if (!Files.isDirectory(dioceseDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dioceseDir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> !name.endsWith(".partial"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @Override
+    public Optional<Resource> open(Long dioceseId, String fileName) {
+        Path file = dioceseDirectory(dioceseId).resolve(fileName);
+        return Files.isRegularFile(file) ? Optional.of(new FileSystemResource(file)) : Optional.empty();
+    }
+
+    @Override
+    public void delete(Long dioceseId, String fileName) throws IOException {
+        Files.deleteIfExists(dioceseDirectory(dioceseId).resolve(fileName));
+    }
+
+    private Path dioceseDirectory(Long dioceseId) {
+        return directory.resolve("diocese-" + dioceseId);
+    }
+}
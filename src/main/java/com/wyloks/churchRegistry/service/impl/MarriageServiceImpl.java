@@ -1,5 +1,6 @@
 package com.wyloks.churchRegistry.service.impl;
 
+import com.wyloks.churchRegistry.config.MetricsConfig;
 import com.wyloks.churchRegistry.dto.MarriageRequest;
 import com.wyloks.churchRegistry.dto.MarriagePartyResponse;
 import com.wyloks.churchRegistry.dto.MarriageResponse;
@@ -14,6 +15,7 @@ import com.wyloks.churchRegistry.entity.Parish;
 import com.wyloks.churchRegistry.entity.MarriagePartyLegacy;
 import com.wyloks.churchRegistry.entity.MarriageWitnessLegacy;
 import com.wyloks.churchRegistry.entity.SacramentNoteHistory;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.repository.BaptismRepository;
 import com.wyloks.churchRegistry.repository.ConfirmationRepository;
 import com.wyloks.churchRegistry.repository.HolyOrderRepository;
@@ -23,13 +25,23 @@ import com.wyloks.churchRegistry.repository.MarriageWitnessLegacyRepository;
 import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
 import com.wyloks.churchRegistry.repository.ParishRepository;
 import com.wyloks.churchRegistry.repository.SacramentNoteHistoryRepository;
+import com.wyloks.churchRegistry.repository.projection.BaptismParentNames;
+import com.wyloks.churchRegistry.repository.projection.MarriageDetailRow;
 import com.wyloks.churchRegistry.security.AppUserDetails;
 import com.wyloks.churchRegistry.service.MarriageService;
+import com.wyloks.churchRegistry.service.ParishCountEstimateService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
 import com.wyloks.churchRegistry.util.NameUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -37,17 +49,30 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SACRAMENT_SERVICE_TIMER)
 public class MarriageServiceImpl implements MarriageService {
 
+    /** Marriages mapped per export chunk; matches the {@code @BatchSize} of parties and witnesses. */
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final MarriageRepository marriageRepository;
     private final ConfirmationRepository confirmationRepository;
     private final HolyOrderRepository holyOrderRepository;
@@ -57,6 +82,9 @@ public class MarriageServiceImpl implements MarriageService {
     private final FirstHolyCommunionRepository firstHolyCommunionRepository;
     private final ParishRepository parishRepository;
     private final SacramentNoteHistoryRepository noteHistoryRepository;
+    private final ParishCountEstimateService parishCountEstimateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
@@ -65,6 +93,37 @@ public class MarriageServiceImpl implements MarriageService {
         return mapMarriagesToResponses(marriages);
     }
 
+    /**
+     * Maps the streamed marriages a chunk at a time so parties and witnesses are still batch-fetched, then clears
+     * the persistence context so memory stays bounded by the chunk rather than the parish.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<MarriageResponse> streamByParishId(Long parishId) {
+        Stream<Marriage> marriages = marriageRepository.streamByBaptismParishId(parishId);
+        Iterator<Marriage> source = marriages.iterator();
+        Iterator<List<MarriageResponse>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<MarriageResponse> next() {
+                List<Marriage> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+                while (chunk.size() < STREAM_CHUNK_SIZE && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                List<MarriageResponse> responses = mapMarriagesToResponses(chunk);
+                entityManager.clear();
+                return responses;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(marriages::close);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<MarriageResponse> findByParishId(Long parishId, Pageable pageable) {
@@ -73,6 +132,21 @@ public class MarriageServiceImpl implements MarriageService {
         return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<MarriageResponse> findSliceByParishId(Long parishId, Pageable pageable) {
+        Slice<Marriage> slice = marriageRepository.findSliceByBaptismParishId(parishId, pageable);
+        List<MarriageResponse> content = mapMarriagesToResponses(slice.getContent());
+        return new SliceImpl<>(content, pageable, slice.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MarriageResponse> findByParishIdWithEstimatedTotal(Long parishId, Pageable pageable) {
+        long estimate = parishCountEstimateService.getEstimatedCounts(parishId).getMarriages();
+        return ParishCountEstimateService.toEstimatedPage(findSliceByParishId(parishId, pageable), estimate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<MarriageResponse> findByParishIdIn(Set<Long> parishIds, Pageable pageable) {
@@ -84,48 +158,75 @@ public class MarriageServiceImpl implements MarriageService {
         return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 
-    private List<MarriageResponse> mapMarriagesToResponses(List<Marriage> marriages) {
+    /**
+     * Maps a page of marriages, loading the parents of every party in one query. Package-private for
+     * MarriageMappingBenchmark.
+     */
+    List<MarriageResponse> mapMarriagesToResponses(List<Marriage> marriages) {
         if (marriages.isEmpty()) {
             return List.of();
         }
-        List<Integer> marriageIds = marriages.stream()
-                .map(m -> Math.toIntExact(m.getId()))
-                .collect(Collectors.toList());
-        List<MarriagePartyLegacy> allParties = marriagePartyLegacyRepository.findByMarriageIdIn(marriageIds);
-        List<MarriageWitnessLegacy> allWitnesses = marriageWitnessLegacyRepository.findByMarriageIdInOrderByMarriageIdAscSortOrderAsc(marriageIds);
-        Set<Long> baptismIds = allParties.stream()
-                .filter(p -> p.getBaptismId() != null)
-                .map(b -> b.getBaptismId().longValue())
+        // Parties and witnesses are @BatchSize collections: the first access initialises them for the whole page.
+        Set<Long> baptismIds = marriages.stream()
+                .flatMap(m -> m.getParties().stream())
+                .map(MarriagePartyLegacy::getBaptismId)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
-        Map<Long, Baptism> baptismById = baptismIds.isEmpty()
+        Map<Long, ParentNames> parentNamesByBaptismId = baptismIds.isEmpty()
                 ? Map.of()
-                : baptismRepository.findAllById(baptismIds).stream()
-                        .collect(Collectors.toMap(Baptism::getId, b -> b));
-        Map<Integer, List<MarriagePartyLegacy>> partiesByMarriage = allParties.stream()
-                .collect(Collectors.groupingBy(MarriagePartyLegacy::getMarriageId));
-        Map<Integer, List<MarriageWitnessLegacy>> witnessesByMarriage = allWitnesses.stream()
-                .collect(Collectors.groupingBy(MarriageWitnessLegacy::getMarriageId));
+                : baptismRepository.findParentNamesByIdIn(baptismIds).stream()
+                        .collect(Collectors.toMap(BaptismParentNames::getId,
+                                b -> new ParentNames(b.getFathersName(), b.getMothersName())));
         return marriages.stream()
-                .map(m -> toResponse(m, partiesByMarriage, witnessesByMarriage, baptismById))
+                .map(m -> toResponse(m, m.getParties(), m.getWitnesses(), parentNamesByBaptismId))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<MarriageResponse> findById(Long id) {
-        return marriageRepository.findById(id).map(this::toResponse);
+        return toDetailResponse(marriageRepository.findDetailRowsById(id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<MarriageResponse> findByConfirmationId(Long confirmationId) {
-        return marriageRepository.findByConfirmationId(confirmationId).map(this::toResponse);
+        return toDetailResponse(marriageRepository.findDetailRowsByConfirmationId(confirmationId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<MarriageResponse> findByBaptismId(Long baptismId) {
-        return marriageRepository.findByBaptismId(baptismId).map(this::toResponse);
+        return toDetailResponse(marriageRepository.findDetailRowsByBaptismId(baptismId));
+    }
+
+    /**
+     * Builds the single-record response from the rows of one detail query. Rows are the marriage joined
+     * with every party and witness, so parties and witnesses repeat and are de-duplicated by id here.
+     */
+    private Optional<MarriageResponse> toDetailResponse(List<MarriageDetailRow> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Marriage marriage = rows.get(0).getMarriage();
+        Map<Integer, MarriagePartyLegacy> parties = new LinkedHashMap<>();
+        Map<Integer, MarriageWitnessLegacy> witnesses = new LinkedHashMap<>();
+        Map<Long, ParentNames> parentNamesByBaptismId = new HashMap<>();
+        for (MarriageDetailRow row : rows) {
+            MarriagePartyLegacy party = row.getParty();
+            if (party != null && parties.putIfAbsent(party.getId(), party) == null && party.getBaptismId() != null) {
+                parentNamesByBaptismId.put(party.getBaptismId(),
+                        new ParentNames(row.getPartyFathersName(), row.getPartyMothersName()));
+            }
+            MarriageWitnessLegacy witness = row.getWitness();
+            if (witness != null) {
+                witnesses.putIfAbsent(witness.getId(), witness);
+            }
+        }
+        return Optional.of(toResponse(marriage,
+                List.copyOf(parties.values()),
+                List.copyOf(witnesses.values()),
+                parentNamesByBaptismId));
     }
 
     @Override
@@ -139,7 +240,18 @@ public class MarriageServiceImpl implements MarriageService {
         if (holyOrderRepository.findByConfirmationId(request.getConfirmationId()).isPresent()) {
             throw new IllegalArgumentException("Cannot receive Marriage: person has already received Holy Order");
         }
-        Marriage entity = Marriage.builder()
+        Marriage entity = toEntity(request, confirmation);
+        entity = marriageRepository.save(entity);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.MARRIAGE, entity.getBaptism(), Change.CREATED));
+        return toResponse(entity, List.of(), List.of(), Map.of());
+    }
+
+    /**
+     * Builds a new marriage following the confirmation (and its communion and baptism) with normalized names.
+     * Shared by single creates and bulk imports.
+     */
+    static Marriage toEntity(MarriageRequest request, Confirmation confirmation) {
+        return Marriage.builder()
                 .baptism(confirmation.getBaptism())
                 .firstHolyCommunion(confirmation.getFirstHolyCommunion())
                 .confirmation(confirmation)
@@ -155,8 +267,6 @@ public class MarriageServiceImpl implements MarriageService {
                 .officiatingPriest(NameUtils.capitalizeNameOrEmpty(request.getOfficiatingPriest()))
                 .parish(NameUtils.capitalizeNameOrEmpty(request.getParish()))
                 .build();
-        entity = marriageRepository.save(entity);
-        return toResponse(entity);
     }
 
     @Override
@@ -220,21 +330,16 @@ public class MarriageServiceImpl implements MarriageService {
             created = createMarriageWithoutConfirmationRecord(request, parishId, partnersName);
         }
 
-        Integer marriageId = toIntId(created.getId());
-        if (marriageId == null) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid marriage id");
-        }
-
-        persistPartiesAndWitnesses(marriageId, request);
+        persistPartiesAndWitnesses(marriageRepository.getReferenceById(created.getId()), request);
 
         return findById(created.getId()).orElse(created);
     }
 
-    private void persistPartiesAndWitnesses(Integer marriageId, CreateMarriageWithPartiesRequest request) {
-        MarriagePartyLegacy groomParty = toPartyLegacy(marriageId, "GROOM", request.getGroom());
-        MarriagePartyLegacy brideParty = toPartyLegacy(marriageId, "BRIDE", request.getBride());
-        marriagePartyLegacyRepository.save(groomParty);
-        marriagePartyLegacyRepository.save(brideParty);
+    private void persistPartiesAndWitnesses(Marriage marriage, CreateMarriageWithPartiesRequest request) {
+        MarriagePartyLegacy groomParty = toPartyLegacy(marriage, "GROOM", request.getGroom());
+        MarriagePartyLegacy brideParty = toPartyLegacy(marriage, "BRIDE", request.getBride());
+        marriage.getParties().add(marriagePartyLegacyRepository.save(groomParty));
+        marriage.getParties().add(marriagePartyLegacyRepository.save(brideParty));
 
         if (request.getWitnesses() != null && !request.getWitnesses().isEmpty()) {
             List<MarriageWitnessLegacy> witnessEntities = new java.util.ArrayList<>();
@@ -243,7 +348,7 @@ public class MarriageServiceImpl implements MarriageService {
                 if (w == null || w.getFullName() == null || w.getFullName().isBlank()) continue;
                 Integer sortOrder = w.getSortOrder() != null ? w.getSortOrder() : idx;
                 witnessEntities.add(MarriageWitnessLegacy.builder()
-                        .marriageId(marriageId)
+                        .marriage(marriage)
                         .fullName(w.getFullName().trim())
                         .phone(w.getPhone() != null ? w.getPhone().trim() : null)
                         .address(w.getAddress() != null ? w.getAddress().trim() : null)
@@ -252,7 +357,7 @@ public class MarriageServiceImpl implements MarriageService {
                 idx++;
             }
             if (!witnessEntities.isEmpty()) {
-                marriageWitnessLegacyRepository.saveAll(witnessEntities);
+                marriage.getWitnesses().addAll(marriageWitnessLegacyRepository.saveAll(witnessEntities));
             }
         }
     }
@@ -297,7 +402,8 @@ public class MarriageServiceImpl implements MarriageService {
                 .parish(NameUtils.capitalizeNameOrEmpty(request.getMarriage().getParish()))
                 .build();
         entity = marriageRepository.save(entity);
-        return toResponse(entity);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.MARRIAGE, entity.getBaptism(), Change.CREATED));
+        return toResponse(entity, List.of(), List.of(), Map.of());
     }
 
     private Baptism loadBaptismForParish(Integer baptismId, Long parishId, String partyLabel) {
@@ -362,12 +468,12 @@ public class MarriageServiceImpl implements MarriageService {
         return path != null && !path.isBlank();
     }
 
-    private MarriagePartyLegacy toPartyLegacy(Integer marriageId, String role, CreateMarriageWithPartiesRequest.PartyDetails party) {
+    private MarriagePartyLegacy toPartyLegacy(Marriage marriage, String role, CreateMarriageWithPartiesRequest.PartyDetails party) {
         if (party == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Party is required");
         }
         return MarriagePartyLegacy.builder()
-                .marriageId(marriageId)
+                .marriage(marriage)
                 .role(role)
                 .fullName(party.getFullName().trim())
                 .dateOfBirth(party.getDateOfBirth())
@@ -378,9 +484,9 @@ public class MarriageServiceImpl implements MarriageService {
                 .email(trimToNull(party.getEmail()))
                 .occupation(trimToNull(party.getOccupation()))
                 .maritalStatus(trimToNull(party.getMaritalStatus()))
-                .baptismId(party.getBaptismId())
-                .communionId(party.getCommunionId())
-                .confirmationId(party.getConfirmationId())
+                .baptismId(toLongId(party.getBaptismId()))
+                .communionId(toLongId(party.getCommunionId()))
+                .confirmationId(toLongId(party.getConfirmationId()))
                 .baptismCertificatePath(trimToNull(party.getBaptismCertificatePath()))
                 .communionCertificatePath(trimToNull(party.getCommunionCertificatePath()))
                 .confirmationCertificatePath(trimToNull(party.getConfirmationCertificatePath()))
@@ -410,7 +516,8 @@ public class MarriageServiceImpl implements MarriageService {
                 .content(safeNote)
                 .createdBy(resolveActorName())
                 .build());
-        return toResponse(marriage);
+        eventPublisher.publishEvent(SacramentChangedEvent.of(SacramentType.MARRIAGE, marriage.getBaptism(), Change.UPDATED));
+        return findById(marriage.getId()).orElseThrow();
     }
 
     @Override
@@ -423,28 +530,14 @@ public class MarriageServiceImpl implements MarriageService {
                 .collect(Collectors.toList());
     }
 
-    private MarriageResponse toResponse(Marriage e) {
-        return toResponse(e, null, null, null);
-    }
-
+    /**
+     * Maps a marriage with its already-loaded parties, witnesses and party baptism parent names.
+     * Performs no queries; callers load everything up front (batched for lists, one query for details).
+     */
     private MarriageResponse toResponse(Marriage e,
-            Map<Integer, List<MarriagePartyLegacy>> partiesByMarriage,
-            Map<Integer, List<MarriageWitnessLegacy>> witnessesByMarriage,
-            Map<Long, Baptism> baptismById) {
-        Integer legacyMarriageId = toIntId(e.getId());
-        List<MarriagePartyLegacy> legacyParties;
-        List<MarriageWitnessLegacy> legacyWitnesses;
-        if (partiesByMarriage != null && witnessesByMarriage != null && legacyMarriageId != null) {
-            legacyParties = partiesByMarriage.getOrDefault(legacyMarriageId, List.of());
-            legacyWitnesses = witnessesByMarriage.getOrDefault(legacyMarriageId, List.of());
-        } else if (legacyMarriageId != null) {
-            legacyParties = marriagePartyLegacyRepository.findByMarriageId(legacyMarriageId);
-            legacyWitnesses = marriageWitnessLegacyRepository.findByMarriageIdOrderBySortOrderAsc(legacyMarriageId);
-        } else {
-            legacyParties = List.of();
-            legacyWitnesses = List.of();
-        }
-
+            List<MarriagePartyLegacy> legacyParties,
+            List<MarriageWitnessLegacy> legacyWitnesses,
+            Map<Long, ParentNames> parentNamesByBaptismId) {
         List<MarriagePartyResponse> parties = legacyParties.stream()
                 .map(this::toPartyResponse)
                 .collect(Collectors.toList());
@@ -461,18 +554,12 @@ public class MarriageServiceImpl implements MarriageService {
                 .findFirst()
                 .orElse(null);
 
-        Baptism groomBaptism = null;
-        Baptism brideBaptism = null;
-        if (groom != null && groom.getBaptismId() != null && baptismById != null) {
-            groomBaptism = baptismById.get(groom.getBaptismId().longValue());
-        } else if (groom != null && groom.getBaptismId() != null) {
-            groomBaptism = baptismRepository.findById(groom.getBaptismId().longValue()).orElse(null);
-        }
-        if (bride != null && bride.getBaptismId() != null && baptismById != null) {
-            brideBaptism = baptismById.get(bride.getBaptismId().longValue());
-        } else if (bride != null && bride.getBaptismId() != null) {
-            brideBaptism = baptismRepository.findById(bride.getBaptismId().longValue()).orElse(null);
-        }
+        ParentNames groomParents = groom != null && groom.getBaptismId() != null
+                ? parentNamesByBaptismId.get(groom.getBaptismId())
+                : null;
+        ParentNames brideParents = bride != null && bride.getBaptismId() != null
+                ? parentNamesByBaptismId.get(bride.getBaptismId())
+                : null;
 
         return MarriageResponse.builder()
                 .id(e.getId())
@@ -495,10 +582,10 @@ public class MarriageServiceImpl implements MarriageService {
                 .witnesses(witnesses)
                 .groomName(groom != null ? groom.getFullName() : null)
                 .brideName(bride != null ? bride.getFullName() : null)
-                .groomFatherName(groomBaptism != null ? groomBaptism.getFathersName() : null)
-                .groomMotherName(groomBaptism != null ? groomBaptism.getMothersName() : null)
-                .brideFatherName(brideBaptism != null ? brideBaptism.getFathersName() : null)
-                .brideMotherName(brideBaptism != null ? brideBaptism.getMothersName() : null)
+                .groomFatherName(groomParents != null ? groomParents.fathersName() : null)
+                .groomMotherName(groomParents != null ? groomParents.mothersName() : null)
+                .brideFatherName(brideParents != null ? brideParents.fathersName() : null)
+                .brideMotherName(brideParents != null ? brideParents.mothersName() : null)
                 .witnessesDisplay(witnesses.stream()
                         .map(MarriageWitnessResponse::getFullName)
                         .filter(name -> name != null && !name.isBlank())
@@ -510,7 +597,7 @@ public class MarriageServiceImpl implements MarriageService {
     private MarriagePartyResponse toPartyResponse(MarriagePartyLegacy party) {
         return MarriagePartyResponse.builder()
                 .id(toLongId(party.getId()))
-                .marriageId(toLongId(party.getMarriageId()))
+                .marriageId(party.getMarriage().getId())
                 .role(normalizeRole(party.getRole()))
                 .fullName(party.getFullName())
                 .dateOfBirth(party.getDateOfBirth())
@@ -521,9 +608,9 @@ public class MarriageServiceImpl implements MarriageService {
                 .email(party.getEmail())
                 .occupation(party.getOccupation())
                 .maritalStatus(party.getMaritalStatus())
-                .baptismId(toLongId(party.getBaptismId()))
-                .communionId(toLongId(party.getCommunionId()))
-                .confirmationId(toLongId(party.getConfirmationId()))
+                .baptismId(party.getBaptismId())
+                .communionId(party.getCommunionId())
+                .confirmationId(party.getConfirmationId())
                 .baptismCertificatePath(party.getBaptismCertificatePath())
                 .communionCertificatePath(party.getCommunionCertificatePath())
                 .confirmationCertificatePath(party.getConfirmationCertificatePath())
@@ -536,7 +623,7 @@ public class MarriageServiceImpl implements MarriageService {
     private MarriageWitnessResponse toWitnessResponse(MarriageWitnessLegacy witness) {
         return MarriageWitnessResponse.builder()
                 .id(toLongId(witness.getId()))
-                .marriageId(toLongId(witness.getMarriageId()))
+                .marriageId(witness.getMarriage().getId())
                 .fullName(witness.getFullName())
                 .phone(witness.getPhone())
                 .address(witness.getAddress())
@@ -548,10 +635,6 @@ public class MarriageServiceImpl implements MarriageService {
         return role == null ? null : role.trim().toUpperCase(Locale.ROOT);
     }
 
-    private Integer toIntId(Long id) {
-        return id == null ? null : Math.toIntExact(id);
-    }
-
     private Long toLongId(Integer id) {
         return id == null ? null : id.longValue();
     }
@@ -583,4 +666,6 @@ public class MarriageServiceImpl implements MarriageService {
         }
         return "System";
     }
+
+    private record ParentNames(String fathersName, String mothersName) {}
 }
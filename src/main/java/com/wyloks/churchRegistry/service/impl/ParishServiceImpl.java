@@ -9,17 +9,16 @@ import com.wyloks.churchRegistry.entity.Parish;
 import com.wyloks.churchRegistry.repository.DioceseRepository;
 import com.wyloks.churchRegistry.repository.ParishRepository;
 import com.wyloks.churchRegistry.security.CurrentUserAccessService;
+import com.wyloks.churchRegistry.service.DioceseParishDirectory;
 import com.wyloks.churchRegistry.service.ParishService;
 import com.wyloks.churchRegistry.util.NameUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,21 +27,16 @@ public class ParishServiceImpl implements ParishService {
     private final ParishRepository parishRepository;
     private final DioceseRepository dioceseRepository;
     private final CurrentUserAccessService currentUserAccessService;
+    private final DioceseParishDirectory dioceseParishDirectory;
 
+    /**
+     * Served from the shared per-diocese view in {@link DioceseParishDirectory}, filtered to the caller's parishes.
+     */
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConfig.CACHE_PARISHES_BY_DIOCESE, keyGenerator = "dioceseParishCacheKeyGenerator")
     public List<ParishResponse> findByDioceseId(Long dioceseId) {
         CurrentUserAccessService.CurrentUserAccess currentUser = currentUserAccessService.currentUser();
-        List<Parish> parishes = currentUser.isAdmin()
-                ? parishRepository.findByDioceseId(dioceseId)
-                : currentUser.parishIds().isEmpty()
-                    ? List.of()
-                    : parishRepository.findByIdInAndDioceseId(currentUser.parishIds(), dioceseId);
-
-        return parishes.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        List<ParishResponse> all = dioceseParishDirectory.parishesOfDiocese(dioceseId);
+        return currentUser.isAdmin() ? all : DioceseParishDirectory.visibleParishes(all, currentUser.parishIds());
     }
 
     @Override
@@ -0,0 +1,78 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wyloks.churchRegistry.dto.ExportFormat;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.service.RegisterExportService;
+import com.wyloks.churchRegistry.util.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class RegisterExportServiceImpl implements RegisterExportService {
+
+    private final SacramentRegisters registers;
+    private final ObjectMapper objectMapper;
+
+    /** Resolved once per response type from Jackson. */
+    private final Map<Class<?>, ResponseCsvColumns> csvColumns = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(SacramentType sacramentType, Long parishId, ExportFormat format, OutputStream out)
+            throws IOException {
+        try (Stream<?> register = registers.open(sacramentType, parishId)) {
+            Iterator<?> rows = register.iterator();
+            return format == ExportFormat.NDJSON
+                    ? writeNdjson(rows, out)
+                    : writeCsv(rows, SacramentRegisters.responseType(sacramentType), out);
+        }
+    }
+
+    private long writeCsv(Iterator<?> rows, Class<?> responseType, OutputStream out) throws IOException {
+        ResponseCsvColumns columns = csvColumns.computeIfAbsent(responseType, type -> ResponseCsvColumns.of(objectMapper, type));
+        CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        csv.writeRecord(columns.names());
+        List<Object> values = new ArrayList<>();
+        long count = 0;
+        while (rows.hasNext()) {
+            columns.values(rows.next(), values);
+            csv.writeRecord(values);
+            count++;
+        }
+        csv.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<?> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                writer.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+}
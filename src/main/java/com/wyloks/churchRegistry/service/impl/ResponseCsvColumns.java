@@ -0,0 +1,47 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV columns of a response DTO: its scalar JSON properties in declaration order, so CSV headers match the
+ * JSON field names. Nested lists (e.g. marriage parties) are left out.
+ */
+final class ResponseCsvColumns {
+
+    private final List<BeanPropertyDefinition> properties;
+
+    private ResponseCsvColumns(List<BeanPropertyDefinition> properties) {
+        this.properties = properties;
+    }
+
+    static ResponseCsvColumns of(ObjectMapper objectMapper, Class<?> responseType) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(responseType));
+        List<BeanPropertyDefinition> properties = new ArrayList<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.getAccessor() != null && !property.getPrimaryType().isContainerType()) {
+                properties.add(property);
+            }
+        }
+        return new ResponseCsvColumns(List.copyOf(properties));
+    }
+
+    List<String> names() {
+        return properties.stream().map(BeanPropertyDefinition::getName).toList();
+    }
+
+    /**
+     * Fills {@code values} (cleared first) with the row's column values; reusing the list avoids an allocation per row.
+     */
+    void values(Object row, List<Object> values) {
+        values.clear();
+        for (BeanPropertyDefinition property : properties) {
+            values.add(property.getAccessor().getValue(row));
+        }
+    }
+}
@@ -0,0 +1,610 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.dto.ConfirmationRequest;
+import com.wyloks.churchRegistry.dto.FirstHolyCommunionRequest;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.dto.MarriageRequest;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.ConfirmationRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.HolyOrderRepository;
+import com.wyloks.churchRegistry.repository.MarriageRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.projection.BaptismParishLink;
+import com.wyloks.churchRegistry.repository.projection.SacramentLink;
+import com.wyloks.churchRegistry.service.SacramentAuditService;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent;
+import com.wyloks.churchRegistry.service.SacramentChangedEvent.Change;
+import com.wyloks.churchRegistry.service.SacramentChainImportService;
+import com.wyloks.churchRegistry.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bulk import of the sacrament chain after baptism. Where the single-record creates look up each parent and
+ * check for duplicates with separate queries per record, this resolves a whole chunk with one {@code IN} query
+ * per table and writes each tier (communion, then confirmation, then marriage) as one JDBC batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SacramentChainImportServiceImpl implements SacramentChainImportService {
+
+    private static final String INSERT_COMMUNION_SQL = """
+            INSERT INTO first_holy_communion (baptism_id, communion_date, officiating_priest, parish, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_CONFIRMATION_SQL = """
+            INSERT INTO confirmation (baptism_id, communion_id, confirmation_date, officiating_bishop, parish, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_MARRIAGE_SQL = """
+            INSERT INTO marriage (baptism_id, communion_id, confirmation_id, partners_name, marriage_date, marriage_time,
+                church_name, marriage_register, diocese, civil_registry_number, dispensation_granted, canonical_notes,
+                officiating_priest, parish, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /** Id properties resolved by the importer rather than read from the CSV. */
+    private static final Set<String> RESOLVED_PROPERTIES = Set.of("baptismId", "communionId", "confirmationId");
+
+    private static final Map<String, BiConsumer<ChainRow, String>> COLUMNS = columns();
+
+    private final ParishRepository parishRepository;
+    private final BaptismRepository baptismRepository;
+    private final FirstHolyCommunionRepository communionRepository;
+    private final ConfirmationRepository confirmationRepository;
+    private final MarriageRepository marriageRepository;
+    private final HolyOrderRepository holyOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final SacramentAuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public ImportResultResponse importCsv(Long parishId, InputStream csv) throws IOException {
+        if (!parishRepository.existsById(parishId)) {
+            throw new IllegalArgumentException("Parish not found: " + parishId);
+        }
+        ImportResultResponse result = ImportResultResponse.builder().build();
+        Set<Long> seenBaptismIds = new HashSet<>();
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            List<BiConsumer<ChainRow, String>> setters = readHeader(reader.readRecord());
+            List<ChainRow> chunk = new ArrayList<>(batchSize);
+            List<String> record;
+            long line = reader.getLineNumber();
+            while ((record = reader.readRecord()) != null) {
+                if (!BaptismImportServiceImpl.isBlank(record)) {
+                    result.setTotalRows(result.getTotalRows() + 1);
+                    try {
+                        ChainRow row = parseRow(line, record, setters);
+                        if (!seenBaptismIds.add(row.baptismId)) {
+                            throw new IllegalArgumentException("Duplicate baptismId " + row.baptismId + " in file");
+                        }
+                        chunk.add(row);
+                    } catch (IllegalArgumentException e) {
+                        addError(result, line, e.getMessage());
+                    }
+                    if (chunk.size() >= batchSize) {
+                        processChunk(parishId, chunk, result);
+                    }
+                }
+                line = reader.getLineNumber();
+            }
+            processChunk(parishId, chunk, result);
+        }
+        result.getErrors().sort(Comparator.comparingLong(ImportResultResponse.RowError::getLine));
+        if (result.getImportedRows() > 0) {
+            // One event for the whole chain; COMMUNION is its entry tier
+            eventPublisher.publishEvent(new SacramentChangedEvent(SacramentType.COMMUNION, parishId, Change.IMPORTED));
+        }
+        return result;
+    }
+
+    private ChainRow parseRow(long line, List<String> record, List<BiConsumer<ChainRow, String>> setters) {
+        ChainRow row = new ChainRow(line);
+        for (int i = 0; i < setters.size() && i < record.size(); i++) {
+            BiConsumer<ChainRow, String> setter = setters.get(i);
+            String value = record.get(i).trim();
+            if (setter != null && !value.isEmpty()) {
+                setter.accept(row, value);
+            }
+        }
+        if (row.baptismId == null) {
+            throw new IllegalArgumentException("baptismId: is required");
+        }
+        if (row.communion == null && row.confirmation == null && row.marriage == null) {
+            throw new IllegalArgumentException("Row has no communion, confirmation or marriage columns");
+        }
+        if (row.communion != null) {
+            row.communion.setBaptismId(row.baptismId);
+        }
+        String violations = Stream.of(
+                        violations("communion", row.communion),
+                        violations("confirmation", row.confirmation),
+                        violations("marriage", row.marriage))
+                .flatMap(List::stream)
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations);
+        }
+        return row;
+    }
+
+    private List<String> violations(String tier, Object request) {
+        if (request == null) {
+            return List.of();
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        return violations.stream()
+                .filter(v -> !RESOLVED_PROPERTIES.contains(v.getPropertyPath().toString()))
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> tier + "." + v.getPropertyPath() + ": " + v.getMessage())
+                .toList();
+    }
+
+    /**
+     * Checks and inserts one chunk (see {@link #checkAndInsert}). When the batch inserts fail, the chunk is checked
+     * again in a new transaction and inserted row by row, so only the rows the database refuses are reported.
+     */
+    private void processChunk(Long parishId, List<ChainRow> chunk, ImportResultResponse result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ChainRow> rows = List.copyOf(chunk);
+        chunk.clear();
+        ChunkAttempt batched = new ChunkAttempt();
+        ChunkAttempt attempt = batched;
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkAndInsert(parishId, rows, false, batched));
+        } catch (DataAccessException e) {
+            log.warn("Sacrament chain import chunk failed for parish {} (lines {}-{}); retrying row by row",
+                    parishId, rows.get(0).line, rows.get(rows.size() - 1).line, e);
+            ChunkAttempt retry = new ChunkAttempt();
+            attempt = retry;
+            try {
+                transactionTemplate.executeWithoutResult(status -> checkAndInsert(parishId, rows, true, retry));
+            } catch (DataAccessException retryFailure) {
+                log.warn("Sacrament chain import row-by-row retry failed for parish {}", parishId, retryFailure);
+                Set<Long> rejectedLines = retry.rejected.stream()
+                        .map(ImportResultResponse.RowError::getLine)
+                        .collect(Collectors.toSet());
+                retry.rejected.forEach(error -> addError(result, error.getLine(), error.getMessage()));
+                rows.stream()
+                        .filter(row -> !rejectedLines.contains(row.line))
+                        .forEach(row -> addError(result, row.line,
+                                "Batch insert failed; no rows of this batch were saved"));
+                return;
+            }
+        }
+        attempt.rejected.forEach(error -> addError(result, error.getLine(), error.getMessage()));
+        List<ChainRow> inserted = attempt.inserted;
+        if (inserted.isEmpty()) {
+            return;
+        }
+        result.setImportedRows(result.getImportedRows() + inserted.size());
+        result.setBatches(result.getBatches() + 1);
+        String lines = " lines:" + inserted.get(0).line + "-" + inserted.get(inserted.size() - 1).line;
+        int batch = result.getBatches();
+        logTier(SacramentType.COMMUNION, parishId, count(inserted, r -> r.communion != null), batch, lines);
+        logTier(SacramentType.CONFIRMATION, parishId, count(inserted, r -> r.confirmation != null), batch, lines);
+        logTier(SacramentType.MARRIAGE, parishId, count(inserted, r -> r.marriage != null), batch, lines);
+    }
+
+    /**
+     * Locks the chunk's baptisms, resolves their existing chain records (one query per table), applies the chain
+     * rules of the single-record creates in memory and inserts the accepted rows, all in the caller's
+     * transaction, so a concurrent import of the same baptisms cannot pass the same checks before this commits.
+     * Rows are inserted tier by tier as JDBC batches, or with {@code rowByRow} one row (all of its tiers) at a time
+     * under a savepoint.
+     */
+    private void checkAndInsert(Long parishId, List<ChainRow> rows, boolean rowByRow, ChunkAttempt attempt) {
+        List<Long> baptismIds = rows.stream().map(r -> r.baptismId).toList();
+        Map<Long, Long> parishByBaptism = baptismRepository.lockParishLinksByIdIn(baptismIds).stream()
+                .collect(Collectors.toMap(BaptismParishLink::getId, BaptismParishLink::getParishId));
+        Map<Long, Long> communionByBaptism = byBaptism(communionRepository.findLinksByBaptismIdIn(baptismIds));
+        Map<Long, Long> confirmationByBaptism = byBaptism(confirmationRepository.findLinksByBaptismIdIn(baptismIds));
+        Set<Long> married = byBaptism(marriageRepository.findLinksByBaptismIdIn(baptismIds)).keySet();
+        Set<Long> ordained = byBaptism(holyOrderRepository.findLinksByBaptismIdIn(baptismIds)).keySet();
+
+        List<ChainRow> accepted = new ArrayList<>(rows.size());
+        for (ChainRow row : rows) {
+            String error = checkChain(row, parishId, parishByBaptism, communionByBaptism, confirmationByBaptism,
+                    married, ordained);
+            if (error != null) {
+                attempt.rejected.add(new ImportResultResponse.RowError(row.line, error));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        if (!rowByRow) {
+            insertTiers(accepted, communionByBaptism, confirmationByBaptism);
+            attempt.inserted.addAll(accepted);
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        for (ChainRow row : accepted) {
+            String error = jdbcTemplate.execute((ConnectionCallback<String>) con ->
+                    insertRowUnderSavepoint(con, row, communionByBaptism.get(row.baptismId),
+                            confirmationByBaptism.get(row.baptismId), now));
+            if (error == null) {
+                attempt.inserted.add(row);
+            } else {
+                attempt.rejected.add(new ImportResultResponse.RowError(row.line, "Insert failed: " + error));
+            }
+        }
+    }
+
+    private static String checkChain(ChainRow row, Long parishId, Map<Long, Long> parishByBaptism,
+                                     Map<Long, Long> communionByBaptism, Map<Long, Long> confirmationByBaptism,
+                                     Set<Long> married, Set<Long> ordained) {
+        Long baptismId = row.baptismId;
+        if (!parishByBaptism.containsKey(baptismId)) {
+            return "Baptism not found: " + baptismId;
+        }
+        if (!parishId.equals(parishByBaptism.get(baptismId))) {
+            return "Baptism " + baptismId + " belongs to another parish";
+        }
+        if (row.communion != null && communionByBaptism.containsKey(baptismId)) {
+            return "First Holy Communion already exists for this baptism";
+        }
+        boolean hasCommunion = row.communion != null || communionByBaptism.containsKey(baptismId);
+        if (row.confirmation != null) {
+            if (confirmationByBaptism.containsKey(baptismId)) {
+                return "Confirmation already exists for this communion";
+            }
+            if (!hasCommunion) {
+                return "Confirmation requires a First Holy Communion for this baptism";
+            }
+        }
+        boolean hasConfirmation = row.confirmation != null || confirmationByBaptism.containsKey(baptismId);
+        if (row.marriage != null) {
+            if (married.contains(baptismId)) {
+                return "Marriage already exists for this confirmation";
+            }
+            if (ordained.contains(baptismId)) {
+                return "Cannot receive Marriage: person has already received Holy Order";
+            }
+            if (!hasConfirmation) {
+                return "Marriage requires a Confirmation for this baptism";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Inserts communions, then confirmations, then marriages. Ids generated for one tier are read back with a
+     * single query (baptism_id is unique per tier) only when the next tier needs them.
+     */
+    private void insertTiers(List<ChainRow> rows, Map<Long, Long> communionByBaptism,
+                              Map<Long, Long> confirmationByBaptism) {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<FirstHolyCommunion> communions = rows.stream()
+                .filter(r -> r.communion != null)
+                .map(r -> FirstHolyCommunionServiceImpl.toEntity(r.communion, baptismRef(r.baptismId)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_COMMUNION_SQL, communions, batchSize, (ps, c) -> bindCommunion(ps, c, now));
+        resolveNew(rows, r -> r.communion != null && (r.confirmation != null || r.marriage != null),
+                communionByBaptism, communionRepository::findLinksByBaptismIdIn);
+
+        List<Confirmation> confirmations = rows.stream()
+                .filter(r -> r.confirmation != null)
+                .map(r -> ConfirmationServiceImpl.toEntity(r.confirmation,
+                        communionRef(communionByBaptism.get(r.baptismId), r.baptismId)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_CONFIRMATION_SQL, confirmations, batchSize, (ps, c) -> bindConfirmation(ps, c, now));
+        resolveNew(rows, r -> r.confirmation != null && r.marriage != null,
+                confirmationByBaptism, confirmationRepository::findLinksByBaptismIdIn);
+
+        List<Marriage> marriages = rows.stream()
+                .filter(r -> r.marriage != null)
+                .map(r -> MarriageServiceImpl.toEntity(r.marriage, confirmationRef(
+                        confirmationByBaptism.get(r.baptismId), communionByBaptism.get(r.baptismId), r.baptismId)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_MARRIAGE_SQL, marriages, batchSize, (ps, m) -> bindMarriage(ps, m, now));
+    }
+
+    /**
+     * Inserts the tiers of one row on the transaction's connection, reading back each generated id the next tier
+     * needs. Rolls back to a savepoint when the database refuses any of them (PostgreSQL aborts the whole
+     * transaction on a failed statement otherwise), so a row is saved completely or not at all.
+     *
+     * @return null when inserted, otherwise the first line of the database's error message
+     */
+    private static String insertRowUnderSavepoint(Connection con, ChainRow row, Long communionId, Long confirmationId,
+                                                  Timestamp now) throws SQLException {
+        Savepoint savepoint = con.setSavepoint();
+        try {
+            if (row.communion != null) {
+                FirstHolyCommunion communion =
+                        FirstHolyCommunionServiceImpl.toEntity(row.communion, baptismRef(row.baptismId));
+                communionId = insertReturningId(con, INSERT_COMMUNION_SQL, ps -> bindCommunion(ps, communion, now));
+            }
+            if (row.confirmation != null) {
+                Confirmation confirmation = ConfirmationServiceImpl.toEntity(row.confirmation,
+                        communionRef(communionId, row.baptismId));
+                confirmationId = insertReturningId(con, INSERT_CONFIRMATION_SQL,
+                        ps -> bindConfirmation(ps, confirmation, now));
+            }
+            if (row.marriage != null) {
+                Marriage marriage = MarriageServiceImpl.toEntity(row.marriage,
+                        confirmationRef(confirmationId, communionId, row.baptismId));
+                insertReturningId(con, INSERT_MARRIAGE_SQL, ps -> bindMarriage(ps, marriage, now));
+            }
+        } catch (SQLException e) {
+            con.rollback(savepoint);
+            return String.valueOf(e.getMessage()).lines().findFirst().orElse("");
+        }
+        con.releaseSavepoint(savepoint);
+        return null;
+    }
+
+    private static Long insertReturningId(Connection con, String sql, PreparedStatementSetter setter) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql, new String[] {"id"})) {
+            setter.setValues(ps);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private static int count(List<ChainRow> rows, Predicate<ChainRow> tier) {
+        return (int) rows.stream().filter(tier).count();
+    }
+
+    private static void resolveNew(List<ChainRow> rows, Predicate<ChainRow> needed,
+                                   Map<Long, Long> idsByBaptism,
+                                   Function<Collection<Long>, List<SacramentLink>> lookup) {
+        List<Long> baptismIds = rows.stream().filter(needed).map(r -> r.baptismId).toList();
+        if (!baptismIds.isEmpty()) {
+            idsByBaptism.putAll(byBaptism(lookup.apply(baptismIds)));
+        }
+    }
+
+    private void logTier(SacramentType type, Long parishId, int rows, int batch, String lines) {
+        if (rows > 0) {
+            auditService.logImport(type, parishId, "import_batch:" + batch + " rows:" + rows + lines);
+        }
+    }
+
+    private static void bindCommunion(PreparedStatement ps, FirstHolyCommunion c, Timestamp createdAt) throws SQLException {
+        ps.setLong(1, c.getBaptism().getId());
+        ps.setDate(2, Date.valueOf(c.getCommunionDate()));
+        ps.setString(3, c.getOfficiatingPriest());
+        ps.setString(4, c.getParish());
+        ps.setTimestamp(5, createdAt);
+    }
+
+    private static void bindConfirmation(PreparedStatement ps, Confirmation c, Timestamp createdAt) throws SQLException {
+        ps.setLong(1, c.getBaptism().getId());
+        ps.setLong(2, c.getFirstHolyCommunion().getId());
+        ps.setDate(3, Date.valueOf(c.getConfirmationDate()));
+        ps.setString(4, c.getOfficiatingBishop());
+        ps.setString(5, c.getParish());
+        ps.setTimestamp(6, createdAt);
+    }
+
+    private static void bindMarriage(PreparedStatement ps, Marriage m, Timestamp createdAt) throws SQLException {
+        ps.setLong(1, m.getBaptism().getId());
+        ps.setLong(2, m.getFirstHolyCommunion().getId());
+        ps.setLong(3, m.getConfirmation().getId());
+        ps.setString(4, m.getPartnersName());
+        ps.setDate(5, Date.valueOf(m.getMarriageDate()));
+        if (m.getMarriageTime() != null) {
+            ps.setTime(6, Time.valueOf(m.getMarriageTime()));
+        } else {
+            ps.setNull(6, Types.TIME);
+        }
+        ps.setString(7, m.getChurchName());
+        ps.setString(8, m.getMarriageRegister());
+        ps.setString(9, m.getDiocese());
+        ps.setString(10, m.getCivilRegistryNumber());
+        if (m.getDispensationGranted() != null) {
+            ps.setBoolean(11, m.getDispensationGranted());
+        } else {
+            ps.setNull(11, Types.BOOLEAN);
+        }
+        ps.setString(12, m.getCanonicalNotes());
+        ps.setString(13, m.getOfficiatingPriest());
+        ps.setString(14, m.getParish());
+        ps.setTimestamp(15, createdAt);
+    }
+
+    private static Baptism baptismRef(Long baptismId) {
+        return Baptism.builder().id(baptismId).build();
+    }
+
+    private static FirstHolyCommunion communionRef(Long communionId, Long baptismId) {
+        return FirstHolyCommunion.builder().id(communionId).baptism(baptismRef(baptismId)).build();
+    }
+
+    private static Confirmation confirmationRef(Long confirmationId, Long communionId, Long baptismId) {
+        return Confirmation.builder()
+                .id(confirmationId)
+                .baptism(baptismRef(baptismId))
+                .firstHolyCommunion(communionRef(communionId, baptismId))
+                .build();
+    }
+
+    private static Map<Long, Long> byBaptism(List<SacramentLink> links) {
+        Map<Long, Long> map = new HashMap<>();
+        for (SacramentLink link : links) {
+            map.put(link.getBaptismId(), link.getId());
+        }
+        return map;
+    }
+
+    private static List<BiConsumer<ChainRow, String>> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty; expected a header row");
+        }
+        List<BiConsumer<ChainRow, String>> setters = new ArrayList<>(header.size());
+        for (String name : header) {
+            setters.add(COLUMNS.get(BaptismImportServiceImpl.normalizeHeader(name)));
+        }
+        if (!header.stream().map(BaptismImportServiceImpl::normalizeHeader).toList().contains("baptismid")) {
+            throw new IllegalArgumentException("CSV header must contain a baptismId column");
+        }
+        return setters;
+    }
+
+    private static Map<String, BiConsumer<ChainRow, String>> columns() {
+        Map<String, BiConsumer<ChainRow, String>> map = new HashMap<>();
+        map.put("baptismid", (r, v) -> r.baptismId = parseId(v));
+        map.put("communiondate", (r, v) -> r.communion().setCommunionDate(BaptismImportServiceImpl.parseDate("communionDate", v)));
+        map.put("communionofficiatingpriest", (r, v) -> r.communion().setOfficiatingPriest(v));
+        map.put("communionparish", (r, v) -> r.communion().setParish(v));
+        map.put("confirmationdate", (r, v) -> r.confirmation().setConfirmationDate(BaptismImportServiceImpl.parseDate("confirmationDate", v)));
+        map.put("confirmationofficiatingbishop", (r, v) -> r.confirmation().setOfficiatingBishop(v));
+        map.put("confirmationparish", (r, v) -> r.confirmation().setParish(v));
+        map.put("marriagedate", (r, v) -> r.marriage().setMarriageDate(BaptismImportServiceImpl.parseDate("marriageDate", v)));
+        map.put("marriagetime", (r, v) -> r.marriage().setMarriageTime(parseTime(v)));
+        map.put("partnersname", (r, v) -> r.marriage().setPartnersName(v));
+        map.put("marriageofficiatingpriest", (r, v) -> r.marriage().setOfficiatingPriest(v));
+        map.put("marriageparish", (r, v) -> r.marriage().setParish(v));
+        map.put("churchname", (r, v) -> r.marriage().setChurchName(v));
+        map.put("marriageregister", (r, v) -> r.marriage().setMarriageRegister(v));
+        map.put("diocese", (r, v) -> r.marriage().setDiocese(v));
+        map.put("civilregistrynumber", (r, v) -> r.marriage().setCivilRegistryNumber(v));
+        map.put("dispensationgranted", (r, v) -> r.marriage().setDispensationGranted(parseBoolean(v)));
+        map.put("canonicalnotes", (r, v) -> r.marriage().setCanonicalNotes(v));
+        return Map.copyOf(map);
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("baptismId: invalid id '" + value + "'");
+        }
+    }
+
+    private static LocalTime parseTime(String value) {
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("marriageTime: invalid time '" + value + "'");
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("dispensationGranted: invalid value '" + value + "'");
+        };
+    }
+
+    private static void addError(ImportResultResponse result, long line, String message) {
+        result.setFailedRows(result.getFailedRows() + 1);
+        if (result.getErrors().size() < BaptismImportServiceImpl.MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ImportResultResponse.RowError(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    /**
+     * Outcome of checking and inserting one chunk, filled in while its transaction runs.
+     */
+    private static final class ChunkAttempt {
+        /** Rows refused by the chain rules or, when inserting row by row, by the database. */
+        final List<ImportResultResponse.RowError> rejected = new ArrayList<>();
+        final List<ChainRow> inserted = new ArrayList<>();
+    }
+
+    /**
+     * One CSV row: the baptism and whichever later tiers have at least one column filled.
+     */
+    private static final class ChainRow {
+        final long line;
+        Long baptismId;
+        FirstHolyCommunionRequest communion;
+        ConfirmationRequest confirmation;
+        MarriageRequest marriage;
+
+        ChainRow(long line) {
+            this.line = line;
+        }
+
+        FirstHolyCommunionRequest communion() {
+            if (communion == null) {
+                communion = new FirstHolyCommunionRequest();
+            }
+            return communion;
+        }
+
+        ConfirmationRequest confirmation() {
+            if (confirmation == null) {
+                confirmation = new ConfirmationRequest();
+            }
+            return confirmation;
+        }
+
+        MarriageRequest marriage() {
+            if (marriage == null) {
+                marriage = new MarriageRequest();
+            }
+            return marriage;
+        }
+    }
+}
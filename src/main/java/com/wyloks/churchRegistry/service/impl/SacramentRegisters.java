@@ -0,0 +1,54 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.ConfirmationResponse;
+import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
+import com.wyloks.churchRegistry.dto.HolyOrderResponse;
+import com.wyloks.churchRegistry.dto.MarriageResponse;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.service.BaptismService;
+import com.wyloks.churchRegistry.service.ConfirmationService;
+import com.wyloks.churchRegistry.service.FirstHolyCommunionService;
+import com.wyloks.churchRegistry.service.HolyOrderService;
+import com.wyloks.churchRegistry.service.MarriageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Whole-parish register streams by sacrament type, shared by the register export and the diocese snapshot.
+ * Streams must be consumed and closed inside the caller's read-only transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class SacramentRegisters {
+
+    private static final Map<SacramentType, Class<?>> RESPONSE_TYPES = Map.of(
+            SacramentType.BAPTISM, BaptismResponse.class,
+            SacramentType.COMMUNION, FirstHolyCommunionResponse.class,
+            SacramentType.CONFIRMATION, ConfirmationResponse.class,
+            SacramentType.MARRIAGE, MarriageResponse.class,
+            SacramentType.HOLY_ORDER, HolyOrderResponse.class);
+
+    private final BaptismService baptismService;
+    private final FirstHolyCommunionService communionService;
+    private final ConfirmationService confirmationService;
+    private final MarriageService marriageService;
+    private final HolyOrderService holyOrderService;
+
+    Stream<?> open(SacramentType sacramentType, Long parishId) {
+        return switch (sacramentType) {
+            case BAPTISM -> baptismService.streamByParishId(parishId);
+            case COMMUNION -> communionService.streamByParishId(parishId);
+            case CONFIRMATION -> confirmationService.streamByParishId(parishId);
+            case MARRIAGE -> marriageService.streamByParishId(parishId);
+            case HOLY_ORDER -> holyOrderService.streamByParishId(parishId);
+        };
+    }
+
+    static Class<?> responseType(SacramentType sacramentType) {
+        return RESPONSE_TYPES.get(sacramentType);
+    }
+}
@@ -0,0 +1,228 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse;
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse.ParishStatistics;
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse.StatisticCell;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.entity.SacramentStatistic;
+import com.wyloks.churchRegistry.entity.SacramentStatistic.AgeBracket;
+import com.wyloks.churchRegistry.entity.SacramentStatistic.Gender;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.ConfirmationRepository;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.MarriageRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.SacramentStatisticRepository;
+import com.wyloks.churchRegistry.repository.projection.StatisticSlice;
+import com.wyloks.churchRegistry.repository.projection.StatisticSourceRow;
+import com.wyloks.churchRegistry.service.SacramentStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SacramentStatisticsServiceImpl implements SacramentStatisticsService {
+
+    static final List<SacramentType> REPORTED_TYPES = List.of(
+            SacramentType.BAPTISM, SacramentType.COMMUNION, SacramentType.CONFIRMATION, SacramentType.MARRIAGE);
+
+    /** Date range covering every stored record, for whole-parish rebuilds. */
+    private static final LocalDate EARLIEST = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    private static final Comparator<StatisticCell> CELL_ORDER = Comparator
+            .comparing((StatisticCell c) -> SacramentType.valueOf(c.getSacramentType()))
+            .thenComparing(c -> Gender.valueOf(c.getGender()))
+            .thenComparing(c -> AgeBracket.valueOf(c.getAgeBracket()));
+
+    private final SacramentStatisticRepository statisticRepository;
+    private final DioceseRepository dioceseRepository;
+    private final ParishRepository parishRepository;
+    private final BaptismRepository baptismRepository;
+    private final FirstHolyCommunionRepository communionRepository;
+    private final ConfirmationRepository confirmationRepository;
+    private final MarriageRepository marriageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AnnualStatisticsResponse getAnnualReport(Long dioceseId, int year) {
+        if (!dioceseRepository.existsById(dioceseId)) {
+            throw new IllegalArgumentException("Diocese not found: " + dioceseId);
+        }
+        List<SacramentStatistic> rows = statisticRepository.findByDioceseIdAndYear(dioceseId, year);
+        Map<Long, List<SacramentStatistic>> rowsByParish = rows.stream()
+                .collect(Collectors.groupingBy(SacramentStatistic::getParishId));
+
+        List<ParishStatistics> parishes = parishRepository.findByDioceseId(dioceseId).stream()
+                .sorted(Comparator.comparing(Parish::getParishName, String.CASE_INSENSITIVE_ORDER))
+                .map(p -> {
+                    List<SacramentStatistic> parishRows = rowsByParish.getOrDefault(p.getId(), List.of());
+                    return ParishStatistics.builder()
+                            .parishId(p.getId())
+                            .parishName(p.getParishName())
+                            .totals(totals(parishRows))
+                            .cells(cells(parishRows))
+                            .build();
+                })
+                .toList();
+
+        return AnnualStatisticsResponse.builder()
+                .dioceseId(dioceseId)
+                .year(year)
+                .refreshedAt(rows.stream().map(SacramentStatistic::getRefreshedAt).min(Comparator.naturalOrder()).orElse(null))
+                .totals(totals(rows))
+                .cells(cells(rows))
+                .parishes(parishes)
+                .build();
+    }
+
+    @Override
+    public int refreshCreatedSince(Instant since) {
+        OffsetDateTime createdAfter = since.atOffset(ZoneOffset.UTC);
+        Set<ParishYear> slices = new LinkedHashSet<>();
+        addSlices(slices, baptismRepository.findStatisticSlicesCreatedAfter(createdAfter));
+        addSlices(slices, communionRepository.findStatisticSlicesCreatedAfter(createdAfter));
+        addSlices(slices, confirmationRepository.findStatisticSlicesCreatedAfter(createdAfter));
+        addSlices(slices, marriageRepository.findStatisticSlicesCreatedAfter(createdAfter));
+        for (ParishYear slice : slices) {
+            LocalDate from = LocalDate.of(slice.year(), 1, 1);
+            transactionTemplate.executeWithoutResult(tx -> {
+                Map<Integer, Map<Cell, Long>> counts = aggregate(slice.parishId(), from, from.plusYears(1));
+                statisticRepository.deleteByParishIdAndYear(slice.parishId(), slice.year());
+                save(slice.parishId(), counts);
+            });
+        }
+        return slices.size();
+    }
+
+    @Override
+    public void rebuildAll() {
+        for (Parish parish : parishRepository.findAll()) {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Map<Integer, Map<Cell, Long>> counts = aggregate(parish.getId(), EARLIEST, LATEST);
+                statisticRepository.deleteByParishId(parish.getId());
+                save(parish.getId(), counts);
+            });
+        }
+    }
+
+    private static void addSlices(Set<ParishYear> slices, List<StatisticSlice> created) {
+        for (StatisticSlice s : created) {
+            if (s.getParishId() != null && s.getSacramentDate() != null) {
+                slices.add(new ParishYear(s.getParishId(), s.getSacramentDate().getYear()));
+            }
+        }
+    }
+
+    /** Counts per year and cell for the parish's records dated in [from, to). */
+    private Map<Integer, Map<Cell, Long>> aggregate(Long parishId, LocalDate from, LocalDate to) {
+        Map<Integer, Map<Cell, Long>> counts = new TreeMap<>();
+        count(counts, SacramentType.BAPTISM, baptismRepository.findStatisticRows(parishId, from, to));
+        count(counts, SacramentType.COMMUNION, communionRepository.findStatisticRows(parishId, from, to));
+        count(counts, SacramentType.CONFIRMATION, confirmationRepository.findStatisticRows(parishId, from, to));
+        count(counts, SacramentType.MARRIAGE, marriageRepository.findStatisticRows(parishId, from, to));
+        return counts;
+    }
+
+    private static void count(Map<Integer, Map<Cell, Long>> counts, SacramentType type, List<StatisticSourceRow> rows) {
+        for (StatisticSourceRow row : rows) {
+            Cell cell = new Cell(type, gender(row.getGender()), ageBracket(row.getDateOfBirth(), row.getSacramentDate()));
+            counts.computeIfAbsent(row.getSacramentDate().getYear(), y -> new HashMap<>()).merge(cell, 1L, Long::sum);
+        }
+    }
+
+    private void save(Long parishId, Map<Integer, Map<Cell, Long>> counts) {
+        Instant now = Instant.now();
+        List<SacramentStatistic> entities = new ArrayList<>();
+        counts.forEach((year, cells) -> cells.forEach((cell, count) -> entities.add(SacramentStatistic.builder()
+                .parishId(parishId)
+                .statYear(year)
+                .sacramentType(cell.type())
+                .gender(cell.gender())
+                .ageBracket(cell.ageBracket())
+                .recordCount(count)
+                .refreshedAt(now)
+                .build())));
+        statisticRepository.saveAll(entities);
+    }
+
+    /** Free-text gender as entered on the baptism record: M/Male and F/Female, anything else unknown. */
+    static Gender gender(String value) {
+        String normalized = value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+        if (normalized.equals("M") || normalized.equals("MALE")) {
+            return Gender.MALE;
+        }
+        if (normalized.equals("F") || normalized.equals("FEMALE")) {
+            return Gender.FEMALE;
+        }
+        return Gender.UNKNOWN;
+    }
+
+    static AgeBracket ageBracket(LocalDate dateOfBirth, LocalDate sacramentDate) {
+        if (dateOfBirth == null || sacramentDate == null || sacramentDate.isBefore(dateOfBirth)) {
+            return AgeBracket.UNKNOWN;
+        }
+        int years = Period.between(dateOfBirth, sacramentDate).getYears();
+        if (years < 1) {
+            return AgeBracket.UNDER_1;
+        }
+        if (years <= 6) {
+            return AgeBracket.AGE_1_TO_6;
+        }
+        return years <= 17 ? AgeBracket.AGE_7_TO_17 : AgeBracket.AGE_18_PLUS;
+    }
+
+    private static Map<String, Long> totals(List<SacramentStatistic> rows) {
+        Map<SacramentType, Long> byType = new EnumMap<>(SacramentType.class);
+        REPORTED_TYPES.forEach(t -> byType.put(t, 0L));
+        rows.forEach(r -> byType.merge(r.getSacramentType(), r.getRecordCount(), Long::sum));
+        Map<String, Long> totals = new LinkedHashMap<>();
+        byType.forEach((type, count) -> totals.put(type.name(), count));
+        return totals;
+    }
+
+    /** Cells summed over the given rows (parishes), in sacrament, gender, age bracket order. */
+    private static List<StatisticCell> cells(List<SacramentStatistic> rows) {
+        Map<Cell, Long> sums = new HashMap<>();
+        rows.forEach(r -> sums.merge(new Cell(r.getSacramentType(), r.getGender(), r.getAgeBracket()),
+                r.getRecordCount(), Long::sum));
+        return sums.entrySet().stream()
+                .map(e -> StatisticCell.builder()
+                        .sacramentType(e.getKey().type().name())
+                        .gender(e.getKey().gender().name())
+                        .ageBracket(e.getKey().ageBracket().name())
+                        .count(e.getValue())
+                        .build())
+                .sorted(CELL_ORDER)
+                .toList();
+    }
+
+    private record ParishYear(Long parishId, int year) {
+    }
+
+    private record Cell(SacramentType type, Gender gender, AgeBracket ageBracket) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.wyloks.churchRegistry.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wyloks.churchRegistry.service.RemoteFileService;
+import com.wyloks.churchRegistry.service.SnapshotStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps snapshots in a private Supabase Storage bucket ({@code app.snapshot.bucket}) as
+ * {@code diocese-<id>/<file name>}, so every instance serves the same files and they survive deploys. Uses the
+ * storage URL and service key that certificate uploads use (see {@link RemoteFileService}).
+ */
+@Service
+@ConditionalOnProperty(name = "app.snapshot.store", havingValue = "supabase")
+public class SupabaseSnapshotStore implements SnapshotStore {
+
+    /** Supabase caps a list call at 1000 objects; far more than the retained snapshots of one diocese. */
+    private static final int LIST_LIMIT = 1000;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final ObjectMapper objectMapper;
+    private final String bucket;
+    private final String baseUrl;
+    private final String apiKey;
+
+    public SupabaseSnapshotStore(RemoteFileService remoteFileService, ObjectMapper objectMapper,
+                                 @Value("${app.snapshot.bucket:diocese-snapshots}") String bucket) {
+        this.objectMapper = objectMapper;
+        this.bucket = bucket;
+        this.baseUrl = remoteFileService.storageObjectBaseUrl();
+        this.apiKey = remoteFileService.storageApiKey();
+        if (baseUrl.isBlank() || apiKey.isBlank()) {
+            throw new IllegalStateException("app.snapshot.store=supabase needs the Supabase storage URL and "
+                    + "SUPABASE_SERVICE_ROLE_KEY; set app.snapshot.store=local to keep snapshots on disk");
+        }
+    }
+
+    @Override
+    public void save(Long dioceseId, String fileName, Path file) throws IOException {
+        HttpRequest request = request(bucket + "/" + objectPath(dioceseId, fileName), Duration.ofMinutes(10))
+                .header("Content-Type", "application/zip")
+                .header("x-upsert", "true")
+                .POST(HttpRequest.BodyPublishers.ofFile(file))
+                .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        requireSuccess(response, "upload " + fileName);
+    }
+
+    @Override
+    public List<String> list(Long dioceseId) throws IOException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "prefix", folder(dioceseId),
+                "limit", LIST_LIMIT,
+                "offset", 0,
+                "sortBy", Map.of("column", "name", "order", "asc")));
+        HttpRequest request = request("list/" + bucket, Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        requireSuccess(response, "list snapshots of diocese " + dioceseId);
+        List<String> names = new ArrayList<>();
+        for (JsonNode object : objectMapper.readTree(response.body())) {
+            String name = object.path("name").asText("");
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    @Override
+    public Optional<Resource> open(Long dioceseId, String fileName) throws IOException {
+        HttpRequest request = request(bucket + "/" + objectPath(dioceseId, fileName), Duration.ofMinutes(10))
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+        int code = response.statusCode();
+        if (code >= 200 && code < 300) {
+            return Optional.of(new InputStreamResource(response.body()));
+        }
+        try (InputStream body = response.body()) {
+            String message = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            // Storage answers a missing object with 404, or 400 and a not_found body depending on its version
+            if (code == 404 || (code == 400 && message.contains("not_found"))) {
+                return Optional.empty();
+            }
+            throw new IOException("Snapshot storage failed to download " + fileName + ": HTTP " + code + " " + message);
+        }
+    }
+
+    @Override
+    public void delete(Long dioceseId, String fileName) throws IOException {
+        String body = objectMapper.writeValueAsString(Map.of("prefixes", List.of(objectPath(dioceseId, fileName))));
+        HttpRequest request = request(bucket, Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method("DELETE", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        requireSuccess(response, "delete " + fileName);
+    }
+
+    private HttpRequest.Builder request(String path, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("apikey", apiKey);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+        try {
+            return httpClient.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while calling snapshot storage");
+        }
+    }
+
+    private static void requireSuccess(HttpResponse<String> response, String action) throws IOException {
+        int code = response.statusCode();
+        if (code < 200 || code >= 300) {
+            throw new IOException("Snapshot storage failed to " + action + ": HTTP " + code + " " + response.body());
+        }
+    }
+
+    private String objectPath(Long dioceseId, String fileName) {
+        return folder(dioceseId) + "/" + fileName;
+    }
+
+    private static String folder(Long dioceseId) {
+        return "diocese-" + dioceseId;
+    }
+}
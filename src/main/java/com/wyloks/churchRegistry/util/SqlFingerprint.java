@@ -0,0 +1,32 @@
+package com.wyloks.churchRegistry.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to a fingerprint for logging: string and numeric literals become {@code ?}, {@code IN} lists collapse
+ * to {@code in (...)} and whitespace is normalized. Statements that differ only in their values share a
+ * fingerprint, and no values (which may be personal data) reach the logs.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * Fingerprint of the given SQL. Returns null for null input.
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMERIC_LITERAL.matcher(result).replaceAll("?");
+        result = IN_LIST.matcher(result).replaceAll("in (...)");
+        return WHITESPACE.matcher(result).replaceAll(" ").trim();
+    }
+}
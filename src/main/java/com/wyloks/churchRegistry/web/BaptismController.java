@@ -2,21 +2,30 @@ package com.wyloks.churchRegistry.web;
 
 import com.wyloks.churchRegistry.dto.BaptismRequest;
 import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.dto.PageCountMode;
 import com.wyloks.churchRegistry.dto.NoteUpdateRequest;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.BaptismImportService;
 import com.wyloks.churchRegistry.service.BaptismService;
 import com.wyloks.churchRegistry.service.SacramentAuditService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -24,15 +33,21 @@ import java.util.List;
 public class BaptismController {
 
     private final BaptismService baptismService;
+    private final BaptismImportService baptismImportService;
     private final SacramentAuthorizationService authorizationService;
     private final SacramentAuditService auditService;
 
     @GetMapping("/api/parishes/{parishId}/baptisms")
-    public Page<BaptismResponse> getByParish(
+    public Slice<BaptismResponse> getByParish(
             @PathVariable Long parishId,
+            @RequestParam(value = "count", required = false) String count,
             @PageableDefault(size = 50) Pageable pageable) {
         authorizationService.requireParishAccess(parishId);
-        Page<BaptismResponse> result = baptismService.findByParishId(parishId, pageable);
+        Slice<BaptismResponse> result = switch (PageCountMode.fromParam(count)) {
+            case NONE -> baptismService.findSliceByParishId(parishId, pageable);
+            case ESTIMATED -> baptismService.findByParishIdWithEstimatedTotal(parishId, pageable);
+            case EXACT -> baptismService.findByParishId(parishId, pageable);
+        };
         auditService.logReadList(SacramentType.BAPTISM, parishId);
         return result;
     }
@@ -51,6 +66,23 @@ public class BaptismController {
         return result;
     }
 
+    /**
+     * Bulk import from a CSV upload (multipart field {@code file}). Returns 200 with per-row errors; rows that
+     * fail validation are skipped and the rest are saved.
+     */
+    @PostMapping(value = "/api/parishes/{parishId}/baptisms/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ImportResultResponse importCsv(@PathVariable Long parishId, @RequestParam("file") MultipartFile file) {
+        authorizationService.requireWriteAccessForParish(parishId);
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A non-empty CSV file is required.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return baptismImportService.importCsv(parishId, in);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read uploaded CSV file.", e);
+        }
+    }
+
     @GetMapping("/api/baptisms/{id}")
     public ResponseEntity<BaptismResponse> getById(@PathVariable Long id) {
         authorizationService.findBaptismParishId(id).ifPresent(authorizationService::requireParishAccess);
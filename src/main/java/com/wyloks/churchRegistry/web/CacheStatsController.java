@@ -0,0 +1,27 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.CacheStatsCollector;
+import com.wyloks.churchRegistry.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Hit ratio, evictions, size and load time of each cache on the instance that serves the request. Access
+ * restricted to ADMIN and SUPER_ADMIN ({@code /api/admin/**}).
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CacheStatsCollector cacheStatsCollector;
+
+    @GetMapping("/stats")
+    public List<CacheStatsResponse> getStats() {
+        return cacheStatsCollector.snapshot();
+    }
+}
@@ -156,8 +156,7 @@ public class CertificateController {
         authorizationService.findMarriageParishId(id).ifPresent(authorizationService::requireParishAccess);
         Long parishId = authorizationService.findMarriageParishId(id).orElse(null);
         auditService.logCertificateDownload(SacramentType.MARRIAGE, id, parishId, "party_" + type);
-        Integer legacyMarriageId = Math.toIntExact(id);
-        List<MarriagePartyLegacy> parties = marriagePartyLegacyRepository.findByMarriageId(legacyMarriageId);
+        List<MarriagePartyLegacy> parties = marriagePartyLegacyRepository.findByMarriageId(id);
         String normalizedRole = role.trim().toUpperCase(Locale.ROOT);
         MarriagePartyLegacy party = parties.stream()
                 .filter(p -> normalizedRole.equals(p.getRole() != null ? p.getRole().trim().toUpperCase(Locale.ROOT) : null))
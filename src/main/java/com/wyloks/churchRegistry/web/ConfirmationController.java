@@ -2,6 +2,7 @@ package com.wyloks.churchRegistry.web;
 
 import com.wyloks.churchRegistry.dto.ConfirmationRequest;
 import com.wyloks.churchRegistry.dto.ConfirmationResponse;
+import com.wyloks.churchRegistry.dto.PageCountMode;
 import com.wyloks.churchRegistry.dto.NoteUpdateRequest;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
@@ -12,8 +13,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -35,11 +36,16 @@ public class ConfirmationController {
     private final SacramentAuditService auditService;
 
     @GetMapping("/parishes/{parishId}/confirmations")
-    public Page<ConfirmationResponse> getByParish(
+    public Slice<ConfirmationResponse> getByParish(
             @PathVariable Long parishId,
+            @RequestParam(value = "count", required = false) String count,
             @PageableDefault(size = 50) Pageable pageable) {
         authorizationService.requireParishAccess(parishId);
-        Page<ConfirmationResponse> result = confirmationService.findByParishId(parishId, pageable);
+        Slice<ConfirmationResponse> result = switch (PageCountMode.fromParam(count)) {
+            case NONE -> confirmationService.findSliceByParishId(parishId, pageable);
+            case ESTIMATED -> confirmationService.findByParishIdWithEstimatedTotal(parishId, pageable);
+            case EXACT -> confirmationService.findByParishId(parishId, pageable);
+        };
         auditService.logReadList(SacramentType.CONFIRMATION, parishId);
         return result;
     }
@@ -13,7 +13,7 @@ import java.util.Map;
 
 /**
  * Dashboard endpoints. Consolidated /dashboard returns counts + recent records in one call.
- * Parish dashboard is cached for 2 minutes to reduce database load.
+ * Parish dashboard is cached to reduce database load; entries are evicted when the parish's sacraments change.
  */
 @RestController
 @RequestMapping("/api/parishes")
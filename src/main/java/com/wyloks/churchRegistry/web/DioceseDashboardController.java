@@ -13,7 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
  * Diocese-level dashboard endpoints. Returns aggregated counts, parish activity,
  * cross-parish recent sacraments, and monthly chart data.
  * Access restricted to ADMIN and SUPER_ADMIN.
- * Diocese dashboard is cached for 2 minutes to reduce database load.
+ * Diocese dashboard is cached to reduce database load; entries are evicted when the diocese's sacraments change.
  */
 @RestController
 @RequestMapping("/api/dioceses")
@@ -0,0 +1,45 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.DioceseSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Download of the nightly diocese analytics snapshot (see {@link DioceseSnapshotService}), for statisticians who
+ * would otherwise page through dashboards. Access restricted to ADMIN and SUPER_ADMIN, like the diocese dashboard.
+ */
+@RestController
+@RequestMapping("/api/dioceses")
+@RequiredArgsConstructor
+public class DioceseSnapshotController {
+
+    private final DioceseSnapshotService snapshotService;
+    private final SacramentAuthorizationService authorizationService;
+
+    @GetMapping("/{dioceseId}/snapshots/latest")
+    public ResponseEntity<Resource> downloadLatest(@PathVariable Long dioceseId) throws IOException {
+        authorizationService.requireDioceseAccess(dioceseId);
+        Optional<DioceseSnapshotService.Snapshot> latest = snapshotService.findLatest(dioceseId);
+        if (latest.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        DioceseSnapshotService.Snapshot snapshot = latest.get();
+        String fileName = "diocese-" + dioceseId + "-" + snapshot.fileName();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(snapshot.content());
+    }
+}
@@ -4,6 +4,7 @@ import com.wyloks.churchRegistry.dto.BaptismRequest;
 import com.wyloks.churchRegistry.dto.BaptismResponse;
 import com.wyloks.churchRegistry.dto.FirstHolyCommunionRequest;
 import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
+import com.wyloks.churchRegistry.dto.PageCountMode;
 import com.wyloks.churchRegistry.dto.NoteUpdateRequest;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
@@ -18,8 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,11 +45,16 @@ public class FirstHolyCommunionController {
     private static final long MAX_CERTIFICATE_SIZE = 2L * 1024 * 1024;
 
     @GetMapping("/parishes/{parishId}/communions")
-    public Page<FirstHolyCommunionResponse> getByParish(
+    public Slice<FirstHolyCommunionResponse> getByParish(
             @PathVariable Long parishId,
+            @RequestParam(value = "count", required = false) String count,
             @PageableDefault(size = 50) Pageable pageable) {
         authorizationService.requireParishAccess(parishId);
-        Page<FirstHolyCommunionResponse> result = communionService.findByParishId(parishId, pageable);
+        Slice<FirstHolyCommunionResponse> result = switch (PageCountMode.fromParam(count)) {
+            case NONE -> communionService.findSliceByParishId(parishId, pageable);
+            case ESTIMATED -> communionService.findByParishIdWithEstimatedTotal(parishId, pageable);
+            case EXACT -> communionService.findByParishId(parishId, pageable);
+        };
         auditService.logReadList(SacramentType.COMMUNION, parishId);
         return result;
     }
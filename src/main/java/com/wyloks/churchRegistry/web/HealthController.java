@@ -1,5 +1,8 @@
 package com.wyloks.churchRegistry.web;
 
+import com.wyloks.churchRegistry.service.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -7,12 +10,24 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
+/**
+ * Health check used by Fly. Returns 503 while the startup cache warm-up is still running (bounded by
+ * {@code app.cache.warmup.timeout}), so a new machine gets traffic only once its caches are warm.
+ */
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final CacheWarmupService cacheWarmupService;
+
     @GetMapping
     public ResponseEntity<Map<String, String>> health() {
-        return ResponseEntity.ok(Map.of("status", "ok"));
+        String cacheWarmup = cacheWarmupService.getState().name().toLowerCase();
+        if (!cacheWarmupService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("status", "warming_up", "cacheWarmup", cacheWarmup));
+        }
+        return ResponseEntity.ok(Map.of("status", "ok", "cacheWarmup", cacheWarmup));
     }
 }
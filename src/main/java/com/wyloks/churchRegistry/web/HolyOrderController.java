@@ -2,6 +2,7 @@ package com.wyloks.churchRegistry.web;
 
 import com.wyloks.churchRegistry.dto.HolyOrderRequest;
 import com.wyloks.churchRegistry.dto.HolyOrderResponse;
+import com.wyloks.churchRegistry.dto.PageCountMode;
 import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
 import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
 import com.wyloks.churchRegistry.service.HolyOrderService;
@@ -10,8 +11,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,11 +28,16 @@ public class HolyOrderController {
     private final SacramentAuditService auditService;
 
     @GetMapping("/parishes/{parishId}/holy-orders")
-    public Page<HolyOrderResponse> getByParish(
+    public Slice<HolyOrderResponse> getByParish(
             @PathVariable Long parishId,
+            @RequestParam(value = "count", required = false) String count,
             @PageableDefault(size = 50) Pageable pageable) {
         authorizationService.requireParishAccess(parishId);
-        Page<HolyOrderResponse> result = holyOrderService.findByParishId(parishId, pageable);
+        Slice<HolyOrderResponse> result = switch (PageCountMode.fromParam(count)) {
+            case NONE -> holyOrderService.findSliceByParishId(parishId, pageable);
+            case ESTIMATED -> holyOrderService.findByParishIdWithEstimatedTotal(parishId, pageable);
+            case EXACT -> holyOrderService.findByParishId(parishId, pageable);
+        };
         auditService.logReadList(SacramentType.HOLY_ORDER, parishId);
         return result;
     }
@@ -0,0 +1,57 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.dto.ImportJobResponse;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Background bulk imports for uploads too large to process within a request.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+    private final SacramentAuthorizationService authorizationService;
+
+    /**
+     * Queues a baptism CSV (same format as {@code /baptisms/import}); poll {@code GET /api/import-jobs/{id}} for progress.
+     */
+    @PostMapping(value = "/parishes/{parishId}/baptisms/import-jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> submitBaptismImport(
+            @PathVariable Long parishId,
+            @RequestParam("file") MultipartFile file) {
+        authorizationService.requireWriteAccessForParish(parishId);
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A non-empty CSV file is required.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            ImportJobResponse job = importJobService.submit(parishId, SacramentType.BAPTISM, file.getOriginalFilename(), in);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read uploaded CSV file.", e);
+        }
+    }
+
+    @GetMapping("/import-jobs/{id}")
+    public ResponseEntity<ImportJobResponse> getJob(@PathVariable Long id) {
+        return importJobService.findById(id)
+                .map(job -> {
+                    authorizationService.requireParishAccess(job.getParishId());
+                    return ResponseEntity.ok(job);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -3,6 +3,7 @@ package com.wyloks.churchRegistry.web;
 import com.wyloks.churchRegistry.dto.MarriageRequest;
 import com.wyloks.churchRegistry.dto.CreateMarriageWithPartiesRequest;
 import com.wyloks.churchRegistry.dto.MarriageResponse;
+import com.wyloks.churchRegistry.dto.PageCountMode;
 import com.wyloks.churchRegistry.dto.NoteUpdateRequest;
 import com.wyloks.churchRegistry.dto.SacramentNoteResponse;
 import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
@@ -15,8 +16,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -34,11 +35,16 @@ public class MarriageController {
     private final SacramentAuditService auditService;
 
     @GetMapping("/parishes/{parishId}/marriages")
-    public Page<MarriageResponse> getByParish(
+    public Slice<MarriageResponse> getByParish(
             @PathVariable Long parishId,
+            @RequestParam(value = "count", required = false) String count,
             @PageableDefault(size = 50) Pageable pageable) {
         authorizationService.requireParishAccess(parishId);
-        Page<MarriageResponse> result = marriageService.findByParishId(parishId, pageable);
+        Slice<MarriageResponse> result = switch (PageCountMode.fromParam(count)) {
+            case NONE -> marriageService.findSliceByParishId(parishId, pageable);
+            case ESTIMATED -> marriageService.findByParishIdWithEstimatedTotal(parishId, pageable);
+            case EXACT -> marriageService.findByParishId(parishId, pageable);
+        };
         auditService.logReadList(SacramentType.MARRIAGE, parishId);
         return result;
     }
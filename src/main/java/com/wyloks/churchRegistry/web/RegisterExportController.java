@@ -0,0 +1,59 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.dto.ExportFormat;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.RegisterExportService;
+import com.wyloks.churchRegistry.service.SacramentAuditService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Whole-register downloads per parish. Rows are written to the response as they are read, on the request
+ * thread so the RLS session context still applies.
+ */
+@RestController
+@RequiredArgsConstructor
+public class RegisterExportController {
+
+    private static final Map<String, SacramentType> REGISTERS = Map.of(
+            "baptisms", SacramentType.BAPTISM,
+            "communions", SacramentType.COMMUNION,
+            "confirmations", SacramentType.CONFIRMATION,
+            "marriages", SacramentType.MARRIAGE,
+            "holy-orders", SacramentType.HOLY_ORDER);
+
+    private final RegisterExportService exportService;
+    private final SacramentAuthorizationService authorizationService;
+    private final SacramentAuditService auditService;
+
+    /**
+     * {@code GET /api/parishes/{parishId}/baptisms/export?format=csv|ndjson} and likewise for communions,
+     * confirmations, marriages and holy-orders. Sent as an attachment; the format defaults to CSV.
+     */
+    @GetMapping("/api/parishes/{parishId}/{register:baptisms|communions|confirmations|marriages|holy-orders}/export")
+    public void export(
+            @PathVariable Long parishId,
+            @PathVariable String register,
+            @RequestParam(value = "format", required = false) String format,
+            HttpServletResponse response) throws IOException {
+        authorizationService.requireParishAccess(parishId);
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        SacramentType sacramentType = REGISTERS.get(register);
+        String fileName = register + "-parish-" + parishId + "." + exportFormat.getFileExtension();
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        long rows = exportService.export(sacramentType, parishId, exportFormat, response.getOutputStream());
+        auditService.logExport(sacramentType, parishId, "format=" + exportFormat.getFileExtension() + ",rows=" + rows);
+    }
+}
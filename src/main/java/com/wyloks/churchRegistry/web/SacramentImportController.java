@@ -0,0 +1,40 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.SacramentChainImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SacramentImportController {
+
+    private final SacramentChainImportService chainImportService;
+    private final SacramentAuthorizationService authorizationService;
+
+    /**
+     * Bulk import of communions, confirmations and marriages for the parish's baptisms from a CSV upload
+     * (multipart field {@code file}). Returns 200 with per-row errors; rejected rows are skipped.
+     */
+    @PostMapping(value = "/parishes/{parishId}/sacrament-chains/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ImportResultResponse importChains(@PathVariable Long parishId, @RequestParam("file") MultipartFile file) {
+        authorizationService.requireWriteAccessForParish(parishId);
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A non-empty CSV file is required.");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return chainImportService.importCsv(parishId, in);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read uploaded CSV file.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.SacramentStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Annual sacrament statistics for diocesan returns: the whole report (every parish, by sacrament, gender and
+ * age bracket) in one call. Access restricted to ADMIN and SUPER_ADMIN, like the diocese dashboard.
+ */
+@RestController
+@RequestMapping("/api/dioceses")
+@RequiredArgsConstructor
+public class SacramentStatisticsController {
+
+    private final SacramentStatisticsService statisticsService;
+    private final SacramentAuthorizationService authorizationService;
+
+    @GetMapping("/{dioceseId}/statistics/{year}")
+    public AnnualStatisticsResponse getAnnualReport(@PathVariable Long dioceseId, @PathVariable int year) {
+        authorizationService.requireDioceseAccess(dioceseId);
+        return statisticsService.getAnnualReport(dioceseId, year);
+    }
+}
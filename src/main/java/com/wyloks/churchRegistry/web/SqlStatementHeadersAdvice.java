@@ -0,0 +1,47 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.SqlStatementStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code X-SQL-Statement-Count} and {@code X-SQL-Time-Ms} to response bodies written by controllers, so
+ * statement counts can be checked from the browser or client while developing. Enabled with
+ * {@code app.sql.response-headers} (off in prod). Statements run after the body is written (there should be none)
+ * are not included.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.sql.response-headers", havingValue = "true")
+public class SqlStatementHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        SqlStatementStats.Snapshot stats = SqlStatementStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(stats.statements()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(stats.time().toMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,65 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory (no Redis) cache setup and {@link CacheEvictionReporter}.
+ */
+class CacheConfigTest {
+
+    @Test
+    void cacheSpecs_appliesPerCacheOverrides() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.dioceses-with-parishes", "maximumSize=2,expireAfterWrite=1m");
+
+        Map<String, String> specs = CacheConfig.cacheSpecs(environment);
+
+        assertThat(specs.get(CacheConfig.CACHE_DIOCESES_WITH_PARISHES)).isEqualTo("maximumSize=2,expireAfterWrite=1m");
+        assertThat(specs.get(CacheConfig.CACHE_PARISHES_BY_DIOCESE))
+                .isEqualTo(CacheConfig.DEFAULT_CACHE_SPECS.get(CacheConfig.CACHE_PARISHES_BY_DIOCESE));
+        assertThat(specs.keySet()).containsAll(CacheConfig.DEFAULT_CACHE_SPECS.keySet());
+    }
+
+    @Test
+    void localCacheManager_boundsEveryCache_andRejectsUnknownNames() {
+        CaffeineCacheManager manager = CacheConfig.localCacheManager(Map.of(
+                CacheConfig.CACHE_PARISHES_BY_DIOCESE, "maximumSize=2"));
+        org.springframework.cache.Cache cache = manager.getCache(CacheConfig.CACHE_PARISHES_BY_DIOCESE);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("diocese:1::parishes:" + i, "value");
+        }
+        Cache<?, ?> nativeCache = (Cache<?, ?>) cache.getNativeCache();
+        nativeCache.cleanUp();
+
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(manager.getCache("not-configured")).isNull();
+    }
+
+    @Test
+    void evictionReporter_reportsEvictionsSinceLastReport() {
+        CaffeineCacheManager manager = CacheConfig.localCacheManager(Map.of(
+                CacheConfig.CACHE_PARISHES_BY_DIOCESE, "maximumSize=1",
+                CacheConfig.CACHE_DIOCESES_WITH_PARISHES, "maximumSize=10"));
+        CacheEvictionReporter reporter = new CacheEvictionReporter(manager);
+        org.springframework.cache.Cache cache = manager.getCache(CacheConfig.CACHE_PARISHES_BY_DIOCESE);
+        manager.getCache(CacheConfig.CACHE_DIOCESES_WITH_PARISHES).put("admin", "value");
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        ((Cache<?, ?>) cache.getNativeCache()).cleanUp();
+
+        assertThat(reporter.evictionsSinceLastReport())
+                .containsOnlyKeys(CacheConfig.CACHE_PARISHES_BY_DIOCESE)
+                .containsEntry(CacheConfig.CACHE_PARISHES_BY_DIOCESE, 2L);
+        assertThat(reporter.evictionsSinceLastReport()).isEmpty();
+    }
+}
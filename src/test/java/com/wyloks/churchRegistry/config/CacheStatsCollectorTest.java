@@ -0,0 +1,119 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wyloks.churchRegistry.dto.CacheStatsResponse;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CacheStatsCollector} and
+ * {@link LayeredCacheMeterBinderProvider}.
+ */
+class CacheStatsCollectorTest {
+
+    @Test
+    void snapshot_reportsLocalStatsThroughRefreshAheadWrapper() {
+        CacheManager manager = new RefreshAheadCacheManager(
+                CacheConfig.localCacheManager(CacheConfig.DEFAULT_CACHE_SPECS),
+                Map.of(CacheConfig.CACHE_PARISH_DASHBOARD, Duration.ofMinutes(10)), 100, Runnable::run);
+        Cache dashboards = manager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+        dashboards.get(1L, () -> "dashboard");
+        dashboards.get(1L, () -> "dashboard");
+        dashboards.get(1L, () -> "dashboard");
+
+        CacheStatsResponse stats = stats(manager, CacheConfig.CACHE_PARISH_DASHBOARD);
+
+        assertThat(stats.getShared()).isNull();
+        assertThat(stats.getLocal().getHits()).isEqualTo(2);
+        assertThat(stats.getLocal().getMisses()).isEqualTo(1);
+        assertThat(stats.getLocal().getHitRatio()).isCloseTo(2 / 3d, offset(1e-9));
+        assertThat(stats.getLocal().getEstimatedSize()).isEqualTo(1);
+        assertThat(stats.getLocal().getEvictions()).isZero();
+        assertThat(stats.getLocal().getAverageLoadMillis()).isNotNull();
+        assertThat(stats(manager, CacheConfig.CACHE_DIOCESE_DASHBOARD).getLocal().getHitRatio())
+                .as("no reads yet")
+                .isNull();
+    }
+
+    @Test
+    void snapshot_reportsBothTiersOfTwoTierCache() {
+        CacheManager manager = twoTierManager(redisCache(7, 3));
+        manager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD).put(1L, "dashboard");
+
+        CacheStatsResponse stats = stats(manager, CacheConfig.CACHE_PARISH_DASHBOARD);
+
+        assertThat(stats.getLocal().getEstimatedSize()).isEqualTo(1);
+        assertThat(stats.getShared().getHits()).isEqualTo(7);
+        assertThat(stats.getShared().getMisses()).isEqualTo(3);
+        assertThat(stats.getShared().getHitRatio()).isEqualTo(0.7);
+        assertThat(stats.getShared().getEstimatedSize()).isNull();
+    }
+
+    @Test
+    void meterBinder_tagsEachTierOfTwoTierCache() {
+        CacheManager manager = twoTierManager(redisCache(7, 3));
+        Cache cache = manager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+        cache.get(1L, () -> "dashboard");
+        cache.get(1L, () -> "dashboard");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new LayeredCacheMeterBinderProvider()
+                .getMeterBinder(cache, Tags.of("cache.manager", "cacheManager"))
+                .bindTo(registry);
+
+        assertThat(registry.get("cache.gets").tags("cache", CacheConfig.CACHE_PARISH_DASHBOARD,
+                "tier", "local", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("tier", "shared", "result", "hit")
+                .functionCounter().count()).isEqualTo(7);
+        assertThat(registry.get("cache.size").tags("tier", "local").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void meterBinder_leavesPlainCaffeineCachesToSpringBoot() {
+        CacheManager manager = CacheConfig.localCacheManager(CacheConfig.DEFAULT_CACHE_SPECS);
+
+        assertThat(new LayeredCacheMeterBinderProvider()
+                .getMeterBinder(manager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD), Tags.empty()))
+                .isNull();
+    }
+
+    private static CacheStatsResponse stats(CacheManager manager, String name) {
+        return new CacheStatsCollector(manager).snapshot().stream()
+                .filter(s -> s.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static RedisCache redisCache(long hits, long misses) {
+        RedisCache cache = mock(RedisCache.class);
+        CacheStatistics statistics = mock(CacheStatistics.class);
+        when(cache.getName()).thenReturn(CacheConfig.CACHE_PARISH_DASHBOARD);
+        when(cache.getStatistics()).thenReturn(statistics);
+        when(statistics.getHits()).thenReturn(hits);
+        when(statistics.getMisses()).thenReturn(misses);
+        return cache;
+    }
+
+    private static CacheManager twoTierManager(RedisCache shared) {
+        SimpleCacheManager sharedManager = new SimpleCacheManager();
+        sharedManager.setCaches(List.of(shared));
+        sharedManager.afterPropertiesSet();
+        return new TwoTierCacheManager(sharedManager, Map.of(),
+                () -> Caffeine.newBuilder().maximumSize(10).recordStats(), mock(CacheInvalidationBus.class));
+    }
+}
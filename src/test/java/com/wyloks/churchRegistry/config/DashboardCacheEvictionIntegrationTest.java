@@ -0,0 +1,124 @@
+package com.wyloks.churchRegistry.config;
+
+import com.wyloks.churchRegistry.dto.BaptismRequest;
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.service.BaptismService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies sacrament writes evict exactly the affected parish and diocese dashboard entries, after commit.
+ */
+@SpringBootTest
+class DashboardCacheEvictionIntegrationTest {
+
+    @Autowired
+    BaptismService baptismService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    Cache parishDashboards;
+    Cache dioceseDashboards;
+    Parish parish;
+    Parish otherParish;
+
+    @BeforeEach
+    void setUp() {
+        long seed = System.nanoTime();
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Eviction Diocese " + seed)
+                .code("EV" + (seed % 10000))
+                .description("Cache eviction test")
+                .build());
+        Diocese otherDiocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Eviction Other Diocese " + seed)
+                .code("EO" + (seed % 10000))
+                .description("Cache eviction test")
+                .build());
+        parish = parishRepository.save(Parish.builder().parishName("Eviction Parish " + seed)
+                .diocese(diocese).description("A").build());
+        otherParish = parishRepository.save(Parish.builder().parishName("Eviction Other Parish " + seed)
+                .diocese(otherDiocese).description("B").build());
+
+        parishDashboards = cacheManager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+        dioceseDashboards = cacheManager.getCache(CacheConfig.CACHE_DIOCESE_DASHBOARD);
+        parishDashboards.put(parish.getId(), "parish");
+        parishDashboards.put(otherParish.getId(), "other parish");
+        dioceseDashboards.put(diocese.getId(), "diocese");
+        dioceseDashboards.put(otherDiocese.getId(), "other diocese");
+    }
+
+    @Test
+    void createBaptism_evictsItsParishAndDioceseDashboards_afterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            baptismService.create(parish.getId(), request());
+            assertThat(parishDashboards.get(parish.getId()))
+                    .as("entries survive until the write commits")
+                    .isNotNull();
+        });
+
+        assertThat(parishDashboards.get(parish.getId())).isNull();
+        assertThat(dioceseDashboards.get(parish.getDiocese().getId())).isNull();
+        assertThat(parishDashboards.get(otherParish.getId())).isNotNull();
+        assertThat(dioceseDashboards.get(otherParish.getDiocese().getId())).isNotNull();
+    }
+
+    @Test
+    void updateNote_evictsItsParishAndDioceseDashboards() {
+        BaptismResponse created = baptismService.create(parish.getId(), request());
+        parishDashboards.put(parish.getId(), "parish");
+        dioceseDashboards.put(parish.getDiocese().getId(), "diocese");
+
+        baptismService.updateNote(created.getId(), "Corrected spelling");
+
+        assertThat(parishDashboards.get(parish.getId())).isNull();
+        assertThat(dioceseDashboards.get(parish.getDiocese().getId())).isNull();
+        assertThat(parishDashboards.get(otherParish.getId())).isNotNull();
+    }
+
+    @Test
+    void rolledBackWrite_keepsCachedDashboards() {
+        transactionTemplate.executeWithoutResult(status -> {
+            baptismService.create(parish.getId(), request());
+            status.setRollbackOnly();
+        });
+
+        assertThat(parishDashboards.get(parish.getId())).isNotNull();
+        assertThat(dioceseDashboards.get(parish.getDiocese().getId())).isNotNull();
+    }
+
+    private static BaptismRequest request() {
+        return BaptismRequest.builder()
+                .baptismName("ada")
+                .surname("eze")
+                .gender("F")
+                .dateOfBirth(LocalDate.of(2020, 1, 1))
+                .fathersName("Obi Eze")
+                .mothersName("Ngozi Eze")
+                .sponsorNames("Ife")
+                .build();
+    }
+}
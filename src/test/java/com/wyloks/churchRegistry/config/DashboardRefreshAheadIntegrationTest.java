@@ -0,0 +1,61 @@
+package com.wyloks.churchRegistry.config;
+
+import com.wyloks.churchRegistry.dto.DashboardResponse;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Verifies refresh-ahead through the real {@code @Cacheable(sync = true)} proxy: a stale hit returns the cached
+ * dashboard and the background refresh replaces it.
+ */
+@SpringBootTest
+@TestPropertySource(properties = "app.cache.refresh-after.parish-dashboard=PT0.05S")
+class DashboardRefreshAheadIntegrationTest {
+
+    @Autowired
+    DashboardService dashboardService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Test
+    void staleDashboard_isServedThenRecomputedInBackground() throws Exception {
+        long seed = System.nanoTime();
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Refresh Diocese " + seed)
+                .code("RA" + (seed % 10000))
+                .description("Refresh-ahead test")
+                .build());
+        Parish parish = parishRepository.save(Parish.builder().parishName("Refresh Parish " + seed)
+                .diocese(diocese).description("A").build());
+        Cache dashboards = cacheManager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+
+        DashboardResponse first = dashboardService.getDashboard(parish.getId());
+        Thread.sleep(100);
+        DashboardResponse stale = dashboardService.getDashboard(parish.getId());
+
+        assertThat(stale).isSameAs(first);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(dashboards.get(parish.getId()).get()).isNotSameAs(first).isEqualTo(first));
+    }
+}
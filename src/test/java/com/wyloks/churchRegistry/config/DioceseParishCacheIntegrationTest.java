@@ -176,6 +176,9 @@ class DioceseParishCacheIntegrationTest {
         if (nativeCache instanceof Map<?, ?> map) {
             return map.size();
         }
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return caffeine.asMap().size();
+        }
         return 0;
     }
 
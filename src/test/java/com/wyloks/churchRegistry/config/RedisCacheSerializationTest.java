@@ -0,0 +1,71 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.DashboardResponse;
+import com.wyloks.churchRegistry.dto.DioceseDashboardResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cached dashboard values must survive the Redis value serializer, including the immutable and unmodifiable
+ * collections the services build them from.
+ */
+class RedisCacheSerializationTest {
+
+    GenericJackson2JsonRedisSerializer serializer =
+            CacheConfig.redisValueSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void parishDashboard_roundTrips() {
+        BaptismResponse baptism = BaptismResponse.builder()
+                .id(1L)
+                .baptismName("Ada")
+                .dateOfBirth(LocalDate.of(2020, 1, 1))
+                .createdAt(OffsetDateTime.of(2024, 5, 1, 10, 0, 0, 0, ZoneOffset.UTC))
+                .build();
+        DashboardResponse response = DashboardResponse.builder()
+                .counts(Map.of("baptisms", 1L, "marriages", 0L))
+                .baptisms(new PageImpl<>(List.of(baptism)).getContent())
+                .communions(List.of())
+                .confirmations(List.of())
+                .marriages(List.of())
+                .build();
+
+        assertThat(roundTrip(response)).isEqualTo(response);
+    }
+
+    @Test
+    void dioceseDashboard_roundTrips() {
+        DioceseDashboardResponse response = DioceseDashboardResponse.builder()
+                .counts(Map.of("parishes", 2L))
+                .parishActivity(List.of(DioceseDashboardResponse.ParishActivityItem.builder()
+                        .parishId(1L).parishName("St. Mary").baptisms(3L).communions(0L)
+                        .confirmations(0L).marriages(1L).build()))
+                .recentSacraments(DioceseDashboardResponse.RecentSacraments.builder()
+                        .baptisms(List.of()).communions(List.of()).confirmations(List.of()).marriages(List.of())
+                        .build())
+                .monthly(DioceseDashboardResponse.MonthlyData.builder()
+                        .baptisms(List.of(1L, 2L)).communions(List.of()).confirmations(List.of()).marriages(List.of())
+                        .build())
+                .aggregatesAsOf(Instant.parse("2024-05-01T10:00:00Z"))
+                .build();
+
+        assertThat(roundTrip(response)).isEqualTo(response);
+    }
+
+    private Object roundTrip(Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+}
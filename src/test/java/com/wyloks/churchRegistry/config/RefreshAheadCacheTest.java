@@ -0,0 +1,107 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshAheadCacheTest {
+
+    final AtomicLong now = new AtomicLong();
+    final List<Runnable> queued = new ArrayList<>();
+    final ConcurrentMapCache delegate = new ConcurrentMapCache("dashboards");
+    final RefreshAheadCache cache =
+            new RefreshAheadCache(delegate, Duration.ofMinutes(10), 100, queued::add, now::get);
+
+    @Test
+    void staleHit_servesCachedValue_andRefreshesOnceInBackground() {
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        now.set(Duration.ofMinutes(9).toNanos());
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(queued).as("fresh entry is not refreshed").isEmpty();
+
+        now.set(Duration.ofMinutes(11).toNanos());
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(queued).as("one refresh in flight per key").hasSize(1);
+
+        queued.remove(0).run();
+
+        assertThat(cache.get(1L, () -> "unused")).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void refreshOverlappingEviction_isDiscarded() {
+        cache.get(1L, () -> "before write");
+        now.set(Duration.ofMinutes(11).toNanos());
+        cache.get(1L, () -> "computed before write committed");
+
+        cache.evict(1L);
+        queued.remove(0).run();
+
+        assertThat(delegate.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "after write")).isEqualTo("after write");
+    }
+
+    @Test
+    void failedRefresh_keepsPreviousValue_andAllowsRetry() {
+        cache.get(1L, () -> "v1");
+        now.set(Duration.ofMinutes(11).toNanos());
+        cache.get(1L, () -> {
+            throw new IllegalStateException("database down");
+        });
+
+        queued.remove(0).run();
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("v1");
+        cache.get(1L, () -> "v2");
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    void concurrentMisses_loadOnce() throws Exception {
+        RefreshAheadCache caffeine = new RefreshAheadCache(
+                new CaffeineCache("dashboards", Caffeine.newBuilder().build()),
+                Duration.ofMinutes(10), 100, Runnable::run);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return caffeine.get(1L, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return "dashboard";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("dashboard");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wyloks.churchRegistry.dto.DioceseDashboardResponse;
+import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmileRedisSerializerTest {
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void roundTripsCacheValues_smallerThanTypedJson() {
+        List<DioceseWithParishesResponse> dioceses = dioceses(5, 20);
+        SmileRedisSerializer smile = serializer(CacheConfig.CACHE_DIOCESES_WITH_PARISHES, 0);
+
+        byte[] payload = smile.serialize(dioceses);
+
+        assertThat(smile.deserialize(payload)).isEqualTo(dioceses);
+        assertThat(payload[0]).isEqualTo(SmileRedisSerializer.PLAIN);
+        assertThat(payload.length)
+                .isLessThan(CacheConfig.redisValueSerializer(objectMapper).serialize(dioceses).length / 2);
+    }
+
+    @Test
+    void compressesPayloadsAboveThreshold() {
+        List<DioceseWithParishesResponse> dioceses = dioceses(5, 20);
+        SmileRedisSerializer plain = serializer(CacheConfig.CACHE_DIOCESES_WITH_PARISHES, 0);
+        SmileRedisSerializer compressing = serializer(CacheConfig.CACHE_DIOCESES_WITH_PARISHES, 256);
+
+        byte[] payload = compressing.serialize(dioceses);
+
+        assertThat(payload[0]).isEqualTo(SmileRedisSerializer.DEFLATED);
+        assertThat(payload.length).isLessThan(plain.serialize(dioceses).length);
+        assertThat(compressing.deserialize(payload)).isEqualTo(dioceses);
+        assertThat(compressing.serialize(dioceses(1, 0))[0])
+                .as("small payloads stay uncompressed")
+                .isEqualTo(SmileRedisSerializer.PLAIN);
+    }
+
+    @Test
+    void roundTripsDashboardAndNullMarker() {
+        SmileRedisSerializer smile = serializer(CacheConfig.CACHE_DIOCESE_DASHBOARD, 2048);
+        DioceseDashboardResponse dashboard = DioceseDashboardResponse.builder()
+                .counts(Map.of("parishes", 2L))
+                .monthly(DioceseDashboardResponse.MonthlyData.builder()
+                        .baptisms(LongStream.range(0, 12).boxed().toList())
+                        .build())
+                .aggregatesAsOf(Instant.parse("2024-05-01T10:00:00Z"))
+                .build();
+
+        assertThat(smile.deserialize(smile.serialize(dashboard))).isEqualTo(dashboard);
+        assertThat(smile.deserialize(smile.serialize(NullValue.INSTANCE))).isSameAs(NullValue.INSTANCE);
+        assertThat(smile.serialize(null)).isNull();
+    }
+
+    @Test
+    void codecIsSelectablePerCache() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.redis-codecs.parish-dashboard", "json");
+
+        Map<String, CacheConfig.RedisCodec> codecs = CacheConfig.redisCodecs(environment);
+        RedisCacheConfiguration smile = redisCacheConfiguration(CacheConfig.CACHE_PARISHES_BY_DIOCESE,
+                codecs.get(CacheConfig.CACHE_PARISHES_BY_DIOCESE));
+        RedisCacheConfiguration json = redisCacheConfiguration(CacheConfig.CACHE_PARISH_DASHBOARD,
+                codecs.get(CacheConfig.CACHE_PARISH_DASHBOARD));
+
+        assertThat(codecs.get(CacheConfig.CACHE_PARISH_DASHBOARD)).isEqualTo(CacheConfig.RedisCodec.JSON);
+        assertThat(smile.getKeyPrefixFor("parishes-by-diocese")).isEqualTo("parishes-by-diocese::smile::");
+        assertThat(json.getKeyPrefixFor("parish-dashboard")).isEqualTo("parish-dashboard::");
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(String cacheName, CacheConfig.RedisCodec codec) {
+        return CacheConfig.redisCacheConfiguration(cacheName, Duration.ofMinutes(1), codec,
+                CacheConfig.redisValueSerializer(objectMapper), objectMapper, 2048);
+    }
+
+    private SmileRedisSerializer serializer(String cacheName, int compressionThreshold) {
+        JavaType type = CacheConfig.CACHE_VALUE_TYPES.get(cacheName).apply(objectMapper.getTypeFactory());
+        return new SmileRedisSerializer(objectMapper, type, compressionThreshold);
+    }
+
+    private static List<DioceseWithParishesResponse> dioceses(int count, int parishesEach) {
+        return IntStream.range(0, count)
+                .mapToObj(d -> DioceseWithParishesResponse.builder()
+                        .id((long) d)
+                        .dioceseName("Diocese " + d)
+                        .code("D" + d)
+                        .description("Test diocese")
+                        .parishes(IntStream.range(0, parishesEach)
+                                .mapToObj(p -> ParishResponse.builder()
+                                        .id((long) d * 100 + p)
+                                        .parishName("St. Parish " + p)
+                                        .dioceseId((long) d)
+                                        .description("Parish")
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+    }
+}
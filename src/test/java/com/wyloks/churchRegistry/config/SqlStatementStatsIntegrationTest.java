@@ -0,0 +1,86 @@
+package com.wyloks.churchRegistry.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies per-request SQL statement counting: response headers, per-endpoint meters and the slow statement log.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatementStatsIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @AfterEach
+    void restoreThreshold() {
+        SqlStatementStats.setSlowQueryThreshold(Duration.ofMillis(500));
+    }
+
+    @Test
+    void request_reportsStatementCountInHeadersAndMeters() throws Exception {
+        String token = loginAndGetToken();
+
+        MvcResult result = mvc.perform(get("/api/baptisms/999999").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound())
+                .andReturn();
+
+        assertThat(Integer.parseInt(result.getResponse().getHeader("X-SQL-Statement-Count"))).isPositive();
+        assertThat(result.getResponse().getHeader("X-SQL-Time-Ms")).isNotNull();
+        assertThat(meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/baptisms/{id}")
+                .summary().totalAmount()).isPositive();
+        assertThat(meterRegistry.get("http.server.requests.sql.time")
+                .tags("method", "GET", "uri", "/api/baptisms/{id}")
+                .timer().count()).isPositive();
+    }
+
+    @Test
+    void slowStatements_areLoggedAsFingerprints(CapturedOutput output) throws Exception {
+        String token = loginAndGetToken();
+        SqlStatementStats.setSlowQueryThreshold(Duration.ZERO);
+
+        mvc.perform(get("/api/baptisms/424242").header("Authorization", "Bearer " + token));
+
+        assertThat(output).contains("Slow SQL statement (");
+        assertThat(output).contains("during GET /api/baptisms/424242");
+        assertThat(output).doesNotContain("= 424242");
+    }
+
+    private String loginAndGetToken() throws Exception {
+        String response = mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("token").asText();
+    }
+}
@@ -0,0 +1,139 @@
+package com.wyloks.churchRegistry.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TwoTierCacheManager} / {@link TwoTierCache}, with an in-memory map standing in for Redis.
+ */
+class TwoTierCacheTest {
+
+    RecordingBus bus;
+    ConcurrentMapCacheManager sharedManager;
+    TwoTierCacheManager manager;
+    TwoTierCache cache;
+    ConcurrentMapCache shared;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RecordingBus();
+        sharedManager = new ConcurrentMapCacheManager(CacheConfig.CACHE_PARISH_DASHBOARD);
+        manager = new TwoTierCacheManager(sharedManager, Map.of(), () -> Caffeine.newBuilder().maximumSize(10), bus);
+        cache = (TwoTierCache) manager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+        shared = (ConcurrentMapCache) sharedManager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+    }
+
+    @Test
+    void get_servesFromLocalTierAfterFirstRead() {
+        shared.put(1L, "dashboard");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("dashboard");
+        shared.evict(1L);
+
+        assertThat(cache.get(1L, String.class))
+                .as("second read does not go to the shared tier")
+                .isEqualTo("dashboard");
+    }
+
+    @Test
+    void getWithLoader_loadsOnceAndStoresInBothTiers() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(2L, () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+        assertThat(cache.get(2L, () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(shared.get(2L).get()).isEqualTo("loaded-1");
+    }
+
+    @Test
+    void writes_goToBothTiers_andBroadcastInvalidations() {
+        cache.put(3L, "v1");
+        cache.evict(3L);
+        cache.clear();
+
+        assertThat(shared.get(3L)).isNull();
+        assertThat(cache.getLocalCache().get("3")).isNull();
+        assertThat(bus.published).containsExactly(
+                CacheConfig.CACHE_PARISH_DASHBOARD + ":3",
+                CacheConfig.CACHE_PARISH_DASHBOARD + ":3",
+                CacheConfig.CACHE_PARISH_DASHBOARD + ":*");
+    }
+
+    @Test
+    void remoteInvalidation_dropsLocalCopyOnly() {
+        cache.put(4L, "stale");
+        cache.put(5L, "kept");
+        // Another instance updated the shared entry and broadcast an invalidation.
+        shared.put(4L, "fresh");
+
+        bus.deliver(CacheConfig.CACHE_PARISH_DASHBOARD, "4");
+
+        assertThat(cache.get(4L, String.class)).isEqualTo("fresh");
+        assertThat(cache.getLocalCache().get("5")).isNotNull();
+
+        bus.deliver(CacheConfig.CACHE_PARISH_DASHBOARD, null);
+
+        assertThat(cache.getLocalCache().get("5")).isNull();
+        assertThat(shared.get(5L).get()).isEqualTo("kept");
+    }
+
+    @Test
+    void remoteInvalidation_forUnknownCacheIsIgnored() {
+        bus.deliver("unknown", "1");
+
+        assertThat(manager.getCache("unknown")).isNull();
+    }
+
+    @Test
+    void lifecycle_startsAndStopsBus() {
+        manager.afterPropertiesSet();
+        manager.destroy();
+
+        assertThat(bus.started).isTrue();
+        assertThat(bus.stopped).isTrue();
+    }
+
+    static class RecordingBus implements CacheInvalidationBus {
+        final List<String> published = new ArrayList<>();
+        BiConsumer<String, String> handler;
+        boolean started;
+        boolean stopped;
+
+        @Override
+        public void publish(String cacheName, String key) {
+            published.add(cacheName + ":" + (key != null ? key : "*"));
+        }
+
+        @Override
+        public void subscribe(BiConsumer<String, String> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+
+        void deliver(String cacheName, String key) {
+            handler.accept(cacheName, key);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.service.BaptismService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that loading baptisms does not resolve their communions (and loading confirmations does not resolve
+ * marriages or holy orders) with one extra query per row.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BaptismRepositoryN1Test {
+
+    private static final int RECORDS = 5;
+
+    @Autowired
+    BaptismService baptismService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    ConfirmationRepository confirmationRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    private Parish parish;
+    private final List<Long> baptismIds = new ArrayList<>();
+    private final List<Long> confirmationIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("N1 Baptism Diocese")
+                .code("N1B")
+                .description("N1 baptism test")
+                .build());
+
+        parish = parishRepository.save(Parish.builder()
+                .parishName("N1 Baptism Parish")
+                .diocese(diocese)
+                .description("N1")
+                .build());
+
+        for (int i = 0; i < RECORDS; i++) {
+            Baptism baptism = baptismRepository.save(Baptism.builder()
+                    .baptismName("Child" + i)
+                    .surname("Surname" + i)
+                    .otherNames("Other")
+                    .gender("F")
+                    .dateOfBirth(LocalDate.of(2012, 1, 1))
+                    .fathersName("Father")
+                    .mothersName("Mother")
+                    .sponsorNames("Sponsor")
+                    .officiatingPriest("Fr. X")
+                    .parish(parish)
+                    .build());
+            baptismIds.add(baptism.getId());
+
+            FirstHolyCommunion communion = communionRepository.save(FirstHolyCommunion.builder()
+                    .baptism(baptism)
+                    .communionDate(LocalDate.of(2020, 6, 1))
+                    .officiatingPriest("Fr. X")
+                    .parish("St Mary")
+                    .build());
+
+            confirmationIds.add(confirmationRepository.save(Confirmation.builder()
+                    .baptism(baptism)
+                    .firstHolyCommunion(communion)
+                    .confirmationDate(LocalDate.of(2023, 5, 5))
+                    .officiatingBishop("Bp X")
+                    .parish("Parish")
+                    .build()).getId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void baptismListPage_executesBoundedStatements() {
+        Page<BaptismResponse> page = baptismService.findByParishId(parish.getId(), PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(RECORDS);
+        // Rows + COUNT. A per-row communion lookup would add one statement per baptism.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void loadingBaptismEntities_doesNotLoadCommunions() {
+        List<Baptism> baptisms = baptismRepository.findAllById(baptismIds);
+
+        assertThat(baptisms).hasSize(RECORDS);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("baptisms should load without a communion lookup per row")
+                .isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(FirstHolyCommunion.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void loadingConfirmationEntities_doesNotLoadMarriagesOrHolyOrders() {
+        List<Confirmation> confirmations = confirmationRepository.findAllById(confirmationIds);
+
+        assertThat(confirmations).hasSize(RECORDS);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("confirmations should load without marriage/holy order lookups per row")
+                .isEqualTo(1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.wyloks.churchRegistry.repository;
 
+import com.wyloks.churchRegistry.dto.BaptismResponse;
 import com.wyloks.churchRegistry.entity.Baptism;
 import com.wyloks.churchRegistry.entity.Diocese;
 import com.wyloks.churchRegistry.entity.Parish;
@@ -126,37 +127,37 @@ class BaptismRepositorySearchTest {
 
     @Test
     void searchByNameOrAddress_findsByBaptismName() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "Alice", PageRequest.of(0, 50));
 
         assertThat(page.getContent()).hasSize(1);
         assertThat(page.getContent().get(0).getBaptismName()).isEqualTo("Alice");
-        assertThat(page.getContent().get(0).getParish().getId()).isEqualTo(parishA.getId());
+        assertThat(page.getContent().get(0).getParishId()).isEqualTo(parishA.getId());
     }
 
     @Test
     void searchByNameOrAddress_findsBySurname() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "Smith", PageRequest.of(0, 50));
 
         assertThat(page.getContent()).hasSize(2);
-        assertThat(page.getContent().stream().map(Baptism::getBaptismName))
+        assertThat(page.getContent().stream().map(BaptismResponse::getBaptismName))
                 .containsExactlyInAnyOrder("Alice", "Bob");
     }
 
     @Test
     void searchByNameOrAddress_findsByAddress() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "Main Street", PageRequest.of(0, 50));
 
         assertThat(page.getContent()).hasSize(2);
-        assertThat(page.getContent().stream().map(Baptism::getBaptismName))
+        assertThat(page.getContent().stream().map(BaptismResponse::getBaptismName))
                 .containsExactlyInAnyOrder("Alice", "Carol");
     }
 
     @Test
     void searchByNameOrAddress_findsByParentAddress() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "Parent Lane", PageRequest.of(0, 50));
 
         assertThat(page.getContent()).hasSize(1);
@@ -165,20 +166,20 @@ class BaptismRepositorySearchTest {
 
     @Test
     void searchByNameOrAddress_filtersByParish() {
-        Page<Baptism> pageA = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> pageA = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "Smith", PageRequest.of(0, 50));
-        Page<Baptism> pageB = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> pageB = baptismRepository.searchByNameOrAddress(
                 parishB.getId(), "Smith", PageRequest.of(0, 50));
 
         assertThat(pageA.getContent()).hasSize(2);
         assertThat(pageB.getContent()).hasSize(1);
         assertThat(pageB.getContent().get(0).getBaptismName()).isEqualTo("David");
-        assertThat(pageB.getContent().get(0).getParish().getId()).isEqualTo(parishB.getId());
+        assertThat(pageB.getContent().get(0).getParishId()).isEqualTo(parishB.getId());
     }
 
     @Test
     void searchByNameOrAddress_respectsPageSize() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "a", PageRequest.of(0, 2));
 
         assertThat(page.getContent()).hasSize(2);
@@ -188,7 +189,7 @@ class BaptismRepositorySearchTest {
 
     @Test
     void searchByNameOrAddress_emptyQueryReturnsNoMatches() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "xyznonexistent", PageRequest.of(0, 50));
 
         assertThat(page.getContent()).isEmpty();
@@ -196,7 +197,7 @@ class BaptismRepositorySearchTest {
 
     @Test
     void searchByNameOrAddress_isCaseInsensitive() {
-        Page<Baptism> page = baptismRepository.searchByNameOrAddress(
+        Page<BaptismResponse> page = baptismRepository.searchByNameOrAddress(
                 parishA.getId(), "ALICE", PageRequest.of(0, 50));
 
         assertThat(page.getContent()).hasSize(1);
@@ -22,8 +22,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Verifies that {@link ConfirmationRepository#findByBaptismParishId} uses
- * {@code @EntityGraph} to avoid N+1 queries when loading baptism and firstHolyCommunion.
+ * Verifies that {@link ConfirmationRepository#findByBaptismParishId} avoids N+1 queries: the list
+ * projection reads baptism and firstHolyCommunion columns in the same statement.
  */
 @SpringBootTest
 @Transactional
@@ -112,9 +112,9 @@ class ConfirmationRepositoryN1Test {
         assertThat(results).hasSize(5);
 
         long queryCount = statistics.getPrepareStatementCount();
-        // With @EntityGraph: 1 query (JOIN FETCH baptism + firstHolyCommunion). Without: 1 + 5 + 5 = 11.
+        // Projection: 1 query (joins baptism). Lazy entity loading would be 1 + 5 + 5 = 11.
         assertThat(queryCount)
-                .as("EntityGraph should batch-load baptism and firstHolyCommunion; expect <= 2 queries, got %d", queryCount)
+                .as("baptism and firstHolyCommunion must not be loaded per row; expect <= 2 queries, got %d", queryCount)
                 .isLessThanOrEqualTo(2);
     }
 }
@@ -4,7 +4,8 @@ import com.wyloks.churchRegistry.entity.Baptism;
 import com.wyloks.churchRegistry.entity.Diocese;
 import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
 import com.wyloks.churchRegistry.entity.Parish;
-import com.wyloks.churchRegistry.repository.projection.ParishActivityRow;
+import com.wyloks.churchRegistry.repository.projection.MonthlyActivityRow;
+import com.wyloks.churchRegistry.repository.projection.ParishActivityViewRow;
 import com.wyloks.churchRegistry.repository.projection.ParishDashboardCounts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Tests for {@link DashboardRepository#getParishCounts} batch query.
+ * Tests for {@link DashboardRepository}: the parish counts batch query and the diocese dashboard views.
  * Verifies all sacrament counts are returned in a single round trip.
  */
 @SpringBootTest
@@ -116,19 +119,46 @@ class DashboardRepositoryTest {
         baptismRepository.save(createBaptism(parish));
         baptismRepository.save(createBaptism(otherParish));
 
-        List<ParishActivityRow> activity = dashboardRepository.getParishActivity(diocese.getId());
+        List<ParishActivityViewRow> activity = dashboardRepository.getParishActivity(diocese.getId());
 
         assertThat(activity).hasSize(2);
-        ParishActivityRow row1 = activity.stream()
+        ParishActivityViewRow row1 = activity.stream()
                 .filter(r -> "Dashboard Repo Parish".equals(r.getParishName()))
                 .findFirst()
                 .orElseThrow();
-        ParishActivityRow row2 = activity.stream()
+        ParishActivityViewRow row2 = activity.stream()
                 .filter(r -> "Other Parish in Diocese".equals(r.getParishName()))
                 .findFirst()
                 .orElseThrow();
         assertThat(row1.getBaptisms()).isEqualTo(2);
         assertThat(row2.getBaptisms()).isEqualTo(1);
+        assertThat(row1.getHolyOrders()).isZero();
+        assertThat(row1.getRefreshedAt()).isNotNull();
+    }
+
+    @Test
+    void getMonthlyActivity_sumsDioceseRecordsPerCreationMonth() {
+        Parish otherParish = parishRepository.save(Parish.builder()
+                .parishName("Other Parish in Diocese")
+                .diocese(parish.getDiocese())
+                .description("Other")
+                .build());
+        OffsetDateTime march = OffsetDateTime.of(2025, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+        Baptism b1 = createBaptism(parish);
+        b1.setCreatedAt(march);
+        Baptism b2 = createBaptism(otherParish);
+        b2.setCreatedAt(march);
+        Baptism old = createBaptism(parish);
+        old.setCreatedAt(march.minusYears(3));
+        baptismRepository.saveAll(List.of(b1, b2, old));
+
+        List<MonthlyActivityRow> rows = dashboardRepository.getMonthlyActivity(parish.getDiocese().getId(), 2024);
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getSacramentType()).isEqualTo("BAPTISM");
+        assertThat(rows.get(0).getStatYear()).isEqualTo(2025);
+        assertThat(rows.get(0).getStatMonth()).isEqualTo(3);
+        assertThat(rows.get(0).getRecordCount()).isEqualTo(2);
     }
 
     @Test
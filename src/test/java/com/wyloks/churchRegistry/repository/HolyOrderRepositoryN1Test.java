@@ -23,9 +23,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Verifies that {@link HolyOrderRepository#findByBaptismParishId} uses
- * {@code @EntityGraph} to avoid N+1 queries when loading baptism, firstHolyCommunion,
- * confirmation, and parish.
+ * Verifies that {@link HolyOrderRepository#findByBaptismParishId} avoids N+1 queries: the list
+ * projection reads the baptism, firstHolyCommunion, confirmation and parish ids in one statement.
  */
 @SpringBootTest
 @Transactional
@@ -127,10 +126,9 @@ class HolyOrderRepositoryN1Test {
         assertThat(results).hasSize(5);
 
         long queryCount = statistics.getPrepareStatementCount();
-        // With @EntityGraph: 1 query (JOIN FETCH baptism, firstHolyCommunion, confirmation, parish).
-        // Without: 1 + 5*4 = 21 queries.
+        // Projection: 1 query (link ids come from FK columns). Lazy entity loading would be 1 + 5*4 = 21 queries.
         assertThat(queryCount)
-                .as("EntityGraph should batch-load baptism, firstHolyCommunion, confirmation, parish; expect <= 2 queries, got %d", queryCount)
+                .as("linked records must not be loaded per row; expect <= 2 queries, got %d", queryCount)
                 .isLessThanOrEqualTo(2);
     }
 }
@@ -0,0 +1,246 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.dto.MarriageResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.entity.MarriagePartyLegacy;
+import com.wyloks.churchRegistry.entity.MarriageWitnessLegacy;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.service.MarriageService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that single-marriage reads load the marriage, its parties (with baptism parent names)
+ * and witnesses in one statement.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MarriageDetailN1Test {
+
+    @Autowired
+    MarriageService marriageService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    MarriageRepository marriageRepository;
+
+    @Autowired
+    MarriagePartyLegacyRepository marriagePartyLegacyRepository;
+
+    @Autowired
+    MarriageWitnessLegacyRepository marriageWitnessLegacyRepository;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    ConfirmationRepository confirmationRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    private Parish parish;
+    private Marriage marriage;
+    private Baptism groomBaptism;
+    private Baptism brideBaptism;
+    private Confirmation confirmation;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Detail Test Diocese")
+                .code("DTM")
+                .description("Marriage detail test")
+                .build());
+
+        parish = parishRepository.save(Parish.builder()
+                .parishName("Detail Marriage Parish")
+                .diocese(diocese)
+                .description("Detail")
+                .build());
+
+        groomBaptism = saveBaptism(parish, "John", "M", "Groom Father", "Groom Mother");
+        brideBaptism = saveBaptism(parish, "Jane", "F", "Bride Father", "Bride Mother");
+
+        FirstHolyCommunion communion = communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(groomBaptism)
+                .communionDate(LocalDate.of(2000, 6, 1))
+                .officiatingPriest("Fr. X")
+                .parish("St Mary")
+                .build());
+
+        confirmation = confirmationRepository.save(Confirmation.builder()
+                .baptism(groomBaptism)
+                .firstHolyCommunion(communion)
+                .confirmationDate(LocalDate.of(2002, 5, 5))
+                .officiatingBishop("Bp X")
+                .parish("Parish")
+                .build());
+
+        marriage = marriageRepository.save(Marriage.builder()
+                .baptism(groomBaptism)
+                .firstHolyCommunion(communion)
+                .confirmation(confirmation)
+                .partnersName("Jane Doe")
+                .marriageDate(LocalDate.of(2025, 1, 20))
+                .officiatingPriest("Fr. X")
+                .parish("St Mary")
+                .build());
+
+        marriagePartyLegacyRepository.save(party(marriage, "GROOM", "John Doe", groomBaptism));
+        marriagePartyLegacyRepository.save(party(marriage, "BRIDE", "Jane Doe", brideBaptism));
+        for (int i = 3; i >= 1; i--) {
+            marriageWitnessLegacyRepository.save(MarriageWitnessLegacy.builder()
+                    .marriage(marriage)
+                    .fullName("Witness " + i)
+                    .sortOrder(i)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void findById_loadsDetailInOneStatement() {
+        assertSingleStatementDetail(() -> marriageService.findById(marriage.getId()));
+    }
+
+    @Test
+    void findByConfirmationId_loadsDetailInOneStatement() {
+        assertSingleStatementDetail(() -> marriageService.findByConfirmationId(confirmation.getId()));
+    }
+
+    @Test
+    void findByBaptismId_loadsDetailInOneStatement() {
+        assertSingleStatementDetail(() -> marriageService.findByBaptismId(groomBaptism.getId()));
+    }
+
+    @Test
+    void findById_returnsEmptyForUnknownMarriage() {
+        assertThat(marriageService.findById(-1L)).isEmpty();
+    }
+
+    @Test
+    void findByParishId_batchLoadsPartiesAndWitnesses() {
+        FirstHolyCommunion brideCommunion = communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(brideBaptism)
+                .communionDate(LocalDate.of(2000, 6, 1))
+                .officiatingPriest("Fr. X")
+                .parish("St Mary")
+                .build());
+        Marriage second = marriageRepository.save(Marriage.builder()
+                .baptism(brideBaptism)
+                .firstHolyCommunion(brideCommunion)
+                .confirmation(confirmationRepository.save(Confirmation.builder()
+                        .baptism(brideBaptism)
+                        .firstHolyCommunion(brideCommunion)
+                        .confirmationDate(LocalDate.of(2002, 5, 5))
+                        .officiatingBishop("Bp X")
+                        .parish("Parish")
+                        .build()))
+                .partnersName("Other Partner")
+                .marriageDate(LocalDate.of(2025, 2, 20))
+                .officiatingPriest("Fr. X")
+                .parish("St Mary")
+                .build());
+        marriagePartyLegacyRepository.save(party(second, "BRIDE", "Jane Doe", brideBaptism));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<MarriageResponse> results = marriageService.findByParishId(parish.getId());
+
+        assertThat(results).hasSize(2);
+        assertThat(results).flatExtracting(MarriageResponse::getParties).hasSize(3);
+        assertThat(results).flatExtracting(MarriageResponse::getWitnesses).hasSize(3);
+        // Each collection role is initialised for the whole page by one batch fetch, however many marriages it holds.
+        assertThat(statistics.getCollectionStatistics(Marriage.class.getName() + ".parties").getFetchCount())
+                .as("parties should be loaded in a single batch")
+                .isEqualTo(1);
+        assertThat(statistics.getCollectionStatistics(Marriage.class.getName() + ".witnesses").getFetchCount())
+                .as("witnesses should be loaded in a single batch")
+                .isEqualTo(1);
+    }
+
+    private void assertSingleStatementDetail(Supplier<Optional<MarriageResponse>> load) {
+        statistics.clear();
+
+        Optional<MarriageResponse> result = load.get();
+
+        assertThat(result).isPresent();
+        MarriageResponse response = result.get();
+        assertThat(response.getId()).isEqualTo(marriage.getId());
+        assertThat(response.getGroomName()).isEqualTo("John Doe");
+        assertThat(response.getBrideName()).isEqualTo("Jane Doe");
+        assertThat(response.getGroomFatherName()).isEqualTo("Groom Father");
+        assertThat(response.getBrideMotherName()).isEqualTo("Bride Mother");
+        assertThat(response.getParties()).hasSize(2);
+        assertThat(response.getWitnesses())
+                .extracting("fullName")
+                .containsExactly("Witness 1", "Witness 2", "Witness 3");
+
+        long queryCount = statistics.getPrepareStatementCount();
+        assertThat(queryCount)
+                .as("marriage detail should load in a single statement, got %d", queryCount)
+                .isEqualTo(1);
+    }
+
+    private Baptism saveBaptism(Parish parish, String name, String gender, String father, String mother) {
+        return baptismRepository.save(Baptism.builder()
+                .baptismName(name)
+                .surname("Doe")
+                .otherNames("")
+                .gender(gender)
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .fathersName(father)
+                .mothersName(mother)
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(parish)
+                .build());
+    }
+
+    private static MarriagePartyLegacy party(Marriage marriage, String role, String fullName, Baptism baptism) {
+        return MarriagePartyLegacy.builder()
+                .marriage(marriage)
+                .role(role)
+                .fullName(fullName)
+                .baptismId(baptism.getId())
+                .build();
+    }
+}
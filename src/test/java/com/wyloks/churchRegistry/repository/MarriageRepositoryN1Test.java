@@ -23,8 +23,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Verifies that {@link MarriageRepository#findByBaptismParishId} uses
- * {@code @EntityGraph} to avoid N+1 queries when loading baptism, firstHolyCommunion, and confirmation.
+ * Verifies that {@link MarriageRepository#findByBaptismParishId} avoids N+1 queries for baptism,
+ * firstHolyCommunion and confirmation: responses only read their ids from the marriage row.
  */
 @SpringBootTest
 @Transactional
@@ -126,10 +126,10 @@ class MarriageRepositoryN1Test {
         assertThat(results).hasSize(5);
 
         long queryCount = statistics.getPrepareStatementCount();
-        // With @EntityGraph: 1 query for marriages (JOIN FETCH baptism, firstHolyCommunion, confirmation),
-        // plus 2 for parties/witnesses batch (empty), = 3. Without EntityGraph: 1 + 5*3 + 2 = 18.
+        // 1 query for marriages plus 2 batch fetches for parties/witnesses (empty) = 3.
+        // Loading the linked entities per row would be 1 + 5*3 + 2 = 18.
         assertThat(queryCount)
-                .as("EntityGraph should batch-load baptism, firstHolyCommunion, confirmation; expect <= 5 queries, got %d", queryCount)
+                .as("linked records must not be loaded per row; expect <= 5 queries, got %d", queryCount)
                 .isLessThanOrEqualTo(5);
     }
 }
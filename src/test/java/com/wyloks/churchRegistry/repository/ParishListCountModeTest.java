@@ -0,0 +1,144 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.service.BaptismService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the {@code count=none} and {@code count=estimated} list modes skip the per-request COUNT query.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ParishListCountModeTest {
+
+    @Autowired
+    BaptismService baptismService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private Parish parish;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Count Mode Diocese")
+                .code("CMD")
+                .description("Count mode test")
+                .build());
+
+        parish = parishRepository.save(Parish.builder()
+                .parishName("Count Mode Parish")
+                .diocese(diocese)
+                .description("Count mode")
+                .build());
+
+        for (int i = 0; i < 5; i++) {
+            baptismRepository.save(Baptism.builder()
+                    .baptismName("Child" + i)
+                    .surname("Surname" + i)
+                    .otherNames("Other")
+                    .gender("F")
+                    .dateOfBirth(LocalDate.of(2015, 1, 1))
+                    .fathersName("Father")
+                    .mothersName("Mother")
+                    .sponsorNames("Sponsor")
+                    .officiatingPriest("Fr. X")
+                    .parish(parish)
+                    .build());
+        }
+
+        cacheManager.getCache(CacheConfig.CACHE_PARISH_COUNT_ESTIMATES).clear();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void sliceMode_issuesSingleStatement_andReportsNextPage() {
+        statistics.clear();
+
+        Slice<BaptismResponse> first = baptismService.findSliceByParishId(parish.getId(), PageRequest.of(0, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("slice mode must not run a COUNT query")
+                .isEqualTo(1);
+
+        Slice<BaptismResponse> last = baptismService.findSliceByParishId(parish.getId(), PageRequest.of(2, 2));
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void estimatedMode_reusesCachedCounts_onSubsequentPages() {
+        Page<BaptismResponse> first = baptismService.findByParishIdWithEstimatedTotal(parish.getId(), PageRequest.of(0, 2));
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+
+        statistics.clear();
+        Page<BaptismResponse> second = baptismService.findByParishIdWithEstimatedTotal(parish.getId(), PageRequest.of(1, 2));
+
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.getTotalElements()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("estimated mode must use cached counts instead of a COUNT query")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void estimatedMode_clampsStaleEstimate_toRowsActuallySeen() {
+        baptismService.findByParishIdWithEstimatedTotal(parish.getId(), PageRequest.of(0, 2));
+        baptismRepository.save(Baptism.builder()
+                .baptismName("Late")
+                .surname("Arrival")
+                .otherNames("")
+                .gender("M")
+                .dateOfBirth(LocalDate.of(2016, 1, 1))
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(parish)
+                .build());
+
+        Page<BaptismResponse> last = baptismService.findByParishIdWithEstimatedTotal(parish.getId(), PageRequest.of(2, 2));
+
+        assertThat(last.getContent()).hasSize(2);
+        assertThat(last.getTotalElements()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,222 @@
+package com.wyloks.churchRegistry.repository;
+
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.ConfirmationResponse;
+import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
+import com.wyloks.churchRegistry.dto.HolyOrderResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.HolyOrder;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.service.BaptismService;
+import com.wyloks.churchRegistry.service.ConfirmationService;
+import com.wyloks.churchRegistry.service.FirstHolyCommunionService;
+import com.wyloks.churchRegistry.service.HolyOrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that sacrament list reads select straight into response DTOs: fields are mapped correctly,
+ * no entities are loaded and each list costs one statement (a short first page skips the COUNT).
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SacramentListProjectionTest {
+
+    @Autowired
+    BaptismService baptismService;
+
+    @Autowired
+    FirstHolyCommunionService communionService;
+
+    @Autowired
+    ConfirmationService confirmationService;
+
+    @Autowired
+    HolyOrderService holyOrderService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    ConfirmationRepository confirmationRepository;
+
+    @Autowired
+    HolyOrderRepository holyOrderRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    private Parish parish;
+    private Baptism baptism;
+    private FirstHolyCommunion communion;
+    private Confirmation confirmation;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Projection Diocese")
+                .code("PRJ")
+                .description("Projection test")
+                .build());
+
+        parish = parishRepository.save(Parish.builder()
+                .parishName("Projection Parish")
+                .diocese(diocese)
+                .description("Projection")
+                .build());
+
+        baptism = baptismRepository.save(Baptism.builder()
+                .baptismName("Mary")
+                .surname("Okafor")
+                .otherNames("Ada")
+                .gender("F")
+                .dateOfBirth(LocalDate.of(2010, 3, 4))
+                .fathersName("Paul Okafor")
+                .mothersName("Grace Okafor")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .address("1 Main Street")
+                .externalCertificateIssuingParish("St Peter, Elsewhere")
+                .liberNo("L-12")
+                .parish(parish)
+                .build());
+
+        communion = communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(baptism)
+                .communionDate(LocalDate.of(2018, 6, 1))
+                .officiatingPriest("Fr. Y")
+                .parish("St Mary")
+                .build());
+
+        confirmation = confirmationRepository.save(Confirmation.builder()
+                .baptism(baptism)
+                .firstHolyCommunion(communion)
+                .confirmationDate(LocalDate.of(2022, 5, 5))
+                .officiatingBishop("Bp Z")
+                .parish("St Mary")
+                .build());
+
+        holyOrderRepository.save(HolyOrder.builder()
+                .baptism(baptism)
+                .firstHolyCommunion(communion)
+                .confirmation(confirmation)
+                .ordinationDate(LocalDate.of(2025, 6, 1))
+                .orderType("Deacon")
+                .officiatingBishop("Bp Z")
+                .parish(parish)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void baptismPage_mapsFieldsWithoutLoadingEntities() {
+        Page<BaptismResponse> page = baptismService.findByParishId(parish.getId(), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        BaptismResponse row = page.getContent().get(0);
+        assertThat(row.getId()).isEqualTo(baptism.getId());
+        assertThat(row.getBaptismName()).isEqualTo("Mary");
+        assertThat(row.getOtherNames()).isEqualTo("Ada");
+        assertThat(row.getParishId()).isEqualTo(parish.getId());
+        assertThat(row.getAddress()).isEqualTo("1 Main Street");
+        assertThat(row.getExternalCertificateIssuingParish()).isEqualTo("St Peter, Elsewhere");
+        assertThat(row.getLiberNo()).isEqualTo("L-12");
+        assertNoEntitiesAndStatements(1);
+    }
+
+    @Test
+    void communionPage_mapsBaptismFieldsAndPendingCertificate() {
+        Page<FirstHolyCommunionResponse> page = communionService.findByParishId(parish.getId(), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        FirstHolyCommunionResponse row = page.getContent().get(0);
+        assertThat(row.getId()).isEqualTo(communion.getId());
+        assertThat(row.getBaptismId()).isEqualTo(baptism.getId());
+        assertThat(row.getOfficiatingPriest()).isEqualTo("Fr. Y");
+        assertThat(row.getBaptismName()).isEqualTo("Mary");
+        assertThat(row.getBaptismParishName()).isEqualTo("Projection Parish");
+        assertThat(row.getMothersName()).isEqualTo("Grace Okafor");
+        assertThat(row.isBaptismCertificatePending()).isTrue();
+        assertNoEntitiesAndStatements(1);
+    }
+
+    @Test
+    void confirmationPage_mapsLinkIdsAndBaptismFields() {
+        Page<ConfirmationResponse> page = confirmationService.findByParishId(parish.getId(), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        ConfirmationResponse row = page.getContent().get(0);
+        assertThat(row.getId()).isEqualTo(confirmation.getId());
+        assertThat(row.getCommunionId()).isEqualTo(communion.getId());
+        assertThat(row.getOfficiatingBishop()).isEqualTo("Bp Z");
+        assertThat(row.getSurname()).isEqualTo("Okafor");
+        assertThat(row.getFathersName()).isEqualTo("Paul Okafor");
+        assertNoEntitiesAndStatements(1);
+    }
+
+    @Test
+    void holyOrderPage_mapsLinkIds() {
+        Page<HolyOrderResponse> page = holyOrderService.findByParishId(parish.getId(), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        HolyOrderResponse row = page.getContent().get(0);
+        assertThat(row.getBaptismId()).isEqualTo(baptism.getId());
+        assertThat(row.getCommunionId()).isEqualTo(communion.getId());
+        assertThat(row.getConfirmationId()).isEqualTo(confirmation.getId());
+        assertThat(row.getOrderType()).isEqualTo("Deacon");
+        assertThat(row.getParishId()).isEqualTo(parish.getId());
+        assertNoEntitiesAndStatements(1);
+    }
+
+    @Test
+    void unpagedLists_issueSingleStatement() {
+        assertThat(baptismService.findByParishId(parish.getId())).hasSize(1);
+        assertThat(communionService.findByParishId(parish.getId())).hasSize(1);
+        assertThat(confirmationService.findByParishId(parish.getId())).hasSize(1);
+        assertThat(holyOrderService.findByParishId(parish.getId())).hasSize(1);
+        assertNoEntitiesAndStatements(4);
+    }
+
+    private void assertNoEntitiesAndStatements(long expectedStatements) {
+        assertThat(statistics.getEntityLoadCount())
+                .as("list reads should not hydrate entities")
+                .isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedStatements);
+    }
+}
@@ -0,0 +1,159 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.SacramentAuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for {@link BaptismImportService}: batched inserts, per-row errors and per-batch auditing.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "app.import.batch-size=2")
+class BaptismImportServiceIntegrationTest {
+
+    private static final String HEADER = "baptism_name,surname,gender,date_of_birth,fathers_name,mothers_name,"
+            + "sponsor_names,place_of_birth,place_of_baptism,date_of_baptism,address\n";
+
+    @Autowired
+    BaptismImportService importService;
+
+    @Autowired
+    BaptismService baptismService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    SacramentAuditLogRepository auditLogRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Parish parish;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Import Diocese")
+                .code("IMP")
+                .description("Import test")
+                .build());
+        parish = parishRepository.save(Parish.builder()
+                .parishName("Import Parish")
+                .diocese(diocese)
+                .description("Import")
+                .build());
+    }
+
+    @Test
+    void importCsv_insertsValidRows_normalizesNames_andReportsInvalidRows() throws IOException {
+        String csv = HEADER
+                + "mary,OKAFOR,F,2010-03-04,paul okafor,grace okafor,ann eze, Enugu , St Mary ,2010-04-01,\"1 Main St, Enugu\"\n"
+                + "john,doe,M,2011-05-06,james doe,jane doe,peter,Lagos,St Paul,2011-06-01,\n"
+                + "anne,,F,2012-01-01,tom,ada,ben,Lagos,St Paul,2012-02-01,\n"
+                + "\n"
+                + "luke,eze,M,31/12/2012,ike eze,uche eze,obi,Abuja,St Luke,15/01/2013,\n"
+                + "mark,obi,M,2013-13-01,ike,uche,obi,Abuja,St Luke,2013-02-01,\n";
+
+        ImportResultResponse result = importService.importCsv(parish.getId(), stream(csv));
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getBatches()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResultResponse.RowError::getLine).containsExactly(4L, 7L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("surname");
+        assertThat(result.getErrors().get(1).getMessage()).contains("dateOfBirth");
+
+        List<BaptismResponse> saved = baptismService.findByParishId(parish.getId()).stream()
+                .sorted(Comparator.comparing(BaptismResponse::getDateOfBirth))
+                .toList();
+        assertThat(saved).extracting(BaptismResponse::getBaptismName).containsExactly("Mary", "John", "Luke");
+        BaptismResponse mary = saved.get(0);
+        assertThat(mary.getSurname()).isEqualTo("Okafor");
+        assertThat(mary.getFathersName()).isEqualTo("Paul Okafor");
+        assertThat(mary.getPlaceOfBirth()).isEqualTo("Enugu");
+        assertThat(mary.getAddress()).isEqualTo("1 Main St, Enugu");
+        assertThat(mary.getOtherNames()).isEmpty();
+        assertThat(saved.get(2).getDateOfBirth()).isEqualTo(LocalDate.of(2012, 12, 31));
+        assertThat(saved.get(2).getDateOfBaptism()).isEqualTo(LocalDate.of(2013, 1, 15));
+
+        List<SacramentAuditLog> importEvents = auditLogRepository.findAll().stream()
+                .filter(e -> "IMPORT".equals(e.getEventType()) && parish.getId().equals(e.getParishId()))
+                .toList();
+        assertThat(importEvents)
+                .as("one audit event per committed batch, not per row")
+                .hasSize(2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void importCsv_retriesFailedBatchRowByRow_andReportsOnlyRefusedRows() throws IOException {
+        // DDL commits in H2, so this test runs outside the test transaction and drops its constraint itself
+        jdbcTemplate.execute("ALTER TABLE baptism ADD CONSTRAINT chk_import_test_surname CHECK (surname <> 'Refused')");
+        try {
+            String csv = HEADER
+                    + "mary,okafor,F,2010-03-04,paul,grace,ann,Enugu,St Mary,2010-04-01,\n"
+                    + "john,refused,M,2011-05-06,james,jane,peter,Lagos,St Paul,2011-06-01,\n"
+                    + "luke,eze,M,2012-12-31,ike,uche,obi,Abuja,St Luke,2013-01-15,\n";
+
+            ImportResultResponse result = importService.importCsv(parish.getId(), stream(csv));
+
+            assertThat(result.getImportedRows()).isEqualTo(2);
+            assertThat(result.getFailedRows()).isEqualTo(1);
+            assertThat(result.getErrors()).extracting(ImportResultResponse.RowError::getLine).containsExactly(3L);
+            assertThat(result.getErrors().get(0).getMessage())
+                    .startsWith("Insert failed: ")
+                    .containsIgnoringCase("chk_import_test_surname");
+            assertThat(baptismService.findByParishId(parish.getId()))
+                    .extracting(BaptismResponse::getBaptismName)
+                    .containsExactlyInAnyOrder("Mary", "Luke");
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE baptism DROP CONSTRAINT chk_import_test_surname");
+        }
+    }
+
+    @Test
+    void importCsv_rejectsHeaderWithoutKnownColumns() {
+        assertThatThrownBy(() -> importService.importCsv(parish.getId(), stream("foo,bar\n1,2\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void importCsv_rejectsUnknownParish() {
+        assertThatThrownBy(() -> importService.importCsv(-1L, stream(HEADER)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Parish not found");
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
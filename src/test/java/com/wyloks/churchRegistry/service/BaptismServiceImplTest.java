@@ -14,6 +14,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -40,6 +41,9 @@ class BaptismServiceImplTest {
     @Mock
     SacramentNoteHistoryRepository noteHistoryRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     BaptismServiceImpl baptismService;
 
@@ -124,6 +128,7 @@ class BaptismServiceImplTest {
         verify(baptismRepository).save(captor.capture());
         assertThat(captor.getValue().getExternalCertificatePath()).isEqualTo(path);
         verify(firstHolyCommunionRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(SacramentChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,94 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.SacramentAuditLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the startup warm-up loads the diocese/parish tree and the dashboards of the most active parishes.
+ */
+@SpringBootTest
+class CacheWarmupServiceIntegrationTest {
+
+    @Autowired
+    CacheWarmupService warmupService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    SacramentAuditLogRepository auditLogRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Test
+    void warmUp_loadsTreeAndDashboardsOfMostActiveParishes() {
+        long seed = System.nanoTime();
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Warmup Diocese " + seed)
+                .code("WU" + (seed % 10000))
+                .description("Warm-up test")
+                .build());
+        Parish busy = parishRepository.save(Parish.builder().parishName("Busy Parish " + seed)
+                .diocese(diocese).description("A").build());
+        Parish quiet = parishRepository.save(Parish.builder().parishName("Quiet Parish " + seed)
+                .diocese(diocese).description("B").build());
+        Parish dormant = parishRepository.save(Parish.builder().parishName("Dormant Parish " + seed)
+                .diocese(diocese).description("C").build());
+        // Enough recent events to rank ahead of anything other tests logged
+        for (int i = 0; i < 50; i++) {
+            audit(busy, OffsetDateTime.now());
+        }
+        audit(quiet, OffsetDateTime.now());
+        audit(dormant, OffsetDateTime.now().minusDays(90));
+        ReflectionTestUtils.setField(warmupService, "topParishes", 1);
+        ReflectionTestUtils.setField(warmupService, "activityWindow", Duration.ofDays(30));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        int loaded = warmupService.warmUp();
+
+        Cache parishDashboards = cacheManager.getCache(CacheConfig.CACHE_PARISH_DASHBOARD);
+        assertThat(loaded).isEqualTo(4);
+        assertThat(warmupService.getState()).isEqualTo(CacheWarmupService.State.COMPLETED);
+        assertThat(warmupService.isReady()).isTrue();
+        assertThat(parishDashboards.get(busy.getId())).isNotNull();
+        assertThat(parishDashboards.get(quiet.getId())).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.CACHE_DIOCESE_DASHBOARD).get(diocese.getId())).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.CACHE_PARISHES_BY_DIOCESE).get(diocese.getId())).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.CACHE_DIOCESES_WITH_PARISHES).get("all")).isNotNull();
+    }
+
+    @Test
+    void disabledWarmUp_isReadyImmediately() {
+        assertThat(warmupService.isReady()).isTrue();
+    }
+
+    private void audit(Parish parish, OffsetDateTime at) {
+        auditLogRepository.save(SacramentAuditLog.builder()
+                .eventType(SacramentAuditLog.EventType.READ.name())
+                .sacramentType(SacramentAuditLog.SacramentType.BAPTISM.name())
+                .parishId(parish.getId())
+                .actorName("warmup-test")
+                .createdAt(at)
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.config.CacheConfig;
+import com.wyloks.churchRegistry.repository.ScheduledJobLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardViewRefresherTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    Cache dashboardCache;
+
+    @Mock
+    ScheduledJobLockRepository lockRepository;
+
+    @InjectMocks
+    DashboardViewRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refresher, "refreshInterval", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void refreshIfDue_isNoOpWithoutMaterializedViews() {
+        databaseProduct("H2");
+        refresher.requestRefresh();
+
+        refresher.refreshIfDue();
+
+        assertThat(refresher.refresh()).isFalse();
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void refreshIfDue_refreshesConcurrentlyWhenDueOrRequested() {
+        databaseProduct("PostgreSQL");
+        runTransactionCallbacks();
+        when(cacheManager.getCache(CacheConfig.CACHE_DIOCESE_DASHBOARD)).thenReturn(dashboardCache);
+        lease(1);
+
+        refresher.refreshIfDue();
+        refresher.refreshIfDue();
+
+        verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY mv_parish_activity");
+        verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY mv_parish_monthly_activity");
+        verify(dashboardCache).clear();
+
+        refresher.requestRefresh();
+        refresher.refreshIfDue();
+
+        verify(jdbcTemplate, times(2)).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY mv_parish_activity");
+        verify(dashboardCache, times(2)).clear();
+    }
+
+    @Test
+    void refreshIfDue_skipsTimedRefreshWhileAnotherInstanceHoldsTheLease_butNotARequestedOne() {
+        databaseProduct("PostgreSQL");
+        runTransactionCallbacks();
+        when(cacheManager.getCache(CacheConfig.CACHE_DIOCESE_DASHBOARD)).thenReturn(dashboardCache);
+        lease(0);
+
+        refresher.refreshIfDue();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+
+        refresher.onSacramentChanged(new SacramentChangedEvent(null, null, SacramentChangedEvent.Change.IMPORTED));
+        refresher.refreshIfDue();
+
+        verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY mv_parish_activity");
+        verify(lockRepository).tryAcquire(eq(DashboardViewRefresher.LOCK_NAME), any(), any(), anyString());
+    }
+
+    @Test
+    void refresh_failureIsRetriedOnNextPoll() {
+        databaseProduct("PostgreSQL");
+        runTransactionCallbacks();
+        when(cacheManager.getCache(CacheConfig.CACHE_DIOCESE_DASHBOARD)).thenReturn(dashboardCache);
+        doThrow(new IllegalStateException("lock timeout"))
+                .doNothing()
+                .when(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY mv_parish_activity");
+
+        assertThat(refresher.refresh()).isFalse();
+        verify(dashboardCache, never()).clear();
+
+        refresher.refreshIfDue();
+
+        verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY mv_parish_monthly_activity");
+        verify(dashboardCache).clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void databaseProduct(String product) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(product);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void lease(int acquired) {
+        when(lockRepository.tryAcquire(eq(DashboardViewRefresher.LOCK_NAME), any(), any(), anyString())).thenReturn(acquired);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class))).thenReturn("true");
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
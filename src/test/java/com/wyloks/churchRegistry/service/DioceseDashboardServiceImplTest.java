@@ -7,8 +7,10 @@ import com.wyloks.churchRegistry.dto.FirstHolyCommunionResponse;
 import com.wyloks.churchRegistry.dto.MarriageResponse;
 import com.wyloks.churchRegistry.entity.Diocese;
 import com.wyloks.churchRegistry.entity.Parish;
-import com.wyloks.churchRegistry.repository.*;
-import com.wyloks.churchRegistry.repository.projection.ParishActivityRow;
+import com.wyloks.churchRegistry.repository.DashboardRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.projection.MonthlyActivityRow;
+import com.wyloks.churchRegistry.repository.projection.ParishActivityViewRow;
 import com.wyloks.churchRegistry.service.impl.DioceseDashboardServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,15 +20,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
-import java.time.LocalDate;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,21 +41,6 @@ class DioceseDashboardServiceImplTest {
     @Mock
     DashboardRepository dashboardRepository;
 
-    @Mock
-    BaptismRepository baptismRepository;
-
-    @Mock
-    FirstHolyCommunionRepository communionRepository;
-
-    @Mock
-    ConfirmationRepository confirmationRepository;
-
-    @Mock
-    MarriageRepository marriageRepository;
-
-    @Mock
-    HolyOrderRepository holyOrderRepository;
-
     @Mock
     BaptismService baptismService;
 
@@ -65,6 +53,8 @@ class DioceseDashboardServiceImplTest {
     @Mock
     MarriageService marriageService;
 
+    private static final Instant REFRESHED_AT = Instant.ofEpochMilli(System.currentTimeMillis() - 30_000);
+
     DioceseDashboardServiceImpl dioceseDashboardService;
 
     Diocese diocese;
@@ -76,11 +66,6 @@ class DioceseDashboardServiceImplTest {
         dioceseDashboardService = new DioceseDashboardServiceImpl(
                 parishRepository,
                 dashboardRepository,
-                baptismRepository,
-                communionRepository,
-                confirmationRepository,
-                marriageRepository,
-                holyOrderRepository,
                 baptismService,
                 communionService,
                 confirmationService,
@@ -112,14 +97,9 @@ class DioceseDashboardServiceImplTest {
 
         when(parishRepository.findByDioceseId(dioceseId))
                 .thenReturn(List.of(parish1, parish2));
-        when(baptismRepository.countByParish_Diocese_Id(dioceseId)).thenReturn(15L);
-        when(communionRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(8L);
-        when(confirmationRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(5L);
-        when(marriageRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(3L);
-        when(holyOrderRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(1L);
-
-        ParishActivityRow row1 = createParishActivityRow(10L, "Parish 1", 10, 5, 3, 2);
-        ParishActivityRow row2 = createParishActivityRow(20L, "Parish 2", 5, 3, 2, 1);
+
+        ParishActivityViewRow row1 = createParishActivityRow(10L, "Parish 1", 10, 5, 3, 2, 1);
+        ParishActivityViewRow row2 = createParishActivityRow(20L, "Parish 2", 5, 3, 2, 1, 0);
         when(dashboardRepository.getParishActivity(dioceseId))
                 .thenReturn(List.of(row1, row2));
 
@@ -155,6 +135,9 @@ class DioceseDashboardServiceImplTest {
         assertThat(result.getMonthly()).isNotNull();
         assertThat(result.getMonthly().getBaptisms()).hasSize(12);
         assertThat(result.getMonthly().getBaptisms()).containsOnly(0L);
+
+        assertThat(result.getAggregatesAsOf()).isEqualTo(REFRESHED_AT);
+        assertThat(result.isAggregatesStale()).isFalse();
     }
 
     @Test
@@ -174,6 +157,32 @@ class DioceseDashboardServiceImplTest {
         assertThat(result.getParishActivity()).isEmpty();
         assertThat(result.getRecentSacraments().getBaptisms()).isEmpty();
         assertThat(result.getMonthly().getBaptisms()).hasSize(12);
+        assertThat(result.getAggregatesAsOf()).isNull();
+        verifyNoInteractions(dashboardRepository);
+    }
+
+    @Test
+    void getDioceseDashboard_flagsStaleAggregates() {
+        Long dioceseId = 1L;
+        parish1.setId(10L);
+
+        when(parishRepository.findByDioceseId(dioceseId)).thenReturn(List.of(parish1));
+        Instant lastRefresh = Instant.ofEpochMilli(System.currentTimeMillis()).minus(Duration.ofHours(1));
+        when(dashboardRepository.getParishActivity(dioceseId))
+                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 1, 0, 0, 0, 0, lastRefresh)));
+        when(baptismService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(communionService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(confirmationService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(marriageService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        DioceseDashboardResponse result = dioceseDashboardService.getDioceseDashboard(dioceseId);
+
+        assertThat(result.getAggregatesAsOf()).isEqualTo(lastRefresh);
+        assertThat(result.isAggregatesStale()).isTrue();
     }
 
     @Test
@@ -183,14 +192,9 @@ class DioceseDashboardServiceImplTest {
         diocese.setId(dioceseId);
 
         when(parishRepository.findByDioceseId(dioceseId)).thenReturn(List.of(parish1));
-        when(baptismRepository.countByParish_Diocese_Id(dioceseId)).thenReturn(1L);
-        when(communionRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-        when(confirmationRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-        when(marriageRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-        when(holyOrderRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
 
         when(dashboardRepository.getParishActivity(dioceseId))
-                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 1, 0, 0, 0)));
+                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 1, 0, 0, 0, 0)));
 
         BaptismResponse baptism = BaptismResponse.builder()
                 .id(100L)
@@ -214,34 +218,25 @@ class DioceseDashboardServiceImplTest {
     }
 
     @Test
-    void getDioceseDashboard_aggregatesMonthlyDataFromRecords() {
+    void getDioceseDashboard_foldsTrailingTwelveMonthsFromView() {
         Long dioceseId = 1L;
         parish1.setId(10L);
         diocese.setId(dioceseId);
 
         when(parishRepository.findByDioceseId(dioceseId)).thenReturn(List.of(parish1));
-        when(baptismRepository.countByParish_Diocese_Id(dioceseId)).thenReturn(2L);
-        when(communionRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-        when(confirmationRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-        when(marriageRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-        when(holyOrderRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
-
         when(dashboardRepository.getParishActivity(dioceseId))
-                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 2, 0, 0, 0)));
+                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 6, 1, 0, 0, 0)));
+
+        YearMonth current = YearMonth.now();
+        YearMonth lastYear = current.minusMonths(11);
+        when(dashboardRepository.getMonthlyActivity(dioceseId, lastYear.getYear())).thenReturn(List.of(
+                createMonthlyRow("BAPTISM", current, 2),
+                createMonthlyRow("BAPTISM", lastYear, 3),
+                createMonthlyRow("BAPTISM", current.minusMonths(12), 1),
+                createMonthlyRow("COMMUNION", current, 1)));
 
-        // Jan (0) and Mar (2) baptisms
-        BaptismResponse b1 = BaptismResponse.builder()
-                .id(1L)
-                .createdAt(OffsetDateTime.of(2025, 1, 15, 0, 0, 0, 0, ZoneOffset.UTC))
-                .dateOfBirth(LocalDate.of(2024, 12, 1))
-                .build();
-        BaptismResponse b2 = BaptismResponse.builder()
-                .id(2L)
-                .createdAt(OffsetDateTime.of(2025, 3, 20, 0, 0, 0, 0, ZoneOffset.UTC))
-                .dateOfBirth(LocalDate.of(2025, 2, 10))
-                .build();
         when(baptismService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(List.of(b1, b2)));
+                .thenReturn(new PageImpl<>(List.of()));
         when(communionService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
                 .thenReturn(new PageImpl<>(List.of()));
         when(confirmationService.findByParishIdIn(eq(Set.of(10L)), any(PageRequest.class)))
@@ -253,9 +248,12 @@ class DioceseDashboardServiceImplTest {
 
         List<Long> monthlyBaptisms = result.getMonthly().getBaptisms();
         assertThat(monthlyBaptisms).hasSize(12);
-        assertThat(monthlyBaptisms.get(0)).isEqualTo(1L);  // Jan
-        assertThat(monthlyBaptisms.get(2)).isEqualTo(1L);  // Mar
-        assertThat(monthlyBaptisms.get(1)).isZero();
+        assertThat(monthlyBaptisms.get(current.getMonthValue() - 1)).isEqualTo(2L);
+        assertThat(monthlyBaptisms.get(lastYear.getMonthValue() - 1))
+                .as("month twelve months back is outside the window; eleven back is inside")
+                .isEqualTo(3L);
+        assertThat(monthlyBaptisms.stream().mapToLong(Long::longValue).sum()).isEqualTo(5L);
+        assertThat(result.getMonthly().getCommunions().get(current.getMonthValue() - 1)).isEqualTo(1L);
     }
 
     @Test
@@ -265,14 +263,9 @@ class DioceseDashboardServiceImplTest {
         diocese.setId(dioceseId);
 
         when(parishRepository.findByDioceseId(dioceseId)).thenReturn(List.of(parish1));
-        when(baptismRepository.countByParish_Diocese_Id(dioceseId)).thenReturn(1L);
-        when(communionRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(1L);
-        when(confirmationRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(1L);
-        when(marriageRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(1L);
-        when(holyOrderRepository.countByBaptismParish_Diocese_Id(dioceseId)).thenReturn(0L);
 
         when(dashboardRepository.getParishActivity(dioceseId))
-                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 1, 1, 1, 1)));
+                .thenReturn(List.of(createParishActivityRow(10L, "Parish 1", 1, 1, 1, 1, 0)));
 
         BaptismResponse baptism = BaptismResponse.builder().id(1L).baptismName("B").parishId(10L).build();
         FirstHolyCommunionResponse communion = FirstHolyCommunionResponse.builder().id(2L).parish("St Mary").build();
@@ -296,9 +289,17 @@ class DioceseDashboardServiceImplTest {
         assertThat(result.getRecentSacraments().getMarriages()).hasSize(1);
     }
 
-    private static ParishActivityRow createParishActivityRow(Long parishId, String parishName,
-                                                           long baptisms, long communions, long confirmations, long marriages) {
-        return new ParishActivityRow() {
+    private static ParishActivityViewRow createParishActivityRow(Long parishId, String parishName, long baptisms,
+                                                                 long communions, long confirmations, long marriages,
+                                                                 long holyOrders) {
+        return createParishActivityRow(parishId, parishName, baptisms, communions, confirmations, marriages, holyOrders,
+                REFRESHED_AT);
+    }
+
+    private static ParishActivityViewRow createParishActivityRow(Long parishId, String parishName, long baptisms,
+                                                                 long communions, long confirmations, long marriages,
+                                                                 long holyOrders, Instant refreshedAt) {
+        return new ParishActivityViewRow() {
             @Override
             public Long getParishId() { return parishId; }
             @Override
@@ -311,6 +312,23 @@ class DioceseDashboardServiceImplTest {
             public long getConfirmations() { return confirmations; }
             @Override
             public long getMarriages() { return marriages; }
+            @Override
+            public long getHolyOrders() { return holyOrders; }
+            @Override
+            public long getRefreshedAtMillis() { return refreshedAt.toEpochMilli(); }
+        };
+    }
+
+    private static MonthlyActivityRow createMonthlyRow(String sacramentType, YearMonth month, long count) {
+        return new MonthlyActivityRow() {
+            @Override
+            public String getSacramentType() { return sacramentType; }
+            @Override
+            public int getStatYear() { return month.getYear(); }
+            @Override
+            public int getStatMonth() { return month.getMonthValue(); }
+            @Override
+            public long getRecordCount() { return count; }
         };
     }
 }
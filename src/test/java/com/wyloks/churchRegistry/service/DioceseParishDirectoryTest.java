@@ -0,0 +1,55 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.DioceseWithParishesResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DioceseParishDirectoryTest {
+
+    final List<DioceseWithParishesResponse> all = List.of(
+            diocese(1L, parish(10L, 1L), parish(11L, 1L)),
+            diocese(2L, parish(20L, 2L)),
+            diocese(3L));
+
+    @Test
+    void visibleTo_keepsDiocesesWithAccessibleParishes_andOnlyThoseParishes() {
+        List<DioceseWithParishesResponse> visible = DioceseParishDirectory.visibleTo(all, Set.of(11L, 99L));
+
+        assertThat(visible).extracting(DioceseWithParishesResponse::getId).containsExactly(1L);
+        assertThat(visible.get(0).getParishes()).extracting(ParishResponse::getId).containsExactly(11L);
+        assertThat(all.get(0).getParishes()).as("cached list untouched").hasSize(2);
+    }
+
+    @Test
+    void visibleTo_isEmptyWithoutParishAccess() {
+        assertThat(DioceseParishDirectory.visibleTo(all, Set.of())).isEmpty();
+    }
+
+    @Test
+    void visibleParishes_intersectsWithAccessSet() {
+        List<ParishResponse> parishes = all.get(0).getParishes();
+
+        assertThat(DioceseParishDirectory.visibleParishes(parishes, Set.of(10L, 20L)))
+                .extracting(ParishResponse::getId)
+                .containsExactly(10L);
+        assertThat(DioceseParishDirectory.visibleParishes(parishes, Set.of())).isEmpty();
+        assertThat(DioceseParishDirectory.visibleParishes(null, Set.of(10L))).isEmpty();
+    }
+
+    private static DioceseWithParishesResponse diocese(Long id, ParishResponse... parishes) {
+        return DioceseWithParishesResponse.builder()
+                .id(id)
+                .dioceseName("Diocese " + id)
+                .parishes(List.of(parishes))
+                .build();
+    }
+
+    private static ParishResponse parish(Long id, Long dioceseId) {
+        return ParishResponse.builder().id(id).parishName("Parish " + id).dioceseId(dioceseId).build();
+    }
+}
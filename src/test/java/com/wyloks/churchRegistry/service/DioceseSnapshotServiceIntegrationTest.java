@@ -0,0 +1,204 @@
+package com.wyloks.churchRegistry.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for {@link DioceseSnapshotService}: partition layout, manifest and retention.
+ */
+@SpringBootTest
+@Transactional
+class DioceseSnapshotServiceIntegrationTest {
+
+    @TempDir
+    static Path snapshotDir;
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.snapshot.directory", snapshotDir::toString);
+        registry.add("app.snapshot.retain", () -> "2");
+    }
+
+    @Autowired
+    DioceseSnapshotService snapshotService;
+
+    @Autowired
+    DioceseSnapshotScheduler snapshotScheduler;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Diocese diocese;
+    Parish north;
+    Parish south;
+
+    @BeforeEach
+    void setUp() {
+        diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Snapshot Diocese")
+                .code("SNP")
+                .description("Snapshot test")
+                .build());
+        north = parishRepository.save(Parish.builder().parishName("North").diocese(diocese).description("N").build());
+        south = parishRepository.save(Parish.builder().parishName("South").diocese(diocese).description("S").build());
+    }
+
+    @Test
+    void createSnapshot_partitionsRegistersByParishAndYear() throws IOException {
+        Baptism ada = baptism("Ada", north, LocalDate.of(2019, 3, 1));
+        baptism("Bola", north, LocalDate.of(2020, 3, 1));
+        baptism("Chidi", north, LocalDate.of(2019, 7, 1));
+        baptism("Dayo", south, null);
+        communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(ada)
+                .communionDate(LocalDate.of(2027, 6, 1))
+                .officiatingPriest("Fr. X")
+                .parish("North")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        String snapshot = snapshotService.createSnapshot(diocese.getId());
+        DioceseSnapshotService.Snapshot latest = snapshotService.findLatest(diocese.getId()).orElseThrow();
+        assertThat(latest.fileName()).isEqualTo(snapshot);
+        Map<String, String> entries = readZip(latest.content());
+
+        String n = "parish_id=" + north.getId();
+        assertThat(entries.keySet()).containsExactly(
+                "baptisms/" + n + "/year=2019/part-0.csv",
+                "baptisms/" + n + "/year=2020/part-0.csv",
+                "baptisms/parish_id=" + south.getId() + "/year=2010/part-0.csv",
+                "communions/" + n + "/year=2027/part-0.csv",
+                "manifest.json");
+        List<List<String>> rows2019 = readCsv(entries.get("baptisms/" + n + "/year=2019/part-0.csv"));
+        assertThat(rows2019.get(0)).startsWith("id", "baptismName");
+        assertThat(rows2019).extracting(r -> r.get(1)).containsExactly("baptismName", "Ada", "Chidi");
+
+        JsonNode manifest = objectMapper.readTree(entries.get("manifest.json"));
+        assertThat(manifest.get("dioceseId").asLong()).isEqualTo(diocese.getId());
+        assertThat(manifest.get("rowCounts").get("baptisms").asLong()).isEqualTo(4);
+        assertThat(manifest.get("rowCounts").get("marriages").asLong()).isZero();
+    }
+
+    @Test
+    void createSnapshot_keepsOnlyConfiguredNumberOfSnapshots() throws IOException {
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            created.add(snapshotService.createSnapshot(diocese.getId()));
+        }
+
+        Path dioceseDir = snapshotDir.resolve("diocese-" + diocese.getId());
+        assertThat(Files.exists(dioceseDir.resolve(created.get(0)))).isFalse();
+        assertThat(Files.exists(dioceseDir.resolve(created.get(1)))).isTrue();
+        assertThat(snapshotService.findLatest(diocese.getId()))
+                .get().extracting(DioceseSnapshotService.Snapshot::fileName).isEqualTo(created.get(2));
+        try (var files = Files.list(dioceseDir)) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .as("no partial files are left behind")
+                    .allMatch(name -> name.endsWith(".zip"));
+        }
+    }
+
+    @Test
+    void scheduledRun_isSkippedWhileAnotherRunHoldsTheLease() throws IOException {
+        snapshotScheduler.snapshotAllDioceses();
+        snapshotScheduler.snapshotAllDioceses();
+
+        try (var files = Files.list(snapshotDir.resolve("diocese-" + diocese.getId()))) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void createSnapshot_rejectsUnknownDiocese_andLatestIsEmptyWithoutSnapshots() throws IOException {
+        assertThatThrownBy(() -> snapshotService.createSnapshot(999_999L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(snapshotService.findLatest(diocese.getId())).isEmpty();
+    }
+
+    private Baptism baptism(String name, Parish parish, LocalDate dateOfBaptism) {
+        return baptismRepository.save(Baptism.builder()
+                .baptismName(name)
+                .surname("Snap")
+                .otherNames("")
+                .gender("F")
+                .dateOfBirth(LocalDate.of(2010, 1, 1))
+                .dateOfBaptism(dateOfBaptism)
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(parish)
+                .build());
+    }
+
+    private static Map<String, String> readZip(Resource file) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(file.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private static List<List<String>> readCsv(String content) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(content));
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = reader.readRecord()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
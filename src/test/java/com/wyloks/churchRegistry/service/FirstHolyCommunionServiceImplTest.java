@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -28,6 +29,9 @@ class FirstHolyCommunionServiceImplTest {
     @Mock
     BaptismRepository baptismRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     com.wyloks.churchRegistry.service.impl.FirstHolyCommunionServiceImpl communionService;
 
@@ -0,0 +1,224 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportJobResponse;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.ImportJob;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.ImportJobContentChunkRepository;
+import com.wyloks.churchRegistry.repository.ImportJobRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.service.impl.ImportJobServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for background import jobs: progress tracking, resume from checkpoint and claiming.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {"app.import.batch-size=2", "app.import.job.batch-pause-ms=0"})
+class ImportJobWorkerIntegrationTest {
+
+    private static final String CSV = "baptismName,surname,gender,dateOfBirth,fathersName,mothersName,sponsorNames,"
+            + "placeOfBirth,placeOfBaptism,dateOfBaptism\n"
+            + "ada,eze,F,2010-01-01,obi eze,ngozi eze,ife,Enugu,St Mary,2010-02-01\n"
+            + "bola,ade,F,2010-01-02,tunde ade,kemi ade,ife,Lagos,St Mary,2010-02-02\n"
+            + "chidi,,M,2010-01-03,obi,ngozi,ife,Enugu,St Mary,2010-02-03\n"
+            + "dayo,ola,M,2010-01-04,femi ola,bisi ola,ife,Ibadan,St Mary,2010-02-04\n"
+            + "emeka,obi,M,2010-01-05,ike obi,uche obi,ife,Enugu,St Mary,2010-02-05\n";
+
+    @Autowired
+    ImportJobService importJobService;
+
+    @Autowired
+    ImportJobWorker worker;
+
+    @Autowired
+    ImportJobRepository jobRepository;
+
+    @Autowired
+    ImportJobContentChunkRepository contentRepository;
+
+    @Autowired
+    BaptismService baptismService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Parish parish;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Job Diocese")
+                .code("JOB")
+                .description("Import job test")
+                .build());
+        parish = parishRepository.save(Parish.builder()
+                .parishName("Job Parish")
+                .diocese(diocese)
+                .description("Jobs")
+                .build());
+    }
+
+    @Test
+    void submittedJob_isProcessedInBatches_andReportsProgress() throws IOException {
+        ImportJobResponse queued = importJobService.submit(parish.getId(), SacramentType.BAPTISM, "register.csv", stream(CSV));
+        assertThat(queued.getStatus()).isEqualTo("QUEUED");
+        assertThat(queued.getTotalRows()).isEqualTo(5);
+        assertThat(queued.getPercentComplete()).isZero();
+
+        worker.runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        ImportJobResponse done = importJobService.findById(queued.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getProcessedRows()).isEqualTo(5);
+        assertThat(done.getImportedRows()).isEqualTo(4);
+        assertThat(done.getFailedRows()).isEqualTo(1);
+        assertThat(done.getPercentComplete()).isEqualTo(100);
+        assertThat(done.getErrors()).extracting(ImportResultResponse.RowError::getLine).containsExactly(4L);
+        assertThat(done.getStartedAt()).isNotNull();
+        assertThat(done.getFinishedAt()).isNotNull();
+        assertThat(contentRepository.existsByJobId(queued.getId()))
+                .as("upload is discarded once the job completes")
+                .isFalse();
+        assertThat(baptismService.findByParishId(parish.getId())).hasSize(4);
+    }
+
+    @Test
+    void orphanedRunningJob_resumesAfterCheckpoint() throws IOException {
+        ImportJobResponse queued = importJobService.submit(parish.getId(), SacramentType.BAPTISM, "register.csv", stream(CSV));
+        ImportJob job = jobRepository.findById(queued.getId()).orElseThrow();
+        job.setStatus(ImportJob.Status.RUNNING);
+        job.setProcessedRows(2);
+        job.setImportedRows(2);
+        job.setStartedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        job.setUpdatedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        entityManager.flush();
+        entityManager.clear();
+
+        worker.runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        ImportJobResponse done = importJobService.findById(queued.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getImportedRows()).isEqualTo(4);
+        assertThat(done.getFailedRows()).isEqualTo(1);
+        assertThat(baptismService.findByParishId(parish.getId()))
+                .as("rows before the checkpoint are not imported again")
+                .extracting(b -> b.getBaptismName())
+                .containsExactlyInAnyOrder("Dayo", "Emeka");
+    }
+
+    @Test
+    void uploadLargerThanOneChunk_isStoredInChunks_andReadBackAcrossTheBoundary() throws IOException {
+        String padding = "x".repeat(ImportJobServiceImpl.CONTENT_CHUNK_BYTES);
+        String csv = CSV.replaceFirst("\n", ",comment\n").replaceFirst("ife,Enugu,St Mary,2010-02-01\n",
+                "ife,Enugu,St Mary,2010-02-01," + padding + "\n");
+
+        ImportJobResponse queued = importJobService.submit(parish.getId(), SacramentType.BAPTISM, "register.csv", stream(csv));
+        assertThat(queued.getTotalRows()).isEqualTo(5);
+        assertThat(contentRepository.findData(queued.getId(), 1)).isPresent();
+
+        worker.runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        ImportJobResponse done = importJobService.findById(queued.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getImportedRows()).isEqualTo(4);
+        assertThat(baptismService.findByParishId(parish.getId())).hasSize(4);
+    }
+
+    @Test
+    void failedJob_discardsItsUpload() throws IOException {
+        ImportJobResponse queued = importJobService.submit(parish.getId(), SacramentType.BAPTISM, "other.csv",
+                stream("unrelated,columns\n1,2\n"));
+
+        worker.runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        ImportJobResponse failed = importJobService.findById(queued.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getLastError()).contains("does not contain any baptism columns");
+        assertThat(contentRepository.existsByJobId(queued.getId())).isFalse();
+    }
+
+    @Test
+    void supersededClaim_canNeitherRecordProgressNorFinish() throws IOException {
+        ImportJobResponse queued = importJobService.submit(parish.getId(), SacramentType.BAPTISM, "register.csv", stream(CSV));
+        ImportJob job = jobRepository.findById(queued.getId()).orElseThrow();
+        job.setStatus(ImportJob.Status.RUNNING);
+        job.setClaimToken("stalled-worker");
+        job.setUpdatedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        entityManager.flush();
+        entityManager.clear();
+
+        worker.runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        Instant now = Instant.now();
+        assertThat(jobRepository.recordProgress(queued.getId(), "stalled-worker", 2, 2, 0, now)).isZero();
+        assertThat(jobRepository.finish(queued.getId(), "stalled-worker", ImportJob.Status.FAILED, "late", now)).isZero();
+        entityManager.clear();
+        ImportJobResponse done = importJobService.findById(queued.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getImportedRows()).isEqualTo(4);
+    }
+
+    @Test
+    void runningJobWithFreshHeartbeat_isNotClaimed() throws IOException {
+        ImportJobResponse queued = importJobService.submit(parish.getId(), SacramentType.BAPTISM, "register.csv", stream(CSV));
+        ImportJob job = jobRepository.findById(queued.getId()).orElseThrow();
+        job.setStatus(ImportJob.Status.RUNNING);
+        job.setUpdatedAt(Instant.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        worker.runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(importJobService.findById(queued.getId()).orElseThrow().getStatus()).isEqualTo("RUNNING");
+        assertThat(baptismService.findByParishId(parish.getId())).isEmpty();
+    }
+
+    @Test
+    void submit_rejectsMalformedCsv() {
+        assertThatThrownBy(() -> importJobService.submit(parish.getId(), SacramentType.BAPTISM, "bad.csv",
+                stream("baptismName\n\"unterminated\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
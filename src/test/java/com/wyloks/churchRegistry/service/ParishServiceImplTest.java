@@ -1,6 +1,7 @@
 package com.wyloks.churchRegistry.service;
 
 import com.wyloks.churchRegistry.dto.ParishMarriageRequirementsResponse;
+import com.wyloks.churchRegistry.dto.ParishResponse;
 import com.wyloks.churchRegistry.entity.Diocese;
 import com.wyloks.churchRegistry.entity.Parish;
 import com.wyloks.churchRegistry.repository.DioceseRepository;
@@ -14,7 +15,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,9 +36,33 @@ class ParishServiceImplTest {
     @Mock
     CurrentUserAccessService currentUserAccessService;
 
+    @Mock
+    DioceseParishDirectory dioceseParishDirectory;
+
     @InjectMocks
     ParishServiceImpl parishService;
 
+    @Test
+    void findByDioceseId_filtersSharedDioceseEntryToCallersParishes() {
+        when(dioceseParishDirectory.parishesOfDiocese(1L)).thenReturn(List.of(
+                ParishResponse.builder().id(5L).dioceseId(1L).build(),
+                ParishResponse.builder().id(6L).dioceseId(1L).build()));
+        when(currentUserAccessService.currentUser())
+                .thenReturn(new CurrentUserAccessService.CurrentUserAccess("secretary", "PARISH_SECRETARY", Set.of(6L)));
+
+        assertThat(parishService.findByDioceseId(1L)).extracting(ParishResponse::getId).containsExactly(6L);
+    }
+
+    @Test
+    void findByDioceseId_returnsSharedEntryForAdmin() {
+        List<ParishResponse> all = List.of(ParishResponse.builder().id(5L).dioceseId(1L).build());
+        when(dioceseParishDirectory.parishesOfDiocese(1L)).thenReturn(all);
+        when(currentUserAccessService.currentUser())
+                .thenReturn(new CurrentUserAccessService.CurrentUserAccess("admin", "ADMIN", Set.of()));
+
+        assertThat(parishService.findByDioceseId(1L)).isSameAs(all);
+    }
+
     @Test
     void getMarriageRequirements_returnsEmpty_whenParishMissing() {
         when(parishRepository.findById(99L)).thenReturn(Optional.empty());
@@ -0,0 +1,180 @@
+package com.wyloks.churchRegistry.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wyloks.churchRegistry.dto.ExportFormat;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.ConfirmationRepository;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.MarriageRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link RegisterExportService}: CSV and NDJSON output, ordering and parish scoping.
+ */
+@SpringBootTest
+@Transactional
+class RegisterExportServiceIntegrationTest {
+
+    /** More than one marriage mapping chunk, so the persistence context is cleared mid-export. */
+    private static final int MARRIAGES = 105;
+
+    @Autowired
+    RegisterExportService exportService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    ConfirmationRepository confirmationRepository;
+
+    @Autowired
+    MarriageRepository marriageRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Parish parish;
+    Parish other;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Export Diocese")
+                .code("EXP")
+                .description("Export test")
+                .build());
+        parish = parishRepository.save(Parish.builder().parishName("Export Parish").diocese(diocese).description("A").build());
+        other = parishRepository.save(Parish.builder().parishName("Other Parish").diocese(diocese).description("B").build());
+    }
+
+    @Test
+    void exportCsv_writesHeaderAndOneRecordPerBaptismInIdOrder() throws IOException {
+        Baptism first = baptism("Ada", parish, "Lives at 4, Main Street");
+        Baptism second = baptism("Bola", parish, null);
+        baptism("Chidi", other, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(SacramentType.BAPTISM, parish.getId(), ExportFormat.CSV, out);
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString(StandardCharsets.UTF_8)));
+        List<String> header = reader.readRecord();
+        assertThat(header).startsWith("id", "baptismName", "surname").contains("parishId", "note", "createdAt");
+        List<String> firstRow = reader.readRecord();
+        List<String> secondRow = reader.readRecord();
+        assertThat(reader.readRecord()).isNull();
+        assertThat(rows).isEqualTo(2);
+        assertThat(firstRow.get(0)).isEqualTo(first.getId().toString());
+        assertThat(firstRow.get(header.indexOf("note"))).isEqualTo("Lives at 4, Main Street");
+        assertThat(firstRow.get(header.indexOf("dateOfBirth"))).isEqualTo("2010-01-01");
+        assertThat(secondRow.get(0)).isEqualTo(second.getId().toString());
+        assertThat(secondRow.get(header.indexOf("note"))).isEmpty();
+    }
+
+    @Test
+    void exportNdjson_streamsMarriagesAcrossMappingChunks() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < MARRIAGES; i++) {
+            ids.add(marriage("Spouse" + i, parish).getId());
+        }
+        marriage("Elsewhere", other);
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(SacramentType.MARRIAGE, parish.getId(), ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(MARRIAGES);
+        assertThat(lines).hasSize(MARRIAGES);
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            exportedIds.add(node.get("id").asLong());
+            assertThat(node.get("partnersName").asText()).startsWith("Partner Spouse");
+            assertThat(node.get("parties").isArray()).isTrue();
+        }
+        assertThat(exportedIds).isEqualTo(ids);
+    }
+
+    private Baptism baptism(String name, Parish p, String note) {
+        return baptismRepository.save(Baptism.builder()
+                .baptismName(name)
+                .surname("Export")
+                .otherNames("")
+                .gender("F")
+                .dateOfBirth(LocalDate.of(2010, 1, 1))
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .note(note)
+                .parish(p)
+                .build());
+    }
+
+    private Marriage marriage(String name, Parish p) {
+        Baptism baptism = baptism(name, p, null);
+        FirstHolyCommunion communion = communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(baptism)
+                .communionDate(LocalDate.of(2018, 6, 1))
+                .officiatingPriest("Fr. X")
+                .parish("St Mary")
+                .build());
+        Confirmation confirmation = confirmationRepository.save(Confirmation.builder()
+                .baptism(baptism)
+                .firstHolyCommunion(communion)
+                .confirmationDate(LocalDate.of(2020, 5, 5))
+                .officiatingBishop("Bp X")
+                .parish("St Mary")
+                .build());
+        return marriageRepository.save(Marriage.builder()
+                .baptism(baptism)
+                .firstHolyCommunion(communion)
+                .confirmation(confirmation)
+                .partnersName("Partner " + name)
+                .marriageDate(LocalDate.of(2030, 1, 20))
+                .officiatingPriest("Fr. X")
+                .parish("St Mary")
+                .build());
+    }
+}
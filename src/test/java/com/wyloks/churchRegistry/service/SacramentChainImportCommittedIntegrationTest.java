@@ -0,0 +1,155 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.ConfirmationRepository;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import com.wyloks.churchRegistry.repository.projection.SacramentLink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Chain imports outside a test transaction: concurrent imports of one baptism, and chunks the database partly
+ * refuses (the constraint used for that is DDL, which commits in H2).
+ */
+@SpringBootTest
+class SacramentChainImportCommittedIntegrationTest {
+
+    @Autowired
+    SacramentChainImportService importService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    ConfirmationRepository confirmationRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Parish parish;
+
+    @BeforeEach
+    void setUp() {
+        long seed = System.nanoTime();
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Committed Chain Diocese " + seed)
+                .code("CC" + (seed % 10000))
+                .description("Committed chain import test")
+                .build());
+        parish = parishRepository.save(Parish.builder().parishName("Committed Chain Parish " + seed)
+                .diocese(diocese).description("A").build());
+    }
+
+    @Test
+    void concurrentImports_ofTheSameCommunion_insertItOnce() throws Exception {
+        Baptism baptism = baptism("Ada");
+        String csv = "baptismId,communionDate,communionOfficiatingPriest,communionParish\n"
+                + baptism.getId() + ",2018-06-01,fr. james,Chain Parish\n";
+
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<ImportResultResponse> importOnce = () -> {
+            start.await();
+            return importService.importCsv(parish.getId(), stream(csv));
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ImportResultResponse> first = executor.submit(importOnce);
+            Future<ImportResultResponse> second = executor.submit(importOnce);
+            start.countDown();
+            List<ImportResultResponse> results = List.of(first.get(30, TimeUnit.SECONDS), second.get(30, TimeUnit.SECONDS));
+
+            assertThat(results).extracting(ImportResultResponse::getImportedRows).containsExactlyInAnyOrder(1L, 0L);
+            assertThat(results).flatExtracting(ImportResultResponse::getErrors)
+                    .extracting(ImportResultResponse.RowError::getMessage)
+                    .containsExactly("First Holy Communion already exists for this baptism");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(communionRepository.findLinksByBaptismIdIn(List.of(baptism.getId()))).hasSize(1);
+    }
+
+    @Test
+    void failedChunk_isRetriedRowByRow_andSavesEachRowCompletelyOrNotAtAll() throws IOException {
+        Baptism ada = baptism("Ada");
+        Baptism bola = baptism("Bola");
+        Baptism chidi = baptism("Chidi");
+        String csv = "baptismId,communionDate,communionOfficiatingPriest,communionParish,"
+                + "confirmationDate,confirmationOfficiatingBishop,confirmationParish\n"
+                + ada.getId() + ",2018-06-01,fr. james,Chain Parish,2022-05-05,bishop peter,Chain Parish\n"
+                + bola.getId() + ",2018-06-01,fr. james,Chain Parish,2022-05-05,bishop refused,Chain Parish\n"
+                + chidi.getId() + ",2018-06-01,fr. james,Chain Parish,,,\n";
+        jdbcTemplate.execute("ALTER TABLE confirmation ADD CONSTRAINT chk_import_test_bishop"
+                + " CHECK (officiating_bishop <> 'Bishop Refused')");
+        ImportResultResponse result;
+        try {
+            result = importService.importCsv(parish.getId(), stream(csv));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE confirmation DROP CONSTRAINT chk_import_test_bishop");
+        }
+
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResultResponse.RowError::getLine).containsExactly(3L);
+        assertThat(result.getErrors().get(0).getMessage())
+                .startsWith("Insert failed: ")
+                .containsIgnoringCase("chk_import_test_bishop");
+        List<Long> all = List.of(ada.getId(), bola.getId(), chidi.getId());
+        assertThat(communionRepository.findLinksByBaptismIdIn(all))
+                .as("the refused row's communion is rolled back with its confirmation")
+                .extracting(SacramentLink::getBaptismId)
+                .containsExactlyInAnyOrder(ada.getId(), chidi.getId());
+        assertThat(confirmationRepository.findLinksByBaptismIdIn(all))
+                .extracting(SacramentLink::getBaptismId)
+                .containsExactly(ada.getId());
+    }
+
+    private Baptism baptism(String name) {
+        return baptismRepository.save(Baptism.builder()
+                .baptismName(name)
+                .surname("Chain")
+                .otherNames("")
+                .gender("F")
+                .dateOfBirth(LocalDate.of(2010, 1, 1))
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(parish)
+                .build());
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
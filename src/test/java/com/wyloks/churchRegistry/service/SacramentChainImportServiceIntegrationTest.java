@@ -0,0 +1,183 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Confirmation;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Marriage;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.ConfirmationRepository;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.MarriageRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link SacramentChainImportService}: chain rules, tier linking and bulk parent resolution.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SacramentChainImportServiceIntegrationTest {
+
+    private static final String HEADER = "baptismId,communionDate,communionOfficiatingPriest,communionParish,"
+            + "confirmationDate,confirmationOfficiatingBishop,confirmationParish,"
+            + "marriageDate,partnersName,marriageOfficiatingPriest,marriageParish,dispensationGranted\n";
+
+    @Autowired
+    SacramentChainImportService importService;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    ConfirmationRepository confirmationRepository;
+
+    @Autowired
+    MarriageRepository marriageRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Parish parish;
+    Baptism full;
+    Baptism communionOnly;
+    Baptism hasCommunion;
+    Baptism noCommunion;
+    Baptism elsewhere;
+
+    @BeforeEach
+    void setUp() {
+        Diocese diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Chain Diocese")
+                .code("CHN")
+                .description("Chain import test")
+                .build());
+        parish = parishRepository.save(Parish.builder().parishName("Chain Parish").diocese(diocese).description("A").build());
+        Parish other = parishRepository.save(Parish.builder().parishName("Other Parish").diocese(diocese).description("B").build());
+
+        full = baptism("Ada", parish);
+        communionOnly = baptism("Bola", parish);
+        hasCommunion = baptism("Chidi", parish);
+        noCommunion = baptism("Dayo", parish);
+        elsewhere = baptism("Emeka", other);
+        communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(hasCommunion)
+                .communionDate(LocalDate.of(2018, 6, 1))
+                .officiatingPriest("Fr. A")
+                .parish("Chain Parish")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void importCsv_insertsEachTier_linksNewParents_andAppliesChainRules() throws IOException {
+        String csv = HEADER
+                + full.getId() + ",2018-06-01,fr. james,Chain Parish,2022-05-05,bishop peter,chain parish,"
+                + "2030-01-10,grace obi,fr. james,chain parish,yes\n"
+                + communionOnly.getId() + ",2018-06-02,fr. james,Chain Parish,,,,,,,,\n"
+                + hasCommunion.getId() + ",,,,2022-05-06,bishop peter,,,,,,\n"
+                + noCommunion.getId() + ",,,,2022-05-07,bishop peter,,,,,,\n"
+                + full.getId() + ",2018-06-03,fr. james,Chain Parish,,,,,,,,\n"
+                + elsewhere.getId() + ",2018-06-04,fr. james,Other Parish,,,,,,,,\n"
+                + "999999,2018-06-05,fr. james,Chain Parish,,,,,,,,\n"
+                + communionOnly.getId() + "9,,,,,,,2030-01-01,,,,\n";
+
+        ImportResultResponse result = importService.importCsv(parish.getId(), stream(csv));
+        entityManager.clear();
+
+        assertThat(result.getTotalRows()).isEqualTo(8);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportResultResponse.RowError::getLine)
+                .containsExactly(5L, 6L, 7L, 8L, 9L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("requires a First Holy Communion");
+        assertThat(result.getErrors().get(1).getMessage()).contains("Duplicate baptismId");
+        assertThat(result.getErrors().get(2).getMessage()).contains("another parish");
+        assertThat(result.getErrors().get(3).getMessage()).contains("Baptism not found");
+        assertThat(result.getErrors().get(4).getMessage()).contains("marriage.partnersName");
+
+        FirstHolyCommunion communion = communionRepository.findByBaptismId(full.getId()).orElseThrow();
+        assertThat(communion.getOfficiatingPriest()).isEqualTo("Fr. James");
+        Confirmation confirmation = confirmationRepository.findByFirstHolyCommunionId(communion.getId()).orElseThrow();
+        assertThat(confirmation.getParish()).isEqualTo("Chain Parish");
+        Marriage marriage = marriageRepository.findByConfirmationId(confirmation.getId()).orElseThrow();
+        assertThat(marriage.getFirstHolyCommunion().getId()).isEqualTo(communion.getId());
+        assertThat(marriage.getPartnersName()).isEqualTo("Grace Obi");
+        assertThat(marriage.getDispensationGranted()).isTrue();
+
+        assertThat(communionRepository.findByBaptismId(communionOnly.getId())).isPresent();
+        assertThat(confirmationRepository.findLinksByBaptismIdIn(List.of(hasCommunion.getId()))).hasSize(1);
+        assertThat(communionRepository.findByBaptismId(elsewhere.getId())).isEmpty();
+    }
+
+    @Test
+    void importCsv_resolvesParentsWithConstantQueriesPerChunk() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (Baptism b : List.of(full, communionOnly, noCommunion)) {
+            csv.append(b.getId()).append(",2018-06-01,fr. james,Chain Parish,2022-05-05,bishop peter,,")
+                    .append("2030-01-10,partner,fr. james,chain parish,\n");
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ImportResultResponse result = importService.importCsv(parish.getId(), stream(csv.toString()));
+
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(statistics.getQueryExecutionCount())
+                .as("parish check + 5 lookups (baptism, communion, confirmation, marriage, holy order)"
+                        + " + 2 id read-backs, for any row count")
+                .isEqualTo(8);
+    }
+
+    private Baptism baptism(String name, Parish p) {
+        return baptismRepository.save(Baptism.builder()
+                .baptismName(name)
+                .surname("Chain")
+                .otherNames("")
+                .gender("F")
+                .dateOfBirth(LocalDate.of(2010, 1, 1))
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(p)
+                .build());
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,201 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse;
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse.ParishStatistics;
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse.StatisticCell;
+import com.wyloks.churchRegistry.entity.Baptism;
+import com.wyloks.churchRegistry.entity.Diocese;
+import com.wyloks.churchRegistry.entity.FirstHolyCommunion;
+import com.wyloks.churchRegistry.entity.Parish;
+import com.wyloks.churchRegistry.repository.BaptismRepository;
+import com.wyloks.churchRegistry.repository.DioceseRepository;
+import com.wyloks.churchRegistry.repository.FirstHolyCommunionRepository;
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for {@link SacramentStatisticsService}: dimensions, full rebuild and incremental refresh, and
+ * the {@link SacramentStatisticsScheduler} leases.
+ */
+@SpringBootTest
+@Transactional
+class SacramentStatisticsServiceIntegrationTest {
+
+    @Autowired
+    SacramentStatisticsService statisticsService;
+
+    @Autowired
+    SacramentStatisticsScheduler statisticsScheduler;
+
+    @Autowired
+    DioceseRepository dioceseRepository;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    BaptismRepository baptismRepository;
+
+    @Autowired
+    FirstHolyCommunionRepository communionRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Diocese diocese;
+    Parish north;
+    Parish south;
+
+    @BeforeEach
+    void setUp() {
+        diocese = dioceseRepository.save(Diocese.builder()
+                .dioceseName("Statistics Diocese")
+                .code("STA")
+                .description("Statistics test")
+                .build());
+        north = parishRepository.save(Parish.builder().parishName("North").diocese(diocese).description("N").build());
+        south = parishRepository.save(Parish.builder().parishName("South").diocese(diocese).description("S").build());
+
+        baptism("Ada", "M", LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 1));
+        baptism("Bola", "Female", LocalDate.of(1990, 5, 5), LocalDate.of(2024, 4, 1));
+        baptism("Chidi", "M", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 2, 1));
+        Baptism older = baptism("Dayo", "F", LocalDate.of(2016, 2, 2), LocalDate.of(2016, 3, 3));
+        communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(older)
+                .communionDate(LocalDate.of(2024, 6, 1))
+                .officiatingPriest("Fr. X")
+                .parish("North")
+                .createdAt(OffsetDateTime.now().minusDays(2))
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void rebuildAll_reportsEveryParishBySacramentGenderAndAgeBracket() {
+        statisticsService.rebuildAll();
+
+        AnnualStatisticsResponse report = statisticsService.getAnnualReport(diocese.getId(), 2024);
+
+        assertThat(report.getTotals()).containsExactly(
+                Map.entry("BAPTISM", 2L), Map.entry("COMMUNION", 1L), Map.entry("CONFIRMATION", 0L), Map.entry("MARRIAGE", 0L));
+        assertThat(report.getRefreshedAt()).isNotNull();
+        assertThat(report.getParishes()).extracting(ParishStatistics::getParishName).containsExactly("North", "South");
+        assertThat(report.getParishes().get(0).getCells())
+                .extracting(StatisticCell::getSacramentType, StatisticCell::getGender, StatisticCell::getAgeBracket,
+                        StatisticCell::getCount)
+                .containsExactly(
+                        tuple("BAPTISM", "MALE", "UNDER_1", 1L),
+                        tuple("BAPTISM", "FEMALE", "AGE_18_PLUS", 1L),
+                        tuple("COMMUNION", "FEMALE", "AGE_7_TO_17", 1L));
+        assertThat(report.getParishes().get(1).getCells()).isEmpty();
+        assertThat(report.getParishes().get(1).getTotals()).containsEntry("BAPTISM", 0L);
+        assertThat(statisticsService.getAnnualReport(diocese.getId(), 2023).getTotals()).containsEntry("BAPTISM", 1L);
+    }
+
+    @Test
+    void refreshCreatedSince_recomputesOnlySlicesWithNewRecords() {
+        statisticsService.rebuildAll();
+        Instant before = Instant.now().minusSeconds(1);
+        baptismRepository.save(Baptism.builder()
+                .baptismName("Emeka")
+                .surname("Stat")
+                .otherNames("")
+                .gender("M")
+                .dateOfBirth(LocalDate.of(2024, 2, 2))
+                .dateOfBaptism(LocalDate.of(2024, 5, 5))
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(south)
+                .build());
+        entityManager.flush();
+
+        int slices = statisticsService.refreshCreatedSince(before);
+
+        assertThat(slices).isEqualTo(1);
+        AnnualStatisticsResponse report = statisticsService.getAnnualReport(diocese.getId(), 2024);
+        assertThat(report.getTotals()).containsEntry("BAPTISM", 3L);
+        assertThat(report.getParishes().get(1).getTotals()).containsEntry("BAPTISM", 1L);
+        assertThat(statisticsService.refreshCreatedSince(Instant.now().plusSeconds(60))).isZero();
+    }
+
+    @Test
+    void scheduledRebuild_isSkippedWhileAnotherRunHoldsTheLease() {
+        statisticsScheduler.rebuildAll();
+        baptism("Femi", "M", LocalDate.of(2024, 7, 7), LocalDate.of(2024, 8, 8));
+        entityManager.flush();
+
+        statisticsScheduler.rebuildAll();
+
+        assertThat(statisticsService.getAnnualReport(diocese.getId(), 2024).getTotals()).containsEntry("BAPTISM", 2L);
+    }
+
+    @Test
+    void scheduledRefresh_isSkippedWhileAnotherRunHoldsTheLease() {
+        statisticsService.rebuildAll();
+        newBaptism("Gbenga");
+        statisticsScheduler.refreshRecentChanges();
+        newBaptism("Hadiza");
+
+        statisticsScheduler.refreshRecentChanges();
+
+        assertThat(statisticsService.getAnnualReport(diocese.getId(), 2024).getTotals()).containsEntry("BAPTISM", 3L);
+    }
+
+    @Test
+    void getAnnualReport_rejectsUnknownDiocese() {
+        assertThatThrownBy(() -> statisticsService.getAnnualReport(999_999L, 2024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** Created now in South, 2024, so the next incremental pass picks it up. */
+    private void newBaptism(String name) {
+        baptismRepository.save(Baptism.builder()
+                .baptismName(name)
+                .surname("Stat")
+                .otherNames("")
+                .gender("M")
+                .dateOfBirth(LocalDate.of(2024, 2, 2))
+                .dateOfBaptism(LocalDate.of(2024, 5, 5))
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(south)
+                .build());
+        entityManager.flush();
+    }
+
+    /** Saved as created two days ago, so only records added by a test count as new. */
+    private Baptism baptism(String name, String gender, LocalDate dateOfBirth, LocalDate dateOfBaptism) {
+        return baptismRepository.save(Baptism.builder()
+                .createdAt(OffsetDateTime.now().minusDays(2))
+                .baptismName(name)
+                .surname("Stat")
+                .otherNames("")
+                .gender(gender)
+                .dateOfBirth(dateOfBirth)
+                .dateOfBaptism(dateOfBaptism)
+                .fathersName("Father")
+                .mothersName("Mother")
+                .sponsorNames("Sponsor")
+                .officiatingPriest("Fr. X")
+                .parish(north)
+                .build());
+    }
+}
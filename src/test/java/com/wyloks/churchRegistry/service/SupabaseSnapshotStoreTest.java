@@ -0,0 +1,141 @@
+package com.wyloks.churchRegistry.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wyloks.churchRegistry.service.impl.SupabaseSnapshotStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SupabaseSnapshotStore} against an in-process stand-in for the Supabase Storage object API.
+ */
+class SupabaseSnapshotStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, byte[]> objects = new ConcurrentSkipListMap<>();
+    private final List<String> authorizations = new ArrayList<>();
+
+    @TempDir
+    Path tempDir;
+
+    HttpServer server;
+    SupabaseSnapshotStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/storage/v1/object", this::handle);
+        server.start();
+        RemoteFileService remoteFileService = mock(RemoteFileService.class);
+        when(remoteFileService.storageObjectBaseUrl())
+                .thenReturn("http://127.0.0.1:" + server.getAddress().getPort() + "/storage/v1/object");
+        when(remoteFileService.storageApiKey()).thenReturn("service-key");
+        store = new SupabaseSnapshotStore(remoteFileService, objectMapper, "snapshots");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void savedSnapshots_areListedOpenedAndDeletedPerDiocese() throws IOException {
+        store.save(4L, "snapshot-2.zip", Files.write(tempDir.resolve("b.zip"), new byte[]{2}));
+        store.save(4L, "snapshot-1.zip", Files.write(tempDir.resolve("a.zip"), new byte[]{1}));
+        store.save(5L, "snapshot-9.zip", Files.write(tempDir.resolve("c.zip"), new byte[]{9}));
+
+        assertThat(objects).containsOnlyKeys(
+                "snapshots/diocese-4/snapshot-1.zip", "snapshots/diocese-4/snapshot-2.zip",
+                "snapshots/diocese-5/snapshot-9.zip");
+        assertThat(store.list(4L)).containsExactly("snapshot-1.zip", "snapshot-2.zip");
+        try (InputStream in = store.open(4L, "snapshot-2.zip").orElseThrow().getInputStream()) {
+            assertThat(in.readAllBytes()).containsExactly(2);
+        }
+
+        store.delete(4L, "snapshot-1.zip");
+
+        assertThat(store.list(4L)).containsExactly("snapshot-2.zip");
+        assertThat(store.open(4L, "snapshot-1.zip")).isEmpty();
+        assertThat(authorizations).isNotEmpty().allMatch("Bearer service-key"::equals);
+    }
+
+    @Test
+    void missingStorageConfiguration_failsAtStartup() {
+        RemoteFileService unconfigured = mock(RemoteFileService.class);
+        when(unconfigured.storageObjectBaseUrl()).thenReturn("");
+        when(unconfigured.storageApiKey()).thenReturn("");
+
+        assertThatThrownBy(() -> new SupabaseSnapshotStore(unconfigured, objectMapper, "snapshots"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SUPABASE_SERVICE_ROLE_KEY");
+    }
+
+    /**
+     * Upload (POST object), list (POST list/bucket), download (GET object) and delete (DELETE bucket) as
+     * Supabase Storage implements them; a missing object answers 400 with a not_found body.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        String path = exchange.getRequestURI().getPath().substring("/storage/v1/object/".length());
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        switch (exchange.getRequestMethod()) {
+            case "POST" -> {
+                if (path.startsWith("list/")) {
+                    String prefix = path.substring("list/".length()) + "/"
+                            + objectMapper.readTree(body).get("prefix").asText() + "/";
+                    List<Map<String, String>> listed = objects.keySet().stream()
+                            .filter(key -> key.startsWith(prefix))
+                            .map(key -> Map.of("name", key.substring(prefix.length())))
+                            .toList();
+                    respond(exchange, 200, objectMapper.writeValueAsBytes(listed));
+                } else {
+                    objects.put(path, body);
+                    respond(exchange, 200, "{}".getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            case "GET" -> {
+                byte[] object = objects.get(path);
+                if (object == null) {
+                    respond(exchange, 400, "{\"statusCode\":\"404\",\"error\":\"not_found\"}".getBytes(StandardCharsets.UTF_8));
+                } else {
+                    respond(exchange, 200, object);
+                }
+            }
+            case "DELETE" -> {
+                for (JsonNode prefix : objectMapper.readTree(body).get("prefixes")) {
+                    objects.remove(path + "/" + prefix.asText());
+                }
+                respond(exchange, 200, "[]".getBytes(StandardCharsets.UTF_8));
+            }
+            default -> respond(exchange, 405, new byte[0]);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+}
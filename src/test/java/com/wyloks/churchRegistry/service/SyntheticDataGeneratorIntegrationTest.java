@@ -0,0 +1,87 @@
+package com.wyloks.churchRegistry.service;
+
+import com.wyloks.churchRegistry.repository.ParishRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for {@link SyntheticDataGenerator}: counts, sacrament chain integrity and reproducibility.
+ */
+@SpringBootTest
+class SyntheticDataGeneratorIntegrationTest {
+
+    @Autowired
+    SyntheticDataGenerator generator;
+
+    @Autowired
+    ParishRepository parishRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_seedsEveryParish_withConsistentSacramentChains() {
+        SyntheticDataGenerator.Plan plan = new SyntheticDataGenerator.Plan(2, 2, 150, 7L, 0.8, 0.75, 0.5);
+
+        SyntheticDataGenerator.Summary summary = generator.generate(plan);
+
+        assertThat(summary.dioceseIds()).hasSize(2);
+        assertThat(summary.parishIds()).hasSize(4);
+        assertThat(summary.baptisms()).isEqualTo(600);
+        assertThat(summary.communions()).isPositive().isLessThan(summary.baptisms());
+        assertThat(summary.confirmations()).isPositive().isLessThan(summary.communions());
+        assertThat(summary.marriages()).isPositive().isLessThan(summary.confirmations());
+
+        for (Long parishId : summary.parishIds()) {
+            assertThat(parishRepository.findById(parishId)).get()
+                    .satisfies(p -> assertThat(summary.dioceseIds()).contains(p.getDiocese().getId()));
+            assertThat(count("SELECT COUNT(*) FROM baptism WHERE parish_id = ?", parishId)).isEqualTo(150);
+            assertThat(count("""
+                    SELECT COUNT(*) FROM first_holy_communion f JOIN baptism b ON b.id = f.baptism_id
+                    WHERE b.parish_id = ? AND f.communion_date <= b.date_of_birth
+                    """, parishId)).isZero();
+            assertThat(count("""
+                    SELECT COUNT(*) FROM confirmation c JOIN baptism b ON b.id = c.baptism_id
+                    JOIN first_holy_communion f ON f.id = c.communion_id
+                    WHERE b.parish_id = ? AND (f.baptism_id <> c.baptism_id OR c.confirmation_date <= f.communion_date)
+                    """, parishId)).isZero();
+            assertThat(count("""
+                    SELECT COUNT(*) FROM marriage m JOIN baptism b ON b.id = m.baptism_id
+                    JOIN confirmation c ON c.id = m.confirmation_id
+                    WHERE b.parish_id = ? AND (c.baptism_id <> m.baptism_id OR c.communion_id <> m.communion_id
+                        OR m.marriage_date <= c.confirmation_date)
+                    """, parishId)).isZero();
+        }
+    }
+
+    @Test
+    void generate_sameSeed_producesSameRegisters() {
+        SyntheticDataGenerator.Plan plan = new SyntheticDataGenerator.Plan(1, 1, 80, 11L, 0.8, 0.75, 0.5);
+
+        SyntheticDataGenerator.Summary first = generator.generate(plan);
+        SyntheticDataGenerator.Summary second = generator.generate(plan);
+
+        assertThat(second.communions()).isEqualTo(first.communions());
+        assertThat(second.confirmations()).isEqualTo(first.confirmations());
+        assertThat(second.marriages()).isEqualTo(first.marriages());
+        String names = "SELECT baptism_name || ' ' || surname FROM baptism WHERE parish_id = ? ORDER BY id";
+        assertThat(jdbcTemplate.queryForList(names, String.class, second.parishIds().get(0)))
+                .isEqualTo(jdbcTemplate.queryForList(names, String.class, first.parishIds().get(0)));
+    }
+
+    @Test
+    void plan_requiresAtLeastOneParish() {
+        assertThatThrownBy(() -> new SyntheticDataGenerator.Plan(1, 0, 10, 1L, 0.8, 0.75, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long count(String sql, Long parishId) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, parishId);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.wyloks.churchRegistry.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecords_andReturnsNullAtEnd() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\n1,,3"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "b", "c");
+        assertThat(reader.readRecord()).containsExactly("1", "", "3");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void handlesQuotedCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"x, y\",\"say \"\"hi\"\"\",\"two\nlines\"\r\nnext\r\n"));
+
+        assertThat(reader.readRecord()).containsExactly("x, y", "say \"hi\"", "two\nlines");
+        assertThat(reader.getLineNumber()).isEqualTo(3);
+        assertThat(reader.readRecord()).containsExactly("next");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void skipsLeadingByteOrderMark() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname\n"));
+
+        assertThat(reader.readRecord()).containsExactly("name");
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field\n"));
+
+        assertThatThrownBy(reader::readRecord).isInstanceOf(IllegalArgumentException.class);
+    }
+}
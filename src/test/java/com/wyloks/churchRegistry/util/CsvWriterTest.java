@@ -0,0 +1,38 @@
+package com.wyloks.churchRegistry.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void quotesOnlyFieldsThatNeedIt_andWritesNullAsEmpty() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+
+        writer.writeRecord(Arrays.asList("plain", null, 42, "x, y", "say \"hi\""));
+
+        assertThat(out).hasToString("plain,,42,\"x, y\",\"say \"\"hi\"\"\"\r\n");
+    }
+
+    @Test
+    void output_roundTripsThroughCsvReader() throws IOException {
+        List<String> record = List.of("two\nlines", "", "a\"b", "end");
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRecord(record);
+        writer.writeRecord(List.of("next"));
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertThat(reader.readRecord()).isEqualTo(record);
+        assertThat(reader.readRecord()).containsExactly("next");
+        assertThat(reader.readRecord()).isNull();
+    }
+}
@@ -0,0 +1,34 @@
+package com.wyloks.churchRegistry.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    void returnsNull_forNullInput() {
+        assertThat(SqlFingerprint.of(null)).isNull();
+    }
+
+    @Test
+    void replacesLiteralsAndNormalizesWhitespace() {
+        assertThat(SqlFingerprint.of("select b1_0.id from baptism b1_0\n   where b1_0.surname = 'O''Neil' and b1_0.parish_id = 42 limit 2.5"))
+                .isEqualTo("select b1_0.id from baptism b1_0 where b1_0.surname = ? and b1_0.parish_id = ? limit ?");
+    }
+
+    @Test
+    void collapsesInLists_whateverTheirLength() {
+        String two = SqlFingerprint.of("select p1_0.id from parish p1_0 where p1_0.id in (?, ?)");
+        String three = SqlFingerprint.of("select p1_0.id from parish p1_0 where p1_0.id IN (1,2,3)");
+
+        assertThat(two).isEqualTo("select p1_0.id from parish p1_0 where p1_0.id in (...)");
+        assertThat(three).isEqualTo(two);
+    }
+
+    @Test
+    void keepsPlaceholdersAndIdentifiersWithDigits() {
+        assertThat(SqlFingerprint.of("insert into mv_parish_activity2 (a, b) values (?, ?)"))
+                .isEqualTo("insert into mv_parish_activity2 (a, b) values (?, ?)");
+    }
+}
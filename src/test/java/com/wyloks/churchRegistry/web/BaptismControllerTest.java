@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.wyloks.churchRegistry.dto.BaptismRequest;
 import com.wyloks.churchRegistry.dto.BaptismResponse;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
 import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.BaptismImportService;
 import com.wyloks.churchRegistry.service.BaptismService;
 import com.wyloks.churchRegistry.service.SacramentAuditService;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -24,14 +27,19 @@ import com.wyloks.churchRegistry.config.TestSecurityConfig;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -49,6 +57,9 @@ class BaptismControllerTest {
     @MockBean
     BaptismService baptismService;
 
+    @MockBean
+    BaptismImportService baptismImportService;
+
     @MockBean
     SacramentAuthorizationService sacramentAuthorizationService;
 
@@ -73,6 +84,41 @@ class BaptismControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(0));
     }
 
+    @Test
+    void getBaptismsByParish_countNone_returnsSliceWithoutTotal() throws Exception {
+        BaptismResponse response = BaptismResponse.builder().id(1L).baptismName("Alice").parishId(1L).build();
+        when(baptismService.findSliceByParishId(eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(response), PageRequest.of(0, 1), true));
+
+        mvc.perform(get("/api/parishes/1/baptisms").param("count", "none").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.page.size").value(1))
+                .andExpect(jsonPath("$.page.number").value(0))
+                .andExpect(jsonPath("$.page.hasNext").value(true))
+                .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+        verify(baptismService, never()).findByParishId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void getBaptismsByParish_countEstimated_usesEstimatedTotal() throws Exception {
+        when(baptismService.findByParishIdWithEstimatedTotal(eq(1L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+
+        mvc.perform(get("/api/parishes/1/baptisms").param("count", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+        verify(baptismService, never()).findByParishId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void getBaptismsByParish_returns400_whenCountModeUnknown() throws Exception {
+        mvc.perform(get("/api/parishes/1/baptisms").param("count", "approximate"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void searchBaptisms_returnsMatchingResults() throws Exception {
         BaptismResponse response = BaptismResponse.builder()
@@ -156,4 +202,33 @@ class BaptismControllerTest {
         mvc.perform(get("/api/baptisms/999"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void importBaptisms_returnsImportResult() throws Exception {
+        ImportResultResponse result = ImportResultResponse.builder()
+                .totalRows(2)
+                .importedRows(1)
+                .failedRows(1)
+                .batches(1)
+                .errors(List.of(new ImportResultResponse.RowError(3, "surname: must not be blank")))
+                .build();
+        when(baptismImportService.importCsv(eq(1L), any(InputStream.class))).thenReturn(result);
+        MockMultipartFile file = new MockMultipartFile("file", "baptisms.csv", "text/csv", "baptismName\nJohn\n".getBytes());
+
+        mvc.perform(multipart("/api/parishes/1/baptisms/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("surname: must not be blank"));
+        verify(sacramentAuthorizationService).requireWriteAccessForParish(1L);
+    }
+
+    @Test
+    void importBaptisms_returns400_whenFileEmpty() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "baptisms.csv", "text/csv", new byte[0]);
+
+        mvc.perform(multipart("/api/parishes/1/baptisms/import").file(file))
+                .andExpect(status().isBadRequest());
+        verify(baptismImportService, never()).importCsv(any(), any());
+    }
 }
@@ -0,0 +1,55 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.CacheStatsCollector;
+import com.wyloks.churchRegistry.config.TestSecurityConfig;
+import com.wyloks.churchRegistry.dto.CacheStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CacheStatsController.class)
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("auth-slice")
+class CacheStatsControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    CacheStatsCollector cacheStatsCollector;
+
+    @Test
+    void getStats_returnsStatsPerCache() throws Exception {
+        when(cacheStatsCollector.snapshot()).thenReturn(List.of(CacheStatsResponse.builder()
+                .name("parish-dashboard")
+                .local(CacheStatsResponse.TierStats.builder()
+                        .hits(9)
+                        .misses(1)
+                        .hitRatio(0.9)
+                        .evictions(0L)
+                        .estimatedSize(1L)
+                        .averageLoadMillis(12.5)
+                        .build())
+                .build()));
+
+        mvc.perform(get("/api/admin/caches/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("parish-dashboard"))
+                .andExpect(jsonPath("$[0].local.hitRatio").value(0.9))
+                .andExpect(jsonPath("$[0].local.averageLoadMillis").value(12.5))
+                .andExpect(jsonPath("$[0].shared").doesNotExist());
+    }
+}
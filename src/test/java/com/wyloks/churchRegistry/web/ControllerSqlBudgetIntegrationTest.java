@@ -0,0 +1,320 @@
+package com.wyloks.churchRegistry.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wyloks.churchRegistry.dto.BaptismRequest;
+import com.wyloks.churchRegistry.dto.CreateMarriageWithPartiesRequest;
+import com.wyloks.churchRegistry.dto.FirstHolyCommunionRequest;
+import com.wyloks.churchRegistry.dto.MarriageRequest;
+import com.wyloks.churchRegistry.service.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets per endpoint of the register and dashboard controllers, against a synthetic parish
+ * register of {@value #BAPTISMS} baptisms with their sacrament chains. Budgets do not depend on the number of
+ * rows returned, so a lazy association loaded per row (N+1) fails here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(SqlStatementBudgetExtension.class)
+@Import(SqlStatementBudgetExtension.Recording.class)
+class ControllerSqlBudgetIntegrationTest {
+
+    static final int BAPTISMS = 60;
+
+    private static SyntheticDataGenerator.Summary register;
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    SyntheticDataGenerator generator;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    String token;
+    Long parishId;
+    Long dioceseId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (register == null) {
+            register = generator.generate(new SyntheticDataGenerator.Plan(1, 1, BAPTISMS, 2024L, 0.8, 0.75, 0.5));
+        }
+        parishId = register.parishIds().get(0);
+        dioceseId = register.dioceseIds().get(0);
+        String response = mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        token = objectMapper.readTree(response).get("token").asText();
+    }
+
+    @Nested
+    class BaptismEndpoints {
+
+        @Test
+        @SqlStatementBudget(4)
+        void listByParish() throws Exception {
+            perform(get("/api/parishes/" + parishId + "/baptisms?size=50")).andExpect(status().isOk());
+            perform(get("/api/parishes/" + parishId + "/baptisms?size=50&count=exact")).andExpect(status().isOk());
+            perform(get("/api/parishes/" + parishId + "/baptisms?size=50&count=estimated")).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(3)
+        void search() throws Exception {
+            String surname = jdbcTemplate.queryForObject(
+                    "SELECT MIN(surname) FROM baptism WHERE parish_id = ?", String.class, parishId);
+            perform(get("/api/parishes/" + parishId + "/baptisms/search?q=" + surname)).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(4)
+        void importCsv() throws Exception {
+            String csv = "baptismName,surname,gender,dateOfBirth,fathersName,mothersName,sponsorNames,"
+                    + "placeOfBirth,placeOfBaptism,dateOfBaptism\n"
+                    + "Ada,Budget,FEMALE,2020-01-01,Obi Budget,Ngozi Budget,Ife,Enugu,Budget Parish,2020-02-01\n"
+                    + "Chidi,Budget,MALE,2020-02-01,Obi Budget,Ngozi Budget,Ife,Enugu,Budget Parish,2020-03-01\n";
+            MockMultipartFile file = new MockMultipartFile("file", "baptisms.csv", "text/csv",
+                    csv.getBytes(StandardCharsets.UTF_8));
+            perform(multipart("/api/parishes/" + parishId + "/baptisms/import").file(file)).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(4)
+        void getById() throws Exception {
+            perform(get("/api/baptisms/" + anyBaptismId())).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(5)
+        void create() throws Exception {
+            BaptismRequest request = BaptismRequest.builder()
+                    .baptismName("ada")
+                    .surname("budget")
+                    .gender("FEMALE")
+                    .dateOfBirth(LocalDate.of(2020, 1, 1))
+                    .fathersName("Obi Budget")
+                    .mothersName("Ngozi Budget")
+                    .sponsorNames("Ife")
+                    .placeOfBirth("Enugu")
+                    .placeOfBaptism("Budget Parish")
+                    .dateOfBaptism(LocalDate.of(2020, 2, 1))
+                    .build();
+            perform(post("/api/parishes/" + parishId + "/baptisms").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))).andExpect(status().isCreated());
+        }
+
+        @Test
+        @SqlStatementBudget(7)
+        void updateNoteAndHistory() throws Exception {
+            Long id = anyBaptismId();
+            perform(patch("/api/baptisms/" + id).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"note\":\"Budget note\"}")).andExpect(status().isOk());
+            perform(get("/api/baptisms/" + id + "/notes")).andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    class FirstHolyCommunionEndpoints {
+
+        @Test
+        @SqlStatementBudget(3)
+        void listByParish() throws Exception {
+            perform(get("/api/parishes/" + parishId + "/communions?size=50")).andExpect(status().isOk());
+            perform(get("/api/parishes/" + parishId + "/communions?size=50&count=exact")).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(7)
+        void getByIdAndByBaptism() throws Exception {
+            Long id = anyId("first_holy_communion");
+            Long baptismId = jdbcTemplate.queryForObject(
+                    "SELECT baptism_id FROM first_holy_communion WHERE id = ?", Long.class, id);
+            perform(get("/api/communions/" + id)).andExpect(status().isOk());
+            perform(get("/api/baptisms/" + baptismId + "/communions")).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(8)
+        void create() throws Exception {
+            FirstHolyCommunionRequest request = FirstHolyCommunionRequest.builder()
+                    .baptismId(baptismWithout("first_holy_communion"))
+                    .communionDate(LocalDate.now())
+                    .officiatingPriest("Fr. Budget")
+                    .parish("Budget Parish")
+                    .build();
+            perform(post("/api/communions").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))).andExpect(status().isCreated());
+        }
+
+        @Test
+        @SqlStatementBudget(8)
+        void createWithExternalBaptism() throws Exception {
+            perform(multipart("/api/communions")
+                    .param("baptismSource", "external")
+                    .param("parishId", parishId.toString())
+                    .param("communionDate", LocalDate.now().toString())
+                    .param("officiatingPriest", "Fr. Budget")
+                    .param("parish", "Budget Parish")
+                    .param("externalBaptismName", "Ada")
+                    .param("externalSurname", "Budget"))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @SqlStatementBudget(10)
+        void updateNoteAndHistory() throws Exception {
+            Long id = anyId("first_holy_communion");
+            perform(patch("/api/communions/" + id).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"note\":\"Budget note\"}")).andExpect(status().isOk());
+            perform(get("/api/communions/" + id + "/notes")).andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    class MarriageEndpoints {
+
+        @Test
+        @SqlStatementBudget(5)
+        void listByParish() throws Exception {
+            perform(get("/api/parishes/" + parishId + "/marriages?size=50")).andExpect(status().isOk());
+            perform(get("/api/parishes/" + parishId + "/marriages?size=50&count=exact")).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(5)
+        void getByIdConfirmationAndBaptism() throws Exception {
+            Long id = anyId("marriage");
+            Long confirmationId = jdbcTemplate.queryForObject(
+                    "SELECT confirmation_id FROM marriage WHERE id = ?", Long.class, id);
+            Long baptismId = jdbcTemplate.queryForObject("SELECT baptism_id FROM marriage WHERE id = ?", Long.class, id);
+            perform(get("/api/marriages/" + id)).andExpect(status().isOk());
+            perform(get("/api/confirmations/" + confirmationId + "/marriage")).andExpect(status().isOk());
+            perform(get("/api/baptisms/" + baptismId + "/marriage")).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(9)
+        void create() throws Exception {
+            MarriageRequest request = MarriageRequest.builder()
+                    .confirmationId(confirmationsWithoutMarriage().get(0))
+                    .partnersName("Budget Partner")
+                    .marriageDate(LocalDate.now())
+                    .officiatingPriest("Fr. Budget")
+                    .parish("Budget Parish")
+                    .build();
+            perform(post("/api/marriages").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))).andExpect(status().isCreated());
+        }
+
+        @Test
+        @SqlStatementBudget(17)
+        void createWithParties() throws Exception {
+            List<Long> confirmations = confirmationsWithoutMarriage();
+            CreateMarriageWithPartiesRequest request = CreateMarriageWithPartiesRequest.builder()
+                    .marriage(CreateMarriageWithPartiesRequest.MarriageDetails.builder()
+                            .partnersName("Budget Groom & Budget Bride")
+                            .parishId(parishId)
+                            .marriageDate(LocalDate.now())
+                            .officiatingPriest("Fr. Budget")
+                            .parish("Budget Parish")
+                            .build())
+                    .groom(CreateMarriageWithPartiesRequest.PartyDetails.builder()
+                            .fullName("Budget Groom")
+                            .confirmationId(confirmations.get(0).intValue())
+                            .build())
+                    .bride(CreateMarriageWithPartiesRequest.PartyDetails.builder()
+                            .fullName("Budget Bride")
+                            .confirmationId(confirmations.get(1).intValue())
+                            .build())
+                    .witnesses(List.of(
+                            CreateMarriageWithPartiesRequest.WitnessDetails.builder().fullName("Witness One").sortOrder(0).build(),
+                            CreateMarriageWithPartiesRequest.WitnessDetails.builder().fullName("Witness Two").sortOrder(1).build()))
+                    .build();
+            perform(post("/api/marriages/with-parties").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))).andExpect(status().isCreated());
+        }
+
+        @Test
+        @SqlStatementBudget(10)
+        void updateNoteAndHistory() throws Exception {
+            Long id = anyId("marriage");
+            perform(patch("/api/marriages/" + id).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"note\":\"Budget note\"}")).andExpect(status().isOk());
+            perform(get("/api/marriages/" + id + "/notes")).andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    class DashboardEndpoints {
+
+        @Test
+        @SqlStatementBudget(2)
+        void parishDashboard() throws Exception {
+            perform(get("/api/parishes/" + parishId + "/dashboard")).andExpect(status().isOk());
+            perform(get("/api/parishes/" + parishId + "/dashboard-counts")).andExpect(status().isOk());
+        }
+
+        @Test
+        @SqlStatementBudget(11)
+        void dioceseDashboard() throws Exception {
+            perform(get("/api/dioceses/" + dioceseId + "/dashboard")).andExpect(status().isOk());
+        }
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private Long anyBaptismId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM baptism WHERE parish_id = ?", Long.class, parishId);
+    }
+
+    private Long anyId(String table) {
+        return jdbcTemplate.queryForObject("SELECT MIN(t.id) FROM " + table + " t JOIN baptism b ON b.id = t.baptism_id"
+                + " WHERE b.parish_id = ?", Long.class, parishId);
+    }
+
+    private Long baptismWithout(String table) {
+        return jdbcTemplate.queryForObject("SELECT MIN(b.id) FROM baptism b WHERE b.parish_id = ?"
+                + " AND NOT EXISTS (SELECT 1 FROM " + table + " t WHERE t.baptism_id = b.id)", Long.class, parishId);
+    }
+
+    private List<Long> confirmationsWithoutMarriage() {
+        return jdbcTemplate.queryForList("SELECT c.id FROM confirmation c JOIN baptism b ON b.id = c.baptism_id"
+                + " WHERE b.parish_id = ? AND NOT EXISTS (SELECT 1 FROM marriage m WHERE m.confirmation_id = c.id)"
+                + " ORDER BY c.id", Long.class, parishId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.TestSecurityConfig;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.DioceseSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = DioceseSnapshotController.class)
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("auth-slice")
+class DioceseSnapshotControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    DioceseSnapshotService snapshotService;
+
+    @MockBean
+    SacramentAuthorizationService authorizationService;
+
+    @Test
+    void downloadLatest_returnsZipAttachment() throws Exception {
+        when(snapshotService.findLatest(4L)).thenReturn(Optional.of(new DioceseSnapshotService.Snapshot(
+                "snapshot-20260101T023000000Z.zip", new ByteArrayResource(new byte[]{1, 2, 3}))));
+
+        mvc.perform(get("/api/dioceses/4/snapshots/latest"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/zip"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"diocese-4-snapshot-20260101T023000000Z.zip\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void downloadLatest_returns404WithoutSnapshot() throws Exception {
+        when(snapshotService.findLatest(4L)).thenReturn(Optional.empty());
+
+        mvc.perform(get("/api/dioceses/4/snapshots/latest"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void downloadLatest_returns403ForNonAdmin() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.FORBIDDEN, "Diocese access denied"))
+                .when(authorizationService).requireDioceseAccess(4L);
+
+        mvc.perform(get("/api/dioceses/4/snapshots/latest"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(snapshotService);
+    }
+}
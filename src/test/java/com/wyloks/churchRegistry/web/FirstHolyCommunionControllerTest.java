@@ -28,6 +28,7 @@ import com.wyloks.churchRegistry.config.TestSecurityConfig;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -119,6 +120,21 @@ class FirstHolyCommunionControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(0));
     }
 
+    @Test
+    void getByParish_countNone_returnsSliceResponse() throws Exception {
+        when(communionService.findSliceByParishId(eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(2, 50), false));
+
+        mvc.perform(get("/api/parishes/1/communions").param("count", "none").param("page", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.page.number").value(2))
+                .andExpect(jsonPath("$.page.size").value(50))
+                .andExpect(jsonPath("$.page.hasNext").value(false))
+                .andExpect(jsonPath("$.last").doesNotExist());
+        verify(communionService, never()).findByParishId(eq(1L), any(Pageable.class));
+    }
+
     @Test
     void getById_returns404_whenNotExists() throws Exception {
         when(communionService.findById(999L)).thenReturn(java.util.Optional.empty());
@@ -0,0 +1,78 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.TestSecurityConfig;
+import com.wyloks.churchRegistry.dto.ImportJobResponse;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.ImportJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ImportJobController.class)
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("auth-slice")
+class ImportJobControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    ImportJobService importJobService;
+
+    @MockBean
+    SacramentAuthorizationService sacramentAuthorizationService;
+
+    @Test
+    void submitBaptismImport_returns202WithQueuedJob() throws Exception {
+        ImportJobResponse job = ImportJobResponse.builder().id(7L).parishId(1L).status("QUEUED").totalRows(3).build();
+        when(importJobService.submit(eq(1L), eq(SacramentType.BAPTISM), eq("register.csv"), any(InputStream.class)))
+                .thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "register.csv", "text/csv", "baptismName\nA\n".getBytes());
+
+        mvc.perform(multipart("/api/parishes/1/baptisms/import-jobs").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+        verify(sacramentAuthorizationService).requireWriteAccessForParish(1L);
+    }
+
+    @Test
+    void getJob_returnsProgress_afterParishAccessCheck() throws Exception {
+        ImportJobResponse job = ImportJobResponse.builder().id(7L).parishId(3L).status("RUNNING")
+                .totalRows(10).processedRows(4).percentComplete(40).build();
+        when(importJobService.findById(7L)).thenReturn(Optional.of(job));
+
+        mvc.perform(get("/api/import-jobs/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.percentComplete").value(40));
+        verify(sacramentAuthorizationService).requireParishAccess(3L);
+    }
+
+    @Test
+    void getJob_returns404_whenMissing() throws Exception {
+        when(importJobService.findById(99L)).thenReturn(Optional.empty());
+
+        mvc.perform(get("/api/import-jobs/99"))
+                .andExpect(status().isNotFound());
+    }
+}
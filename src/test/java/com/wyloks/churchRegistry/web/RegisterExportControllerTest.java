@@ -0,0 +1,70 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.TestSecurityConfig;
+import com.wyloks.churchRegistry.dto.ExportFormat;
+import com.wyloks.churchRegistry.entity.SacramentAuditLog.SacramentType;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.RegisterExportService;
+import com.wyloks.churchRegistry.service.SacramentAuditService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RegisterExportController.class)
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("auth-slice")
+class RegisterExportControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    RegisterExportService exportService;
+
+    @MockBean
+    SacramentAuthorizationService authorizationService;
+
+    @MockBean
+    SacramentAuditService auditService;
+
+    @Test
+    void export_writesAttachment_andAuditsOnce() throws Exception {
+        when(exportService.export(eq(SacramentType.HOLY_ORDER), eq(3L), eq(ExportFormat.NDJSON), any(OutputStream.class)))
+                .thenAnswer(inv -> {
+                    inv.getArgument(3, OutputStream.class).write("{\"id\":1}\n".getBytes());
+                    return 1L;
+                });
+
+        mvc.perform(get("/api/parishes/3/holy-orders/export").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"holy-orders-parish-3.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+        verify(authorizationService).requireParishAccess(3L);
+        verify(auditService).logExport(SacramentType.HOLY_ORDER, 3L, "format=ndjson,rows=1");
+    }
+
+    @Test
+    void export_rejectsUnknownFormat() throws Exception {
+        mvc.perform(get("/api/parishes/3/baptisms/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(exportService);
+    }
+}
@@ -458,6 +458,24 @@ class SacramentAuthorizationIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void parishWriter_createsMarriageForUnmarriedConfirmation_onlyInOwnParish() throws Exception {
+        Confirmation unmarriedA = unmarriedConfirmation(parishA, "Ada");
+        Confirmation unmarriedB = unmarriedConfirmation(parishB, "Bayo");
+        String token = login(writerUsername, writerPassword);
+
+        mvc.perform(post("/api/marriages")
+                        .header("Authorization", bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validMarriageRequest(unmarriedA.getId()))))
+                .andExpect(status().isCreated());
+        mvc.perform(post("/api/marriages")
+                        .header("Authorization", bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validMarriageRequest(unmarriedB.getId()))))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void admin_canReadAcrossParishes() throws Exception {
         String token = login("admin", "password");
@@ -470,6 +488,23 @@ class SacramentAuthorizationIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    private Confirmation unmarriedConfirmation(Parish parish, String namePrefix) {
+        Baptism baptism = baptismRepository.save(baptismForParish(parish, namePrefix));
+        FirstHolyCommunion communion = communionRepository.save(FirstHolyCommunion.builder()
+                .baptism(baptism)
+                .communionDate(LocalDate.of(2020, 6, 1))
+                .officiatingPriest("Fr " + namePrefix)
+                .parish(parish.getParishName())
+                .build());
+        return confirmationRepository.save(Confirmation.builder()
+                .baptism(baptism)
+                .firstHolyCommunion(communion)
+                .confirmationDate(LocalDate.of(2022, 5, 5))
+                .officiatingBishop("Bp " + namePrefix)
+                .parish(parish.getParishName())
+                .build());
+    }
+
     private Baptism baptismForParish(Parish parish, String namePrefix) {
         return Baptism.builder()
                 .baptismName(namePrefix)
@@ -0,0 +1,53 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.TestSecurityConfig;
+import com.wyloks.churchRegistry.dto.ImportResultResponse;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.SacramentChainImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SacramentImportController.class)
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("auth-slice")
+class SacramentImportControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    SacramentChainImportService chainImportService;
+
+    @MockBean
+    SacramentAuthorizationService sacramentAuthorizationService;
+
+    @Test
+    void importChains_returnsImportResult() throws Exception {
+        when(chainImportService.importCsv(eq(2L), any(InputStream.class)))
+                .thenReturn(ImportResultResponse.builder().totalRows(1).importedRows(1).batches(1).build());
+        MockMultipartFile file = new MockMultipartFile("file", "chains.csv", "text/csv", "baptismId\n1\n".getBytes());
+
+        mvc.perform(multipart("/api/parishes/2/sacrament-chains/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1));
+        verify(sacramentAuthorizationService).requireWriteAccessForParish(2L);
+    }
+}
@@ -0,0 +1,65 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.TestSecurityConfig;
+import com.wyloks.churchRegistry.dto.AnnualStatisticsResponse;
+import com.wyloks.churchRegistry.security.SacramentAuthorizationService;
+import com.wyloks.churchRegistry.service.SacramentStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SacramentStatisticsController.class)
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("auth-slice")
+class SacramentStatisticsControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    SacramentStatisticsService statisticsService;
+
+    @MockBean
+    SacramentAuthorizationService authorizationService;
+
+    @Test
+    void getAnnualReport_returnsReport() throws Exception {
+        when(statisticsService.getAnnualReport(5L, 2024)).thenReturn(AnnualStatisticsResponse.builder()
+                .dioceseId(5L)
+                .year(2024)
+                .totals(Map.of("BAPTISM", 12L))
+                .build());
+
+        mvc.perform(get("/api/dioceses/5/statistics/2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.year").value(2024))
+                .andExpect(jsonPath("$.totals.BAPTISM").value(12));
+    }
+
+    @Test
+    void getAnnualReport_returns403ForNonAdmin() throws Exception {
+        doThrow(new ResponseStatusException(HttpStatus.FORBIDDEN, "Diocese access denied"))
+                .when(authorizationService).requireDioceseAccess(5L);
+
+        mvc.perform(get("/api/dioceses/5/statistics/2024"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(statisticsService);
+    }
+}
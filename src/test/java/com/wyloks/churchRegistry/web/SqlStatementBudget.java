@@ -0,0 +1,18 @@
+package com.wyloks.churchRegistry.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements each MockMvc request of the annotated test may execute; checked by
+ * {@link SqlStatementBudgetExtension}. Counts cover Hibernate statements from the start of the filter chain, so
+ * they include loading the authenticated user.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+
+    int value();
+}
@@ -0,0 +1,84 @@
+package com.wyloks.churchRegistry.web;
+
+import com.wyloks.churchRegistry.config.SqlStatementStats;
+import com.wyloks.churchRegistry.config.SqlStatementStatsFilter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fails a test annotated with {@link SqlStatementBudget} when any MockMvc request made by the test method exceeds
+ * the budget. Requests made in {@code @BeforeEach} methods (e.g. logging in) are not checked. The test class also
+ * needs {@code @Import(SqlStatementBudgetExtension.Recording.class)}, which records the statement count that
+ * {@link SqlStatementStatsFilter} leaves on each request.
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ThreadLocal<List<Request>> RECORDED = new ThreadLocal<>();
+
+    record Request(String label, SqlStatementStats.Snapshot stats) {
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context) != null) {
+            RECORDED.set(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementBudget budget = budget(context);
+        List<Request> requests = RECORDED.get();
+        RECORDED.remove();
+        if (budget == null || requests == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        assertThat(requests)
+                .as("MockMvc requests with a statement count; is SqlStatementStatsFilter in the filter chain?")
+                .isNotEmpty()
+                .allSatisfy(r -> assertThat(r.stats()).as(r.label()).isNotNull());
+        List<Request> overBudget = requests.stream()
+                .filter(r -> r.stats().statements() > budget.value())
+                .toList();
+        assertThat(overBudget)
+                .as(() -> "SQL statement budget of " + budget.value() + " per request exceeded by: "
+                        + overBudget.stream()
+                        .map(r -> r.label() + " (" + r.stats().statements() + " statements)")
+                        .collect(Collectors.joining(", ")))
+                .isEmpty();
+    }
+
+    private static SqlStatementBudget budget(ExtensionContext context) {
+        return context.getTestMethod().map(m -> m.getAnnotation(SqlStatementBudget.class)).orElse(null);
+    }
+
+    /**
+     * Records every MockMvc request while a budgeted test method runs.
+     */
+    @TestConfiguration
+    public static class Recording {
+
+        @Bean
+        MockMvcBuilderCustomizer sqlStatementBudgetRecorder() {
+            return builder -> builder.alwaysDo(result -> {
+                List<Request> requests = RECORDED.get();
+                if (requests != null) {
+                    MockHttpServletRequest request = result.getRequest();
+                    requests.add(new Request(request.getMethod() + " " + request.getRequestURI(),
+                            (SqlStatementStats.Snapshot) request.getAttribute(SqlStatementStatsFilter.SNAPSHOT_ATTRIBUTE)));
+                }
+            });
+        }
+    }
+}